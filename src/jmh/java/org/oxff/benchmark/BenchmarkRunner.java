@@ -0,0 +1,95 @@
+package org.oxff.benchmark;
+
+import org.oxff.core.OperationCategory;
+import org.oxff.core.OperationDescriptor;
+import org.oxff.core.OperationFactory;
+import org.oxff.operation.Operation;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 基准测试入口，对 OperationFactory 中注册的每个操作按其适用的输入规模运行 {@link OperationBenchmark}
+ * 同时启用GC分析器，报告吞吐量和分配速率（gc.alloc.rate.norm 为每次操作分配的字节数）
+ * <p>
+ * 参数为要测试的操作名称，省略时测试全部操作；系统属性：
+ * <ul>
+ *   <li>bench.sizes：限定输入规模，如 SMALL,1MB</li>
+ *   <li>bench.quick：为 true 时缩短预热和测量时间</li>
+ *   <li>bench.heap：子进程最大堆，默认 4g</li>
+ *   <li>bench.result：JSON结果文件，默认 target/jmh-result.json</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        List<String> operationNames = args.length > 0 ? Arrays.asList(args) : registeredOperations();
+        String sizeFilter = System.getProperty("bench.sizes");
+        List<String> sizes = sizeFilter != null ? Arrays.asList(sizeFilter.split(",")) : null;
+        boolean quick = Boolean.getBoolean("bench.quick");
+
+        List<RunResult> results = new ArrayList<>();
+        for (String operationName : operationNames) {
+            Operation operation = OperationFactory.getOperation(operationName);
+            if (operation == null) {
+                System.err.println("跳过未找到的操作: " + operationName);
+                continue;
+            }
+            List<String> applicable = new ArrayList<>(PayloadFactory.supportedSizes(operation));
+            if (sizes != null) {
+                applicable.retainAll(sizes);
+            }
+            if (applicable.isEmpty()) {
+                continue;
+            }
+
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(OperationBenchmark.class.getName() + ".execute")
+                .param("operation", operationName)
+                .param("size", applicable.toArray(new String[0]))
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .jvmArgsAppend("-Xmx" + System.getProperty("bench.heap", "4g"), "-Dfile.encoding=UTF-8");
+            if (quick) {
+                options.warmupIterations(1).warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(2).measurementTime(TimeValue.seconds(1));
+            } else {
+                options.warmupIterations(3).warmupTime(TimeValue.seconds(2))
+                    .measurementIterations(5).measurementTime(TimeValue.seconds(3));
+            }
+            results.addAll(new Runner(options.build()).run());
+        }
+
+        System.out.println();
+        ResultFormatFactory.getInstance(ResultFormatType.TEXT, System.out).writeOut(results);
+        String resultFile = System.getProperty("bench.result", "target/jmh-result.json");
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+        System.out.println("结果已写入: " + resultFile);
+    }
+
+    /**
+     * 获取所有可基准测试的操作，自动化操作会操作键盘，不参与测试
+     */
+    private static List<String> registeredOperations() {
+        List<String> names = new ArrayList<>();
+        for (OperationCategory category : OperationCategory.values()) {
+            if (category == OperationCategory.AUTOMATION) {
+                continue;
+            }
+            for (OperationDescriptor descriptor : OperationFactory.getDescriptorsByCategory(category)) {
+                names.add(descriptor.getDisplayName());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,67 @@
+package org.oxff.benchmark;
+
+import org.oxff.core.OperationFactory;
+import org.oxff.operation.Operation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 操作基准测试，按操作名称和输入规模参数化
+ * 由 {@link BenchmarkRunner} 为每个已注册的操作填入参数；
+ * 也可直接使用 JMH 命令行并通过 -p operation=... -p size=... 指定
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OperationBenchmark {
+
+    @Param({"Base64编码"})
+    public String operation;
+
+    @Param({PayloadFactory.SMALL})
+    public String size;
+
+    private Operation target;
+    private String input;
+    private Path workDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        target = OperationFactory.getOperation(operation);
+        if (target == null) {
+            throw new IllegalArgumentException("未找到操作: " + operation);
+        }
+        workDir = Files.createTempDirectory("uiTools-bench");
+        input = PayloadFactory.createInput(target, size, workDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Object execute() {
+        if (target.returnsImage()) {
+            return target.getImageBytes(input);
+        }
+        return target.execute(input);
+    }
+}
@@ -0,0 +1,207 @@
+package org.oxff.benchmark;
+
+import org.oxff.core.OperationFactory;
+import org.oxff.operation.Operation;
+import org.oxff.operation.encoding.image.ImageToBaseOperation;
+import org.oxff.operation.encoding.jwt.JwtDecodeOperation;
+import org.oxff.operation.encoding.jwt.JwtEncodeOperation;
+import org.oxff.operation.formatting.JsonFormatOperation;
+import org.oxff.operation.formatting.JsonMinifyOperation;
+import org.oxff.operation.formatting.XmlFormatOperation;
+import org.oxff.operation.generator.RandomPasswordOperation;
+import org.oxff.operation.qrcode.QRCodeDecodeOperation;
+import org.oxff.operation.qrcode.QRCodeGenerateOperation;
+import org.oxff.operation.timestamp.DatetimeToTimestampOperation;
+import org.oxff.operation.timestamp.GetCurrentTimeOperation;
+import org.oxff.operation.timestamp.TimestampToDatetimeOperation;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试输入生成器，按操作类型生成接近真实场景的输入
+ * 所有内容由固定种子生成，多次运行之间可比较
+ */
+public final class PayloadFactory {
+    public static final String SMALL = "SMALL";
+    public static final String MB_1 = "1MB";
+    public static final String MB_100 = "100MB";
+
+    private static final List<String> ALL_SIZES = Arrays.asList(SMALL, MB_1, MB_100);
+    private static final List<String> UP_TO_1MB = Arrays.asList(SMALL, MB_1);
+    private static final List<String> SMALL_ONLY = Collections.singletonList(SMALL);
+
+    private static final String[] WORDS = {
+        "user", "name", "value", "token", "session", "订单", "用户", "数据", "请求", "响应",
+        "a=b&c=d", "path/to/resource", "100%", "email@example.com", "2024-01-01", "<tag>", "\"quoted\"",
+        "空格 分隔", "emoji😀", "key:value", "#anchor", "?query", "+plus", "tab\tchar", "line\nbreak"
+    };
+
+    private PayloadFactory() {
+    }
+
+    /**
+     * 获取操作适用的输入规模
+     * 二维码容量有限、时间戳和生成类操作与输入大小无关，只测小输入；图片和JWT最大测到1MB
+     */
+    public static List<String> supportedSizes(Operation operation) {
+        if (operation instanceof QRCodeGenerateOperation || operation instanceof QRCodeDecodeOperation
+                || operation instanceof TimestampToDatetimeOperation || operation instanceof DatetimeToTimestampOperation
+                || operation instanceof GetCurrentTimeOperation || operation instanceof RandomPasswordOperation) {
+            return SMALL_ONLY;
+        }
+        if (operation instanceof ImageToBaseOperation || operation instanceof JwtEncodeOperation
+                || operation instanceof JwtDecodeOperation) {
+            return UP_TO_1MB;
+        }
+        return ALL_SIZES;
+    }
+
+    /**
+     * 生成操作输入
+     * @param operation 操作
+     * @param size 输入规模
+     * @param workDir 存放图片等临时文件的目录
+     * @return 输入文本，以文件为输入的操作返回文件路径
+     */
+    public static String createInput(Operation operation, String size, Path workDir) throws IOException {
+        int target = targetBytes(size);
+        Random random = new Random(42);
+
+        if (operation instanceof JsonFormatOperation) {
+            return json(target, random);
+        }
+        if (operation instanceof JsonMinifyOperation) {
+            return new JsonFormatOperation().execute(json(target, random));
+        }
+        if (operation instanceof XmlFormatOperation) {
+            return xml(target, random);
+        }
+        if (operation instanceof JwtEncodeOperation) {
+            return jwtConfig(target, random);
+        }
+        if (operation instanceof JwtDecodeOperation) {
+            return new JwtEncodeOperation().execute(jwtConfig(target, random));
+        }
+        if (operation instanceof QRCodeGenerateOperation) {
+            return "https://example.com/orders/20240101?user=" + text(64, random);
+        }
+        if (operation instanceof QRCodeDecodeOperation) {
+            Path file = workDir.resolve("qrcode.png");
+            Files.write(file, new QRCodeGenerateOperation().getImageBytes("https://example.com/orders/20240101"));
+            return file.toString();
+        }
+        if (operation instanceof ImageToBaseOperation) {
+            return noiseImage(target, random, workDir).toString();
+        }
+        if (operation instanceof TimestampToDatetimeOperation) {
+            return "1704081600000";
+        }
+        if (operation instanceof DatetimeToTimestampOperation) {
+            return "2024-01-01 12:00:00";
+        }
+        if (operation instanceof GetCurrentTimeOperation || operation instanceof RandomPasswordOperation) {
+            return "";
+        }
+
+        // 解码操作的输入由对应的编码操作生成
+        String name = operation.getDisplayName();
+        if (name.endsWith("解码")) {
+            Operation encoder = OperationFactory.getOperation(name.substring(0, name.length() - 2) + "编码");
+            if (encoder != null) {
+                return encoder.execute(text(target, random));
+            }
+        }
+        return text(target, random);
+    }
+
+    static int targetBytes(String size) {
+        switch (size) {
+            case SMALL:
+                return 256;
+            case MB_1:
+                return 1024 * 1024;
+            case MB_100:
+                return 100 * 1024 * 1024;
+            default:
+                throw new IllegalArgumentException("未知的输入规模: " + size);
+        }
+    }
+
+    /**
+     * 生成混合ASCII、中文、URL保留字符和控制字符的文本，长度按字符近似
+     */
+    static String text(int target, Random random) {
+        StringBuilder builder = new StringBuilder(target + 32);
+        while (builder.length() < target) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        builder.setLength(target);
+        return builder.toString();
+    }
+
+    private static String json(int target, Random random) {
+        StringBuilder builder = new StringBuilder(target + 256);
+        builder.append('[');
+        for (int id = 0; builder.length() < target; id++) {
+            if (id > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(id)
+                .append(",\"name\":\"").append(WORDS[random.nextInt(5)]).append(id).append('"')
+                .append(",\"score\":").append(random.nextInt(10000) / 100.0)
+                .append(",\"active\":").append(random.nextBoolean())
+                .append(",\"tags\":[\"").append(WORDS[random.nextInt(5)]).append("\",\"")
+                .append(WORDS[5 + random.nextInt(5)]).append("\"]")
+                .append(",\"address\":{\"city\":\"上海\",\"zip\":\"").append(200000 + random.nextInt(1000))
+                .append("\"},\"note\":null}");
+        }
+        return builder.append(']').toString();
+    }
+
+    private static String xml(int target, Random random) {
+        StringBuilder builder = new StringBuilder(target + 256);
+        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><orders>");
+        for (int id = 0; builder.length() < target; id++) {
+            builder.append("<order id=\"").append(id).append("\" status=\"")
+                .append(random.nextBoolean() ? "paid" : "pending").append("\">")
+                .append("<customer><name>").append(WORDS[random.nextInt(5)]).append(id).append("</name>")
+                .append("<city>上海</city></customer>")
+                .append("<items><item sku=\"A").append(random.nextInt(1000)).append("\">")
+                .append(random.nextInt(10)).append("</item><item sku=\"B").append(random.nextInt(1000))
+                .append("\">").append(random.nextInt(10)).append("</item></items>")
+                .append("<note><![CDATA[a < b && c > d]]></note></order>");
+        }
+        return builder.append("</orders>").toString();
+    }
+
+    private static String jwtConfig(int target, Random random) {
+        String data = text(Math.max(16, target - 128), random)
+            .replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\t", "\\t");
+        return "{\"payload\":{\"sub\":\"1234567890\",\"iat\":1704081600,\"data\":\"" + data + "\"},"
+            + "\"key\":\"YmVuY2htYXJrLXNlY3JldC1rZXktd2l0aC1hdC1sZWFzdC0yNTYtYml0cyEh\",\"algorithm\":\"HS256\"}";
+    }
+
+    /**
+     * 生成随机像素的PNG图片，随机像素几乎不可压缩，文件大小接近目标大小
+     */
+    private static Path noiseImage(int target, Random random, Path workDir) throws IOException {
+        int side = Math.max(8, (int) Math.sqrt(target / 3.0));
+        BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        Path file = workDir.resolve("noise-" + side + ".png");
+        ImageIO.write(image, "png", file.toFile());
+        return file;
+    }
+}
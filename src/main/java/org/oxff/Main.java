@@ -1,7 +1,10 @@
 package org.oxff;
 
 import com.formdev.flatlaf.FlatLightLaf;
+import org.oxff.cli.CommandLine;
 import org.oxff.ui.MainWindow;
+import org.oxff.ui.util.LargeTextFile;
+import org.oxff.ui.util.StartupTimer;
 
 import javax.swing.*;
 import java.util.logging.Level;
@@ -12,16 +15,28 @@ import java.util.logging.Logger;
 public class Main {
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
     public static void main(String[] args) {
+        // 带参数时以命令行模式运行，不初始化图形界面
+        if (CommandLine.isCommandLine(args)) {
+            System.setProperty("java.awt.headless", "true");
+            System.exit(new CommandLine(System.in, System.out, System.err).run(args));
+        }
+
         // 设置外观
+        StartupTimer.start();
         FlatLightLaf.setup();
+        StartupTimer.mark("设置外观");
 
         SwingUtilities.invokeLater(() -> {
             try {
                 MainWindow frame = new MainWindow();
                 frame.setVisible(true);
+                StartupTimer.mark("显示窗口");
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "启动应用程序时发生错误", e);
             }
         });
+
+        // 窗口在EDT上创建的同时清理上次运行遗留的大结果转存文件
+        LargeTextFile.deleteStaleSpills();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,338 @@
+package org.oxff.cli;
+
+import org.oxff.core.OperationCategory;
+import org.oxff.core.OperationDescriptor;
+import org.oxff.core.OperationFactory;
+import org.oxff.core.metrics.MetricsRegistry;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
+import org.oxff.ui.controller.OperationExecutionContext;
+import org.oxff.ui.controller.OperationExecutor;
+import org.oxff.ui.controller.OperationValidator;
+import org.oxff.ui.controller.ResultCache;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 命令行入口，无需图形界面即可执行操作，便于在shell管道和无显示环境的服务器上使用
+ * <pre>
+ * run &lt;操作名称&gt; [--in 文件] [--out 文件] [--lines] [--threads N] [--expr 表达式] [--indent N|tab] [--set key=value]...
+ * list
+ * help
+ * </pre>
+ */
+public class CommandLine {
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_FAILURE = 1;
+    public static final int EXIT_USAGE = 2;
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream stdin;
+    private final OutputStream stdout;
+    private final PrintStream stderr;
+    private final OperationValidator validator = new OperationValidator();
+    // 命令行每次调用只处理一遍输入，结果缓存只会增加逐行哈希和内存开销，因此禁用
+    private final OperationExecutor executor =
+        new OperationExecutor(validator, MetricsRegistry.getDefault(), new ResultCache(0));
+
+    public CommandLine(InputStream stdin, OutputStream stdout, PrintStream stderr) {
+        this.stdin = stdin;
+        this.stdout = stdout;
+        this.stderr = stderr;
+    }
+
+    /**
+     * 判断参数是否应以命令行模式处理
+     * @param args 启动参数
+     * @return 有参数时返回 true
+     */
+    public static boolean isCommandLine(String[] args) {
+        return args != null && args.length > 0;
+    }
+
+    /**
+     * 执行命令
+     * @param args 启动参数
+     * @return 退出码
+     */
+    public int run(String[] args) {
+        String command = args[0];
+        try {
+            switch (command) {
+                case "run":
+                    String[] runArgs = new String[args.length - 1];
+                    System.arraycopy(args, 1, runArgs, 0, runArgs.length);
+                    return runOperation(RunOptions.parse(runArgs));
+                case "list":
+                    return listOperations();
+                case "help":
+                case "--help":
+                case "-h":
+                    printUsage(stderr);
+                    return EXIT_OK;
+                default:
+                    stderr.println("未知命令: " + command);
+                    printUsage(stderr);
+                    return EXIT_USAGE;
+            }
+        } catch (UsageException e) {
+            stderr.println(e.getMessage());
+            return EXIT_USAGE;
+        } catch (IllegalArgumentException e) {
+            // 参数解析错误
+            stderr.println(e.getMessage());
+            printUsage(stderr);
+            return EXIT_USAGE;
+        } catch (Exception e) {
+            stderr.println("执行失败: " + e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    private int runOperation(RunOptions options) throws Exception {
+        String operationName = options.getOperationName();
+        Operation operation = OperationFactory.getOperation(operationName);
+        if (operation == null) {
+            throw new UsageException("未找到操作: " + operationName + "（使用 list 命令查看所有操作）");
+        }
+        if (operation.getCategory() == OperationCategory.AUTOMATION) {
+            throw new UsageException("自动化操作不支持命令行模式: " + operationName);
+        }
+        if (options.isLineMode() && operation.returnsImage()) {
+            throw new UsageException("返回图片的操作不支持按行模式: " + operationName);
+        }
+
+        // 执行前统一构建配置，各执行路径（包括直接调用操作的路径）都随调用传入该配置
+        OperationConfig config = buildConfig(operation, options);
+
+        try (OutputStream out = openOutput(options)) {
+            if (options.isLineMode()) {
+                return runLines(operation, options, config, out);
+            }
+            try {
+                runWhole(operation, options, config, out);
+            } catch (IllegalArgumentException e) {
+                // 操作自身的输入错误按执行失败处理，而非参数错误
+                stderr.println(operationName + " 执行失败: " + e.getMessage());
+                return EXIT_FAILURE;
+            }
+            return EXIT_OK;
+        }
+    }
+
+    /**
+     * 整体处理：流式操作逐块处理，字节操作直接处理原始字节，其他操作按UTF-8文本处理
+     */
+    private void runWhole(Operation operation, RunOptions options, OperationConfig config,
+                          OutputStream out) throws Exception {
+        boolean fileInput = validator.requiresImageInput(options.getOperationName())
+            || validator.requiresFileInput(options.getOperationName());
+        if (fileInput) {
+            // 以文件路径作为输入的操作，直接把 --in 指定的文件交给操作读取
+            if (options.getInputFile() == null) {
+                throw new UsageException("操作 " + options.getOperationName() + " 需要通过 --in 指定输入文件");
+            }
+            writeResult(execute(options, config, options.getInputFile().toString()), out);
+            return;
+        }
+
+        // 可配置操作绑定配置后再判断是否支持流式或字节处理
+        Operation effective = config != null ? ((ConfigurableOperation) operation).configure(config) : operation;
+        try (InputStream in = openInput(options)) {
+            if (options.isPlain() && effective instanceof StreamingOperation) {
+                ((StreamingOperation) effective).execute(Channels.newChannel(in), Channels.newChannel(out));
+            } else if (options.isPlain() && effective instanceof ByteOperation) {
+                out.write(((ByteOperation) effective).executeBytes(in.readAllBytes()));
+            } else {
+                String inputText = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                writeResult(execute(options, config, inputText), out);
+            }
+        }
+    }
+
+    private int runLines(Operation operation, RunOptions options, OperationConfig config,
+                         OutputStream out) throws IOException {
+        // 不带表达式和缩进时直接调用操作，省去每行构建上下文和校验的开销
+        // 配置随每次调用传入，操作实例可被多个线程共享
+        ParallelLineProcessor.LineTransform transform;
+        if (!options.isPlain()) {
+            transform = line -> execute(options, config, line).getResult();
+        } else if (config != null) {
+            ConfigurableOperation configurable = (ConfigurableOperation) operation;
+            transform = line -> configurable.execute(line, config);
+        } else {
+            transform = operation::execute;
+        }
+        ParallelLineProcessor processor = new ParallelLineProcessor(transform, options.getThreads());
+        try (InputStream in = openInput(options)) {
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+            long lineCount = processor.process(reader, writer);
+            if (processor.getErrorCount() > 0) {
+                stderr.println("共 " + lineCount + " 行，其中 " + processor.getErrorCount() + " 行处理失败");
+                return EXIT_FAILURE;
+            }
+            return EXIT_OK;
+        }
+    }
+
+    /**
+     * 按操作的配置结构构建配置，未指定的配置项使用默认值
+     * @return 配置，不可配置的操作返回 null
+     * @throws UsageException 操作不可配置却指定了配置项，或配置项无效时抛出
+     */
+    private OperationConfig buildConfig(Operation operation, RunOptions options) throws UsageException {
+        Map<String, String> settings = options.getSettings();
+        if (!(operation instanceof ConfigurableOperation)) {
+            if (!settings.isEmpty()) {
+                throw new UsageException("操作 " + operation.getDisplayName() + " 没有可设置的配置项");
+            }
+            return null;
+        }
+        OperationConfig.Builder builder = ((ConfigurableOperation) operation).getConfigSchema().newConfig();
+        try {
+            for (Map.Entry<String, String> setting : settings.entrySet()) {
+                builder.set(setting.getKey(), setting.getValue());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new UsageException(e.getMessage() + "（使用 list 命令查看各操作的配置项）");
+        }
+        return builder.build();
+    }
+
+    private OperationExecutor.ExecutionResult execute(RunOptions options, OperationConfig config,
+                                                      String inputText) throws Exception {
+        OperationExecutionContext context = new OperationExecutionContext.Builder()
+            .operationName(options.getOperationName())
+            .inputText(inputText)
+            .expressions(options.getExpressions())
+            .formatIndent(options.getFormatIndent())
+            .operationConfig(config)
+            .build();
+        return executor.execute(context);
+    }
+
+    private void writeResult(OperationExecutor.ExecutionResult result, OutputStream out) throws IOException {
+        if (result.isImage()) {
+            out.write(result.getImageBytes());
+        } else {
+            out.write(result.getResult().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private int listOperations() {
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(stdout, StandardCharsets.UTF_8));
+        for (OperationCategory category : OperationCategory.values()) {
+            List<OperationDescriptor> descriptors = OperationFactory.getDescriptorsByCategory(category);
+            if (descriptors == null || descriptors.isEmpty()) {
+                continue;
+            }
+            writer.println("[" + category.getDisplayName() + "]");
+            for (OperationDescriptor descriptor : descriptors) {
+                writer.println("  " + descriptor.getDisplayName());
+                // 只有可配置的操作需要加载实现以读取配置结构
+                if (descriptor.isConfigurable()) {
+                    Operation operation = descriptor.getOperation();
+                    printConfigFields(writer, ((ConfigurableOperation) operation).getConfigSchema());
+                }
+            }
+        }
+        writer.flush();
+        return EXIT_OK;
+    }
+
+    /**
+     * 输出配置项名称、说明、默认值和可选值，供 --set 参考
+     */
+    private static void printConfigFields(PrintWriter writer, ConfigSchema schema) {
+        for (ConfigField field : schema.getFields()) {
+            StringBuilder line = new StringBuilder("      --set ")
+                .append(field.getKey()).append('=').append(field.getDefaultValue())
+                .append("  ").append(field.getLabel());
+            if (field.getType() == ConfigField.Type.INT) {
+                line.append(" [").append(field.getMin()).append('-').append(field.getMax()).append(']');
+            } else if (field.getType() == ConfigField.Type.CHOICE && !field.isEditable()) {
+                line.append(" [").append(String.join("|", field.getOptions())).append(']');
+            }
+            writer.println(line);
+        }
+    }
+
+    private InputStream openInput(RunOptions options) throws IOException {
+        if (options.getInputFile() != null) {
+            return Files.newInputStream(options.getInputFile());
+        }
+        // 标准输入由调用方管理，不随处理结束关闭
+        return new FilterInputStream(stdin) {
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private OutputStream openOutput(RunOptions options) throws IOException {
+        if (options.getOutputFile() != null) {
+            return new BufferedOutputStream(Files.newOutputStream(options.getOutputFile()), IO_BUFFER_SIZE);
+        }
+        // 标准输出只刷新不关闭
+        return new FilterOutputStream(new BufferedOutputStream(stdout, IO_BUFFER_SIZE)) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    private static void printUsage(PrintStream out) {
+        out.println("用法:");
+        out.println("  run <操作名称> [选项]   执行操作，默认从标准输入读取、写入标准输出");
+        out.println("      --in <文件>         输入文件");
+        out.println("      --out <文件>        输出文件");
+        out.println("      --lines             按行处理，每行作为一条独立输入，多核并行且保持输出顺序");
+        out.println("      --threads <N>       按行处理的线程数，默认为CPU核数");
+        out.println("      --expr <表达式>     JSONPath/XPath 表达式，多个表达式用换行分隔");
+        out.println("      --indent <N|tab>    格式化缩进");
+        out.println("      --set <key=value>   设置操作配置项，可重复指定，list 命令列出各操作的配置项");
+        out.println("  list                    列出所有操作");
+        out.println("  help                    显示本帮助");
+        out.println("不带参数启动时打开图形界面");
+    }
+
+    /**
+     * 命令行参数或用法错误
+     */
+    private static class UsageException extends Exception {
+        UsageException(String message) {
+            super(message);
+        }
+    }
+}
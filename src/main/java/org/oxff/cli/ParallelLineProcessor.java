@@ -0,0 +1,150 @@
+package org.oxff.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按行并行处理器
+ * 输入按批次切分后提交到线程池，写出端按提交顺序等待各批次结果，
+ * 因此输出顺序与输入一致；在途批次数有上限，内存占用与输入总量无关
+ */
+public class ParallelLineProcessor {
+    /**
+     * 每批行数，足够摊薄任务调度开销
+     */
+    static final int BATCH_SIZE = 1024;
+
+    /**
+     * 单行转换函数
+     */
+    public interface LineTransform {
+        String apply(String line) throws Exception;
+    }
+
+    private final LineTransform transform;
+    private final int threads;
+    private final AtomicLong errorCount = new AtomicLong();
+
+    public ParallelLineProcessor(LineTransform transform, int threads) {
+        this.transform = transform;
+        this.threads = threads;
+    }
+
+    /**
+     * 逐行读取输入、并行转换并按原顺序写出，每个结果占一行
+     * 单行失败时输出 "错误: 原因" 并继续处理后续行
+     * @param in 输入
+     * @param out 输出，调用方负责关闭
+     * @return 处理的行数
+     * @throws IOException 读写失败时抛出
+     */
+    public long process(BufferedReader in, Writer out) throws IOException {
+        if (threads == 1) {
+            return processSequentially(in, out);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "line-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<String[]>> inFlight = new ArrayDeque<>();
+        int maxInFlight = threads * 4;
+        long lineCount = 0;
+        try {
+            List<String> batch;
+            while (!(batch = readBatch(in)).isEmpty()) {
+                lineCount += batch.size();
+                String[] lines = batch.toArray(new String[0]);
+                inFlight.add(pool.submit(() -> transformBatch(lines)));
+                if (inFlight.size() >= maxInFlight) {
+                    writeBatch(awaitBatch(inFlight.poll()), out);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writeBatch(awaitBatch(inFlight.poll()), out);
+            }
+            out.flush();
+            return lineCount;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long processSequentially(BufferedReader in, Writer out) throws IOException {
+        long lineCount = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            out.write(transformLine(line));
+            out.write('\n');
+            lineCount++;
+        }
+        out.flush();
+        return lineCount;
+    }
+
+    private List<String> readBatch(BufferedReader in) throws IOException {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        String line;
+        while (batch.size() < BATCH_SIZE && (line = in.readLine()) != null) {
+            batch.add(line);
+        }
+        return batch;
+    }
+
+    private String[] transformBatch(String[] lines) {
+        String[] results = new String[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            results[i] = transformLine(lines[i]);
+        }
+        return results;
+    }
+
+    private String transformLine(String line) {
+        // 空行原样保留，保证输出与输入逐行对应
+        if (line.isEmpty()) {
+            return line;
+        }
+        try {
+            String result = transform.apply(line);
+            return result == null ? "" : result;
+        } catch (Exception e) {
+            errorCount.incrementAndGet();
+            return "错误: " + e.getMessage();
+        }
+    }
+
+    private String[] awaitBatch(Future<String[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("处理被中断", e);
+        } catch (ExecutionException e) {
+            throw new IOException("处理失败: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void writeBatch(String[] results, Writer out) throws IOException {
+        for (String result : results) {
+            out.write(result);
+            out.write('\n');
+        }
+    }
+
+    /**
+     * 获取处理失败的行数
+     */
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+}
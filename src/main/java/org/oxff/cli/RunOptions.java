@@ -0,0 +1,161 @@
+package org.oxff.cli;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * run 命令的参数
+ */
+public class RunOptions {
+    private final String operationName;
+    private Path inputFile;
+    private Path outputFile;
+    private boolean lineMode;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private String expressions = "";
+    private String formatIndent;
+    private final Map<String, String> settings = new LinkedHashMap<>();
+
+    private RunOptions(String operationName) {
+        this.operationName = operationName;
+    }
+
+    /**
+     * 解析 run 命令参数
+     * @param args 操作名称之后的参数，第一个元素为操作名称
+     * @return 解析结果
+     * @throws IllegalArgumentException 参数无效时抛出
+     */
+    public static RunOptions parse(String[] args) {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            throw new IllegalArgumentException("缺少操作名称");
+        }
+        RunOptions options = new RunOptions(args[0]);
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--in":
+                    options.inputFile = Paths.get(requireValue(args, ++i, arg));
+                    break;
+                case "--out":
+                    options.outputFile = Paths.get(requireValue(args, ++i, arg));
+                    break;
+                case "--lines":
+                    options.lineMode = true;
+                    break;
+                case "--threads":
+                    options.threads = parsePositiveInt(requireValue(args, ++i, arg), arg);
+                    break;
+                case "--expr":
+                    options.expressions = requireValue(args, ++i, arg);
+                    break;
+                case "--indent":
+                    options.formatIndent = parseIndent(requireValue(args, ++i, arg));
+                    break;
+                case "--set":
+                    options.parseSetting(requireValue(args, ++i, arg));
+                    break;
+                default:
+                    throw new IllegalArgumentException("未知参数: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static String requireValue(String[] args, int index, String name) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("参数 " + name + " 缺少取值");
+        }
+        return args[index];
+    }
+
+    /**
+     * 解析 key=value 形式的配置项，取值由操作的配置结构校验
+     */
+    private void parseSetting(String value) {
+        int separator = value.indexOf('=');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("参数 --set 必须是 key=value 形式: " + value);
+        }
+        settings.put(value.substring(0, separator).trim(), value.substring(separator + 1));
+    }
+
+    private static int parsePositiveInt(String value, String name) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // 统一在下方报错
+        }
+        throw new IllegalArgumentException("参数 " + name + " 必须是正整数: " + value);
+    }
+
+    /**
+     * 将缩进参数转换为缩进字符串，支持空格数和 tab
+     */
+    private static String parseIndent(String value) {
+        if ("tab".equalsIgnoreCase(value)) {
+            return "\t";
+        }
+        try {
+            int spaces = Integer.parseInt(value);
+            if (spaces >= 0 && spaces <= 16) {
+                StringBuilder indent = new StringBuilder();
+                for (int i = 0; i < spaces; i++) {
+                    indent.append(' ');
+                }
+                return indent.toString();
+            }
+        } catch (NumberFormatException e) {
+            // 统一在下方报错
+        }
+        throw new IllegalArgumentException("参数 --indent 必须是 0-16 的空格数或 tab: " + value);
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public Path getInputFile() {
+        return inputFile;
+    }
+
+    public Path getOutputFile() {
+        return outputFile;
+    }
+
+    public boolean isLineMode() {
+        return lineMode;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public String getExpressions() {
+        return expressions;
+    }
+
+    public String getFormatIndent() {
+        return formatIndent;
+    }
+
+    /**
+     * 获取 --set 指定的配置项，按出现顺序排列
+     */
+    public Map<String, String> getSettings() {
+        return Collections.unmodifiableMap(settings);
+    }
+
+    /**
+     * 是否为不带表达式和缩进的直接执行
+     */
+    public boolean isPlain() {
+        return expressions.isEmpty() && formatIndent == null;
+    }
+}
@@ -0,0 +1,96 @@
+package org.oxff.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 线程安全的LRU缓存，超过容量时淘汰最久未使用的条目
+ * 适用于编译后的表达式等创建成本较高、可跨次执行复用的对象
+ * @param <K> 键类型
+ * @param <V> 值类型
+ */
+public class LruCache<K, V> {
+    private final int maxSize;
+    private final LinkedHashMap<K, V> entries;
+    private long hitCount;
+    private long missCount;
+
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("缓存容量必须大于0");
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 获取缓存值
+     * @param key 键
+     * @return 缓存值，不存在时返回 null
+     */
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return value;
+    }
+
+    /**
+     * 放入缓存值
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * 获取缓存值，不存在时调用 loader 创建并放入缓存
+     * loader 在锁外执行；抛出异常时不会缓存任何内容
+     * @param key 键
+     * @param loader 值创建函数
+     * @return 缓存值
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 清空缓存和命中统计
+     */
+    public synchronized void clear() {
+        entries.clear();
+        hitCount = 0;
+        missCount = 0;
+    }
+}
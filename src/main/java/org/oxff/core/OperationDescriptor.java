@@ -0,0 +1,217 @@
+package org.oxff.core;
+
+import org.oxff.operation.InputType;
+import org.oxff.operation.Operation;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.formatting.ExpressionOperation;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 操作描述，包含构建界面和校验输入所需的元数据，操作实例在第一次使用时才创建
+ * 这样启动时不会加载各操作依赖的第三方库（二维码、JWT、XML、JSONPath 等）
+ * <p>
+ * 工厂应写成 lambda（如 {@code () -> new JsonFormatOperation()}），不要写成构造方法引用：
+ * 构造方法引用在创建描述时就会加载实现类，lambda 只在调用时才加载
+ */
+public final class OperationDescriptor {
+    private final String displayName;
+    private final OperationCategory category;
+    private final Subcategory subcategory;
+    private final InputType inputType;
+    private final boolean configurable;
+    private final boolean expressionInput;
+    private final Supplier<? extends Operation> factory;
+
+    private volatile Operation operation;
+
+    private OperationDescriptor(Builder builder) {
+        this.displayName = builder.displayName;
+        this.category = builder.category;
+        this.subcategory = builder.subcategory;
+        this.inputType = builder.inputType;
+        this.configurable = builder.configurable;
+        this.expressionInput = builder.expressionInput;
+        this.factory = builder.factory;
+    }
+
+    /**
+     * 创建描述构建器
+     * @param displayName 操作显示名称，必须与实现的 getDisplayName 一致
+     * @param category 操作分类
+     * @param factory 创建操作实例的工厂
+     * @return 构建器
+     */
+    public static Builder builder(String displayName, OperationCategory category,
+                                  Supplier<? extends Operation> factory) {
+        return new Builder(displayName, category, factory);
+    }
+
+    /**
+     * 用已创建的操作实例生成描述，元数据直接从实例读取
+     * @param operation 操作实例
+     * @return 操作描述
+     */
+    public static OperationDescriptor of(Operation operation) {
+        OperationDescriptor descriptor = builder(operation.getDisplayName(), operation.getCategory(), () -> operation)
+            .subcategory(operation.getSubcategory())
+            .inputType(operation.getInputType())
+            .configurable(operation instanceof ConfigurableOperation)
+            .expressionInput(operation instanceof ExpressionOperation)
+            .build();
+        descriptor.operation = operation;
+        return descriptor;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public OperationCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * 获取子分类
+     * @return 子分类，没有子分类时返回 null
+     */
+    public Subcategory getSubcategory() {
+        return subcategory;
+    }
+
+    public InputType getInputType() {
+        return inputType;
+    }
+
+    /**
+     * 操作是否实现 {@link ConfigurableOperation}
+     */
+    public boolean isConfigurable() {
+        return configurable;
+    }
+
+    /**
+     * 操作是否实现 {@link ExpressionOperation}
+     */
+    public boolean isExpressionInput() {
+        return expressionInput;
+    }
+
+    /**
+     * 是否已创建操作实例
+     */
+    public boolean isLoaded() {
+        return operation != null;
+    }
+
+    /**
+     * 获取操作实例，第一次调用时创建
+     * @return 操作实例
+     * @throws IllegalStateException 创建失败或实例与描述不一致时抛出
+     */
+    public Operation getOperation() {
+        Operation result = operation;
+        if (result == null) {
+            synchronized (this) {
+                result = operation;
+                if (result == null) {
+                    result = create();
+                    operation = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Operation create() {
+        Operation created;
+        try {
+            created = factory.get();
+        } catch (RuntimeException | LinkageError e) {
+            throw new IllegalStateException("无法加载操作: " + displayName, e);
+        }
+        if (created == null
+                || !displayName.equals(created.getDisplayName())
+                || category != created.getCategory()
+                || inputType != created.getInputType()
+                || configurable != created instanceof ConfigurableOperation
+                || expressionInput != created instanceof ExpressionOperation) {
+            throw new IllegalStateException("操作描述与实现不一致: " + displayName);
+        }
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    /**
+     * 操作描述构建器
+     */
+    public static final class Builder {
+        private final String displayName;
+        private final OperationCategory category;
+        private final Supplier<? extends Operation> factory;
+        private Subcategory subcategory;
+        private InputType inputType = InputType.TEXT;
+        private boolean configurable;
+        private boolean expressionInput;
+
+        private Builder(String displayName, OperationCategory category, Supplier<? extends Operation> factory) {
+            this.displayName = Objects.requireNonNull(displayName, "displayName");
+            this.category = Objects.requireNonNull(category, "category");
+            this.factory = Objects.requireNonNull(factory, "factory");
+        }
+
+        /**
+         * 设置子分类，未注册的子分类视为没有子分类
+         * @param subcategoryId 子分类标识，见 {@link SubcategoryRegistry}
+         */
+        public Builder subcategory(String subcategoryId) {
+            return subcategory(SubcategoryRegistry.getSubcategory(subcategoryId));
+        }
+
+        public Builder subcategory(Subcategory subcategory) {
+            this.subcategory = subcategory;
+            return this;
+        }
+
+        /**
+         * 设置输入类型，默认为 {@link InputType#TEXT}
+         */
+        public Builder inputType(InputType inputType) {
+            this.inputType = Objects.requireNonNull(inputType, "inputType");
+            return this;
+        }
+
+        /**
+         * 声明操作实现 {@link ConfigurableOperation}
+         */
+        public Builder configurable() {
+            return configurable(true);
+        }
+
+        private Builder configurable(boolean configurable) {
+            this.configurable = configurable;
+            return this;
+        }
+
+        /**
+         * 声明操作实现 {@link ExpressionOperation}
+         */
+        public Builder expressionInput() {
+            return expressionInput(true);
+        }
+
+        private Builder expressionInput(boolean expressionInput) {
+            this.expressionInput = expressionInput;
+            return this;
+        }
+
+        public OperationDescriptor build() {
+            return new OperationDescriptor(this);
+        }
+    }
+}
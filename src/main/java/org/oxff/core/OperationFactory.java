@@ -1,131 +1,152 @@
 package org.oxff.core;
 
 import org.oxff.operation.Operation;
-import org.oxff.operation.formatting.JsonFormatOperation;
-import org.oxff.operation.formatting.XmlFormatOperation;
-import org.oxff.operation.encoding.url.UrlEncodeOperation;
-import org.oxff.operation.encoding.url.UrlDecodeOperation;
-import org.oxff.operation.encoding.base64.Base64EncodeOperation;
-import org.oxff.operation.encoding.base64.Base64DecodeOperation;
-import org.oxff.operation.encoding.base32.Base32EncodeOperation;
-import org.oxff.operation.encoding.base32.Base32DecodeOperation;
-import org.oxff.operation.encoding.unicode.UnicodeEncodeOperation;
-import org.oxff.operation.encoding.unicode.UnicodeDecodeOperation;
-import org.oxff.operation.encoding.hex.HexEncodeOperation;
-import org.oxff.operation.encoding.hex.HexDecodeOperation;
-import org.oxff.operation.encoding.jwt.JwtEncodeOperation;
-import org.oxff.operation.encoding.jwt.JwtDecodeOperation;
-import org.oxff.operation.encoding.image.ImageToBaseOperation;
-import org.oxff.operation.hashing.Md5HashOperation;
-import org.oxff.operation.hashing.Sha1HashOperation;
-import org.oxff.operation.hashing.Sha256HashOperation;
-import org.oxff.operation.automation.AutoInputOperation;
-import org.oxff.operation.qrcode.QRCodeGenerateOperation;
-import org.oxff.operation.qrcode.QRCodeDecodeOperation;
-import org.oxff.operation.timestamp.GetCurrentTimeOperation;
-import org.oxff.operation.timestamp.TimestampToDatetimeOperation;
-import org.oxff.operation.timestamp.DatetimeToTimestampOperation;
-import org.oxff.operation.generator.RandomPasswordOperation;
+import org.oxff.operation.OperationProvider;
+import org.oxff.operation.hashing.DigestEngine;
 
+import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * 操作工厂类，根据操作名称创建对应的操作实例
+ * 操作工厂类，根据操作名称获取对应的操作实例
+ * 操作由 {@link OperationProvider} 以描述的形式提供，通过 ServiceLoader 从类路径和插件目录中发现，
+ * 操作实例在第一次获取时才创建，启动时只加载描述
+ * 注册表可被多个工作线程同时读取，操作实例无状态，可同时用于多个执行
  */
 public class OperationFactory {
-    private static final Map<String, Operation> operations = new HashMap<>();
-    private static final Map<OperationCategory, List<Operation>> operationsByCategory = new HashMap<>();
-    private static final Map<OperationCategory, Map<Subcategory, List<Operation>>> operationsByCategoryAndSubcategory = new HashMap<>();
+    private static final Map<String, OperationDescriptor> descriptors = new ConcurrentHashMap<>();
+    private static final Map<OperationCategory, List<OperationDescriptor>> descriptorsByCategory = new ConcurrentHashMap<>();
+    private static final Map<OperationCategory, Map<Subcategory, List<OperationDescriptor>>> descriptorsByCategoryAndSubcategory = new ConcurrentHashMap<>();
+    private static final List<String> loadErrors = new CopyOnWriteArrayList<>();
+    private static final List<File> pluginJars;
 
     static {
-        // 初始化所有操作
-        Operation[] allOperations = {
-            new JsonFormatOperation(),
-            new XmlFormatOperation(),
-            new UrlEncodeOperation(),
-            new UrlDecodeOperation(),
-            new Base64EncodeOperation(),
-            new Base64DecodeOperation(),
-            new Base32EncodeOperation(),
-            new Base32DecodeOperation(),
-            new UnicodeEncodeOperation(),
-            new UnicodeDecodeOperation(),
-            new HexEncodeOperation(),
-            new HexDecodeOperation(),
-            new Md5HashOperation(),
-            new Sha1HashOperation(),
-            new Sha256HashOperation(),
-            new AutoInputOperation(),
-            new QRCodeGenerateOperation(),
-            new QRCodeDecodeOperation(),
-            // 时间戳操作
-            new GetCurrentTimeOperation(),
-            new TimestampToDatetimeOperation(),
-            new DatetimeToTimestampOperation(),
-            // JWT操作
-            new JwtEncodeOperation(),
-            new JwtDecodeOperation(),
-            // 图片和生成工具操作
-            new ImageToBaseOperation(),
-            new RandomPasswordOperation()
-        };
-        
-        // 按名称映射操作
-        for (Operation op : allOperations) {
-            operations.put(op.getDisplayName(), op);
-        }
-        
-        // 按分类组织操作
+        // 初始化分类索引
         for (OperationCategory category : OperationCategory.values()) {
-            operationsByCategory.put(category, new ArrayList<>());
+            descriptorsByCategory.put(category, new CopyOnWriteArrayList<>());
+            descriptorsByCategoryAndSubcategory.put(category, new ConcurrentHashMap<>());
         }
 
-        for (Operation op : allOperations) {
-            operationsByCategory.get(op.getCategory()).add(op);
+        // 父加载器优先，内置操作先于插件注册，插件不能覆盖内置操作
+        pluginJars = PluginLoader.findPluginJars();
+        ClassLoader loader = PluginLoader.createClassLoader(pluginJars, OperationFactory.class.getClassLoader());
+        Iterator<OperationProvider> providers = ServiceLoader.load(OperationProvider.class, loader).iterator();
+        while (true) {
+            OperationProvider provider;
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                provider = providers.next();
+            } catch (ServiceConfigurationError e) {
+                loadErrors.add("无法加载操作提供者: " + e.getMessage());
+                continue;
+            }
+            registerAll(provider);
         }
+    }
 
-        // 按分类和子分类组织操作
-        for (OperationCategory category : OperationCategory.values()) {
-            operationsByCategoryAndSubcategory.put(category, new HashMap<>());
+    private static void registerAll(OperationProvider provider) {
+        List<OperationDescriptor> provided;
+        try {
+            provided = provider.getOperations();
+        } catch (RuntimeException | LinkageError e) {
+            loadErrors.add("操作提供者 " + provider.getClass().getName() + " 加载失败: " + e);
+            return;
         }
-
-        for (Operation op : allOperations) {
-            OperationCategory category = op.getCategory();
-            Subcategory subcategory = op.getSubcategory();
-
-            if (subcategory != null) {
-                operationsByCategoryAndSubcategory.get(category)
-                    .computeIfAbsent(subcategory, k -> new ArrayList<>())
-                    .add(op);
-            } else {
-                // 没有子分类的操作，使用默认子分类
-                operationsByCategoryAndSubcategory.get(category)
-                    .computeIfAbsent(SubcategoryRegistry.getDefaultSubcategory(), k -> new ArrayList<>())
-                    .add(op);
+        for (OperationDescriptor descriptor : provided) {
+            try {
+                register(descriptor);
+            } catch (IllegalArgumentException e) {
+                loadErrors.add(provider.getClass().getName() + ": " + e.getMessage());
             }
         }
     }
-    
+
+    /**
+     * 注册已创建的操作实例，并按分类和子分类建立索引
+     * @param op 操作实例，必须无状态且线程安全
+     * @throws IllegalArgumentException 已存在同名操作时抛出
+     */
+    public static void register(Operation op) {
+        register(OperationDescriptor.of(op));
+    }
+
+    /**
+     * 注册操作描述，并按分类和子分类建立索引
+     * @param descriptor 操作描述，创建的实例必须无状态且线程安全
+     * @throws IllegalArgumentException 已存在同名操作时抛出
+     */
+    public static void register(OperationDescriptor descriptor) {
+        if (descriptors.putIfAbsent(descriptor.getDisplayName(), descriptor) != null) {
+            throw new IllegalArgumentException("操作名称重复: " + descriptor.getDisplayName());
+        }
+
+        OperationCategory category = descriptor.getCategory();
+        descriptorsByCategory.get(category).add(descriptor);
+
+        // 没有子分类的操作，使用默认子分类
+        Subcategory subcategory = descriptor.getSubcategory() != null
+            ? descriptor.getSubcategory() : SubcategoryRegistry.getDefaultSubcategory();
+        descriptorsByCategoryAndSubcategory.get(category)
+            .computeIfAbsent(subcategory, k -> new CopyOnWriteArrayList<>())
+            .add(descriptor);
+    }
+
+    /**
+     * 获取操作实例，第一次获取时创建
+     * @param operationName 操作名称
+     * @return 操作实例，操作不存在时返回 null
+     * @throws IllegalStateException 操作实现加载失败时抛出
+     */
     public static Operation getOperation(String operationName) {
-        return operations.get(operationName);
+        OperationDescriptor descriptor = descriptors.get(operationName);
+        return descriptor != null ? descriptor.getOperation() : null;
+    }
+
+    /**
+     * 获取操作描述，不会创建操作实例
+     * @param operationName 操作名称
+     * @return 操作描述，操作不存在时返回 null
+     */
+    public static OperationDescriptor getDescriptor(String operationName) {
+        return operationName != null ? descriptors.get(operationName) : null;
     }
-    
+
     public static String[] getAllOperationNames() {
-        return operations.keySet().toArray(new String[0]);
+        return descriptors.keySet().toArray(new String[0]);
     }
 
-    public static List<Operation> getOperationsByCategory(OperationCategory category) {
-        return Collections.unmodifiableList(operationsByCategory.get(category));
+    public static List<OperationDescriptor> getDescriptorsByCategory(OperationCategory category) {
+        return Collections.unmodifiableList(descriptorsByCategory.get(category));
     }
 
-    public static Map<Subcategory, List<Operation>> getOperationsByCategoryWithSubcategory(OperationCategory category) {
-        Map<Subcategory, List<Operation>> result = new HashMap<>();
-        for (Map.Entry<Subcategory, List<Operation>> entry : operationsByCategoryAndSubcategory.get(category).entrySet()) {
+    public static Map<Subcategory, List<OperationDescriptor>> getDescriptorsByCategoryWithSubcategory(OperationCategory category) {
+        Map<Subcategory, List<OperationDescriptor>> result = new HashMap<>();
+        for (Map.Entry<Subcategory, List<OperationDescriptor>> entry : descriptorsByCategoryAndSubcategory.get(category).entrySet()) {
             result.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
         }
         return Collections.unmodifiableMap(result);
     }
 
+    /**
+     * 获取加载操作提供者时出现的错误（提供者无法实例化、操作名称重复等），这些操作被跳过
+     * @return 错误信息列表
+     */
+    public static List<String> getLoadErrors() {
+        return Collections.unmodifiableList(loadErrors);
+    }
+
+    /**
+     * 获取启动时发现的插件 jar
+     * @return 插件 jar 列表
+     */
+    public static List<File> getPluginJars() {
+        return Collections.unmodifiableList(pluginJars);
+    }
+
     /**
      * 获取操作的提示信息（用于日志显示）
      */
@@ -137,6 +158,10 @@ public class OperationFactory {
             case "JWT编码":
                 return "JWT编码提示: 密钥应使用Base64编码. RSA/EC算法密钥应为PKCS#8格式私钥";
 
+            case "多重摘要":
+                return "多重摘要提示: 支持 " + String.join(", ", DigestEngine.ALGORITHMS)
+                    + ". HMAC算法 (" + String.join(", ", DigestEngine.HMAC_ALGORITHMS) + ") 需要填写密钥";
+
             default:
                 return null;
         }
@@ -0,0 +1,71 @@
+package org.oxff.core;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 插件加载器，为插件目录中的 jar 创建类加载器
+ * 插件目录由系统属性 {@value #PLUGINS_DIR_PROPERTY} 指定，默认为用户目录下的 {@value #DEFAULT_PLUGINS_DIR_NAME}
+ * 插件 jar 通过 META-INF/services 登记 {@link org.oxff.operation.OperationProvider} 实现
+ */
+public final class PluginLoader {
+    public static final String PLUGINS_DIR_PROPERTY = "uitools.plugins.dir";
+    private static final String DEFAULT_PLUGINS_DIR_NAME = "uiTools_plugins";
+
+    private PluginLoader() {
+    }
+
+    /**
+     * 获取插件目录
+     * @return 插件目录，目录可能不存在
+     */
+    public static Path getPluginsDirectory() {
+        String configured = System.getProperty(PLUGINS_DIR_PROPERTY);
+        if (configured != null && !configured.trim().isEmpty()) {
+            return Paths.get(configured.trim());
+        }
+        return Paths.get(System.getProperty("user.home"), DEFAULT_PLUGINS_DIR_NAME);
+    }
+
+    /**
+     * 列出插件目录中的 jar，按文件名排序
+     * @return 插件 jar 列表，目录不存在时为空
+     */
+    public static List<File> findPluginJars() {
+        File[] jars = getPluginsDirectory().toFile()
+            .listFiles(file -> file.isFile() && file.getName().toLowerCase().endsWith(".jar"));
+        if (jars == null) {
+            return new ArrayList<>();
+        }
+        Arrays.sort(jars);
+        return new ArrayList<>(Arrays.asList(jars));
+    }
+
+    /**
+     * 为插件 jar 创建类加载器，父加载器优先，内置类不会被插件覆盖
+     * @param jars 插件 jar
+     * @param parent 父类加载器
+     * @return 类加载器，没有插件时返回父类加载器
+     */
+    public static ClassLoader createClassLoader(List<File> jars, ClassLoader parent) {
+        if (jars.isEmpty()) {
+            return parent;
+        }
+        List<URL> urls = new ArrayList<>();
+        for (File jar : jars) {
+            try {
+                urls.add(jar.toURI().toURL());
+            } catch (MalformedURLException e) {
+                // 本地文件路径不会出现此异常
+            }
+        }
+        return new URLClassLoader(urls.toArray(new URL[0]), parent);
+    }
+}
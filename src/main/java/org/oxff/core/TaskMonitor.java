@@ -0,0 +1,88 @@
+package org.oxff.core;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * 任务监视器，供耗时操作报告进度并响应取消请求
+ * 执行引擎在工作线程上绑定当前任务的监视器，未绑定时 current() 返回一个不报告进度、不会被取消的空监视器
+ */
+public class TaskMonitor {
+    private static final TaskMonitor NONE = new TaskMonitor(null);
+    private static final ThreadLocal<TaskMonitor> CURRENT = new ThreadLocal<>();
+
+    private final ProgressListener progressListener;
+    private volatile boolean cancelled;
+
+    public TaskMonitor(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * 获取当前线程绑定的监视器
+     * @return 当前监视器，未绑定时返回空监视器
+     */
+    public static TaskMonitor current() {
+        TaskMonitor monitor = CURRENT.get();
+        return monitor != null ? monitor : NONE;
+    }
+
+    /**
+     * 将监视器绑定到当前线程
+     * @param monitor 监视器
+     */
+    public static void bind(TaskMonitor monitor) {
+        CURRENT.set(monitor);
+    }
+
+    /**
+     * 解除当前线程的监视器绑定
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 请求取消任务
+     */
+    public void cancel() {
+        if (this != NONE) {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * 检查是否已请求取消
+     * @return true 如果已请求取消
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 检查取消状态，已取消或线程被中断时抛出异常
+     * @throws CancellationException 任务已取消时抛出
+     */
+    public void checkCancelled() {
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("操作已取消");
+        }
+    }
+
+    /**
+     * 报告进度
+     * @param done 已完成的工作量
+     * @param total 总工作量，未知时传入小于等于0的值
+     */
+    public void reportProgress(long done, long total) {
+        if (progressListener != null) {
+            progressListener.onProgress(done, total);
+        }
+    }
+
+    /**
+     * 进度监听器
+     */
+    public interface ProgressListener {
+        void onProgress(long done, long total);
+    }
+}
@@ -0,0 +1,25 @@
+package org.oxff.core.metrics;
+
+/**
+ * 操作执行的计时阶段
+ */
+public enum ExecutionPhase {
+    /** 参数校验 */
+    VALIDATION("校验"),
+    /** 输入准备，包括读取选择的文件路径和解析配置 */
+    INPUT_PREPARATION("准备"),
+    /** 操作本身的执行 */
+    EXECUTE("执行"),
+    /** 结果显示 */
+    RENDER("渲染");
+
+    private final String displayName;
+
+    ExecutionPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,32 @@
+package org.oxff.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 结果写入文件的JFR事件
+ */
+@Name("org.oxff.FileWrite")
+@Label("结果写入文件")
+@Category({"uiTools", "文件"})
+@Description("将结果文本写入文件，包括手动保存、自动保存和大结果直接输出")
+@StackTrace(false)
+public class FileWriteEvent extends Event {
+    @Label("操作名称")
+    public String operationName;
+
+    @Label("文件路径")
+    public String path;
+
+    @Label("字符数")
+    public long characters;
+
+    @Label("写入大小")
+    @DataAmount
+    public long bytes;
+}
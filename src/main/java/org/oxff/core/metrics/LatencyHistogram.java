@@ -0,0 +1,99 @@
+package org.oxff.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 线程安全的耗时直方图
+ * 按2的幂分段，每段再线性分为 {@value #SUB_BUCKETS} 个桶，分位数相对误差不超过 1/{@value #SUB_BUCKETS}
+ * 记录时只做原子递增，不加锁，适合在执行路径上调用
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 覆盖到 2^62 纳秒，超出部分计入最后一个桶
+    private static final int MAGNITUDES = 63 - SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + MAGNITUDES * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一个耗时
+     * @param nanos 耗时（纳秒），负数按 0 处理
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 获取分位数
+     * @param percentile 分位，0-100
+     * @return 分位数对应桶的上界（纳秒），不超过最大值；没有记录时返回 0
+     */
+    public long getPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * 清空记录
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> magnitude) - SUB_BUCKETS;
+        int index = SUB_BUCKETS + magnitude * SUB_BUCKETS + subBucket;
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (((long) (SUB_BUCKETS + subBucket + 1)) << magnitude) - 1;
+    }
+}
@@ -0,0 +1,81 @@
+package org.oxff.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 执行统计注册表，按操作名称汇总各次执行的阶段耗时
+ * 可被多个执行线程同时写入，界面按版本号判断是否需要刷新
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final Map<String, OperationMetrics> metrics = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 获取全局注册表
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 记录一次执行
+     * @param operationName 操作名称
+     * @param timings 阶段耗时
+     * @param inputBytes 输入字节数
+     * @param outputBytes 输出字节数
+     */
+    public void recordExecution(String operationName, PhaseTimings timings, long inputBytes, long outputBytes) {
+        metricsFor(operationName).recordExecution(timings, inputBytes, outputBytes);
+        version.incrementAndGet();
+    }
+
+    /**
+     * 记录单个阶段的耗时
+     * @param operationName 操作名称
+     * @param phase 阶段
+     * @param nanos 耗时（纳秒）
+     */
+    public void recordPhase(String operationName, ExecutionPhase phase, long nanos) {
+        metricsFor(operationName).recordPhase(phase, nanos);
+        version.incrementAndGet();
+    }
+
+    /**
+     * 获取所有操作的统计，按执行次数从多到少排列
+     */
+    public List<OperationMetrics> getAll() {
+        List<OperationMetrics> result = new ArrayList<>(metrics.values());
+        result.sort(Comparator.comparingLong(OperationMetrics::getExecutionCount).reversed()
+            .thenComparing(OperationMetrics::getOperationName));
+        return result;
+    }
+
+    /**
+     * 获取统计版本号，每次记录后递增
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 清空所有统计
+     */
+    public void reset() {
+        for (OperationMetrics operationMetrics : metrics.values()) {
+            operationMetrics.reset();
+        }
+        metrics.clear();
+        version.incrementAndGet();
+    }
+
+    private OperationMetrics metricsFor(String operationName) {
+        return metrics.computeIfAbsent(operationName, OperationMetrics::new);
+    }
+}
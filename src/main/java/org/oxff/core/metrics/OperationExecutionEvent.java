@@ -0,0 +1,33 @@
+package org.oxff.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 操作执行的JFR事件，持续时间覆盖校验、输入准备和执行
+ */
+@Name("org.oxff.OperationExecution")
+@Label("操作执行")
+@Category({"uiTools", "操作"})
+@Description("一次操作执行，包括校验、输入准备和执行")
+@StackTrace(false)
+public class OperationExecutionEvent extends Event {
+    @Label("操作名称")
+    public String operationName;
+
+    @Label("输入大小")
+    @DataAmount
+    public long inputBytes;
+
+    @Label("输出大小")
+    @DataAmount
+    public long outputBytes;
+
+    @Label("执行成功")
+    public boolean succeeded;
+}
@@ -0,0 +1,89 @@
+package org.oxff.core.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个操作的执行统计：各阶段耗时直方图、执行次数和输入输出字节数
+ */
+public class OperationMetrics {
+    private final String operationName;
+    private final Map<ExecutionPhase, LatencyHistogram> histograms = new EnumMap<>(ExecutionPhase.class);
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+
+    OperationMetrics(String operationName) {
+        this.operationName = operationName;
+        for (ExecutionPhase phase : ExecutionPhase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * 记录一次执行的各阶段耗时和数据量，未计时的阶段（耗时为 0）不计入对应直方图
+     * @param timings 阶段耗时
+     * @param inputBytes 输入字节数
+     * @param outputBytes 输出字节数
+     */
+    void recordExecution(PhaseTimings timings, long inputBytes, long outputBytes) {
+        for (ExecutionPhase phase : ExecutionPhase.values()) {
+            long nanos = timings.get(phase);
+            if (nanos > 0) {
+                histograms.get(phase).record(nanos);
+            }
+        }
+        executionCount.increment();
+        bytesIn.add(inputBytes);
+        bytesOut.add(outputBytes);
+    }
+
+    /**
+     * 单独记录某个阶段的耗时，用于在执行结束后才发生的阶段（如结果显示）
+     */
+    void recordPhase(ExecutionPhase phase, long nanos) {
+        histograms.get(phase).record(nanos);
+    }
+
+    public LatencyHistogram getHistogram(ExecutionPhase phase) {
+        return histograms.get(phase);
+    }
+
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * 计算执行阶段的吞吐量
+     * @return 每秒处理的输入数据量（MB），没有记录时返回 0
+     */
+    public double getThroughputMBps() {
+        long executeNanos = histograms.get(ExecutionPhase.EXECUTE).getSum();
+        if (executeNanos == 0) {
+            return 0;
+        }
+        return getBytesIn() / (1024.0 * 1024.0) / (executeNanos / 1_000_000_000.0);
+    }
+
+    void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        executionCount.reset();
+        bytesIn.reset();
+        bytesOut.reset();
+    }
+}
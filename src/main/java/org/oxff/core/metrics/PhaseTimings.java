@@ -0,0 +1,38 @@
+package org.oxff.core.metrics;
+
+/**
+ * 单次执行各阶段的耗时（纳秒），由执行线程填写后随执行结果返回
+ */
+public class PhaseTimings {
+    private final long[] nanos = new long[ExecutionPhase.values().length];
+
+    /**
+     * 记录阶段耗时，同一阶段多次记录时累加
+     * @param phase 阶段
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    public void add(ExecutionPhase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+    }
+
+    /**
+     * 获取阶段耗时
+     * @param phase 阶段
+     * @return 耗时（纳秒），未记录时为 0
+     */
+    public long get(ExecutionPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * 获取所有阶段的总耗时
+     * @return 总耗时（纳秒）
+     */
+    public long total() {
+        long sum = 0;
+        for (long value : nanos) {
+            sum += value;
+        }
+        return sum;
+    }
+}
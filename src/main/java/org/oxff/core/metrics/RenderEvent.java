@@ -0,0 +1,31 @@
+package org.oxff.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 结果显示的JFR事件，如文本区域设置文本、图片解码和缩放
+ */
+@Name("org.oxff.Render")
+@Label("结果显示")
+@Category({"uiTools", "界面"})
+@Description("在输出区域显示文本或图片结果")
+@StackTrace(false)
+public class RenderEvent extends Event {
+    public static final String TARGET_TEXT = "文本";
+    public static final String TARGET_IMAGE = "图片";
+
+    @Label("操作名称")
+    public String operationName;
+
+    @Label("显示类型")
+    public String target;
+
+    @Label("大小")
+    @Description("文本为字符数，图片为字节数")
+    public long size;
+}
@@ -0,0 +1,138 @@
+package org.oxff.operation;
+
+import org.oxff.core.OperationCategory;
+import org.oxff.core.OperationDescriptor;
+import org.oxff.operation.automation.AutoInputOperation;
+import org.oxff.operation.encoding.base32.Base32DecodeOperation;
+import org.oxff.operation.encoding.base32.Base32EncodeOperation;
+import org.oxff.operation.encoding.base64.Base64DecodeOperation;
+import org.oxff.operation.encoding.base64.Base64EncodeOperation;
+import org.oxff.operation.encoding.hex.HexDecodeOperation;
+import org.oxff.operation.encoding.hex.HexEncodeOperation;
+import org.oxff.operation.encoding.image.ImageToBaseOperation;
+import org.oxff.operation.encoding.jwt.JwtDecodeOperation;
+import org.oxff.operation.encoding.jwt.JwtEncodeOperation;
+import org.oxff.operation.encoding.unicode.UnicodeDecodeOperation;
+import org.oxff.operation.encoding.unicode.UnicodeEncodeOperation;
+import org.oxff.operation.encoding.url.UrlDecodeOperation;
+import org.oxff.operation.encoding.url.UrlEncodeOperation;
+import org.oxff.operation.formatting.JsonFormatOperation;
+import org.oxff.operation.formatting.JsonMinifyOperation;
+import org.oxff.operation.formatting.XmlFormatOperation;
+import org.oxff.operation.generator.RandomPasswordOperation;
+import org.oxff.operation.hashing.Md5HashOperation;
+import org.oxff.operation.hashing.MultiDigestOperation;
+import org.oxff.operation.hashing.Sha1HashOperation;
+import org.oxff.operation.hashing.Sha256HashOperation;
+import org.oxff.operation.qrcode.QRCodeDecodeOperation;
+import org.oxff.operation.qrcode.QRCodeGenerateOperation;
+import org.oxff.operation.timestamp.DatetimeToTimestampOperation;
+import org.oxff.operation.timestamp.GetCurrentTimeOperation;
+import org.oxff.operation.timestamp.TimestampToDatetimeOperation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 内置操作提供者，通过 META-INF/services 注册
+ * 只声明操作的元数据，各操作类在第一次使用时才加载
+ */
+public class BuiltinOperationProvider implements OperationProvider {
+
+    @Override
+    public List<OperationDescriptor> getOperations() {
+        return Arrays.asList(
+            OperationDescriptor.builder("JSON格式化", OperationCategory.FORMATTING, () -> new JsonFormatOperation())
+                .expressionInput()
+                .build(),
+            OperationDescriptor.builder("JSON压缩", OperationCategory.FORMATTING, () -> new JsonMinifyOperation())
+                .build(),
+            OperationDescriptor.builder("XML格式化", OperationCategory.FORMATTING, () -> new XmlFormatOperation())
+                .expressionInput()
+                .build(),
+            OperationDescriptor.builder("URL编码", OperationCategory.ENCODING_DECODING, () -> new UrlEncodeOperation())
+                .subcategory("url")
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("URL解码", OperationCategory.ENCODING_DECODING, () -> new UrlDecodeOperation())
+                .subcategory("url")
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("Base64编码", OperationCategory.ENCODING_DECODING, () -> new Base64EncodeOperation())
+                .subcategory("base64")
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("Base64解码", OperationCategory.ENCODING_DECODING, () -> new Base64DecodeOperation())
+                .subcategory("base64")
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("Base32编码", OperationCategory.ENCODING_DECODING, () -> new Base32EncodeOperation())
+                .subcategory("base32")
+                .build(),
+            OperationDescriptor.builder("Base32解码", OperationCategory.ENCODING_DECODING, () -> new Base32DecodeOperation())
+                .subcategory("base32")
+                .build(),
+            OperationDescriptor.builder("Unicode编码", OperationCategory.ENCODING_DECODING, () -> new UnicodeEncodeOperation())
+                .subcategory("unicode")
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("Unicode解码", OperationCategory.ENCODING_DECODING, () -> new UnicodeDecodeOperation())
+                .subcategory("unicode")
+                .build(),
+            OperationDescriptor.builder("Hex编码", OperationCategory.ENCODING_DECODING, () -> new HexEncodeOperation())
+                .subcategory("hex")
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("Hex解码", OperationCategory.ENCODING_DECODING, () -> new HexDecodeOperation())
+                .subcategory("hex")
+                .build(),
+            OperationDescriptor.builder("MD5哈希", OperationCategory.HASHING, () -> new Md5HashOperation())
+                .build(),
+            OperationDescriptor.builder("SHA1哈希", OperationCategory.HASHING, () -> new Sha1HashOperation())
+                .build(),
+            OperationDescriptor.builder("SHA256哈希", OperationCategory.HASHING, () -> new Sha256HashOperation())
+                .build(),
+            OperationDescriptor.builder("多重摘要", OperationCategory.HASHING, () -> new MultiDigestOperation())
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("键盘模拟输入", OperationCategory.AUTOMATION, () -> new AutoInputOperation())
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("生成二维码", OperationCategory.QRCODE, () -> new QRCodeGenerateOperation())
+                .build(),
+            OperationDescriptor.builder("解析二维码", OperationCategory.QRCODE, () -> new QRCodeDecodeOperation())
+                .inputType(InputType.IMAGE)
+                .build(),
+            // 时间戳操作
+            OperationDescriptor.builder("获取当前时间", OperationCategory.TIMESTAMP, () -> new GetCurrentTimeOperation())
+                .inputType(InputType.NONE)
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("时间戳转日期", OperationCategory.TIMESTAMP, () -> new TimestampToDatetimeOperation())
+                .inputType(InputType.LINE)
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("日期转时间戳", OperationCategory.TIMESTAMP, () -> new DatetimeToTimestampOperation())
+                .inputType(InputType.LINE)
+                .configurable()
+                .build(),
+            // JWT操作
+            OperationDescriptor.builder("JWT编码", OperationCategory.ENCODING_DECODING, () -> new JwtEncodeOperation())
+                .subcategory("jwt")
+                .build(),
+            OperationDescriptor.builder("JWT解码", OperationCategory.ENCODING_DECODING, () -> new JwtDecodeOperation())
+                .subcategory("jwt")
+                .build(),
+            // 图片和生成工具操作
+            OperationDescriptor.builder("图片转Base编码", OperationCategory.GENERATOR, () -> new ImageToBaseOperation())
+                .subcategory("image")
+                .inputType(InputType.FILE)
+                .configurable()
+                .build(),
+            OperationDescriptor.builder("生成随机密码", OperationCategory.GENERATOR, () -> new RandomPasswordOperation())
+                .inputType(InputType.NONE)
+                .configurable()
+                .build()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package org.oxff.operation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字节级操作接口，编解码和哈希等面向二进制数据的操作直接实现此接口
+ * 字符串版本的 execute 由默认方法自动适配：按输入字符集编码、执行字节操作、再按输出字符集解码
+ */
+public interface ByteOperation extends Operation {
+
+    /**
+     * 执行字节级操作
+     * @param input 输入字节
+     * @return 处理结果字节
+     * @throws IllegalArgumentException 输入数据无效时抛出
+     */
+    byte[] executeBytes(byte[] input);
+
+    /**
+     * 执行字节级操作（ByteBuffer版本）
+     * 对于恰好包装整个数组的堆缓冲区不会产生额外复制
+     * @param input 输入缓冲区，从 position 读取到 limit
+     * @return 处理结果缓冲区
+     */
+    default ByteBuffer executeBytes(ByteBuffer input) {
+        byte[] bytes;
+        if (input.hasArray() && input.arrayOffset() == 0 && input.position() == 0
+                && input.remaining() == input.array().length) {
+            bytes = input.array();
+            input.position(input.limit());
+        } else {
+            bytes = new byte[input.remaining()];
+            input.get(bytes);
+        }
+        return ByteBuffer.wrap(executeBytes(bytes));
+    }
+
+    /**
+     * 字符串输入转换为字节时使用的字符集
+     * 只接受ASCII文本的解码操作可以使用 ISO-8859-1，避免UTF-8编码开销
+     * @return 输入字符集
+     */
+    default Charset getInputCharset() {
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * 字节结果转换为字符串时使用的字符集
+     * 只输出ASCII文本的编码和哈希操作可以使用 ISO-8859-1，避免UTF-8解码开销
+     * @return 输出字符集
+     */
+    default Charset getOutputCharset() {
+        return StandardCharsets.UTF_8;
+    }
+
+    @Override
+    default String execute(String input) {
+        byte[] output = executeBytes(input.getBytes(getInputCharset()));
+        return new String(output, getOutputCharset());
+    }
+}
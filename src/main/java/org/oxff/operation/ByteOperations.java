@@ -0,0 +1,109 @@
+package org.oxff.operation;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 字节操作工具类
+ * 提供十六进制编码，以及流式操作使用的通道读写辅助方法
+ */
+public final class ByteOperations {
+    private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] HEX_LOWER = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
+    private ByteOperations() {
+    }
+
+    /**
+     * 将字节数组编码为十六进制ASCII字节
+     * @param data 原始字节
+     * @param upperCase 是否使用大写字母
+     * @return 十六进制ASCII字节，长度为输入的两倍
+     */
+    public static byte[] toHexBytes(byte[] data, boolean upperCase) {
+        return toHexBytes(data, 0, data.length, upperCase);
+    }
+
+    /**
+     * 将字节数组的指定区间编码为十六进制ASCII字节
+     */
+    public static byte[] toHexBytes(byte[] data, int offset, int length, boolean upperCase) {
+        byte[] digits = upperCase ? HEX_UPPER : HEX_LOWER;
+        byte[] out = new byte[length * 2];
+        for (int i = offset, j = 0; i < offset + length; i++) {
+            int v = data[i] & 0xFF;
+            out[j++] = digits[v >>> 4];
+            out[j++] = digits[v & 0x0F];
+        }
+        return out;
+    }
+
+    /**
+     * 从通道读取数据，直到缓冲区填满或到达EOF
+     * @param in 输入通道
+     * @param buffer 目标缓冲区
+     * @return 读取的字节数，到达EOF且未读到数据时返回 -1
+     */
+    public static int readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int n = in.read(buffer);
+            if (n < 0) {
+                return total == 0 ? -1 : total;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * 将字节数组的指定区间完整写入通道
+     */
+    public static void writeFully(WritableByteChannel out, byte[] data, int offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * 将输入通道的全部数据复制到输出流
+     * @param in 输入通道
+     * @param out 输出流
+     */
+    public static void copy(ReadableByteChannel in, OutputStream out) throws IOException {
+        byte[] chunk = new byte[StreamingOperation.STREAM_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        int n;
+        while ((n = readFully(in, buffer)) > 0) {
+            out.write(chunk, 0, n);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * 包装通道为输出流，关闭流时只刷新而不关闭底层通道
+     * 用于 Base64OutputStream 等需要关闭才能写出尾部数据的编码流
+     * @param out 输出通道
+     * @return 输出流
+     */
+    public static OutputStream nonClosingStream(WritableByteChannel out) {
+        return new FilterOutputStream(Channels.newOutputStream(out)) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                this.out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package org.oxff.operation;
+
+/**
+ * 操作的输入类型，决定界面显示哪种输入组件以及输入如何传给操作
+ */
+public enum InputType {
+    /**
+     * 多行文本，使用输入文本框
+     */
+    TEXT,
+
+    /**
+     * 单行文本，如时间戳
+     */
+    LINE,
+
+    /**
+     * 图片，可选择图片文件或从剪贴板粘贴，传给操作的是文件路径或图片的data URL
+     */
+    IMAGE,
+
+    /**
+     * 文件，传给操作的是文件路径
+     */
+    FILE,
+
+    /**
+     * 不需要输入，如生成类操作
+     */
+    NONE
+}
@@ -3,8 +3,12 @@ package org.oxff.operation;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 
+import java.util.Base64;
+
 /**
  * 操作接口，所有字符串操作都需要实现此接口
+ * 操作实例由 {@link org.oxff.core.OperationFactory} 共享，实现必须无状态且线程安全，
+ * 需要配置的操作通过 {@link org.oxff.operation.config.ConfigurableOperation} 在每次调用时接收配置
  */
 public interface Operation {
     /**
@@ -34,6 +38,23 @@ public interface Operation {
         return null;
     }
 
+    /**
+     * 获取操作的输入类型
+     * @return 输入类型，默认为多行文本
+     */
+    default InputType getInputType() {
+        return InputType.TEXT;
+    }
+
+    /**
+     * 相同的输入和配置是否总是产生相同的结果
+     * 返回 false 的操作（如读取当前时间、生成随机数、模拟键盘输入）不会使用结果缓存
+     * @return 默认返回 true
+     */
+    default boolean isDeterministic() {
+        return true;
+    }
+
     /**
      * 判断是否返回图片数据
      * @return true 如果操作返回图片数据，false 如果返回文本数据
@@ -50,4 +71,22 @@ public interface Operation {
     default String getImageData(String input) {
         return null;
     }
+
+    /**
+     * 获取图片原始字节（当returnsImage为true时）
+     * 默认从 getImageData 返回的data URL中解码；能直接生成图片字节的操作应覆盖此方法，避免Base64往返
+     * @param input 输入字符串
+     * @return 图片字节（如PNG），不返回图片时为null
+     * @throws IllegalArgumentException 无法生成图片时抛出，消息为错误说明
+     */
+    default byte[] getImageBytes(String input) {
+        String imageData = getImageData(input);
+        if (imageData == null) {
+            return null;
+        }
+        if (!imageData.startsWith("data:")) {
+            throw new IllegalArgumentException(imageData);
+        }
+        return Base64.getDecoder().decode(imageData.substring(imageData.indexOf(',') + 1));
+    }
 }
\ No newline at end of file
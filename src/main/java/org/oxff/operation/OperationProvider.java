@@ -0,0 +1,20 @@
+package org.oxff.operation;
+
+import org.oxff.core.OperationDescriptor;
+
+import java.util.List;
+
+/**
+ * 操作提供者，通过 {@link java.util.ServiceLoader} 发现
+ * 内置操作和插件 jar 都以此接口提供操作，实现类需在 META-INF/services/org.oxff.operation.OperationProvider 中登记，
+ * 并提供公共无参构造方法
+ */
+public interface OperationProvider {
+
+    /**
+     * 获取提供的操作描述
+     * 只应创建描述，不应创建操作实例
+     * @return 操作描述列表，按界面中的显示顺序排列
+     */
+    List<OperationDescriptor> getOperations();
+}
@@ -0,0 +1,26 @@
+package org.oxff.operation;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 流式操作接口，支持以固定内存逐块处理任意大小的数据
+ * 实现类从输入通道读取直到EOF，并将结果写入输出通道；两个通道都由调用方负责关闭
+ */
+public interface StreamingOperation extends Operation {
+
+    /**
+     * 流式处理的缓冲区大小
+     */
+    int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 以流方式执行操作
+     * @param in 输入通道
+     * @param out 输出通道
+     * @throws IOException 读写失败时抛出
+     * @throws IllegalArgumentException 输入数据无效时抛出
+     */
+    void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException;
+}
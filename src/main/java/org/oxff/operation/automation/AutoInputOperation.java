@@ -1,7 +1,10 @@
 package org.oxff.operation.automation;
 
 import org.oxff.core.OperationCategory;
-import org.oxff.operation.Operation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 
 import javax.swing.*;
 import java.awt.*;
@@ -15,41 +18,30 @@ import java.util.concurrent.TimeUnit;
  * 自动化输入操作实现
  * 支持延迟输入、字符间隔控制、从输入或剪贴板获取文本
  */
-public class AutoInputOperation implements Operation {
+public class AutoInputOperation implements ConfigurableOperation {
 
-    // 配置参数(由UI设置)
-    private int delaySeconds = 3;
-    private int charIntervalMs = 100;
-    private boolean useClipboard = false;
+    private static final String SOURCE_INPUT = "input";
+    private static final String SOURCE_CLIPBOARD = "clipboard";
 
-    /**
-     * 设置延迟时间
-     */
-    public void setDelaySeconds(int delaySeconds) {
-        this.delaySeconds = delaySeconds;
-    }
-
-    /**
-     * 设置字符间隔
-     */
-    public void setCharIntervalMs(int charIntervalMs) {
-        this.charIntervalMs = charIntervalMs;
-    }
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("自动化输入配置")
+        .add(ConfigField.intField("delaySeconds", "延迟时间(秒)", 3, 0, 60))
+        .add(ConfigField.intField("charIntervalMs", "字符间隔(毫秒)", 100, 0, 1000, 10))
+        .add(ConfigField.choiceField("source", "输入来源", SOURCE_INPUT,
+            new String[]{SOURCE_INPUT, SOURCE_CLIPBOARD}, new String[]{"输入框", "剪贴板"}))
+        .build();
 
-    /**
-     * 设置是否使用剪贴板
-     */
-    public void setUseClipboard(boolean useClipboard) {
-        this.useClipboard = useClipboard;
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
     }
 
     @Override
-    public String execute(String input) {
-        // 创建配置对象
+    public String execute(String input, OperationConfig operationConfig) {
+        // 创建本次执行的配置对象
         AutoInputConfig config = new AutoInputConfig();
-        config.delaySeconds = this.delaySeconds;
-        config.charIntervalMs = this.charIntervalMs;
-        config.useClipboard = this.useClipboard;
+        config.delaySeconds = operationConfig.getInt("delaySeconds");
+        config.charIntervalMs = operationConfig.getInt("charIntervalMs");
+        config.useClipboard = SOURCE_CLIPBOARD.equals(operationConfig.getString("source"));
         config.textToInput = input;
 
         // 在新线程中执行自动化输入，避免阻塞UI
@@ -69,6 +61,14 @@ public class AutoInputOperation implements Operation {
                "- 输入长度: " + config.textToInput.length() + " 字符";
     }
 
+    /**
+     * 执行时模拟键盘输入，有副作用，不能缓存结果
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.AUTOMATION;
@@ -0,0 +1,256 @@
+package org.oxff.operation.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 操作配置项定义，描述配置项的类型、默认值和取值范围
+ * 界面根据定义生成输入组件，执行器和命令行根据定义校验取值
+ */
+public final class ConfigField {
+
+    /**
+     * 配置项类型
+     */
+    public enum Type {
+        /** 整数，取值在 [min, max] 范围内 */
+        INT,
+        /** 布尔值 */
+        BOOLEAN,
+        /** 从可选值中选择，可编辑时也允许输入其他值 */
+        CHOICE,
+        /** 文本 */
+        TEXT
+    }
+
+    private final String key;
+    private final String label;
+    private final Type type;
+    private final Object defaultValue;
+    private final int min;
+    private final int max;
+    private final int step;
+    private final List<String> options;
+    private final List<String> optionLabels;
+    private final boolean editable;
+    private final String dependsOnKey;
+    private final Object dependsOnValue;
+
+    private ConfigField(String key, String label, Type type, Object defaultValue, int min, int max, int step,
+                        List<String> options, List<String> optionLabels, boolean editable,
+                        String dependsOnKey, Object dependsOnValue) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.label = Objects.requireNonNull(label, "label");
+        this.type = type;
+        this.defaultValue = defaultValue;
+        this.min = min;
+        this.max = max;
+        this.step = step;
+        this.options = options;
+        this.optionLabels = optionLabels;
+        this.editable = editable;
+        this.dependsOnKey = dependsOnKey;
+        this.dependsOnValue = dependsOnValue;
+    }
+
+    /**
+     * 创建整数配置项，步长为1
+     */
+    public static ConfigField intField(String key, String label, int defaultValue, int min, int max) {
+        return intField(key, label, defaultValue, min, max, 1);
+    }
+
+    /**
+     * 创建整数配置项
+     * @param step 界面微调步长
+     */
+    public static ConfigField intField(String key, String label, int defaultValue, int min, int max, int step) {
+        if (min > max || defaultValue < min || defaultValue > max || step <= 0) {
+            throw new IllegalArgumentException("配置项 " + key + " 的取值范围无效");
+        }
+        return new ConfigField(key, label, Type.INT, defaultValue, min, max, step,
+            Collections.emptyList(), Collections.emptyList(), false, null, null);
+    }
+
+    /**
+     * 创建布尔配置项
+     */
+    public static ConfigField booleanField(String key, String label, boolean defaultValue) {
+        return new ConfigField(key, label, Type.BOOLEAN, defaultValue, 0, 0, 0,
+            Collections.emptyList(), Collections.emptyList(), false, null, null);
+    }
+
+    /**
+     * 创建选择配置项，显示文本与取值相同
+     */
+    public static ConfigField choiceField(String key, String label, String defaultValue, String... options) {
+        return choiceField(key, label, defaultValue, options, options);
+    }
+
+    /**
+     * 创建选择配置项
+     * @param options 可选值
+     * @param optionLabels 可选值的显示文本，与 options 一一对应
+     */
+    public static ConfigField choiceField(String key, String label, String defaultValue,
+                                          String[] options, String[] optionLabels) {
+        return createChoice(key, label, defaultValue, options, optionLabels, false);
+    }
+
+    /**
+     * 创建可编辑的选择配置项，除可选值外也允许输入任意非空值
+     */
+    public static ConfigField editableChoiceField(String key, String label, String defaultValue, String... options) {
+        return createChoice(key, label, defaultValue, options, options, true);
+    }
+
+    private static ConfigField createChoice(String key, String label, String defaultValue,
+                                            String[] options, String[] optionLabels, boolean editable) {
+        if (options.length == 0 || options.length != optionLabels.length) {
+            throw new IllegalArgumentException("配置项 " + key + " 的可选值无效");
+        }
+        List<String> optionList = Collections.unmodifiableList(Arrays.asList(options.clone()));
+        if (!editable && !optionList.contains(defaultValue)) {
+            throw new IllegalArgumentException("配置项 " + key + " 的默认值不在可选值中");
+        }
+        return new ConfigField(key, label, Type.CHOICE, defaultValue, 0, 0, 0,
+            optionList, Collections.unmodifiableList(Arrays.asList(optionLabels.clone())), editable, null, null);
+    }
+
+    /**
+     * 创建文本配置项
+     */
+    public static ConfigField textField(String key, String label, String defaultValue) {
+        return new ConfigField(key, label, Type.TEXT, defaultValue, 0, 0, 0,
+            Collections.emptyList(), Collections.emptyList(), false, null, null);
+    }
+
+    /**
+     * 设置依赖条件，仅当另一配置项等于指定值时本配置项才生效，界面上据此启用或禁用组件
+     * @param key 依赖的配置项
+     * @param value 依赖的取值
+     * @return 带依赖条件的新配置项
+     */
+    public ConfigField enabledWhen(String key, Object value) {
+        return new ConfigField(this.key, label, type, defaultValue, min, max, step,
+            options, optionLabels, editable, Objects.requireNonNull(key), Objects.requireNonNull(value));
+    }
+
+    /**
+     * 将取值转换为本配置项的类型并校验
+     * 整数接受数字和数字字符串，布尔接受 Boolean 和 "true"/"false"，不可编辑的选择项也接受显示文本
+     * @param value 取值
+     * @return 转换后的取值（Integer、Boolean 或 String）
+     * @throws IllegalArgumentException 取值无效时抛出
+     */
+    public Object coerce(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException(label + " 不能为空");
+        }
+        switch (type) {
+            case INT:
+                int number = toInt(value);
+                if (number < min || number > max) {
+                    throw new IllegalArgumentException(label + " 必须在 " + min + " 到 " + max + " 之间: " + number);
+                }
+                return number;
+            case BOOLEAN:
+                if (value instanceof Boolean) {
+                    return value;
+                }
+                String text = value.toString().trim();
+                if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+                    return Boolean.parseBoolean(text);
+                }
+                throw new IllegalArgumentException(label + " 必须是 true 或 false: " + value);
+            case CHOICE:
+                String choice = value.toString();
+                if (options.contains(choice)) {
+                    return choice;
+                }
+                int labelIndex = optionLabels.indexOf(choice);
+                if (labelIndex >= 0) {
+                    return options.get(labelIndex);
+                }
+                if (editable && !choice.trim().isEmpty()) {
+                    return choice;
+                }
+                throw new IllegalArgumentException(label + " 的取值无效: " + choice + "，可选值: " + options);
+            default:
+                return value.toString();
+        }
+    }
+
+    private int toInt(Object value) {
+        if (value instanceof Number) {
+            double number = ((Number) value).doubleValue();
+            if (number == Math.rint(number) && !Double.isInfinite(number)) {
+                return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, number));
+            }
+        } else {
+            try {
+                return Integer.parseInt(value.toString().trim());
+            } catch (NumberFormatException e) {
+                // 统一在下方报错
+            }
+        }
+        throw new IllegalArgumentException(label + " 必须是整数: " + value);
+    }
+
+    /**
+     * 判断本配置项在给定配置下是否生效
+     */
+    public boolean isEnabled(OperationConfig config) {
+        return dependsOnKey == null || dependsOnValue.equals(config.get(dependsOnKey));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Object getDefaultValue() {
+        return defaultValue;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public List<String> getOptions() {
+        return options;
+    }
+
+    public List<String> getOptionLabels() {
+        return optionLabels;
+    }
+
+    public boolean isEditable() {
+        return editable;
+    }
+
+    public String getDependsOnKey() {
+        return dependsOnKey;
+    }
+
+    public Object getDependsOnValue() {
+        return dependsOnValue;
+    }
+}
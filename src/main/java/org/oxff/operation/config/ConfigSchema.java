@@ -0,0 +1,116 @@
+package org.oxff.operation.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 操作配置结构，按顺序列出操作的所有配置项
+ * 由操作声明，界面据此生成配置面板，执行器据此绑定配置
+ */
+public final class ConfigSchema {
+    private final String title;
+    private final List<ConfigField> fields;
+    private final Map<String, ConfigField> fieldsByKey;
+    private final OperationConfig defaults;
+
+    private ConfigSchema(Builder builder) {
+        this.title = builder.title;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(builder.fields.values()));
+        this.fieldsByKey = Collections.unmodifiableMap(new LinkedHashMap<>(builder.fields));
+
+        Map<String, Object> defaultValues = new LinkedHashMap<>();
+        for (ConfigField field : fields) {
+            defaultValues.put(field.getKey(), field.getDefaultValue());
+        }
+        this.defaults = new OperationConfig(this, defaultValues);
+    }
+
+    /**
+     * 创建构建器
+     * @param title 配置面板标题
+     */
+    public static Builder builder(String title) {
+        return new Builder(title);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<ConfigField> getFields() {
+        return fields;
+    }
+
+    /**
+     * 获取配置项
+     * @param key 配置项名称
+     * @return 配置项，不存在时返回 null
+     */
+    public ConfigField getField(String key) {
+        return fieldsByKey.get(key);
+    }
+
+    /**
+     * 获取全部为默认值的配置
+     */
+    public OperationConfig defaults() {
+        return defaults;
+    }
+
+    /**
+     * 创建以默认值为初始值的配置构建器
+     */
+    public OperationConfig.Builder newConfig() {
+        return defaults.toBuilder();
+    }
+
+    /**
+     * 从键值表恢复配置，如配方中保存的配置
+     * 缺少的配置项使用默认值，未知的配置项被忽略，以兼容操作配置结构的变化
+     * @param values 键值表
+     * @return 配置
+     * @throws IllegalArgumentException 取值无效时抛出
+     */
+    public OperationConfig fromMap(Map<String, ?> values) {
+        OperationConfig.Builder builder = newConfig();
+        if (values != null) {
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                if (fieldsByKey.containsKey(entry.getKey())) {
+                    builder.set(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 配置结构构建器
+     */
+    public static class Builder {
+        private final String title;
+        private final Map<String, ConfigField> fields = new LinkedHashMap<>();
+
+        private Builder(String title) {
+            this.title = title;
+        }
+
+        public Builder add(ConfigField field) {
+            if (fields.containsKey(field.getKey())) {
+                throw new IllegalArgumentException("重复的配置项: " + field.getKey());
+            }
+            String dependsOn = field.getDependsOnKey();
+            if (dependsOn != null && !fields.containsKey(dependsOn)) {
+                throw new IllegalArgumentException("配置项 " + field.getKey() + " 依赖的配置项必须在其之前声明: " + dependsOn);
+            }
+            fields.put(field.getKey(), field);
+            return this;
+        }
+
+        public ConfigSchema build() {
+            return new ConfigSchema(this);
+        }
+    }
+}
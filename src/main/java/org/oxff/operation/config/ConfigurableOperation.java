@@ -0,0 +1,44 @@
+package org.oxff.operation.config;
+
+import org.oxff.operation.Operation;
+
+/**
+ * 可配置的操作，声明配置结构并在每次执行时接收按结构校验过的配置
+ * 新增可配置操作只需实现此接口，执行器、界面和命令行会根据配置结构自动处理
+ * 实现类不得在实例字段中保存配置，同一实例可被多个线程以不同配置同时执行
+ */
+public interface ConfigurableOperation extends Operation {
+
+    /**
+     * 获取配置结构
+     * @return 配置结构
+     */
+    ConfigSchema getConfigSchema();
+
+    /**
+     * 按指定配置执行操作
+     * @param input 输入字符串
+     * @param config 按本操作配置结构创建的配置
+     * @return 处理后的字符串
+     */
+    String execute(String input, OperationConfig config);
+
+    /**
+     * 获取绑定了指定配置的操作，供按字节或流式处理的调用方（命令行、配方融合、文件流处理）使用
+     * 默认返回只支持字符串处理的包装；同时实现 {@link org.oxff.operation.ByteOperation} 或
+     * {@link org.oxff.operation.StreamingOperation} 的操作应覆盖此方法，返回同样实现这些接口的实例
+     * @param config 按本操作配置结构创建的配置
+     * @return 绑定配置的操作
+     */
+    default Operation configure(OperationConfig config) {
+        return new ConfiguredOperation(this, config);
+    }
+
+    /**
+     * 按默认配置执行操作
+     */
+    @Override
+    default String execute(String input) {
+        return execute(input, getConfigSchema().defaults());
+    }
+}
@@ -0,0 +1,49 @@
+package org.oxff.operation.config;
+
+import org.oxff.core.OperationCategory;
+import org.oxff.core.Subcategory;
+import org.oxff.operation.InputType;
+import org.oxff.operation.Operation;
+
+/**
+ * 绑定了配置的可配置操作，每次执行都使用绑定的配置
+ */
+final class ConfiguredOperation implements Operation {
+    private final ConfigurableOperation delegate;
+    private final OperationConfig config;
+
+    ConfiguredOperation(ConfigurableOperation delegate, OperationConfig config) {
+        this.delegate = delegate;
+        this.config = config;
+    }
+
+    @Override
+    public String execute(String input) {
+        return delegate.execute(input, config);
+    }
+
+    @Override
+    public OperationCategory getCategory() {
+        return delegate.getCategory();
+    }
+
+    @Override
+    public String getDisplayName() {
+        return delegate.getDisplayName();
+    }
+
+    @Override
+    public Subcategory getSubcategory() {
+        return delegate.getSubcategory();
+    }
+
+    @Override
+    public InputType getInputType() {
+        return delegate.getInputType();
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return delegate.isDeterministic();
+    }
+}
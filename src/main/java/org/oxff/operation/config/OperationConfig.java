@@ -0,0 +1,124 @@
+package org.oxff.operation.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 操作配置取值，不可变，所有取值都已按 {@link ConfigSchema} 校验
+ */
+public final class OperationConfig {
+    private final ConfigSchema schema;
+    private final Map<String, Object> values;
+
+    OperationConfig(ConfigSchema schema, Map<String, Object> values) {
+        this.schema = schema;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    public ConfigSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * 获取配置项取值
+     * @param key 配置项名称
+     * @return 取值
+     * @throws IllegalArgumentException 配置项不存在时抛出
+     */
+    public Object get(String key) {
+        Object value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("未知的配置项: " + key);
+        }
+        return value;
+    }
+
+    public int getInt(String key) {
+        return (Integer) get(key);
+    }
+
+    public boolean getBoolean(String key) {
+        return (Boolean) get(key);
+    }
+
+    public String getString(String key) {
+        return (String) get(key);
+    }
+
+    /**
+     * 判断配置项在当前配置下是否生效
+     */
+    public boolean isEnabled(String key) {
+        ConfigField field = schema.getField(key);
+        return field != null && field.isEnabled(this);
+    }
+
+    /**
+     * 转换为键值表，用于保存
+     */
+    public Map<String, Object> toMap() {
+        return new LinkedHashMap<>(values);
+    }
+
+    /**
+     * 以当前取值为初始值创建构建器
+     */
+    public Builder toBuilder() {
+        return new Builder(schema, values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OperationConfig)) {
+            return false;
+        }
+        OperationConfig other = (OperationConfig) o;
+        return schema == other.schema && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+
+    /**
+     * 配置构建器，设置取值时立即校验
+     */
+    public static class Builder {
+        private final ConfigSchema schema;
+        private final Map<String, Object> values;
+
+        Builder(ConfigSchema schema, Map<String, Object> values) {
+            this.schema = schema;
+            this.values = new LinkedHashMap<>(values);
+        }
+
+        /**
+         * 设置配置项取值
+         * @param key 配置项名称
+         * @param value 取值，会按配置项类型转换
+         * @throws IllegalArgumentException 配置项不存在或取值无效时抛出
+         */
+        public Builder set(String key, Object value) {
+            ConfigField field = schema.getField(key);
+            if (field == null) {
+                throw new IllegalArgumentException("未知的配置项: " + key);
+            }
+            values.put(key, field.coerce(value));
+            return this;
+        }
+
+        public OperationConfig build() {
+            return new OperationConfig(schema, values);
+        }
+    }
+}
@@ -1,28 +1,58 @@
 package org.oxff.operation.encoding.base32;
 
 import org.apache.commons.codec.binary.Base32;
-import org.oxff.operation.Operation;
+import org.apache.commons.codec.binary.Base32OutputStream;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.ByteOperations;
+import org.oxff.operation.StreamingOperation;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
  * Base32解码操作实现
  */
-public class Base32DecodeOperation implements Operation {
+public class Base32DecodeOperation implements ByteOperation, StreamingOperation {
+    private static final Base32 BASE32 = new Base32();
+
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return BASE32.decode(input);
+    }
+
     @Override
     public String execute(String input) {
         try {
-            Base32 base32 = new Base32();
-            byte[] decodedBytes = base32.decode(input);
-            return new String(decodedBytes, StandardCharsets.UTF_8);
+            return ByteOperation.super.execute(input);
         } catch (Exception e) {
             return "Base32解码错误: " + e.getMessage();
         }
     }
-    
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        try (OutputStream codec = new Base32OutputStream(ByteOperations.nonClosingStream(out), false)) {
+            ByteOperations.copy(in, codec);
+        }
+    }
+
+    @Override
+    public Charset getInputCharset() {
+        return StandardCharsets.ISO_8859_1;
+    }
+
+    @Override
+    public Charset getOutputCharset() {
+        return StandardCharsets.UTF_8;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -0,0 +1,278 @@
+package org.oxff.operation.encoding.base64;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 基于 {@link java.util.Base64} 的Base64编解码器，支持标准、URL安全、MIME和无填充变体
+ * 规范输入直接由JDK解码器解码；其他输入先一遍扫描：识别字母表、统一为标准字母表、去掉空白和填充，
+ * 并在严格模式下报告第一个错误的位置，之后再交给JDK解码器
+ */
+public final class Base64Codec {
+    private static final byte INVALID = 0;
+    private static final byte COMMON = 1;
+    private static final byte STANDARD_ONLY = 2;
+    private static final byte URL_ONLY = 3;
+    private static final byte PAD = 4;
+    private static final byte WHITESPACE = 5;
+
+    /** 字符分类表 */
+    private static final byte[] CLASS = new byte[256];
+
+    static {
+        for (int c = 'A'; c <= 'Z'; c++) {
+            CLASS[c] = COMMON;
+        }
+        for (int c = 'a'; c <= 'z'; c++) {
+            CLASS[c] = COMMON;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            CLASS[c] = COMMON;
+        }
+        CLASS['+'] = STANDARD_ONLY;
+        CLASS['/'] = STANDARD_ONLY;
+        CLASS['-'] = URL_ONLY;
+        CLASS['_'] = URL_ONLY;
+        CLASS['='] = PAD;
+        for (char c : new char[]{' ', '\t', '\n', '\r', '\f'}) {
+            CLASS[c] = WHITESPACE;
+        }
+    }
+
+    private Base64Codec() {
+    }
+
+    /**
+     * Base64变体
+     */
+    public enum Variant {
+        /** 标准字母表 A-Z a-z 0-9 + /（RFC 4648 第4节） */
+        STANDARD,
+        /** URL安全字母表，用 - _ 代替 + /（RFC 4648 第5节） */
+        URL_SAFE,
+        /** MIME：标准字母表，每 76 个字符换行（RFC 2045） */
+        MIME,
+        /** 仅用于解码：自动识别标准或URL安全字母表，允许换行 */
+        AUTO
+    }
+
+    /**
+     * 获取编码器
+     * @param variant 变体，AUTO 视为 STANDARD
+     * @param padding 是否输出 '=' 填充
+     */
+    public static Base64.Encoder encoder(Variant variant, boolean padding) {
+        Base64.Encoder encoder;
+        switch (variant) {
+            case URL_SAFE:
+                encoder = Base64.getUrlEncoder();
+                break;
+            case MIME:
+                encoder = Base64.getMimeEncoder();
+                break;
+            default:
+                encoder = Base64.getEncoder();
+                break;
+        }
+        return padding ? encoder : encoder.withoutPadding();
+    }
+
+    /**
+     * 解码整个字节数组
+     * @param data Base64文本的ASCII字节
+     * @param variant 变体
+     * @param strict 严格模式：遇到不属于该变体的字符、位置错误的填充或长度无效时抛出异常；
+     *               否则跳过无效字符，忽略填充之后的内容和末尾多余的单个字符
+     * @return 原始字节
+     * @throws IllegalArgumentException 严格模式下输入无效时抛出，消息中包含字节位置
+     */
+    public static byte[] decode(byte[] data, Variant variant, boolean strict) {
+        // 大多数输入是不含空白的规范Base64，先直接交给JDK解码器；它接受的输入在各模式下结果都相同，
+        // 失败时再扫描，以便处理其他字母表和空白并报告错误位置
+        try {
+            return (variant == Variant.URL_SAFE ? Base64.getUrlDecoder() : Base64.getDecoder()).decode(data);
+        } catch (IllegalArgumentException e) {
+            // 继续扫描
+        }
+        Scanner scanner = new Scanner(variant, strict);
+        byte[] normalized = new byte[data.length];
+        int length = scanner.scan(data, 0, data.length, normalized, 0);
+        length -= scanner.finish();
+        ByteBuffer decoded = Base64.getDecoder().decode(ByteBuffer.wrap(normalized, 0, length));
+        byte[] result = decoded.array();
+        return decoded.remaining() == result.length ? result : Arrays.copyOf(result, decoded.remaining());
+    }
+
+    /**
+     * 一遍扫描的规范化器：输出只包含标准字母表数据字符，跨块保存字母表、填充和位置状态
+     */
+    private static final class Scanner {
+        private final Variant variant;
+        private final boolean strict;
+        private long position;
+        private long dataCount;
+        private int padCount;
+        private long firstPadPosition = -1;
+        private boolean standardSeen;
+        private boolean urlSeen;
+
+        Scanner(Variant variant, boolean strict) {
+            this.variant = variant;
+            this.strict = strict;
+        }
+
+        /**
+         * 规范化一块输入
+         * @param dst 输出缓冲区，至少 length 字节
+         * @return 写入的字节数
+         */
+        int scan(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+            int j = dstOffset;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                byte b = src[i];
+                byte type = CLASS[b & 0xFF];
+                if (type == COMMON && padCount == 0) {
+                    dst[j++] = b;
+                    continue;
+                }
+                switch (type) {
+                    case COMMON:
+                        if (strict) {
+                            throw error("填充字符之后出现数据", b, position + (i - offset));
+                        }
+                        break;
+                    case STANDARD_ONLY:
+                        if (padCount > 0 || strict && (variant == Variant.URL_SAFE || urlSeen)) {
+                            if (strict) {
+                                throw error(padCount > 0 ? "填充字符之后出现数据" : alphabetMessage(),
+                                    b, position + (i - offset));
+                            }
+                            continue;
+                        }
+                        standardSeen = true;
+                        dst[j++] = b;
+                        break;
+                    case URL_ONLY:
+                        if (padCount > 0 || strict && (variant == Variant.STANDARD || variant == Variant.MIME
+                                || standardSeen)) {
+                            if (strict) {
+                                throw error(padCount > 0 ? "填充字符之后出现数据" : alphabetMessage(),
+                                    b, position + (i - offset));
+                            }
+                            continue;
+                        }
+                        urlSeen = true;
+                        dst[j++] = b == '-' ? (byte) '+' : (byte) '/';
+                        break;
+                    case PAD:
+                        if (padCount == 0) {
+                            firstPadPosition = position + (i - offset);
+                        }
+                        padCount++;
+                        if (strict && padCount > 2) {
+                            throw error("填充字符过多", b, position + (i - offset));
+                        }
+                        break;
+                    case WHITESPACE:
+                        if (strict && (variant == Variant.STANDARD || variant == Variant.URL_SAFE)) {
+                            throw error("输入包含空白字符", b, position + (i - offset));
+                        }
+                        break;
+                    default:
+                        if (strict) {
+                            throw error("输入包含无效的Base64字符", b, position + (i - offset));
+                        }
+                        break;
+                }
+            }
+            position += length;
+            // 输出的都是数据字符
+            dataCount += j - dstOffset;
+            return j - dstOffset;
+        }
+
+        private String alphabetMessage() {
+            return variant == Variant.AUTO ? "输入同时包含标准和URL安全字母表的字符" : "输入包含不属于所选字母表的字符";
+        }
+
+        /**
+         * 结束扫描，检查数据长度和填充
+         * @return 宽松模式下应丢弃的末尾数据字符数（0 或 1）
+         * @throws IllegalArgumentException 严格模式下长度或填充无效时抛出
+         */
+        int finish() {
+            int remainder = (int) (dataCount & 3);
+            if (remainder == 1) {
+                if (strict) {
+                    throw new IllegalArgumentException("Base64数据长度无效：最后一组只有1个字符（第 " + position + " 个字节）");
+                }
+                return 1;
+            }
+            if (strict && padCount > 0 && (remainder == 0 || remainder + padCount != 4)) {
+                throw new IllegalArgumentException("填充字符数量不正确（第 " + (firstPadPosition + 1) + " 个字节）");
+            }
+            return 0;
+        }
+
+        private static IllegalArgumentException error(String message, byte b, long index) {
+            int c = b & 0xFF;
+            String shown = c >= 0x20 && c < 0x7F ? "'" + (char) c + "'" : String.format("0x%02X", c);
+            return new IllegalArgumentException(message + " " + shown + "（第 " + (index + 1) + " 个字节）");
+        }
+    }
+
+    /**
+     * 分块解码器，内存占用与输入大小无关
+     * 每块规范化后只把完整的4字符组交给JDK解码器，不足一组的字符留到下一块
+     */
+    public static final class StreamDecoder {
+        private final Scanner scanner;
+        private byte[] normalized = new byte[0];
+        private int pending;
+
+        /**
+         * @param variant 变体
+         * @param strict 严格模式，见 {@link #decode(byte[], Variant, boolean)}
+         */
+        public StreamDecoder(Variant variant, boolean strict) {
+            this.scanner = new Scanner(variant, strict);
+        }
+
+        /**
+         * 解码一块数据
+         * @return 解码出的字节，可能为空
+         * @throws IllegalArgumentException 严格模式下输入无效时抛出，消息中包含字节位置
+         */
+        public byte[] decode(byte[] src, int offset, int length) {
+            if (normalized.length < pending + length) {
+                normalized = Arrays.copyOf(normalized, pending + length);
+            }
+            int available = pending + scanner.scan(src, offset, length, normalized, pending);
+            int complete = available & ~3;
+            byte[] result = decodeGroups(complete);
+            pending = available - complete;
+            System.arraycopy(normalized, complete, normalized, 0, pending);
+            return result;
+        }
+
+        /**
+         * 结束解码，输出最后不完整的一组
+         * @throws IllegalArgumentException 严格模式下长度或填充无效时抛出
+         */
+        public byte[] finish() {
+            int length = pending - scanner.finish();
+            pending = 0;
+            return decodeGroups(length);
+        }
+
+        private byte[] decodeGroups(int length) {
+            if (length == 0) {
+                return new byte[0];
+            }
+            ByteBuffer decoded = Base64.getDecoder().decode(ByteBuffer.wrap(normalized, 0, length));
+            byte[] result = decoded.array();
+            return decoded.remaining() == result.length ? result : Arrays.copyOf(result, decoded.remaining());
+        }
+    }
+}
@@ -1,27 +1,112 @@
 package org.oxff.operation.encoding.base64;
 
-import org.apache.commons.codec.binary.Base64;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.ByteOperations;
 import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
  * Base64解码操作实现
+ * 默认自动识别标准和URL安全字母表，填充可省略，并与之前的实现一样宽松地跳过无效字符；
+ * 开启严格校验后报告第一个无效字符的位置
  */
-public class Base64DecodeOperation implements Operation {
+public class Base64DecodeOperation implements ConfigurableOperation, ByteOperation, StreamingOperation {
+    private static final String AUTO = "auto";
+    private static final String STANDARD = "standard";
+    private static final String URL_SAFE = "urlSafe";
+    private static final String MIME = "mime";
+
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("Base64解码选项")
+        .add(ConfigField.choiceField("variant", "变体", AUTO,
+            new String[]{AUTO, STANDARD, URL_SAFE, MIME}, new String[]{"自动识别", "标准", "URL安全", "MIME"}))
+        .add(ConfigField.booleanField("strict", "严格校验", false))
+        .build();
+
+    private final Base64Codec.Variant variant;
+    private final boolean strict;
+
+    public Base64DecodeOperation() {
+        this(Base64Codec.Variant.AUTO, false);
+    }
+
+    private Base64DecodeOperation(Base64Codec.Variant variant, boolean strict) {
+        this.variant = variant;
+        this.strict = strict;
+    }
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public Operation configure(OperationConfig config) {
+        String variant = config.getString("variant");
+        Base64Codec.Variant codecVariant = STANDARD.equals(variant) ? Base64Codec.Variant.STANDARD
+            : URL_SAFE.equals(variant) ? Base64Codec.Variant.URL_SAFE
+            : MIME.equals(variant) ? Base64Codec.Variant.MIME
+            : Base64Codec.Variant.AUTO;
+        return new Base64DecodeOperation(codecVariant, config.getBoolean("strict"));
+    }
+
+    @Override
+    public String execute(String input, OperationConfig config) {
+        return configure(config).execute(input);
+    }
+
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return Base64Codec.decode(input, variant, strict);
+    }
+
     @Override
     public String execute(String input) {
         try {
-            byte[] decodedBytes = Base64.decodeBase64(input);
-            return new String(decodedBytes, StandardCharsets.UTF_8);
+            return ByteOperation.super.execute(input);
         } catch (Exception e) {
             return "Base64解码错误: " + e.getMessage();
         }
     }
-    
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        Base64Codec.StreamDecoder decoder = new Base64Codec.StreamDecoder(variant, strict);
+        byte[] chunk = new byte[STREAM_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        int n;
+        while ((n = ByteOperations.readFully(in, buffer)) > 0) {
+            byte[] decoded = decoder.decode(chunk, 0, n);
+            ByteOperations.writeFully(out, decoded, 0, decoded.length);
+            buffer.clear();
+        }
+        byte[] tail = decoder.finish();
+        ByteOperations.writeFully(out, tail, 0, tail.length);
+    }
+
+    @Override
+    public Charset getInputCharset() {
+        return StandardCharsets.ISO_8859_1;
+    }
+
+    @Override
+    public Charset getOutputCharset() {
+        return StandardCharsets.UTF_8;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -36,4 +121,4 @@ public class Base64DecodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("base64");
     }
-}
\ No newline at end of file
+}
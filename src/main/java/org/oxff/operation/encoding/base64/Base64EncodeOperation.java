@@ -1,22 +1,96 @@
 package org.oxff.operation.encoding.base64;
 
-import org.apache.commons.codec.binary.Base64;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.ByteOperations;
 import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 
 /**
  * Base64编码操作实现
+ * 默认使用标准字母表并输出填充，可选URL安全、MIME换行和无填充
  */
-public class Base64EncodeOperation implements Operation {
+public class Base64EncodeOperation implements ConfigurableOperation, ByteOperation, StreamingOperation {
+    private static final String STANDARD = "standard";
+    private static final String URL_SAFE = "urlSafe";
+    private static final String MIME = "mime";
+
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("Base64编码选项")
+        .add(ConfigField.choiceField("variant", "变体", STANDARD,
+            new String[]{STANDARD, URL_SAFE, MIME}, new String[]{"标准", "URL安全", "MIME(76字符换行)"}))
+        .add(ConfigField.booleanField("padding", "输出'='填充", true))
+        .build();
+
+    private final Base64.Encoder encoder;
+
+    public Base64EncodeOperation() {
+        this(Base64Codec.encoder(Base64Codec.Variant.STANDARD, true));
+    }
+
+    private Base64EncodeOperation(Base64.Encoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public Operation configure(OperationConfig config) {
+        String variant = config.getString("variant");
+        Base64Codec.Variant codecVariant = URL_SAFE.equals(variant) ? Base64Codec.Variant.URL_SAFE
+            : MIME.equals(variant) ? Base64Codec.Variant.MIME
+            : Base64Codec.Variant.STANDARD;
+        return new Base64EncodeOperation(Base64Codec.encoder(codecVariant, config.getBoolean("padding")));
+    }
+
+    @Override
+    public String execute(String input, OperationConfig config) {
+        return configure(config).execute(input);
+    }
+
     @Override
     public String execute(String input) {
-        return Base64.encodeBase64String(input.getBytes(StandardCharsets.UTF_8));
+        return ByteOperation.super.execute(input);
     }
-    
+
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return encoder.encode(input);
+    }
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        try (OutputStream codec = encoder.wrap(ByteOperations.nonClosingStream(out))) {
+            ByteOperations.copy(in, codec);
+        }
+    }
+
+    @Override
+    public Charset getInputCharset() {
+        return StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public Charset getOutputCharset() {
+        return StandardCharsets.ISO_8859_1;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -31,4 +105,4 @@ public class Base64EncodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("base64");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,302 @@
+package org.oxff.operation.encoding.hex;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 查表实现的十六进制编解码器
+ * 编码按 {@link Layout} 写入预先算好长度的缓冲区；解码一遍完成校验、跳过分隔符和 0x、\x 前缀并写入输出缓冲区，
+ * 两个方向都不为单个字节创建字符串或临时对象
+ */
+public final class HexCodec {
+    private static final byte[] PAIRS_UPPER = pairs("0123456789ABCDEF");
+    private static final byte[] PAIRS_LOWER = pairs("0123456789abcdef");
+
+    /** 解码表：0-15 为数字值，SKIP 为可跳过的分隔符，其余为无效字符 */
+    private static final byte[] DECODE = new byte[256];
+    private static final byte INVALID = -1;
+    private static final byte SKIP = -2;
+
+    static {
+        Arrays.fill(DECODE, INVALID);
+        for (int i = 0; i < 10; i++) {
+            DECODE['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DECODE['a' + i] = (byte) (10 + i);
+            DECODE['A' + i] = (byte) (10 + i);
+        }
+        for (char c : new char[]{' ', '\t', '\n', '\r', '\f', ':', ',', ';', '-'}) {
+            DECODE[c] = SKIP;
+        }
+    }
+
+    private HexCodec() {
+    }
+
+    private static byte[] pairs(String digits) {
+        byte[] table = new byte[512];
+        for (int i = 0; i < 256; i++) {
+            table[i << 1] = (byte) digits.charAt(i >>> 4);
+            table[(i << 1) + 1] = (byte) digits.charAt(i & 0x0F);
+        }
+        return table;
+    }
+
+    /**
+     * 按布局编码
+     * @param data 原始字节
+     * @param layout 输出布局
+     * @return 十六进制ASCII字节
+     * @throws IllegalArgumentException 结果超过数组长度上限时抛出
+     */
+    public static byte[] encode(byte[] data, Layout layout) {
+        long length = layout.encodedLength(data.length);
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("输入过大，请使用文件流处理");
+        }
+        byte[] out = new byte[(int) length];
+        new Encoder(layout).encode(data, 0, data.length, out, 0);
+        return out;
+    }
+
+    /**
+     * 解码十六进制文本，跳过空白和 : , ; - 分隔符，以及每个字节前的 0x 或 \x 前缀
+     * @param hex 十六进制ASCII字节
+     * @return 原始字节
+     * @throws IllegalArgumentException 包含无效字符、位数为奇数或没有任何数据时抛出
+     */
+    public static byte[] decode(byte[] hex) {
+        byte[] out = new byte[hex.length / 2];
+        Decoder decoder = new Decoder();
+        int length = decoder.decode(hex, 0, hex.length, out, 0);
+        decoder.finish();
+        if (length == 0) {
+            throw new IllegalArgumentException("输入不包含十六进制数据");
+        }
+        return length == out.length ? out : Arrays.copyOf(out, length);
+    }
+
+    /**
+     * 编码输出布局：大小写、每个字节的前缀、字节间分隔符、分组和换行
+     * 分组之间用空格分隔（分隔符为空格时用两个空格），换行优先于分组
+     */
+    public static final class Layout {
+        /** 大写、无前缀、无分隔符 */
+        public static final Layout DEFAULT = new Layout(true, "", "", 0, 0);
+
+        private final byte[] pairs;
+        private final byte[] prefix;
+        private final byte[] separator;
+        private final byte[] groupDelimiter;
+        private final int groupSize;
+        private final int bytesPerLine;
+
+        /**
+         * @param upperCase 是否使用大写字母
+         * @param prefix 每个字节前的前缀，如 "0x"
+         * @param separator 字节之间的分隔符，如 " " 或 ":"
+         * @param groupSize 每组字节数，0 表示不分组
+         * @param bytesPerLine 每行字节数，0 表示不换行
+         */
+        public Layout(boolean upperCase, String prefix, String separator, int groupSize, int bytesPerLine) {
+            if (groupSize < 0 || bytesPerLine < 0) {
+                throw new IllegalArgumentException("分组和每行字节数不能为负数");
+            }
+            this.pairs = upperCase ? PAIRS_UPPER : PAIRS_LOWER;
+            this.prefix = prefix.getBytes(StandardCharsets.US_ASCII);
+            this.separator = separator.getBytes(StandardCharsets.US_ASCII);
+            this.groupDelimiter = " ".equals(separator) ? new byte[]{' ', ' '} : new byte[]{' '};
+            this.groupSize = groupSize;
+            this.bytesPerLine = bytesPerLine;
+        }
+
+        private boolean isCompact() {
+            return prefix.length == 0 && separator.length == 0 && groupSize == 0 && bytesPerLine == 0;
+        }
+
+        /**
+         * 计算 n 个字节编码后的长度
+         */
+        long encodedLength(long n) {
+            if (n == 0) {
+                return 0;
+            }
+            long boundaries = n - 1;
+            long lineBreaks = bytesPerLine > 0 ? boundaries / bytesPerLine : 0;
+            long groupBreaks = 0;
+            if (groupSize > 0) {
+                groupBreaks = boundaries / groupSize;
+                if (bytesPerLine > 0) {
+                    // 同时是行边界的位置只计为换行
+                    groupBreaks -= boundaries / lcm(groupSize, bytesPerLine);
+                }
+            }
+            long plain = boundaries - lineBreaks - groupBreaks;
+            return n * (2 + prefix.length) + lineBreaks + groupBreaks * groupDelimiter.length
+                + plain * separator.length;
+        }
+
+        /**
+         * 单个输入字节最多产生的输出字节数
+         */
+        int maxBytesPerInput() {
+            return 2 + prefix.length + Math.max(1, Math.max(separator.length, groupDelimiter.length));
+        }
+
+        private static long lcm(long a, long b) {
+            long x = a;
+            long y = b;
+            while (y != 0) {
+                long t = x % y;
+                x = y;
+                y = t;
+            }
+            return a / x * b;
+        }
+    }
+
+    /**
+     * 按布局逐块编码，记录已编码的字节数以便跨块保持分隔符、分组和换行的位置
+     */
+    public static final class Encoder {
+        private final Layout layout;
+        private long position;
+
+        public Encoder(Layout layout) {
+            this.layout = layout;
+        }
+
+        /**
+         * 编码一块数据所需的最大输出长度
+         * @param length 输入长度
+         */
+        public int maxEncodedLength(int length) {
+            return length * layout.maxBytesPerInput();
+        }
+
+        /**
+         * 编码一块数据
+         * @param src 输入
+         * @param offset 输入起始位置
+         * @param length 输入长度
+         * @param dst 输出缓冲区，至少 {@link #maxEncodedLength} 字节
+         * @param dstOffset 输出起始位置
+         * @return 写入的字节数
+         */
+        public int encode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+            byte[] pairs = layout.pairs;
+            int j = dstOffset;
+            if (layout.isCompact()) {
+                for (int i = offset, end = offset + length; i < end; i++) {
+                    int index = (src[i] & 0xFF) << 1;
+                    dst[j] = pairs[index];
+                    dst[j + 1] = pairs[index + 1];
+                    j += 2;
+                }
+                position += length;
+                return j - dstOffset;
+            }
+
+            byte[] prefix = layout.prefix;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                if (position > 0) {
+                    j = writeDelimiter(dst, j);
+                }
+                for (byte b : prefix) {
+                    dst[j++] = b;
+                }
+                int index = (src[i] & 0xFF) << 1;
+                dst[j] = pairs[index];
+                dst[j + 1] = pairs[index + 1];
+                j += 2;
+                position++;
+            }
+            return j - dstOffset;
+        }
+
+        private int writeDelimiter(byte[] dst, int j) {
+            byte[] delimiter;
+            if (layout.bytesPerLine > 0 && position % layout.bytesPerLine == 0) {
+                dst[j] = '\n';
+                return j + 1;
+            } else if (layout.groupSize > 0 && position % layout.groupSize == 0) {
+                delimiter = layout.groupDelimiter;
+            } else {
+                delimiter = layout.separator;
+            }
+            for (byte b : delimiter) {
+                dst[j++] = b;
+            }
+            return j;
+        }
+    }
+
+    /**
+     * 逐块解码，跨块保存未配对的半字节和未完成的前缀
+     */
+    public static final class Decoder {
+        private int high = -1;
+        private boolean backslash;
+        private long position;
+
+        /**
+         * 解码一块数据
+         * @param src 十六进制ASCII字节
+         * @param offset 输入起始位置
+         * @param length 输入长度
+         * @param dst 输出缓冲区，至少 length / 2 + 1 字节
+         * @param dstOffset 输出起始位置
+         * @return 写入的字节数
+         * @throws IllegalArgumentException 包含无效字符时抛出，消息中包含字符位置
+         */
+        public int decode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+            int j = dstOffset;
+            int pending = high;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                int c = src[i] & 0xFF;
+                int value = DECODE[c];
+                if (value >= 0 && !backslash) {
+                    if (pending < 0) {
+                        pending = value;
+                    } else {
+                        dst[j++] = (byte) ((pending << 4) | value);
+                        pending = -1;
+                    }
+                } else if (value == SKIP && !backslash) {
+                    // 分隔符
+                } else if (c == '\\' && !backslash && pending < 0) {
+                    backslash = true;
+                } else if ((c == 'x' || c == 'X') && (backslash || pending == 0)) {
+                    // \x 前缀，或 0x 前缀（'0' 已作为待配对的半字节读入）
+                    backslash = false;
+                    pending = -1;
+                } else {
+                    high = pending;
+                    throw invalidCharacter(c, position + (i - offset));
+                }
+            }
+            high = pending;
+            position += length;
+            return j - dstOffset;
+        }
+
+        /**
+         * 结束解码，检查输入是否完整
+         * @throws IllegalArgumentException 位数为奇数或以不完整的前缀结尾时抛出
+         */
+        public void finish() {
+            if (backslash) {
+                throw new IllegalArgumentException("输入以不完整的 \\x 前缀结尾");
+            }
+            if (high >= 0) {
+                throw new IllegalArgumentException("输入的Hex字符串长度必须为偶数");
+            }
+        }
+
+        private static IllegalArgumentException invalidCharacter(int c, long index) {
+            String shown = c >= 0x20 && c < 0x7F ? "'" + (char) c + "'" : String.format("0x%02X", c);
+            return new IllegalArgumentException("输入包含非十六进制字符 " + shown + "（第 " + (index + 1) + " 个字节）");
+        }
+    }
+}
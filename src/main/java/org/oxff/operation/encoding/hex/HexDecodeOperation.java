@@ -1,44 +1,63 @@
 package org.oxff.operation.encoding.hex;
 
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.ByteOperations;
+import org.oxff.operation.StreamingOperation;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
-import org.oxff.operation.Operation;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
  * Hex解码操作实现
+ * 跳过空白和 : , ; - 分隔符，接受每个字节前的 0x 或 \x 前缀，可直接解码 Hex编码 的各种输出布局
  */
-public class HexDecodeOperation implements Operation {
+public class HexDecodeOperation implements ByteOperation, StreamingOperation {
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return HexCodec.decode(input);
+    }
+
     @Override
     public String execute(String input) {
         try {
-            // 移除可能存在的空格
-            String cleanInput = input.replaceAll("\\s+", "");
-            
-            // 检查输入长度是否为偶数
-            if (cleanInput.length() % 2 != 0) {
-                return "Hex解码错误: 输入的Hex字符串长度必须为偶数";
-            }
-            
-            // 检查是否只包含有效的十六进制字符
-            if (!cleanInput.matches("^[0-9A-Fa-f]+$")) {
-                return "Hex解码错误: 输入包含非十六进制字符";
-            }
-            
-            byte[] bytes = new byte[cleanInput.length() / 2];
-            for (int i = 0; i < bytes.length; i++) {
-                String hexPair = cleanInput.substring(i * 2, (i * 2) + 2);
-                bytes[i] = (byte) Integer.parseInt(hexPair, 16);
-            }
-            
-            return new String(bytes, StandardCharsets.UTF_8);
+            return ByteOperation.super.execute(input);
         } catch (Exception e) {
             return "Hex解码错误: " + e.getMessage();
         }
     }
-    
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        byte[] chunk = new byte[STREAM_BUFFER_SIZE];
+        byte[] decoded = new byte[STREAM_BUFFER_SIZE / 2 + 1];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        HexCodec.Decoder decoder = new HexCodec.Decoder();
+        int n;
+        while ((n = ByteOperations.readFully(in, buffer)) > 0) {
+            int length = decoder.decode(chunk, 0, n, decoded, 0);
+            ByteOperations.writeFully(out, decoded, 0, length);
+            buffer.clear();
+        }
+        decoder.finish();
+    }
+
+    @Override
+    public Charset getInputCharset() {
+        return StandardCharsets.ISO_8859_1;
+    }
+
+    @Override
+    public Charset getOutputCharset() {
+        return StandardCharsets.UTF_8;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -53,4 +72,4 @@ public class HexDecodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("hex");
     }
-}
\ No newline at end of file
+}
@@ -1,34 +1,113 @@
 package org.oxff.operation.encoding.hex;
 
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.ByteOperations;
+import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
-import org.oxff.operation.Operation;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
  * Hex编码操作实现
+ * 默认输出连续的大写十六进制，可配置大小写、字节前缀、分隔符、分组和换行
  */
-public class HexEncodeOperation implements Operation {
+public class HexEncodeOperation implements ConfigurableOperation, ByteOperation, StreamingOperation {
+    private static final String NONE = "none";
+    private static final String SPACE = "space";
+    private static final String COLON = "colon";
+
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("Hex编码选项")
+        .add(ConfigField.booleanField("upperCase", "大写字母", true))
+        .add(ConfigField.choiceField("prefix", "字节前缀", NONE,
+            new String[]{NONE, "0x", "\\x"}, new String[]{"无", "0x", "\\x"}))
+        .add(ConfigField.choiceField("separator", "分隔符", NONE,
+            new String[]{NONE, SPACE, COLON}, new String[]{"无", "空格", "冒号"}))
+        .add(ConfigField.intField("groupSize", "分组字节数(0为不分组)", 0, 0, 1024))
+        .add(ConfigField.intField("bytesPerLine", "每行字节数(0为不换行)", 0, 0, 65536, 8))
+        .build();
+
+    private final HexCodec.Layout layout;
+
+    public HexEncodeOperation() {
+        this(HexCodec.Layout.DEFAULT);
+    }
+
+    private HexEncodeOperation(HexCodec.Layout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public Operation configure(OperationConfig config) {
+        String prefix = config.getString("prefix");
+        String separator = config.getString("separator");
+        return new HexEncodeOperation(new HexCodec.Layout(
+            config.getBoolean("upperCase"),
+            NONE.equals(prefix) ? "" : prefix,
+            SPACE.equals(separator) ? " " : COLON.equals(separator) ? ":" : "",
+            config.getInt("groupSize"),
+            config.getInt("bytesPerLine")));
+    }
+
+    @Override
+    public String execute(String input, OperationConfig config) {
+        return configure(config).execute(input);
+    }
+
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return HexCodec.encode(input, layout);
+    }
+
     @Override
     public String execute(String input) {
         try {
-            byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : bytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString().toUpperCase();
+            return ByteOperation.super.execute(input);
         } catch (Exception e) {
             return "Hex编码错误: " + e.getMessage();
         }
     }
-    
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        HexCodec.Encoder encoder = new HexCodec.Encoder(layout);
+        byte[] chunk = new byte[STREAM_BUFFER_SIZE / 2];
+        byte[] hex = new byte[encoder.maxEncodedLength(chunk.length)];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        int n;
+        while ((n = ByteOperations.readFully(in, buffer)) > 0) {
+            int length = encoder.encode(chunk, 0, n, hex, 0);
+            ByteOperations.writeFully(out, hex, 0, length);
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public Charset getInputCharset() {
+        return StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public Charset getOutputCharset() {
+        return StandardCharsets.ISO_8859_1;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -43,4 +122,4 @@ public class HexEncodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("hex");
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,11 @@
 package org.oxff.operation.encoding.image;
 
 import org.apache.commons.codec.binary.Base32;
-import org.oxff.operation.Operation;
+import org.oxff.operation.InputType;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 import org.apache.commons.codec.binary.Base64;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
@@ -16,7 +20,7 @@ import java.io.File;
  * 图片转Base编码操作实现
  * 支持将图片文件转换为Base64或Base32编码
  */
-public class ImageToBaseOperation implements Operation {
+public class ImageToBaseOperation implements ConfigurableOperation {
 
     /**
      * 编码类型枚举
@@ -40,26 +44,40 @@ public class ImageToBaseOperation implements Operation {
         public String getDataUrlPrefix() {
             return dataUrlPrefix;
         }
-    }
-
-    // 当前编码类型（由UI设置）
-    private EncodingType encodingType = EncodingType.BASE64;
 
-    /**
-     * 设置编码类型
-     * @param typeName 编码类型名称 ("Base64" 或 "Base32")
-     */
-    public void setEncodingType(String typeName) {
-        for (EncodingType type : EncodingType.values()) {
-            if (type.getDisplayName().equals(typeName)) {
-                this.encodingType = type;
-                break;
+        /**
+         * 根据名称获取编码类型
+         * @param typeName 编码类型名称 ("Base64" 或 "Base32")
+         * @return 编码类型，未知名称返回 BASE64
+         */
+        public static EncodingType fromDisplayName(String typeName) {
+            for (EncodingType type : values()) {
+                if (type.getDisplayName().equals(typeName)) {
+                    return type;
+                }
             }
+            return BASE64;
         }
     }
 
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("图片转Base编码配置")
+        .add(ConfigField.choiceField("encodingType", "编码类型", EncodingType.BASE64.getDisplayName(),
+            EncodingType.BASE64.getDisplayName(), EncodingType.BASE32.getDisplayName()))
+        .build();
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public InputType getInputType() {
+        return InputType.FILE;
+    }
+
     @Override
-    public String execute(String input) {
+    public String execute(String input, OperationConfig config) {
+        EncodingType encodingType = EncodingType.fromDisplayName(config.getString("encodingType"));
         if (input == null || input.trim().isEmpty()) {
             return "请输入图片文件路径";
         }
@@ -6,13 +6,14 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
+import org.oxff.operation.encoding.base64.Base64Codec;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.PublicKey;
 import java.security.spec.X509EncodedKeySpec;
@@ -46,8 +47,8 @@ public class JwtDecodeOperation implements Operation {
             }
 
             // 解码header和payload
-            String headerJson = new String(Decoders.BASE64URL.decode(jwtParts[0]));
-            String payloadJson = new String(Decoders.BASE64URL.decode(jwtParts[1]));
+            String headerJson = decodeSegment(jwtParts[0], "header");
+            String payloadJson = decodeSegment(jwtParts[1], "payload");
             String signature = jwtParts[2];
 
             // 简化输出：返回header、payload和签名
@@ -62,6 +63,19 @@ public class JwtDecodeOperation implements Operation {
         }
     }
 
+    /**
+     * 按 URL 安全、无填充的 Base64 严格解码 JWT 段
+     */
+    private String decodeSegment(String segment, String name) {
+        try {
+            byte[] bytes = Base64Codec.decode(segment.getBytes(StandardCharsets.ISO_8859_1),
+                Base64Codec.Variant.URL_SAFE, true);
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " " + e.getMessage(), e);
+        }
+    }
+
     private String formatJson(String json) {
         try {
             JsonElement element = JsonParser.parseString(json);
@@ -3,32 +3,28 @@ package org.oxff.operation.encoding.unicode;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
-import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Unicode解码操作实现
+ * 识别 \\uXXXX（含代理对）、\\UXXXXXXXX、\\u{X}、\\x{X} 和 &amp;#xX;、&amp;#十进制; 混合的文本，无效转义原样保留
  */
-public class UnicodeDecodeOperation implements Operation {
+public class UnicodeDecodeOperation implements StreamingOperation {
     @Override
     public String execute(String input) {
-        StringBuilder sb = new StringBuilder();
-        int i = 0;
-        while (i < input.length()) {
-            if (i + 6 <= input.length() && input.substring(i, i + 2).equals("\\u")) {
-                try {
-                    int codePoint = Integer.parseInt(input.substring(i + 2, i + 6), 16);
-                    sb.append((char) codePoint);
-                    i += 6;
-                } catch (NumberFormatException e) {
-                    sb.append(input.charAt(i));
-                    i++;
-                }
-            } else {
-                sb.append(input.charAt(i));
-                i++;
-            }
-        }
-        return sb.toString();
+        return UnicodeEscapeCodec.unescape(input);
+    }
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        UnicodeEscapeCodec.unescape(Channels.newReader(in, StandardCharsets.UTF_8),
+            Channels.newWriter(out, StandardCharsets.UTF_8));
     }
     
     @Override
@@ -45,4 +41,4 @@ public class UnicodeDecodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("unicode");
     }
-}
\ No newline at end of file
+}
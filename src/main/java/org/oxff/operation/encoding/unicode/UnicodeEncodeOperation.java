@@ -4,24 +4,77 @@ import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
 import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Unicode编码操作实现
+ * 默认将非ASCII字符转义为 \\uXXXX，增补平面字符写为代理对；可选 \\u{X}、\\UXXXXXXXX 和 &amp;#xX; 形式
  */
-public class UnicodeEncodeOperation implements Operation {
+public class UnicodeEncodeOperation implements ConfigurableOperation, StreamingOperation {
+    private static final String JAVA = "java";
+    private static final String ES6 = "es6";
+    private static final String PYTHON = "python";
+    private static final String HTML = "html";
+
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("Unicode编码选项")
+        .add(ConfigField.choiceField("style", "转义形式", JAVA,
+            new String[]{JAVA, ES6, PYTHON, HTML},
+            new String[]{"\\uXXXX (Java/JSON)", "\\u{X} (ES6)", "\\UXXXXXXXX (Python/C)", "&#xX; (HTML)"}))
+        .add(ConfigField.booleanField("escapeAscii", "转义ASCII字符", false))
+        .add(ConfigField.booleanField("upperCase", "大写字母", false))
+        .build();
+
+    private final UnicodeEscapeCodec codec;
+
+    public UnicodeEncodeOperation() {
+        this(new UnicodeEscapeCodec(UnicodeEscapeCodec.Style.JAVA, false, false));
+    }
+
+    private UnicodeEncodeOperation(UnicodeEscapeCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public Operation configure(OperationConfig config) {
+        String style = config.getString("style");
+        UnicodeEscapeCodec.Style codecStyle = ES6.equals(style) ? UnicodeEscapeCodec.Style.ES6
+            : PYTHON.equals(style) ? UnicodeEscapeCodec.Style.PYTHON
+            : HTML.equals(style) ? UnicodeEscapeCodec.Style.HTML
+            : UnicodeEscapeCodec.Style.JAVA;
+        return new UnicodeEncodeOperation(new UnicodeEscapeCodec(codecStyle,
+            config.getBoolean("escapeAscii"), config.getBoolean("upperCase")));
+    }
+
+    @Override
+    public String execute(String input, OperationConfig config) {
+        return configure(config).execute(input);
+    }
+
     @Override
     public String execute(String input) {
-        StringBuilder sb = new StringBuilder();
-        for (char c : input.toCharArray()) {
-            if (c < 128) {
-                sb.append(c);
-            } else {
-                sb.append("\\u").append(String.format("%04x", (int) c));
-            }
-        }
-        return sb.toString();
+        return codec.escape(input);
     }
-    
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        codec.escape(Channels.newReader(in, StandardCharsets.UTF_8), Channels.newWriter(out, StandardCharsets.UTF_8));
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -36,4 +89,4 @@ public class UnicodeEncodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("unicode");
     }
-}
\ No newline at end of file
+}
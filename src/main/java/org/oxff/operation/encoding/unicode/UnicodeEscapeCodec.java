@@ -0,0 +1,327 @@
+package org.oxff.operation.encoding.unicode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Unicode转义编解码器，按码点处理，支持增补平面字符
+ * 转义支持 \\uXXXX（代理对）、\\u{X}、\\UXXXXXXXX 和 &amp;#xX; 四种形式；
+ * 反转义一遍扫描识别以上所有形式及 \\x{X}、&amp;#十进制;，无效或不完整的转义原样保留
+ * 逐字符处理时不创建任何对象，支持分块处理任意大小的输入
+ */
+public final class UnicodeEscapeCodec {
+    /** 单个转义序列的最大长度（&amp;#x + 8位 + ;），分块处理时块尾最多保留这么多字符 */
+    static final int MAX_ESCAPE_LENGTH = 12;
+    private static final int MAX_HEX_DIGITS = 8;
+    private static final int MAX_DECIMAL_DIGITS = 8;
+    private static final int CHUNK_SIZE = 32 * 1024;
+
+    private static final char[] HEX_LOWER = "0123456789abcdef".toCharArray();
+    private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * 转义形式
+     */
+    public enum Style {
+        /** Java/JSON：\\uXXXX，增补平面字符写为两个代理项 */
+        JAVA,
+        /** JavaScript ES6：\\u{X} */
+        ES6,
+        /** Python/C：基本平面 \\uXXXX，增补平面 \\UXXXXXXXX */
+        PYTHON,
+        /** HTML/XML十六进制字符引用：&amp;#xX; */
+        HTML
+    }
+
+    private final Style style;
+    private final boolean escapeAscii;
+    private final char[] hex;
+
+    /**
+     * @param style 转义形式
+     * @param escapeAscii 是否同时转义ASCII字符
+     * @param upperCase 十六进制数字是否使用大写
+     */
+    public UnicodeEscapeCodec(Style style, boolean escapeAscii, boolean upperCase) {
+        this.style = style;
+        this.escapeAscii = escapeAscii;
+        this.hex = upperCase ? HEX_UPPER : HEX_LOWER;
+    }
+
+    /**
+     * 转义整个字符串
+     */
+    public String escape(CharSequence input) {
+        StringBuilder out = new StringBuilder(input.length() + (input.length() >> 1));
+        escape(input, 0, input.length(), true, out);
+        return out.toString();
+    }
+
+    /**
+     * 转义 [start, end) 范围内的字符
+     * @param endOfInput 是否为最后一块；否则块尾不完整的代理对留待下一块处理
+     * @return 处理到的位置
+     */
+    public int escape(CharSequence src, int start, int end, boolean endOfInput, StringBuilder out) {
+        int i = start;
+        int run = start;
+        while (i < end) {
+            char c = src.charAt(i);
+            if (c < 0x80 && !escapeAscii) {
+                i++;
+                continue;
+            }
+            // 连续不需要转义的字符整段追加
+            if (run < i) {
+                out.append(src, run, i);
+            }
+            int codePoint = c;
+            int length = 1;
+            if (Character.isHighSurrogate(c)) {
+                if (i + 1 < end) {
+                    char low = src.charAt(i + 1);
+                    if (Character.isLowSurrogate(low)) {
+                        codePoint = Character.toCodePoint(c, low);
+                        length = 2;
+                    }
+                } else if (!endOfInput) {
+                    return i;
+                }
+            }
+            appendEscape(codePoint, out);
+            i += length;
+            run = i;
+        }
+        if (run < end) {
+            out.append(src, run, end);
+        }
+        return end;
+    }
+
+    private void appendEscape(int codePoint, StringBuilder out) {
+        switch (style) {
+            case ES6:
+                out.append("\\u{");
+                appendHex(codePoint, 1, out);
+                out.append('}');
+                break;
+            case PYTHON:
+                if (codePoint > 0xFFFF) {
+                    out.append("\\U");
+                    appendHex(codePoint, 8, out);
+                } else {
+                    out.append("\\u");
+                    appendHex(codePoint, 4, out);
+                }
+                break;
+            case HTML:
+                out.append("&#x");
+                appendHex(codePoint, 1, out);
+                out.append(';');
+                break;
+            default:
+                if (codePoint > 0xFFFF) {
+                    out.append("\\u");
+                    appendHex(Character.highSurrogate(codePoint), 4, out);
+                    out.append("\\u");
+                    appendHex(Character.lowSurrogate(codePoint), 4, out);
+                } else {
+                    out.append("\\u");
+                    appendHex(codePoint, 4, out);
+                }
+                break;
+        }
+    }
+
+    /**
+     * 追加十六进制数字，不足 minDigits 位时补0
+     */
+    private void appendHex(int value, int minDigits, StringBuilder out) {
+        int digits = Math.max(minDigits, (35 - Integer.numberOfLeadingZeros(value | 1)) >>> 2);
+        for (int shift = (digits - 1) << 2; shift >= 0; shift -= 4) {
+            out.append(hex[(value >>> shift) & 0x0F]);
+        }
+    }
+
+    /**
+     * 反转义整个字符串
+     */
+    public static String unescape(CharSequence input) {
+        StringBuilder out = new StringBuilder(input.length());
+        unescape(input, 0, input.length(), true, out);
+        return out.toString();
+    }
+
+    /**
+     * 反转义 [start, end) 范围内的字符
+     * @param endOfInput 是否为最后一块；否则块尾可能不完整的转义留待下一块处理
+     * @return 处理到的位置
+     */
+    public static int unescape(CharSequence src, int start, int end, boolean endOfInput, StringBuilder out) {
+        int i = start;
+        int run = start;
+        while (i < end) {
+            char c = src.charAt(i);
+            if (c != '\\' && c != '&') {
+                i++;
+                continue;
+            }
+            if (run < i) {
+                out.append(src, run, i);
+            }
+            long parsed = c == '\\' ? parseBackslash(src, i, end) : parseReference(src, i, end);
+            if (parsed == INCOMPLETE && !endOfInput) {
+                return i;
+            }
+            if (parsed >= 0) {
+                out.appendCodePoint((int) (parsed >>> 32));
+                i += (int) parsed;
+            } else if (c == '\\' && i + 1 < end && src.charAt(i + 1) == '\\') {
+                // 转义的反斜杠，其后的字符不是转义序列
+                out.append("\\\\");
+                i += 2;
+            } else {
+                out.append(c);
+                i++;
+            }
+            run = i;
+        }
+        if (run < end) {
+            out.append(src, run, end);
+        }
+        return end;
+    }
+
+    /** 转义不完整，需要更多输入 */
+    private static final long INCOMPLETE = -2;
+    /** 不是有效的转义 */
+    private static final long INVALID = -1;
+
+    /**
+     * 解析以反斜杠开头的转义
+     * @return 高32位为码点、低32位为转义长度；无效返回 {@link #INVALID}，输入不足返回 {@link #INCOMPLETE}
+     */
+    private static long parseBackslash(CharSequence src, int i, int end) {
+        if (i + 1 >= end) {
+            return INCOMPLETE;
+        }
+        char kind = src.charAt(i + 1);
+        if (kind == 'u' || kind == 'x') {
+            if (i + 2 >= end) {
+                return INCOMPLETE;
+            }
+            if (src.charAt(i + 2) == '{') {
+                return parseDigits(src, i + 3, end, 16, 1, MAX_HEX_DIGITS, '}', i);
+            }
+            return kind == 'u' ? parseDigits(src, i + 2, end, 16, 4, 4, (char) 0, i) : INVALID;
+        }
+        if (kind == 'U') {
+            return parseDigits(src, i + 2, end, 16, 8, 8, (char) 0, i);
+        }
+        return INVALID;
+    }
+
+    /**
+     * 解析 &amp;#xX; 或 &amp;#十进制; 字符引用
+     */
+    private static long parseReference(CharSequence src, int i, int end) {
+        if (i + 1 >= end) {
+            return INCOMPLETE;
+        }
+        if (src.charAt(i + 1) != '#') {
+            return INVALID;
+        }
+        if (i + 2 >= end) {
+            return INCOMPLETE;
+        }
+        char kind = src.charAt(i + 2);
+        if (kind == 'x' || kind == 'X') {
+            return parseDigits(src, i + 3, end, 16, 1, MAX_HEX_DIGITS, ';', i);
+        }
+        return parseDigits(src, i + 2, end, 10, 1, MAX_DECIMAL_DIGITS, ';', i);
+    }
+
+    /**
+     * 解析数字部分
+     * @param from 第一个数字的位置
+     * @param radix 进制
+     * @param minDigits 最少位数
+     * @param maxDigits 最多位数
+     * @param terminator 结束符，0 表示固定位数没有结束符
+     * @param escapeStart 转义起始位置，用于计算长度
+     */
+    private static long parseDigits(CharSequence src, int from, int end, int radix, int minDigits,
+                                    int maxDigits, char terminator, int escapeStart) {
+        int value = 0;
+        int digits = 0;
+        int i = from;
+        while (true) {
+            if (i >= end) {
+                return INCOMPLETE;
+            }
+            char c = src.charAt(i);
+            if (terminator != 0 && c == terminator) {
+                if (digits < minDigits) {
+                    return INVALID;
+                }
+                i++;
+                break;
+            }
+            int digit = Character.digit(c, radix);
+            if (digit < 0 || c > 0x7F || digits == maxDigits) {
+                return INVALID;
+            }
+            value = value * radix + digit;
+            digits++;
+            i++;
+            if (terminator == 0 && digits == maxDigits) {
+                break;
+            }
+        }
+        if (value > Character.MAX_CODE_POINT) {
+            return INVALID;
+        }
+        return ((long) value << 32) | (i - escapeStart);
+    }
+
+    /**
+     * 分块转义，内存占用与输入大小无关
+     */
+    public void escape(Reader in, Writer out) throws IOException {
+        transform(in, out, true);
+    }
+
+    /**
+     * 分块反转义，内存占用与输入大小无关
+     */
+    public static void unescape(Reader in, Writer out) throws IOException {
+        new UnicodeEscapeCodec(Style.JAVA, false, false).transform(in, out, false);
+    }
+
+    private void transform(Reader in, Writer out, boolean escaping) throws IOException {
+        char[] buffer = new char[CHUNK_SIZE + MAX_ESCAPE_LENGTH];
+        CharBuffer chars = CharBuffer.wrap(buffer);
+        StringBuilder result = new StringBuilder(CHUNK_SIZE * 2);
+        int length = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            int n = in.read(buffer, length, CHUNK_SIZE);
+            if (n < 0) {
+                endOfInput = true;
+            } else {
+                length += n;
+            }
+            int consumed = escaping
+                ? escape(chars, 0, length, endOfInput, result)
+                : unescape(chars, 0, length, endOfInput, result);
+            out.append(result);
+            result.setLength(0);
+            // 块尾未处理的字符移到缓冲区开头，与下一块一起处理
+            System.arraycopy(buffer, consumed, buffer, 0, length - consumed);
+            length -= consumed;
+        }
+        out.flush();
+    }
+}
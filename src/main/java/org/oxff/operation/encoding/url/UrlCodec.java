@@ -0,0 +1,239 @@
+package org.oxff.operation.encoding.url;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 查表实现的URL百分号编解码器，直接处理UTF-8字节
+ * 编码按 RFC 3986 的URI组成部分选择保留字符；解码可选宽松模式，无效的转义原样输出而不中断
+ */
+public final class UrlCodec {
+    private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] HEX_LOWER = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
+    /** 十六进制数字值，非十六进制字符为 -1 */
+    private static final byte[] HEX_VALUE = new byte[256];
+
+    /** 重复解码的最大次数 */
+    static final int MAX_DECODE_PASSES = 16;
+
+    static {
+        Arrays.fill(HEX_VALUE, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUE['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUE['a' + i] = (byte) (10 + i);
+            HEX_VALUE['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private UrlCodec() {
+    }
+
+    /**
+     * URI组成部分，决定哪些字符保持不变
+     */
+    public enum Component {
+        /** 表单编码，与 URLEncoder 一致：字母数字和 ".-*_" 不变，空格编码为 '+' */
+        FORM("-._*", true),
+        /** 单个组成部分，只保留 RFC 3986 非保留字符 "-._~"，与 encodeURIComponent 相近 */
+        COMPONENT("-._~", false),
+        /** 路径：保留非保留字符、子分隔符和 ":@/" */
+        PATH("-._~!$&'()*+,;=:@/", false),
+        /** 查询参数值：保留路径字符和 "?"，但编码 "&=+" 以免与参数分隔符混淆 */
+        QUERY("-._~!$'()*,;:@/?", false),
+        /** 片段：保留路径字符和 "?" */
+        FRAGMENT("-._~!$&'()*+,;=:@/?", false);
+
+        /** 编码表：0 表示需要百分号转义，否则为输出字节 */
+        private final byte[] table = new byte[256];
+
+        Component(String safe, boolean plusForSpace) {
+            for (int c = 'a'; c <= 'z'; c++) {
+                table[c] = (byte) c;
+            }
+            for (int c = 'A'; c <= 'Z'; c++) {
+                table[c] = (byte) c;
+            }
+            for (int c = '0'; c <= '9'; c++) {
+                table[c] = (byte) c;
+            }
+            for (int i = 0; i < safe.length(); i++) {
+                table[safe.charAt(i)] = (byte) safe.charAt(i);
+            }
+            if (plusForSpace) {
+                table[' '] = '+';
+            }
+        }
+    }
+
+    /**
+     * 百分号编码器，无状态，可重复使用
+     */
+    public static final class Encoder {
+        private final byte[] table;
+        private final byte[] hex;
+
+        /**
+         * @param component URI组成部分
+         * @param upperCase 转义序列是否使用大写十六进制
+         */
+        public Encoder(Component component, boolean upperCase) {
+            this.table = component.table;
+            this.hex = upperCase ? HEX_UPPER : HEX_LOWER;
+        }
+
+        /**
+         * 编码整个字节数组
+         */
+        public byte[] encode(byte[] data) {
+            byte[] out = new byte[maxEncodedLength(data.length)];
+            return Arrays.copyOf(out, encode(data, 0, data.length, out, 0));
+        }
+
+        /**
+         * 编码一块数据所需的最大输出长度
+         */
+        public int maxEncodedLength(int length) {
+            return length * 3;
+        }
+
+        /**
+         * 编码一块数据
+         * @param dst 输出缓冲区，至少 {@link #maxEncodedLength} 字节
+         * @return 写入的字节数
+         */
+        public int encode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+            int j = dstOffset;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                int b = src[i] & 0xFF;
+                byte mapped = table[b];
+                if (mapped != 0) {
+                    dst[j++] = mapped;
+                } else {
+                    dst[j] = '%';
+                    dst[j + 1] = hex[b >>> 4];
+                    dst[j + 2] = hex[b & 0x0F];
+                    j += 3;
+                }
+            }
+            return j - dstOffset;
+        }
+    }
+
+    /**
+     * 百分号解码器，转义序列可以跨越数据块边界
+     */
+    public static final class Decoder {
+        private final boolean plusAsSpace;
+        private final boolean lenient;
+        /** 已读取的转义字符数：0 普通状态，1 已读 '%'，2 已读 '%X' */
+        private int escapeState;
+        private byte pendingDigit;
+        private long position;
+        private boolean changed;
+
+        /**
+         * @param plusAsSpace '+' 是否解码为空格
+         * @param lenient 宽松模式：无效或不完整的转义原样输出；否则抛出异常
+         */
+        public Decoder(boolean plusAsSpace, boolean lenient) {
+            this.plusAsSpace = plusAsSpace;
+            this.lenient = lenient;
+        }
+
+        /**
+         * 解码一块数据
+         * @param dst 输出缓冲区，至少 length + 2 字节
+         * @return 写入的字节数
+         * @throws IllegalArgumentException 非宽松模式下遇到无效转义时抛出，消息中包含字节位置
+         */
+        public int decode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+            int j = dstOffset;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                byte b = src[i];
+                if (escapeState == 0) {
+                    if (b == '%') {
+                        escapeState = 1;
+                    } else if (b == '+' && plusAsSpace) {
+                        dst[j++] = ' ';
+                        changed = true;
+                    } else {
+                        dst[j++] = b;
+                    }
+                    continue;
+                }
+                int digit = HEX_VALUE[b & 0xFF];
+                if (digit < 0) {
+                    if (!lenient) {
+                        throw new IllegalArgumentException(
+                            "无效的百分号转义（第 " + (position + (i - offset) + 1) + " 个字节）");
+                    }
+                    // 输出已读取的 '%' 或 '%X'，当前字节按普通字节重新处理
+                    j = flushPending(dst, j);
+                    i--;
+                } else if (escapeState == 1) {
+                    pendingDigit = b;
+                    escapeState = 2;
+                } else {
+                    dst[j++] = (byte) ((HEX_VALUE[pendingDigit & 0xFF] << 4) | digit);
+                    escapeState = 0;
+                    changed = true;
+                }
+            }
+            position += length;
+            return j - dstOffset;
+        }
+
+        /**
+         * 结束解码，宽松模式下输出末尾不完整的转义
+         * @param dst 输出缓冲区，至少 2 字节
+         * @return 写入的字节数
+         * @throws IllegalArgumentException 非宽松模式下以不完整的转义结尾时抛出
+         */
+        public int finish(byte[] dst, int dstOffset) {
+            if (escapeState != 0 && !lenient) {
+                throw new IllegalArgumentException("输入以不完整的百分号转义结尾");
+            }
+            return flushPending(dst, dstOffset) - dstOffset;
+        }
+
+        private int flushPending(byte[] dst, int j) {
+            if (escapeState >= 1) {
+                dst[j++] = '%';
+            }
+            if (escapeState == 2) {
+                dst[j++] = pendingDigit;
+            }
+            escapeState = 0;
+            return j;
+        }
+
+        /**
+         * 是否解码过任何转义序列或 '+'，输出与输入不同
+         */
+        public boolean isChanged() {
+            return changed;
+        }
+    }
+
+    /**
+     * 解码整个字节数组
+     * @param untilFixpoint 是否重复解码直到结果不再变化（最多 {@value #MAX_DECODE_PASSES} 次），用于多重编码的数据
+     */
+    public static byte[] decode(byte[] data, boolean plusAsSpace, boolean lenient, boolean untilFixpoint) {
+        byte[] current = data;
+        for (int pass = 0; pass < MAX_DECODE_PASSES; pass++) {
+            Decoder decoder = new Decoder(plusAsSpace, lenient);
+            byte[] out = new byte[current.length + 2];
+            int length = decoder.decode(current, 0, current.length, out, 0);
+            length += decoder.finish(out, length);
+            current = Arrays.copyOf(out, length);
+            if (!untilFixpoint || !decoder.isChanged()) {
+                break;
+            }
+        }
+        return current;
+    }
+}
@@ -3,20 +3,101 @@ package org.oxff.operation.encoding.url;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.ByteOperations;
 import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * URL解码操作实现
+ * 在字节上直接解码：%XX 解码为对应字节，默认 '+' 解码为空格；默认宽松模式，无效的转义原样保留
+ * 可重复解码直到结果不再变化，用于多重编码的数据
  */
-public class UrlDecodeOperation implements Operation {
+public class UrlDecodeOperation implements ConfigurableOperation, ByteOperation, StreamingOperation {
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("URL解码选项")
+        .add(ConfigField.booleanField("plusAsSpace", "'+'解码为空格", true))
+        .add(ConfigField.booleanField("strict", "严格模式(无效转义报错)", false))
+        .add(ConfigField.booleanField("untilFixpoint", "重复解码直到不再变化", false))
+        .build();
+
+    private final boolean plusAsSpace;
+    private final boolean lenient;
+    private final boolean untilFixpoint;
+
+    public UrlDecodeOperation() {
+        this(true, true, false);
+    }
+
+    private UrlDecodeOperation(boolean plusAsSpace, boolean lenient, boolean untilFixpoint) {
+        this.plusAsSpace = plusAsSpace;
+        this.lenient = lenient;
+        this.untilFixpoint = untilFixpoint;
+    }
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public Operation configure(OperationConfig config) {
+        return new UrlDecodeOperation(config.getBoolean("plusAsSpace"), !config.getBoolean("strict"),
+            config.getBoolean("untilFixpoint"));
+    }
+
+    @Override
+    public String execute(String input, OperationConfig config) {
+        return configure(config).execute(input);
+    }
+
     @Override
     public String execute(String input) {
-        return URLDecoder.decode(input, StandardCharsets.UTF_8);
+        return ByteOperation.super.execute(input);
     }
-    
+
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return UrlCodec.decode(input, plusAsSpace, lenient, untilFixpoint);
+    }
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        // 重复解码时串联多个解码器，每一级处理上一级的输出，各级的跨块状态互不影响
+        UrlCodec.Decoder[] stages = new UrlCodec.Decoder[untilFixpoint ? UrlCodec.MAX_DECODE_PASSES : 1];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new UrlCodec.Decoder(plusAsSpace, lenient);
+        }
+        byte[] chunk = new byte[STREAM_BUFFER_SIZE];
+        byte[][] buffers = {new byte[chunk.length + 2 * stages.length], new byte[chunk.length + 2 * stages.length]};
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        int n;
+        do {
+            n = ByteOperations.readFully(in, buffer);
+            byte[] data = chunk;
+            int length = Math.max(n, 0);
+            for (int i = 0; i < stages.length; i++) {
+                byte[] decoded = buffers[i & 1];
+                int count = stages[i].decode(data, 0, length, decoded, 0);
+                if (n <= 0) {
+                    count += stages[i].finish(decoded, count);
+                }
+                data = decoded;
+                length = count;
+            }
+            ByteOperations.writeFully(out, data, 0, length);
+            buffer.clear();
+        } while (n > 0);
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -31,4 +112,4 @@ public class UrlDecodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("url");
     }
-}
\ No newline at end of file
+}
@@ -3,20 +3,99 @@ package org.oxff.operation.encoding.url;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.ByteOperations;
 import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 
-import java.net.URLEncoder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
  * URL编码操作实现
+ * 在UTF-8字节上直接编码，默认规则与 URLEncoder 一致：字母数字和 ".-*_" 保持不变，空格编码为 '+'
+ * 可按 RFC 3986 选择路径、查询参数、片段等组成部分的保留字符
  */
-public class UrlEncodeOperation implements Operation {
+public class UrlEncodeOperation implements ConfigurableOperation, ByteOperation, StreamingOperation {
+    private static final String FORM = "form";
+    private static final String COMPONENT = "component";
+    private static final String PATH = "path";
+    private static final String QUERY = "query";
+    private static final String FRAGMENT = "fragment";
+
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("URL编码选项")
+        .add(ConfigField.choiceField("component", "编码范围", FORM,
+            new String[]{FORM, COMPONENT, PATH, QUERY, FRAGMENT},
+            new String[]{"表单 (空格为+)", "组成部分 (仅保留-._~)", "路径", "查询参数值", "片段"}))
+        .add(ConfigField.booleanField("upperCase", "大写字母", true))
+        .build();
+
+    private final UrlCodec.Encoder encoder;
+
+    public UrlEncodeOperation() {
+        this(new UrlCodec.Encoder(UrlCodec.Component.FORM, true));
+    }
+
+    private UrlEncodeOperation(UrlCodec.Encoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public Operation configure(OperationConfig config) {
+        String component = config.getString("component");
+        UrlCodec.Component codecComponent = COMPONENT.equals(component) ? UrlCodec.Component.COMPONENT
+            : PATH.equals(component) ? UrlCodec.Component.PATH
+            : QUERY.equals(component) ? UrlCodec.Component.QUERY
+            : FRAGMENT.equals(component) ? UrlCodec.Component.FRAGMENT
+            : UrlCodec.Component.FORM;
+        return new UrlEncodeOperation(new UrlCodec.Encoder(codecComponent, config.getBoolean("upperCase")));
+    }
+
+    @Override
+    public String execute(String input, OperationConfig config) {
+        return configure(config).execute(input);
+    }
+
     @Override
     public String execute(String input) {
-        return URLEncoder.encode(input, StandardCharsets.UTF_8);
+        return ByteOperation.super.execute(input);
     }
-    
+
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return encoder.encode(input);
+    }
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        byte[] chunk = new byte[STREAM_BUFFER_SIZE / 3];
+        byte[] encoded = new byte[encoder.maxEncodedLength(chunk.length)];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        int n;
+        while ((n = ByteOperations.readFully(in, buffer)) > 0) {
+            ByteOperations.writeFully(out, encoded, 0, encoder.encode(chunk, 0, n, encoded, 0));
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public Charset getOutputCharset() {
+        return StandardCharsets.ISO_8859_1;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.ENCODING_DECODING;
@@ -31,4 +110,4 @@ public class UrlEncodeOperation implements Operation {
     public Subcategory getSubcategory() {
         return SubcategoryRegistry.getSubcategory("url");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package org.oxff.operation.formatting;
+
+import org.oxff.operation.Operation;
+
+/**
+ * 支持表达式过滤的操作，如 JSONPath、XPath
+ */
+public interface ExpressionOperation extends Operation {
+
+    /**
+     * 使用表达式过滤输入
+     * @param input 输入文本
+     * @param expressions 表达式，多个表达式用换行分隔
+     * @return 过滤结果
+     */
+    String execute(String input, String expressions);
+}
@@ -0,0 +1,17 @@
+package org.oxff.operation.formatting;
+
+import org.oxff.operation.Operation;
+
+/**
+ * 支持自定义缩进的格式化操作
+ */
+public interface IndentableOperation extends Operation {
+
+    /**
+     * 使用指定缩进格式化输入
+     * @param input 输入文本
+     * @param indent 缩进字符串
+     * @return 格式化结果
+     */
+    String format(String input, String indent);
+}
@@ -1,30 +1,73 @@
 package org.oxff.operation.formatting;
 
 import com.google.gson.Gson;
-import org.oxff.operation.Operation;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.ToNumberPolicy;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
+import org.oxff.core.LruCache;
 import org.oxff.core.OperationCategory;
+import org.oxff.core.TaskMonitor;
+import org.oxff.operation.StreamingOperation;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * JSON格式化操作实现
  */
-public class JsonFormatOperation implements Operation {
+public class JsonFormatOperation implements StreamingOperation, IndentableOperation, ExpressionOperation {
+    /**
+     * 共享的Gson实例（线程安全），整数解析为 Long 而不是 Double
+     */
+    private static final Gson GSON = new GsonBuilder()
+        .setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
+        .disableHtmlEscaping()
+        .create();
+
+    /**
+     * 编译后的JSONPath缓存，跨次执行共享
+     */
+    private static final LruCache<String, JsonPath> PATH_CACHE = new LruCache<>(256);
+
+    private static final Configuration JSON_PATH_CONFIGURATION = Configuration.defaultConfiguration();
+
     @Override
     public String execute(String input) {
+        return format(input, JsonStreamFormatter.DEFAULT_INDENT);
+    }
+
+    /**
+     * 使用指定缩进格式化JSON
+     * @param input JSON输入
+     * @param indent 缩进字符串
+     * @return 格式化结果
+     */
+    @Override
+    public String format(String input, String indent) {
         try {
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            Object obj = gson.fromJson(input, Object.class);
-            return gson.toJson(obj);
-        } catch (JsonSyntaxException e) {
+            return JsonStreamFormatter.format(input, indent);
+        } catch (IOException e) {
             return "无效的JSON格式: " + e.getMessage();
         }
     }
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        Writer writer = Channels.newWriter(out, StandardCharsets.UTF_8);
+        JsonStreamFormatter.format(Channels.newReader(in, StandardCharsets.UTF_8), writer,
+            JsonStreamFormatter.DEFAULT_INDENT);
+        writer.flush();
+    }
     
     @Override
     public OperationCategory getCategory() {
@@ -42,27 +85,33 @@ public class JsonFormatOperation implements Operation {
      * @param expressions JSONPath表达式（每行一个）
      * @return 提取的结果，每行一个值
      */
+    @Override
     public String execute(String input, String expressions) {
         if (expressions == null || expressions.trim().isEmpty()) {
             return execute(input);
         }
 
         try {
-            // 首先验证JSON格式
-            Gson gson = new Gson();
-            Object jsonObject = gson.fromJson(input, Object.class);
+            // 解析一次JSON文档，所有表达式共享同一个文档上下文
+            Object jsonObject = GSON.fromJson(input, Object.class);
+            DocumentContext document = JsonPath.using(JSON_PATH_CONFIGURATION).parse(jsonObject);
 
             String[] expressionLines = expressions.split("\\r?\\n");
             List<String> results = new ArrayList<>();
+            TaskMonitor monitor = TaskMonitor.current();
+
+            for (int i = 0; i < expressionLines.length; i++) {
+                monitor.checkCancelled();
+                monitor.reportProgress(i, expressionLines.length);
 
-            for (String expression : expressionLines) {
-                expression = expression.trim();
+                String expression = expressionLines[i].trim();
                 if (expression.isEmpty()) {
                     continue;
                 }
 
                 try {
-                    Object result = JsonPath.parse(jsonObject).read(expression);
+                    JsonPath path = PATH_CACHE.computeIfAbsent(expression, JsonPath::compile);
+                    Object result = document.read(path);
 
                     if (result == null) {
                         continue; // 跳过null值
@@ -116,9 +165,8 @@ public class JsonFormatOperation implements Operation {
         } else if (obj instanceof Number || obj instanceof Boolean) {
             return obj.toString();
         } else {
-            // 对于复杂对象，使用Gson序列化
-            Gson gson = new Gson();
-            return gson.toJson(obj).trim();
+            // 对于复杂对象，使用共享的Gson序列化
+            return GSON.toJson(obj).trim();
         }
     }
 }
\ No newline at end of file
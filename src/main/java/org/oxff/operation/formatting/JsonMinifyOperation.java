@@ -0,0 +1,42 @@
+package org.oxff.operation.formatting;
+
+import org.oxff.core.OperationCategory;
+import org.oxff.operation.StreamingOperation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON压缩操作实现，移除所有缩进和换行
+ */
+public class JsonMinifyOperation implements StreamingOperation {
+    @Override
+    public String execute(String input) {
+        try {
+            return JsonStreamFormatter.format(input, JsonStreamFormatter.MINIFY);
+        } catch (IOException e) {
+            return "无效的JSON格式: " + e.getMessage();
+        }
+    }
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        Writer writer = Channels.newWriter(out, StandardCharsets.UTF_8);
+        JsonStreamFormatter.format(Channels.newReader(in, StandardCharsets.UTF_8), writer, JsonStreamFormatter.MINIFY);
+        writer.flush();
+    }
+
+    @Override
+    public OperationCategory getCategory() {
+        return OperationCategory.FORMATTING;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "JSON压缩";
+    }
+}
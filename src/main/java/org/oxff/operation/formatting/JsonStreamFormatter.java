@@ -0,0 +1,120 @@
+package org.oxff.operation.formatting;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import org.oxff.core.TaskMonitor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * 流式JSON格式化器，将 JsonReader 的词法单元直接写入 JsonWriter
+ * 不构建对象树，内存占用只与嵌套深度有关；数字按原始字面量输出，不会被转换为浮点数
+ */
+public final class JsonStreamFormatter {
+
+    /**
+     * 默认缩进（两个空格）
+     */
+    public static final String DEFAULT_INDENT = "  ";
+
+    /**
+     * 压缩输出使用的缩进
+     */
+    public static final String MINIFY = "";
+
+    private JsonStreamFormatter() {
+    }
+
+    /**
+     * 格式化JSON字符串
+     * @param input JSON文本
+     * @param indent 缩进字符串，空字符串表示压缩输出
+     * @return 格式化后的JSON
+     * @throws IOException JSON格式无效时抛出
+     */
+    public static String format(String input, String indent) throws IOException {
+        StringWriter out = new StringWriter(Math.max(16, input.length()));
+        format(new StringReader(input), out, indent);
+        return out.toString();
+    }
+
+    /**
+     * 以流方式格式化JSON
+     * @param in 输入
+     * @param out 输出，调用方负责刷新和关闭
+     * @param indent 缩进字符串，空字符串表示压缩输出
+     * @throws IOException 读写失败或JSON格式无效时抛出
+     */
+    public static void format(Reader in, Writer out, String indent) throws IOException {
+        JsonReader reader = new JsonReader(in);
+        reader.setLenient(true);
+        JsonWriter writer = new JsonWriter(out);
+        writer.setIndent(indent);
+        writer.setLenient(true);
+
+        TaskMonitor monitor = TaskMonitor.current();
+        int depth = 0;
+        long tokens = 0;
+        try {
+            do {
+                switch (reader.peek()) {
+                    case BEGIN_OBJECT:
+                        reader.beginObject();
+                        writer.beginObject();
+                        depth++;
+                        break;
+                    case END_OBJECT:
+                        reader.endObject();
+                        writer.endObject();
+                        depth--;
+                        break;
+                    case BEGIN_ARRAY:
+                        reader.beginArray();
+                        writer.beginArray();
+                        depth++;
+                        break;
+                    case END_ARRAY:
+                        reader.endArray();
+                        writer.endArray();
+                        depth--;
+                        break;
+                    case NAME:
+                        writer.name(reader.nextName());
+                        break;
+                    case STRING:
+                        writer.value(reader.nextString());
+                        break;
+                    case NUMBER:
+                        // 保留数字原始字面量
+                        writer.jsonValue(reader.nextString());
+                        break;
+                    case BOOLEAN:
+                        writer.value(reader.nextBoolean());
+                        break;
+                    case NULL:
+                        reader.nextNull();
+                        writer.nullValue();
+                        break;
+                    default:
+                        throw new MalformedJsonException("JSON文档不完整");
+                }
+                if ((++tokens & 0xFFF) == 0) {
+                    monitor.checkCancelled();
+                }
+            } while (depth > 0);
+
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new MalformedJsonException("JSON文档末尾存在多余内容 " + reader.getPath());
+            }
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new MalformedJsonException(e.getMessage(), e);
+        }
+        writer.flush();
+    }
+}
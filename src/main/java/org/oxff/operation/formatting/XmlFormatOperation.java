@@ -1,38 +1,64 @@
 package org.oxff.operation.formatting;
 
 import org.dom4j.Document;
-import org.oxff.operation.Operation;
 import org.dom4j.DocumentException;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Node;
-import org.dom4j.io.OutputFormat;
-import org.dom4j.io.XMLWriter;
+import org.dom4j.XPath;
+import org.oxff.core.LruCache;
 import org.oxff.core.OperationCategory;
+import org.oxff.core.TaskMonitor;
+import org.oxff.operation.StreamingOperation;
 
+import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * XML格式化操作实现
  */
-public class XmlFormatOperation implements Operation {
+public class XmlFormatOperation implements StreamingOperation, IndentableOperation, ExpressionOperation {
+    /**
+     * 编译后的XPath缓存，跨次执行共享
+     */
+    private static final LruCache<String, XPath> XPATH_CACHE = new LruCache<>(256);
+
     @Override
     public String execute(String input) {
+        return format(input, XmlStreamFormatter.DEFAULT_INDENT);
+    }
+
+    /**
+     * 使用指定缩进格式化XML，基于StAX流式处理，不构建文档树
+     * @param input XML输入
+     * @param indent 缩进字符串
+     * @return 格式化结果
+     */
+    @Override
+    public String format(String input, String indent) {
         try {
-            Document document = DocumentHelper.parseText(input);
-            StringWriter sw = new StringWriter();
-            OutputFormat format = OutputFormat.createPrettyPrint();
-            format.setEncoding("UTF-8");
-            XMLWriter xw = new XMLWriter(sw, format);
-            xw.write(document);
-            xw.close();
-            return sw.toString();
-        } catch (DocumentException | IOException e) {
+            return XmlStreamFormatter.format(input, indent);
+        } catch (XMLStreamException | IOException e) {
             return "无效的XML格式: " + e.getMessage();
         }
     }
+
+    @Override
+    public void execute(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        Writer writer = Channels.newWriter(out, StandardCharsets.UTF_8);
+        try {
+            XmlStreamFormatter.format(Channels.newInputStream(in), writer, XmlStreamFormatter.DEFAULT_INDENT);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("无效的XML格式: " + e.getMessage(), e);
+        }
+        writer.flush();
+    }
     
     @Override
     public OperationCategory getCategory() {
@@ -50,6 +76,7 @@ public class XmlFormatOperation implements Operation {
      * @param expressions XPath表达式（每行一个）
      * @return 提取的结果，每行一个值
      */
+    @Override
     public String execute(String input, String expressions) {
         if (expressions == null || expressions.trim().isEmpty()) {
             return execute(input);
@@ -61,34 +88,31 @@ public class XmlFormatOperation implements Operation {
 
             String[] expressionLines = expressions.split("\\r?\\n");
             List<String> results = new ArrayList<>();
+            TaskMonitor monitor = TaskMonitor.current();
 
-            for (String expression : expressionLines) {
-                expression = expression.trim();
+            for (int i = 0; i < expressionLines.length; i++) {
+                monitor.checkCancelled();
+                monitor.reportProgress(i, expressionLines.length);
+
+                String expression = expressionLines[i].trim();
                 if (expression.isEmpty()) {
                     continue;
                 }
 
                 try {
-                    // 使用dom4j的XPath功能
-                    List<?> nodes = document.selectNodes(expression);
-                    for (Object node : nodes) {
-                        if (node instanceof Node) {
-                            String nodeValue = getDom4jNodeValue((Node) node);
-                            if (nodeValue != null && !nodeValue.isEmpty()) {
-                                results.add(nodeValue);
-                            }
-                        }
+                    // 每个表达式只求值一次，结果可能是节点、节点列表、字符串、数字或布尔值
+                    XPath xpath = XPATH_CACHE.computeIfAbsent(expression, DocumentHelper::createXPath);
+                    Object result;
+                    // dom4j 求值时会根据上下文设置命名空间，共享的XPath对象需要串行求值
+                    synchronized (xpath) {
+                        result = xpath.evaluate(document);
                     }
-
-                    // 如果没有找到节点，检查单个节点值
-                    if (nodes.isEmpty()) {
-                        Node node = document.selectSingleNode(expression);
-                        if (node != null) {
-                            String nodeValue = getDom4jNodeValue(node);
-                            if (nodeValue != null && !nodeValue.isEmpty()) {
-                                results.add(nodeValue);
-                            }
+                    if (result instanceof List) {
+                        for (Object item : (List<?>) result) {
+                            addValue(results, item);
                         }
+                    } else {
+                        addValue(results, result);
                     }
                 } catch (Exception e) {
                     results.add("XPath表达式错误 [" + expression + "]: " + e.getMessage());
@@ -106,6 +130,27 @@ public class XmlFormatOperation implements Operation {
         }
     }
 
+    /**
+     * 将XPath求值结果转换为文本并加入结果列表
+     */
+    private void addValue(List<String> results, Object value) {
+        String text;
+        if (value instanceof Node) {
+            text = getDom4jNodeValue((Node) value);
+        } else if (value instanceof Double) {
+            double number = (Double) value;
+            text = number == Math.rint(number) && !Double.isInfinite(number)
+                ? String.valueOf((long) number) : String.valueOf(number);
+        } else if (value != null) {
+            text = value.toString().trim();
+        } else {
+            text = null;
+        }
+        if (text != null && !text.isEmpty()) {
+            results.add(text);
+        }
+    }
+
     /**
      * 获取dom4j节点的文本值
      */
@@ -125,4 +170,4 @@ public class XmlFormatOperation implements Operation {
                 return node.asXML().trim();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,317 @@
+package org.oxff.operation.formatting;
+
+import org.oxff.core.TaskMonitor;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.BitSet;
+
+/**
+ * 基于StAX的流式XML格式化器
+ * 逐个事件读取并直接输出带缩进的XML，不构建dom4j文档树，内存占用只与嵌套深度和单个文本节点大小有关
+ */
+public final class XmlStreamFormatter {
+
+    /**
+     * 默认缩进（两个空格）
+     */
+    public static final String DEFAULT_INDENT = "  ";
+
+    private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private XmlStreamFormatter() {
+    }
+
+    /**
+     * 格式化XML字符串
+     * @param input XML文本
+     * @param indent 缩进字符串
+     * @return 格式化后的XML
+     * @throws XMLStreamException XML格式无效时抛出
+     */
+    public static String format(String input, String indent) throws XMLStreamException, IOException {
+        StringWriter out = new StringWriter(Math.max(16, input.length()));
+        format(new StringReader(input), out, indent);
+        return out.toString();
+    }
+
+    /**
+     * 以流方式格式化XML字符流
+     * @param in 输入
+     * @param out 输出，调用方负责刷新和关闭
+     * @param indent 缩进字符串
+     */
+    public static void format(Reader in, Writer out, String indent) throws XMLStreamException, IOException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            new Printer(reader, out, indent).print();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 以流方式格式化XML字节流，由解析器根据XML声明识别输入编码，输出始终为UTF-8
+     * @param in 输入
+     * @param out 输出，调用方负责刷新和关闭
+     * @param indent 缩进字符串
+     */
+    public static void format(InputStream in, Writer out, String indent) throws XMLStreamException, IOException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            new Printer(reader, out, indent).print();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 不合并文本事件，以便区分CDATA节；相邻的文本片段由 Printer 自行合并
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        // JDK自带的解析器默认把CDATA节报告为普通文本，需要单独开启
+        if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+            factory.setProperty(REPORT_CDATA_EVENT, true);
+        }
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+
+    /**
+     * 单次格式化的输出状态
+     */
+    private static final class Printer {
+        private final XMLStreamReader reader;
+        private final Writer out;
+        private final String indent;
+        /**
+         * 记录每一层元素是否包含子节点，用于决定结束标签是否换行
+         */
+        private final BitSet hasChildren = new BitSet();
+        private int depth;
+        private boolean startTagOpen;
+        /**
+         * 尚未输出的相邻文本片段，解析器可能把一段文本拆成多个事件
+         */
+        private final StringBuilder pendingText = new StringBuilder();
+        private boolean pendingCdata;
+        private boolean textPending;
+
+        Printer(XMLStreamReader reader, Writer out, String indent) {
+            this.reader = reader;
+            this.out = out;
+            this.indent = indent;
+        }
+
+        void print() throws XMLStreamException, IOException {
+            TaskMonitor monitor = TaskMonitor.current();
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            long events = 0;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                boolean cdata = event == XMLStreamConstants.CDATA;
+                if (cdata || event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.SPACE) {
+                    if (pendingCdata != cdata) {
+                        flushText();
+                        pendingCdata = cdata;
+                    }
+                    pendingText.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    textPending = true;
+                    continue;
+                }
+                flushText();
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        startElement();
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        endElement();
+                        break;
+                    case XMLStreamConstants.COMMENT:
+                        childNode("<!--" + reader.getText() + "-->");
+                        break;
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                        String data = reader.getPIData();
+                        childNode("<?" + reader.getPITarget() + (data != null && !data.isEmpty() ? " " + data : "") + "?>");
+                        break;
+                    case XMLStreamConstants.DTD:
+                        childNode(reader.getText());
+                        break;
+                    case XMLStreamConstants.ENTITY_REFERENCE:
+                        closeStartTag();
+                        out.write("&" + reader.getLocalName() + ";");
+                        break;
+                    default:
+                        break;
+                }
+                if ((++events & 0xFFF) == 0) {
+                    monitor.checkCancelled();
+                }
+            }
+            flushText();
+            out.write('\n');
+            out.flush();
+        }
+
+        private void startElement() throws IOException {
+            closeStartTag();
+            markParentHasChildren();
+            newLine(depth);
+            out.write('<');
+            writeName(reader.getPrefix(), reader.getLocalName());
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                out.write(prefix == null || prefix.isEmpty() ? " xmlns" : " xmlns:" + prefix);
+                out.write("=\"");
+                escape(reader.getNamespaceURI(i), true);
+                out.write('"');
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                out.write(' ');
+                writeName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+                out.write("=\"");
+                escape(reader.getAttributeValue(i), true);
+                out.write('"');
+            }
+            startTagOpen = true;
+            depth++;
+            hasChildren.clear(depth);
+        }
+
+        private void endElement() throws IOException {
+            boolean children = hasChildren.get(depth);
+            depth--;
+            if (startTagOpen) {
+                out.write("/>");
+                startTagOpen = false;
+                return;
+            }
+            if (children) {
+                newLine(depth);
+            }
+            out.write("</");
+            writeName(reader.getPrefix(), reader.getLocalName());
+            out.write('>');
+        }
+
+        /**
+         * 输出合并后的文本：普通文本转义后输出，CDATA节原样输出
+         */
+        private void flushText() throws IOException {
+            if (!textPending) {
+                return;
+            }
+            String text = pendingText.toString();
+            pendingText.setLength(0);
+            textPending = false;
+            if (pendingCdata) {
+                closeStartTag();
+                out.write("<![CDATA[");
+                out.write(text);
+                out.write("]]>");
+                return;
+            }
+            // 只有空白的文本是元素之间的缩进，直接丢弃；其余文本两端的空白压缩为一个空格，
+            // 以免混合内容中相邻的单词连在一起
+            int start = 0;
+            int end = text.length();
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            if (start == end) {
+                return;
+            }
+            while (text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            closeStartTag();
+            if (start > 0) {
+                out.write(' ');
+            }
+            escape(text.substring(start, end), false);
+            if (end < text.length()) {
+                out.write(' ');
+            }
+        }
+
+        private void childNode(String content) throws IOException {
+            closeStartTag();
+            markParentHasChildren();
+            newLine(depth);
+            out.write(content);
+        }
+
+        private void markParentHasChildren() {
+            if (depth > 0) {
+                hasChildren.set(depth);
+            }
+        }
+
+        private void closeStartTag() throws IOException {
+            if (startTagOpen) {
+                out.write('>');
+                startTagOpen = false;
+            }
+        }
+
+        private void newLine(int level) throws IOException {
+            out.write('\n');
+            for (int i = 0; i < level; i++) {
+                out.write(indent);
+            }
+        }
+
+        private void writeName(String prefix, String localName) throws IOException {
+            if (prefix != null && !prefix.isEmpty()) {
+                out.write(prefix);
+                out.write(':');
+            }
+            out.write(localName);
+        }
+
+        private void escape(String value, boolean attribute) throws IOException {
+            int start = 0;
+            for (int i = 0; i < value.length(); i++) {
+                String replacement;
+                switch (value.charAt(i)) {
+                    case '&':
+                        replacement = "&amp;";
+                        break;
+                    case '<':
+                        replacement = "&lt;";
+                        break;
+                    case '>':
+                        replacement = "&gt;";
+                        break;
+                    case '"':
+                        replacement = attribute ? "&quot;" : null;
+                        break;
+                    case '\n':
+                        replacement = attribute ? "&#10;" : null;
+                        break;
+                    default:
+                        replacement = null;
+                        break;
+                }
+                if (replacement != null) {
+                    out.write(value, start, i - start);
+                    out.write(replacement);
+                    start = i + 1;
+                }
+            }
+            out.write(value, start, value.length() - start);
+        }
+    }
+}
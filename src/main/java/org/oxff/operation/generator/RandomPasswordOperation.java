@@ -1,7 +1,11 @@
 package org.oxff.operation.generator;
 
 import org.oxff.core.OperationCategory;
-import org.oxff.operation.Operation;
+import org.oxff.operation.InputType;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 
 import java.security.SecureRandom;
 import java.util.ArrayList;
@@ -12,7 +16,7 @@ import java.util.List;
  * 随机密码生成操作实现
  * 根据指定规则生成随机密码
  */
-public class RandomPasswordOperation implements Operation {
+public class RandomPasswordOperation implements ConfigurableOperation {
 
     private static final String LOWERCASE = "abcdefghijklmnopqrstuvwxyz";
     private static final String UPPERCASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
@@ -21,95 +25,37 @@ public class RandomPasswordOperation implements Operation {
 
     private static final SecureRandom RANDOM = new SecureRandom();
 
-    // 配置参数（由UI设置）
-    private int passwordLength = 16;
-    private boolean includeDigits = true;
-    private int digitCount = 4;
-    private boolean includeUppercase = true;
-    private int uppercaseCount = 4;
-    private boolean includeLowercase = true;
-    private int lowercaseCount = 4;
-    private boolean includeSpecialChars = false;
-    private int specialCharCount = 2;
-    private int passwordCount = 1;
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("随机密码生成配置")
+        .add(ConfigField.intField("passwordLength", "密码总长度", 16, 4, 128))
+        .add(ConfigField.booleanField("includeDigits", "数字", true))
+        .add(ConfigField.intField("digitCount", "数字个数", 4, 0, 128).enabledWhen("includeDigits", true))
+        .add(ConfigField.booleanField("includeUppercase", "大写字母", true))
+        .add(ConfigField.intField("uppercaseCount", "大写字母个数", 4, 0, 128).enabledWhen("includeUppercase", true))
+        .add(ConfigField.booleanField("includeLowercase", "小写字母", true))
+        .add(ConfigField.intField("lowercaseCount", "小写字母个数", 4, 0, 128).enabledWhen("includeLowercase", true))
+        .add(ConfigField.booleanField("includeSpecialChars", "特殊字符", false))
+        .add(ConfigField.intField("specialCharCount", "特殊字符个数", 2, 0, 128).enabledWhen("includeSpecialChars", true))
+        .add(ConfigField.intField("passwordCount", "生成个数", 1, 1, 100))
+        .build();
 
-    /**
-     * 设置密码长度
-     */
-    public void setPasswordLength(int passwordLength) {
-        this.passwordLength = passwordLength;
-    }
-
-    /**
-     * 设置是否包含数字
-     */
-    public void setIncludeDigits(boolean includeDigits) {
-        this.includeDigits = includeDigits;
-    }
-
-    /**
-     * 设置数字个数
-     */
-    public void setDigitCount(int digitCount) {
-        this.digitCount = digitCount;
-    }
-
-    /**
-     * 设置是否包含大写字母
-     */
-    public void setIncludeUppercase(boolean includeUppercase) {
-        this.includeUppercase = includeUppercase;
-    }
-
-    /**
-     * 设置大写字母个数
-     */
-    public void setUppercaseCount(int uppercaseCount) {
-        this.uppercaseCount = uppercaseCount;
-    }
-
-    /**
-     * 设置是否包含小写字母
-     */
-    public void setIncludeLowercase(boolean includeLowercase) {
-        this.includeLowercase = includeLowercase;
-    }
-
-    /**
-     * 设置小写字母个数
-     */
-    public void setLowercaseCount(int lowercaseCount) {
-        this.lowercaseCount = lowercaseCount;
-    }
-
-    /**
-     * 设置是否包含特殊字符
-     */
-    public void setIncludeSpecialChars(boolean includeSpecialChars) {
-        this.includeSpecialChars = includeSpecialChars;
-    }
-
-    /**
-     * 设置特殊字符数量
-     */
-    public void setSpecialCharCount(int specialCharCount) {
-        this.specialCharCount = specialCharCount;
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
     }
 
-    /**
-     * 设置生成个数
-     */
-    public void setPasswordCount(int passwordCount) {
-        this.passwordCount = passwordCount;
+    @Override
+    public InputType getInputType() {
+        return InputType.NONE;
     }
 
     @Override
-    public String execute(String input) {
+    public String execute(String input, OperationConfig config) {
         try {
             List<String> passwords = new ArrayList<>();
 
+            int passwordCount = config.getInt("passwordCount");
             for (int i = 0; i < passwordCount; i++) {
-                passwords.add(generatePassword());
+                passwords.add(generatePassword(config));
             }
 
             // 如果只生成一个密码，直接返回
@@ -128,39 +74,29 @@ public class RandomPasswordOperation implements Operation {
     /**
      * 生成单个密码
      */
-    private String generatePassword() {
+    private String generatePassword(OperationConfig config) {
         List<Character> passwordChars = new ArrayList<>();
 
         // 根据配置添加各类字符
-        if (includeDigits && digitCount > 0) {
-            for (int i = 0; i < digitCount; i++) {
-                passwordChars.add(DIGITS.charAt(RANDOM.nextInt(DIGITS.length())));
-            }
+        if (config.getBoolean("includeDigits")) {
+            appendRandomChars(passwordChars, DIGITS, config.getInt("digitCount"));
         }
 
-        if (includeUppercase && uppercaseCount > 0) {
-            for (int i = 0; i < uppercaseCount; i++) {
-                passwordChars.add(UPPERCASE.charAt(RANDOM.nextInt(UPPERCASE.length())));
-            }
+        if (config.getBoolean("includeUppercase")) {
+            appendRandomChars(passwordChars, UPPERCASE, config.getInt("uppercaseCount"));
         }
 
-        if (includeLowercase && lowercaseCount > 0) {
-            for (int i = 0; i < lowercaseCount; i++) {
-                passwordChars.add(LOWERCASE.charAt(RANDOM.nextInt(LOWERCASE.length())));
-            }
+        if (config.getBoolean("includeLowercase")) {
+            appendRandomChars(passwordChars, LOWERCASE, config.getInt("lowercaseCount"));
         }
 
-        if (includeSpecialChars && specialCharCount > 0) {
-            for (int i = 0; i < specialCharCount; i++) {
-                passwordChars.add(SPECIAL_CHARS.charAt(RANDOM.nextInt(SPECIAL_CHARS.length())));
-            }
+        if (config.getBoolean("includeSpecialChars")) {
+            appendRandomChars(passwordChars, SPECIAL_CHARS, config.getInt("specialCharCount"));
         }
 
         // 如果没有选择任何类型，默认使用小写字母
         if (passwordChars.isEmpty()) {
-            for (int i = 0; i < passwordLength; i++) {
-                passwordChars.add(LOWERCASE.charAt(RANDOM.nextInt(LOWERCASE.length())));
-            }
+            appendRandomChars(passwordChars, LOWERCASE, config.getInt("passwordLength"));
         }
 
         // 打乱字符顺序
@@ -175,6 +111,20 @@ public class RandomPasswordOperation implements Operation {
         return result.toString();
     }
 
+    private static void appendRandomChars(List<Character> chars, String alphabet, int count) {
+        for (int i = 0; i < count; i++) {
+            chars.add(alphabet.charAt(RANDOM.nextInt(alphabet.length())));
+        }
+    }
+
+    /**
+     * 每次执行生成新的随机密码，不能缓存结果
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.GENERATOR;
@@ -0,0 +1,315 @@
+package org.oxff.operation.hashing;
+
+import org.oxff.operation.ByteOperations;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * 多算法摘要引擎，一次遍历输入同时计算所有选中的摘要、校验和与HMAC
+ * 每个数据块依次送入所有算法；数据块较大且选中多个算法时，各算法在不同的核心上并行处理同一块数据
+ */
+public class DigestEngine {
+
+    /**
+     * 支持的摘要和校验和算法，按显示顺序排列
+     */
+    public static final List<String> ALGORITHMS = Collections.unmodifiableList(Arrays.asList(
+        "MD5", "SHA-1", "SHA-224", "SHA-256", "SHA-384", "SHA-512", "SHA-512/256",
+        "SHA3-256", "SHA3-512", "CRC32", "CRC32C"));
+
+    /**
+     * 当前JDK支持的HMAC算法，需要密钥；HmacSHA3-* 从 JDK 16 起才提供
+     */
+    public static final List<String> HMAC_ALGORITHMS = availableMacs(
+        "HmacMD5", "HmacSHA1", "HmacSHA256", "HmacSHA384", "HmacSHA512", "HmacSHA3-256");
+
+    /**
+     * 数据块不小于该大小时并行计算各算法
+     */
+    static final int PARALLEL_THRESHOLD = 256 * 1024;
+
+    private final List<String> algorithms;
+    private final Accumulator[] accumulators;
+
+    /**
+     * @param algorithms 算法名称，不区分大小写，见 {@link #ALGORITHMS} 和 {@link #HMAC_ALGORITHMS}
+     * @param hmacKey HMAC密钥，不含HMAC算法时可以为 null
+     * @throws IllegalArgumentException 算法不支持、没有选择算法或HMAC缺少密钥时抛出
+     */
+    public DigestEngine(List<String> algorithms, byte[] hmacKey) {
+        if (algorithms.isEmpty()) {
+            throw new IllegalArgumentException("请至少选择一种摘要算法");
+        }
+        List<String> names = new ArrayList<>();
+        accumulators = new Accumulator[algorithms.size()];
+        for (int i = 0; i < accumulators.length; i++) {
+            String name = canonicalName(algorithms.get(i));
+            names.add(name);
+            accumulators[i] = createAccumulator(name, hmacKey);
+        }
+        this.algorithms = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * 解析逗号或空白分隔的算法列表
+     * @param text 如 "MD5, SHA-256 CRC32"
+     * @return 规范的算法名称，去掉重复项
+     * @throws IllegalArgumentException 包含不支持的算法时抛出
+     */
+    public static List<String> parseAlgorithms(String text) {
+        List<String> result = new ArrayList<>();
+        for (String part : text.split("[,，;\\s]+")) {
+            if (!part.isEmpty()) {
+                String name = canonicalName(part);
+                if (!result.contains(name)) {
+                    result.add(name);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 是否为需要密钥的HMAC算法
+     */
+    public static boolean isHmac(String algorithm) {
+        return algorithm.regionMatches(true, 0, "Hmac", 0, 4);
+    }
+
+    private static List<String> availableMacs(String... candidates) {
+        List<String> available = new ArrayList<>();
+        for (String candidate : candidates) {
+            try {
+                Mac.getInstance(candidate);
+                available.add(candidate);
+            } catch (NoSuchAlgorithmException e) {
+                // 当前JDK不提供该算法
+            }
+        }
+        return Collections.unmodifiableList(available);
+    }
+
+    private static String canonicalName(String algorithm) {
+        String trimmed = algorithm.trim();
+        for (String name : ALGORITHMS) {
+            if (name.equalsIgnoreCase(trimmed) || name.replace("-", "").equalsIgnoreCase(trimmed)) {
+                return name;
+            }
+        }
+        for (String name : HMAC_ALGORITHMS) {
+            if (name.equalsIgnoreCase(trimmed) || name.replace("-", "").equalsIgnoreCase(trimmed.replace("-", ""))) {
+                return name;
+            }
+        }
+        throw new IllegalArgumentException("不支持的摘要算法: " + trimmed);
+    }
+
+    private static Accumulator createAccumulator(String algorithm, byte[] hmacKey) {
+        if ("CRC32".equals(algorithm)) {
+            return new ChecksumAccumulator(new CRC32());
+        }
+        if ("CRC32C".equals(algorithm)) {
+            return new ChecksumAccumulator(new CRC32C());
+        }
+        try {
+            if (isHmac(algorithm)) {
+                if (hmacKey == null || hmacKey.length == 0) {
+                    throw new IllegalArgumentException(algorithm + " 需要密钥");
+                }
+                Mac mac = Mac.getInstance(algorithm);
+                mac.init(new SecretKeySpec(hmacKey, algorithm));
+                return new MacAccumulator(mac);
+            }
+            return new MessageDigestAccumulator(MessageDigest.getInstance(algorithm));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("当前JDK不支持摘要算法: " + algorithm, e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("无法初始化 " + algorithm + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 获取规范的算法名称，顺序与构造时一致
+     */
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    /**
+     * 将一块数据送入所有算法
+     */
+    public void update(byte[] data, int offset, int length) {
+        if (accumulators.length == 1 || length < PARALLEL_THRESHOLD
+                || Runtime.getRuntime().availableProcessors() < 2) {
+            for (Accumulator accumulator : accumulators) {
+                accumulator.update(data, offset, length);
+            }
+            return;
+        }
+        // 每个算法由一个线程处理整块数据，同一算法的各块仍按顺序处理
+        List<Future<?>> futures = new ArrayList<>(accumulators.length - 1);
+        for (int i = 1; i < accumulators.length; i++) {
+            Accumulator accumulator = accumulators[i];
+            futures.add(ForkJoinPool.commonPool().submit(() -> accumulator.update(data, offset, length)));
+        }
+        accumulators[0].update(data, offset, length);
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("摘要计算被中断", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("摘要计算失败", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 完成计算
+     * @return 各算法的摘要，按构造时的顺序排列；CRC 校验和为4字节大端序
+     */
+    public Map<String, byte[]> finish() {
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        for (int i = 0; i < accumulators.length; i++) {
+            result.put(algorithms.get(i), accumulators[i].finish());
+        }
+        return result;
+    }
+
+    /**
+     * 一次计算整段数据的所有摘要
+     */
+    public static Map<String, byte[]> digest(byte[] data, List<String> algorithms, byte[] hmacKey) {
+        DigestEngine engine = new DigestEngine(algorithms, hmacKey);
+        engine.update(data, 0, data.length);
+        return engine.finish();
+    }
+
+    /**
+     * 摘要输出格式
+     */
+    public enum Format {
+        /** 十六进制和Base64两列 */
+        TABLE,
+        HEX,
+        BASE64
+    }
+
+    /**
+     * 格式化为对齐的文本表格，每个算法一行
+     */
+    public static String format(Map<String, byte[]> digests, Format format) {
+        int nameWidth = 0;
+        int hexWidth = 0;
+        for (Map.Entry<String, byte[]> entry : digests.entrySet()) {
+            nameWidth = Math.max(nameWidth, entry.getKey().length());
+            hexWidth = Math.max(hexWidth, entry.getValue().length * 2);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, byte[]> entry : digests.entrySet()) {
+            sb.append(entry.getKey());
+            pad(sb, nameWidth - entry.getKey().length() + 2);
+            byte[] value = entry.getValue();
+            if (format != Format.BASE64) {
+                sb.append(new String(ByteOperations.toHexBytes(value, false), StandardCharsets.ISO_8859_1));
+            }
+            if (format == Format.TABLE) {
+                pad(sb, hexWidth - value.length * 2 + 2);
+            }
+            if (format != Format.HEX) {
+                sb.append(Base64.getEncoder().encodeToString(value));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void pad(StringBuilder sb, int count) {
+        for (int i = 0; i < count; i++) {
+            sb.append(' ');
+        }
+    }
+
+    /**
+     * 单个算法的累加器
+     */
+    private interface Accumulator {
+        void update(byte[] data, int offset, int length);
+
+        byte[] finish();
+    }
+
+    private static final class MessageDigestAccumulator implements Accumulator {
+        private final MessageDigest digest;
+
+        MessageDigestAccumulator(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            digest.update(data, offset, length);
+        }
+
+        @Override
+        public byte[] finish() {
+            return digest.digest();
+        }
+    }
+
+    private static final class MacAccumulator implements Accumulator {
+        private final Mac mac;
+
+        MacAccumulator(Mac mac) {
+            this.mac = mac;
+        }
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            mac.update(data, offset, length);
+        }
+
+        @Override
+        public byte[] finish() {
+            return mac.doFinal();
+        }
+    }
+
+    private static final class ChecksumAccumulator implements Accumulator {
+        private final Checksum checksum;
+
+        ChecksumAccumulator(Checksum checksum) {
+            this.checksum = checksum;
+        }
+
+        @Override
+        public void update(byte[] data, int offset, int length) {
+            checksum.update(data, offset, length);
+        }
+
+        @Override
+        public byte[] finish() {
+            long value = checksum.getValue();
+            return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.oxff.operation.hashing;
+
+import org.oxff.operation.ByteOperation;
+
+/**
+ * 基于 MessageDigest 的哈希操作接口
+ */
+public interface DigestOperation extends ByteOperation {
+
+    /**
+     * 获取 MessageDigest 算法名称
+     * @return 算法名称，如 "SHA-256"
+     */
+    String getAlgorithm();
+}
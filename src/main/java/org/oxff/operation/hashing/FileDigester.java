@@ -0,0 +1,135 @@
+package org.oxff.operation.hashing;
+
+import org.oxff.core.TaskMonitor;
+import org.oxff.operation.ByteOperations;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 文件摘要计算器，只读取一次文件即可同时计算多个摘要
+ * 每个数据块读入后交给 {@link DigestEngine} 送入所有选中的算法，内存占用与文件大小无关
+ */
+public class FileDigester {
+
+    /**
+     * 支持的摘要算法，按显示顺序排列
+     */
+    public static final List<String> SUPPORTED_ALGORITHMS = DigestEngine.ALGORITHMS;
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * 计算文件摘要，在工作线程中调用，进度和取消通过 TaskMonitor 传递
+     * @param file 文件路径
+     * @param algorithms 摘要算法列表
+     * @return 摘要结果
+     * @throws IOException 读取失败时抛出
+     */
+    public DigestResult digest(Path file, List<String> algorithms) throws IOException {
+        return digest(file, algorithms, null);
+    }
+
+    /**
+     * 计算文件摘要，可包含HMAC算法
+     * @param file 文件路径
+     * @param algorithms 算法列表，见 {@link DigestEngine}
+     * @param hmacKey HMAC密钥，不含HMAC算法时可以为 null
+     * @return 摘要结果
+     * @throws IOException 读取失败时抛出
+     */
+    public DigestResult digest(Path file, List<String> algorithms, byte[] hmacKey) throws IOException {
+        DigestEngine engine = new DigestEngine(algorithms, hmacKey);
+
+        TaskMonitor monitor = TaskMonitor.current();
+        long startNanos = System.nanoTime();
+        long bytesRead = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            // 使用堆缓冲区：MessageDigest 处理 byte[] 时不需要额外复制，
+            // 而直接缓冲区或内存映射缓冲区会被每个摘要各自复制一次；多个算法在不同核心上并行处理同一块
+            byte[] chunk = new byte[BUFFER_SIZE];
+            ByteBuffer buffer = ByteBuffer.wrap(chunk);
+            int n;
+            while ((n = ByteOperations.readFully(channel, buffer)) > 0) {
+                monitor.checkCancelled();
+                engine.update(chunk, 0, n);
+                bytesRead += n;
+                monitor.reportProgress(bytesRead, size);
+                buffer.clear();
+            }
+        }
+
+        return new DigestResult(file, bytesRead, System.nanoTime() - startNanos, engine.finish());
+    }
+
+    /**
+     * 文件摘要结果
+     */
+    public static class DigestResult {
+        private final Path file;
+        private final long bytesRead;
+        private final long elapsedNanos;
+        private final Map<String, byte[]> digests;
+
+        public DigestResult(Path file, long bytesRead, long elapsedNanos, Map<String, byte[]> digests) {
+            this.file = file;
+            this.bytesRead = bytesRead;
+            this.elapsedNanos = elapsedNanos;
+            this.digests = Collections.unmodifiableMap(digests);
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public long getElapsedMs() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        /**
+         * 获取各算法的摘要，按选择顺序排列
+         */
+        public Map<String, byte[]> getDigests() {
+            return digests;
+        }
+
+        /**
+         * 按读取字节数计算吞吐量
+         * @return MB/s
+         */
+        public double getThroughputMBps() {
+            if (elapsedNanos <= 0) {
+                return 0;
+            }
+            return (bytesRead / (1024.0 * 1024.0)) / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * 格式化为对齐的文本表格，摘要以十六进制显示
+         */
+        public String format() {
+            return format(DigestEngine.Format.HEX);
+        }
+
+        /**
+         * 格式化为对齐的文本表格
+         * @param format 摘要的显示形式
+         */
+        public String format(DigestEngine.Format format) {
+            return "文件: " + file.toAbsolutePath() + '\n'
+                + "大小: " + bytesRead + " 字节\n\n"
+                + DigestEngine.format(digests, format);
+        }
+    }
+}
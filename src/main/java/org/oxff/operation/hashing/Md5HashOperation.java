@@ -1,16 +1,29 @@
 package org.oxff.operation.hashing;
 
 import org.apache.commons.codec.digest.DigestUtils;
-import org.oxff.operation.Operation;
+import org.oxff.operation.ByteOperations;
 import org.oxff.core.OperationCategory;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 /**
  * MD5哈希操作实现
  */
-public class Md5HashOperation implements Operation {
+public class Md5HashOperation implements DigestOperation {
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return ByteOperations.toHexBytes(DigestUtils.md5(input), false);
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "MD5";
+    }
+
     @Override
-    public String execute(String input) {
-        return DigestUtils.md5Hex(input);
+    public Charset getOutputCharset() {
+        return StandardCharsets.ISO_8859_1;
     }
     
     @Override
@@ -0,0 +1,129 @@
+package org.oxff.operation.hashing;
+
+import org.oxff.core.OperationCategory;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.Operation;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 多重摘要操作实现
+ * 一次遍历输入计算所有选中的摘要、CRC 校验和与HMAC，输出每个算法一行的表格
+ */
+public class MultiDigestOperation implements ConfigurableOperation, ByteOperation {
+    private static final String DEFAULT_ALGORITHMS = "MD5, SHA-1, SHA-256, SHA-512";
+    private static final String TABLE = "table";
+    private static final String HEX = "hex";
+    private static final String BASE64 = "base64";
+
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("多重摘要选项")
+        .add(ConfigField.editableChoiceField("algorithms", "算法(逗号分隔)", DEFAULT_ALGORITHMS,
+            DEFAULT_ALGORITHMS,
+            "SHA-256, SHA-384, SHA-512, SHA3-256, SHA3-512",
+            "CRC32, CRC32C",
+            String.join(", ", DigestEngine.ALGORITHMS),
+            "HmacSHA256, HmacSHA512"))
+        .add(ConfigField.textField("hmacKey", "HMAC密钥(UTF-8)", ""))
+        .add(ConfigField.choiceField("output", "输出", TABLE,
+            new String[]{TABLE, HEX, BASE64}, new String[]{"Hex和Base64", "Hex", "Base64"}))
+        .build();
+
+    private final List<String> algorithms;
+    private final byte[] hmacKey;
+    private final DigestEngine.Format format;
+
+    public MultiDigestOperation() {
+        this(DigestEngine.parseAlgorithms(DEFAULT_ALGORITHMS), null, DigestEngine.Format.TABLE);
+    }
+
+    private MultiDigestOperation(List<String> algorithms, byte[] hmacKey, DigestEngine.Format format) {
+        this.algorithms = algorithms;
+        this.hmacKey = hmacKey;
+        this.format = format;
+    }
+
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    /**
+     * 绑定配置，同时校验算法列表和HMAC密钥
+     * @throws IllegalArgumentException 算法不支持或HMAC缺少密钥时抛出
+     */
+    @Override
+    public Operation configure(OperationConfig config) {
+        List<String> selected = DigestEngine.parseAlgorithms(config.getString("algorithms"));
+        String key = config.getString("hmacKey");
+        byte[] keyBytes = key.isEmpty() ? null : key.getBytes(StandardCharsets.UTF_8);
+        String output = config.getString("output");
+        DigestEngine.Format selectedFormat = HEX.equals(output) ? DigestEngine.Format.HEX
+            : BASE64.equals(output) ? DigestEngine.Format.BASE64
+            : DigestEngine.Format.TABLE;
+        // 提前创建一次引擎，使配置错误在绑定时就报告
+        new DigestEngine(selected, keyBytes);
+        return new MultiDigestOperation(selected, keyBytes, selectedFormat);
+    }
+
+    @Override
+    public String execute(String input, OperationConfig config) {
+        try {
+            return configure(config).execute(input);
+        } catch (IllegalArgumentException e) {
+            return "摘要计算错误: " + e.getMessage();
+        }
+    }
+
+    @Override
+    public String execute(String input) {
+        try {
+            return ByteOperation.super.execute(input);
+        } catch (IllegalArgumentException e) {
+            return "摘要计算错误: " + e.getMessage();
+        }
+    }
+
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        String table = DigestEngine.format(DigestEngine.digest(input, algorithms, hmacKey), format);
+        return table.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 获取绑定的算法列表
+     */
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    /**
+     * 获取绑定的HMAC密钥
+     * @return 密钥，未设置时返回 null
+     */
+    public byte[] getHmacKey() {
+        return hmacKey == null ? null : Arrays.copyOf(hmacKey, hmacKey.length);
+    }
+
+    /**
+     * 获取绑定的输出格式
+     */
+    public DigestEngine.Format getFormat() {
+        return format;
+    }
+
+    @Override
+    public OperationCategory getCategory() {
+        return OperationCategory.HASHING;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "多重摘要";
+    }
+}
@@ -1,16 +1,29 @@
 package org.oxff.operation.hashing;
 
 import org.apache.commons.codec.digest.DigestUtils;
-import org.oxff.operation.Operation;
+import org.oxff.operation.ByteOperations;
 import org.oxff.core.OperationCategory;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 /**
  * SHA1哈希操作实现
  */
-public class Sha1HashOperation implements Operation {
+public class Sha1HashOperation implements DigestOperation {
+    @Override
+    public byte[] executeBytes(byte[] input) {
+        return ByteOperations.toHexBytes(DigestUtils.sha1(input), false);
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "SHA-1";
+    }
+
     @Override
-    public String execute(String input) {
-        return DigestUtils.sha1Hex(input);
+    public Charset getOutputCharset() {
+        return StandardCharsets.ISO_8859_1;
     }
     
     @Override
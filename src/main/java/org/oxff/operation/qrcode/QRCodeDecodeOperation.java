@@ -1,6 +1,7 @@
 package org.oxff.operation.qrcode;
 
 import com.google.zxing.BinaryBitmap;
+import org.oxff.operation.InputType;
 import org.oxff.operation.Operation;
 import com.google.zxing.DecodeHintType;
 import com.google.zxing.LuminanceSource;
@@ -27,6 +28,11 @@ import java.util.Map;
  */
 public class QRCodeDecodeOperation implements Operation {
 
+    @Override
+    public InputType getInputType() {
+        return InputType.IMAGE;
+    }
+
     @Override
     public String execute(String input) {
         if (input == null || input.trim().isEmpty()) {
@@ -27,26 +27,31 @@ public class QRCodeGenerateOperation implements Operation {
 
     @Override
     public String execute(String input) {
+        try {
+            // 返回data URL格式的图片数据
+            return "data:image/png;base64," + Base64.getEncoder().encodeToString(getImageBytes(input));
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Override
+    public byte[] getImageBytes(String input) {
         if (input == null || input.trim().isEmpty()) {
-            return "请输入要生成二维码的内容";
+            throw new IllegalArgumentException("请输入要生成二维码的内容");
         }
 
         try {
-            // 生成二维码
+            // 生成二维码并直接编码为PNG字节
             BufferedImage qrCodeImage = generateQRCodeImage(input.trim());
-
-            // 将图片转换为Base64字符串
-            String base64Image = imageToBase64(qrCodeImage);
-
-            // 返回data URL格式的图片数据
-            return "data:image/png;base64," + base64Image;
+            return imageToBytes(qrCodeImage);
 
         } catch (WriterException e) {
-            return "二维码生成失败: " + e.getMessage();
+            throw new IllegalArgumentException("二维码生成失败: " + e.getMessage(), e);
         } catch (IOException e) {
-            return "图片转换失败: " + e.getMessage();
+            throw new IllegalArgumentException("图片转换失败: " + e.getMessage(), e);
         } catch (Exception e) {
-            return "生成二维码时发生错误: " + e.getMessage();
+            throw new IllegalArgumentException("生成二维码时发生错误: " + e.getMessage(), e);
         }
     }
 
@@ -67,13 +72,12 @@ public class QRCodeGenerateOperation implements Operation {
     }
 
     /**
-     * 将图片转换为Base64字符串
+     * 将图片编码为PNG字节
      */
-    private String imageToBase64(BufferedImage image) throws IOException {
+    private byte[] imageToBytes(BufferedImage image) throws IOException {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         ImageIO.write(image, IMAGE_FORMAT, outputStream);
-        byte[] imageBytes = outputStream.toByteArray();
-        return Base64.getEncoder().encodeToString(imageBytes);
+        return outputStream.toByteArray();
     }
 
     @Override
@@ -3,7 +3,10 @@ package org.oxff.operation.timestamp;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
-import org.oxff.operation.Operation;
+import org.oxff.operation.InputType;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -14,23 +17,30 @@ import java.time.format.DateTimeParseException;
 /**
  * 日期时间转时间戳操作
  */
-public class DatetimeToTimestampOperation implements Operation {
-    private String inputFormat = "yyyy-MM-dd HH:mm:ss";
-    private String outputDigits = "13";
-    private boolean padWithZero = false;
+public class DatetimeToTimestampOperation implements ConfigurableOperation {
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("日期转时间戳配置")
+        .add(TimestampConfigFields.dateFormat("inputFormat", "输入格式"))
+        .add(TimestampConfigFields.timestampDigits("outputDigits", "输出位数"))
+        .add(TimestampConfigFields.padWithZero())
+        .build();
 
-    public void setConfig(String inputFormat, String outputDigits, boolean padWithZero) {
-        this.inputFormat = inputFormat != null ? inputFormat : "yyyy-MM-dd HH:mm:ss";
-        this.outputDigits = outputDigits != null ? outputDigits : "13";
-        this.padWithZero = padWithZero;
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public InputType getInputType() {
+        return InputType.LINE;
     }
 
     @Override
-    public String execute(String input) {
+    public String execute(String input, OperationConfig config) {
         if (input == null || input.trim().isEmpty()) {
             return "错误：请输入日期时间";
         }
 
+        String inputFormat = config.getString("inputFormat");
         try {
             String dateString = input.trim();
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern(inputFormat);
@@ -55,7 +65,8 @@ public class DatetimeToTimestampOperation implements Operation {
             long epochMilli = zonedDateTime.toInstant().toEpochMilli();
             long epochSecond = epochMilli / 1000;
 
-            return formatTimestamp(epochMilli, epochSecond);
+            return formatTimestamp(epochMilli, epochSecond,
+                config.getString("outputDigits"), config.getBoolean("padWithZero"));
 
         } catch (DateTimeParseException e) {
             return "日期格式错误: " + e.getMessage();
@@ -64,7 +75,7 @@ public class DatetimeToTimestampOperation implements Operation {
         }
     }
 
-    private String formatTimestamp(long millis, long seconds) {
+    private static String formatTimestamp(long millis, long seconds, String outputDigits, boolean padWithZero) {
         if ("10".equals(outputDigits)) {
             String result = String.valueOf(seconds);
             if (padWithZero) {
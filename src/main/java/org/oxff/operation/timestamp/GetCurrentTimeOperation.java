@@ -3,7 +3,11 @@ package org.oxff.operation.timestamp;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
-import org.oxff.operation.Operation;
+import org.oxff.operation.InputType;
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 
 import java.time.Instant;
 import java.time.ZoneId;
@@ -13,36 +17,41 @@ import java.time.format.DateTimeFormatter;
 /**
  * 获取当前时间/时间戳操作
  */
-public class GetCurrentTimeOperation implements Operation {
-    private String timezoneId = "";
-    private String outputType = "datetime";
-    private String dateFormat = "yyyy-MM-dd HH:mm:ss";
-    private String timestampDigits = "13";
-    private boolean padWithZero = false;
+public class GetCurrentTimeOperation implements ConfigurableOperation {
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("获取当前时间配置")
+        .add(TimestampConfigFields.timezone())
+        .add(ConfigField.choiceField("outputType", "输出类型", "datetime",
+            new String[]{"datetime", "timestamp"}, new String[]{"日期时间", "时间戳"}))
+        .add(TimestampConfigFields.dateFormat("dateFormat", "日期格式").enabledWhen("outputType", "datetime"))
+        .add(TimestampConfigFields.timestampDigits("timestampDigits", "时间戳位数").enabledWhen("outputType", "timestamp"))
+        .add(TimestampConfigFields.padWithZero().enabledWhen("outputType", "timestamp"))
+        .build();
 
-    public void setConfig(String timezoneId, String outputType, String dateFormat,
-                         String timestampDigits, boolean padWithZero) {
-        this.timezoneId = timezoneId != null ? timezoneId : "";
-        this.outputType = outputType != null ? outputType : "datetime";
-        this.dateFormat = dateFormat != null ? dateFormat : "yyyy-MM-dd HH:mm:ss";
-        this.timestampDigits = timestampDigits != null ? timestampDigits : "13";
-        this.padWithZero = padWithZero;
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public InputType getInputType() {
+        return InputType.NONE;
     }
 
     @Override
-    public String execute(String input) {
+    public String execute(String input, OperationConfig config) {
         try {
             Instant instant = Instant.now();
             long currentTimeMillis = instant.toEpochMilli();
             long currentTimeSeconds = currentTimeMillis / 1000;
 
-            ZoneId targetZone = parseTimezone(timezoneId);
+            ZoneId targetZone = TimestampConfigFields.resolveZone(config.getString("timezone"));
             ZonedDateTime targetDateTime = instant.atZone(targetZone);
 
-            if ("timestamp".equals(outputType)) {
-                return formatTimestamp(currentTimeMillis, currentTimeSeconds);
+            if ("timestamp".equals(config.getString("outputType"))) {
+                return formatTimestamp(currentTimeMillis, currentTimeSeconds,
+                    config.getString("timestampDigits"), config.getBoolean("padWithZero"));
             } else {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormat);
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(config.getString("dateFormat"));
                 return targetDateTime.format(formatter);
             }
         } catch (Exception e) {
@@ -50,44 +59,7 @@ public class GetCurrentTimeOperation implements Operation {
         }
     }
 
-    private ZoneId parseTimezone(String timezoneId) {
-        if (timezoneId == null || timezoneId.isEmpty()) {
-            return ZoneId.systemDefault();
-        }
-        String zoneId = mapTimezoneId(timezoneId);
-        try {
-            return ZoneId.of(zoneId);
-        } catch (Exception e) {
-            return ZoneId.systemDefault();
-        }
-    }
-
-    private String mapTimezoneId(String displayName) {
-        if (displayName.contains("系统时区") || displayName.isEmpty()) {
-            return ZoneId.systemDefault().getId();
-        } else if (displayName.contains("UTC") && displayName.contains("协调")) {
-            return "UTC";
-        } else if (displayName.contains("中国") || displayName.contains("CST")) {
-            return "Asia/Shanghai";
-        } else if (displayName.contains("日本") || displayName.contains("JST")) {
-            return "Asia/Tokyo";
-        } else if (displayName.contains("美国东部") || displayName.contains("EST")) {
-            return "America/New_York";
-        } else if (displayName.contains("美国西部") || displayName.contains("PST")) {
-            return "America/Los_Angeles";
-        } else if (displayName.contains("欧洲中部") || displayName.contains("CET")) {
-            return "Europe/Paris";
-        } else if (displayName.contains("英国") || displayName.contains("伦敦")) {
-            return "Europe/London";
-        } else if (displayName.contains("澳大利亚") || displayName.contains("AEST")) {
-            return "Australia/Sydney";
-        } else if (displayName.contains("印度") || displayName.contains("IST")) {
-            return "Asia/Kolkata";
-        }
-        return ZoneId.systemDefault().getId();
-    }
-
-    private String formatTimestamp(long millis, long seconds) {
+    private static String formatTimestamp(long millis, long seconds, String timestampDigits, boolean padWithZero) {
         if ("10".equals(timestampDigits)) {
             String result = String.valueOf(seconds);
             if (padWithZero) {
@@ -103,6 +75,14 @@ public class GetCurrentTimeOperation implements Operation {
         }
     }
 
+    /**
+     * 每次执行读取当前时间，不能缓存结果
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.TIMESTAMP;
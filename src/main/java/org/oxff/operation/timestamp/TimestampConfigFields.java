@@ -0,0 +1,73 @@
+package org.oxff.operation.timestamp;
+
+import org.oxff.operation.config.ConfigField;
+
+import java.time.ZoneId;
+
+/**
+ * 时间戳类操作共用的配置项定义
+ */
+final class TimestampConfigFields {
+    static final String SYSTEM_ZONE = "system";
+    static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    private static final String[] ZONE_IDS = {
+        SYSTEM_ZONE, "UTC", "GMT", "America/New_York", "America/Los_Angeles", "Europe/Paris",
+        "Europe/London", "Asia/Tokyo", "Australia/Sydney", "Asia/Kolkata", "Asia/Shanghai"
+    };
+
+    private static final String[] ZONE_LABELS = {
+        "系统时区", "UTC (协调世界时)", "GMT (格林威治)", "EST (美国东部)", "PST (美国西部)", "CET (欧洲中部)",
+        "GMT (英国伦敦)", "JST (日本)", "AEST (澳大利亚东部)", "IST (印度)", "CST (中国)"
+    };
+
+    private static final String[] COMMON_DATE_FORMATS = {
+        DEFAULT_DATE_FORMAT,
+        "yyyy-MM-dd HH:mm:ss.SSS",
+        "yyyy/MM/dd HH:mm:ss",
+        "yyyy年MM月dd日 HH:mm:ss",
+        "yyyy-MM-dd",
+        "yyyy/MM/dd",
+        "yyyyMMddHHmmss",
+        "yyyyMMddHHmmssSSS",
+        "MM/dd/yyyy HH:mm:ss",
+        "dd-MM-yyyy HH:mm:ss"
+    };
+
+    private TimestampConfigFields() {
+    }
+
+    static ConfigField timezone() {
+        return ConfigField.choiceField("timezone", "时区选择", SYSTEM_ZONE, ZONE_IDS, ZONE_LABELS);
+    }
+
+    /**
+     * 日期格式，可从常用格式中选择或直接输入自定义格式
+     */
+    static ConfigField dateFormat(String key, String label) {
+        return ConfigField.editableChoiceField(key, label, DEFAULT_DATE_FORMAT, COMMON_DATE_FORMATS);
+    }
+
+    static ConfigField timestampDigits(String key, String label) {
+        return ConfigField.choiceField(key, label, "13",
+            new String[]{"10", "13"}, new String[]{"10位(秒)", "13位(毫秒)"});
+    }
+
+    static ConfigField padWithZero() {
+        return ConfigField.booleanField("padWithZero", "前面补0", false);
+    }
+
+    /**
+     * 解析时区，无效时使用系统时区
+     */
+    static ZoneId resolveZone(String zoneId) {
+        if (zoneId == null || zoneId.isEmpty() || SYSTEM_ZONE.equals(zoneId)) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(zoneId);
+        } catch (Exception e) {
+            return ZoneId.systemDefault();
+        }
+    }
+}
@@ -3,7 +3,10 @@ package org.oxff.operation.timestamp;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
-import org.oxff.operation.Operation;
+import org.oxff.operation.InputType;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
 
 import java.time.Instant;
 import java.time.ZoneId;
@@ -13,17 +16,24 @@ import java.time.format.DateTimeFormatter;
 /**
  * 时间戳转日期时间操作
  */
-public class TimestampToDatetimeOperation implements Operation {
-    private String timezoneId = "";
-    private String dateFormat = "yyyy-MM-dd HH:mm:ss";
+public class TimestampToDatetimeOperation implements ConfigurableOperation {
+    private static final ConfigSchema CONFIG_SCHEMA = ConfigSchema.builder("时间戳转日期配置")
+        .add(TimestampConfigFields.timezone())
+        .add(TimestampConfigFields.dateFormat("dateFormat", "日期格式"))
+        .build();
 
-    public void setConfig(String timezoneId, String dateFormat) {
-        this.timezoneId = timezoneId != null ? timezoneId : "";
-        this.dateFormat = dateFormat != null ? dateFormat : "yyyy-MM-dd HH:mm:ss";
+    @Override
+    public ConfigSchema getConfigSchema() {
+        return CONFIG_SCHEMA;
+    }
+
+    @Override
+    public InputType getInputType() {
+        return InputType.LINE;
     }
 
     @Override
-    public String execute(String input) {
+    public String execute(String input, OperationConfig config) {
         if (input == null || input.trim().isEmpty()) {
             return "错误：请输入时间戳";
         }
@@ -52,10 +62,10 @@ public class TimestampToDatetimeOperation implements Operation {
             }
 
             Instant instant = Instant.ofEpochMilli(timestamp);
-            ZoneId targetZone = parseTimezone(timezoneId);
+            ZoneId targetZone = TimestampConfigFields.resolveZone(config.getString("timezone"));
             ZonedDateTime dateTime = instant.atZone(targetZone);
 
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormat);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(config.getString("dateFormat"));
             return dateTime.format(formatter);
 
         } catch (NumberFormatException e) {
@@ -65,43 +75,6 @@ public class TimestampToDatetimeOperation implements Operation {
         }
     }
 
-    private ZoneId parseTimezone(String timezoneId) {
-        if (timezoneId == null || timezoneId.isEmpty()) {
-            return ZoneId.systemDefault();
-        }
-        String zoneId = mapTimezoneId(timezoneId);
-        try {
-            return ZoneId.of(zoneId);
-        } catch (Exception e) {
-            return ZoneId.systemDefault();
-        }
-    }
-
-    private String mapTimezoneId(String displayName) {
-        if (displayName.contains("系统时区") || displayName.isEmpty()) {
-            return ZoneId.systemDefault().getId();
-        } else if (displayName.contains("UTC") && displayName.contains("协调")) {
-            return "UTC";
-        } else if (displayName.contains("中国") || displayName.contains("CST")) {
-            return "Asia/Shanghai";
-        } else if (displayName.contains("日本") || displayName.contains("JST")) {
-            return "Asia/Tokyo";
-        } else if (displayName.contains("美国东部") || displayName.contains("EST")) {
-            return "America/New_York";
-        } else if (displayName.contains("美国西部") || displayName.contains("PST")) {
-            return "America/Los_Angeles";
-        } else if (displayName.contains("欧洲中部") || displayName.contains("CET")) {
-            return "Europe/Paris";
-        } else if (displayName.contains("英国") || displayName.contains("伦敦")) {
-            return "Europe/London";
-        } else if (displayName.contains("澳大利亚") || displayName.contains("AEST")) {
-            return "Australia/Sydney";
-        } else if (displayName.contains("印度") || displayName.contains("IST")) {
-            return "Asia/Kolkata";
-        }
-        return ZoneId.systemDefault().getId();
-    }
-
     @Override
     public OperationCategory getCategory() {
         return OperationCategory.TIMESTAMP;
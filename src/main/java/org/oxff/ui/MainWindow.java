@@ -2,8 +2,11 @@ package org.oxff.ui;
 
 import com.formdev.flatlaf.FlatLightLaf;
 import org.oxff.core.OperationFactory;
+import org.oxff.core.PluginLoader;
 import org.oxff.core.OperationCategory;
-import org.oxff.operation.Operation;
+import org.oxff.core.OperationDescriptor;
+import org.oxff.core.metrics.MetricsRegistry;
+import org.oxff.ui.components.PerformancePanel;
 import org.oxff.ui.components.UIComponentRegistry;
 import org.oxff.ui.builder.ConfigPanelBuilder;
 import org.oxff.ui.builder.ConfigPanelBuilder.ConfigPanelsResult;
@@ -15,22 +18,36 @@ import org.oxff.ui.builder.OperationTreeBuilder;
 import org.oxff.ui.builder.OutputPanelBuilder;
 import org.oxff.ui.builder.OutputPanelBuilder.OutputPanelResult;
 import org.oxff.ui.builder.PasswordConfigListener;
+import org.oxff.ui.builder.RecipeDialog;
 import org.oxff.ui.controller.*;
 import org.oxff.ui.handler.ClipboardManager;
 import org.oxff.ui.handler.EventHandler;
 import org.oxff.ui.handler.TextFileManager;
 import org.oxff.ui.image.ImageDisplayManager;
 import org.oxff.ui.image.ImageFileManager;
+import org.oxff.ui.util.FlightRecorderManager;
 import org.oxff.ui.util.KeyboardShortcutManager;
+import org.oxff.ui.util.LogLevel;
 import org.oxff.ui.util.LogManager;
+import org.oxff.ui.util.RecipeManager;
+import org.oxff.ui.util.RollingLogFileSink;
 import org.oxff.ui.util.SettingsManager;
+import org.oxff.ui.util.StartupTimer;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.TreeSelectionModel;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 // 添加RSyntaxTextArea相关导入
@@ -42,14 +59,20 @@ import org.fife.ui.rtextarea.RTextScrollPane;
  * 重构后的版本，使用模块化设计，职责为UI组件协调和布局组装
  */
 public class MainWindow extends JFrame {
+    private static final String LOG_FILE_NAME = "uiTools.log";
+    private static final long LOG_FILE_MAX_BYTES = 5L * 1024 * 1024;
+    private static final int LOG_FILE_BACKUPS = 5;
+
     // 组件注册表
     private final UIComponentRegistry registry;
     // 管理器和处理器
     private final LogManager logManager;
+    private final FlightRecorderManager flightRecorderManager;
     private final ClipboardManager clipboardManager;
     private final KeyboardShortcutManager keyboardShortcutManager;
     private final OperationValidator operationValidator;
     private final OperationExecutor operationExecutor;
+    private final ExecutionEngine executionEngine;
     private final UIStateManager uiStateManager;
     private ImageDisplayManager imageDisplayManager;
     private final ImageFileManager imageFileManager;
@@ -59,6 +82,13 @@ public class MainWindow extends JFrame {
 
     // UI组件引用（用于布局构建）
     private JButton executeButton;
+    private JButton cancelButton;
+    private JCheckBox livePreviewCheckBox;
+    private boolean firstPaintDone;
+    private JButton streamFileButton;
+    private JButton recipeButton;
+    private RecipeDialog recipeDialog;
+    private JProgressBar executionProgressBar;
     private JButton copyInputButton;
     private JButton pasteInputButton;
     private JButton copyOutputButton;
@@ -67,19 +97,12 @@ public class MainWindow extends JFrame {
     private JButton swapButton;
     private JCheckBox wrapCheckBox;
     private JTree operationTree;
-    private JSpinner delaySecondsSpinner;
-    private JSpinner charIntervalMsSpinner;
-    private JRadioButton inputSourceRadio;
-    private JRadioButton clipboardSourceRadio;
     private JButton selectImageButton;
     private JButton pasteImageButton;
     private JLabel selectedImageLabel;
     private JComboBox<String> timezoneComboBox;
     private JPanel imageInputPanel;
     private JPanel timezoneConfigPanel;
-    private JPanel automationConfigPanel;
-    private JPanel baseEncodingConfigPanel;
-    private JPanel passwordGeneratorConfigPanel;
     private JPanel expressionPanel;
     private JPanel outputPanel;
     private JLabel imageDisplayLabel;
@@ -96,6 +119,8 @@ public class MainWindow extends JFrame {
     private JLabel currentAutoSaveDirLabel;
 
     public MainWindow() {
+        StartupTimer.mark("启动事件线程");
+
         // 初始化组件注册表
         this.registry = new UIComponentRegistry();
 
@@ -105,22 +130,70 @@ public class MainWindow extends JFrame {
         this.keyboardShortcutManager = new KeyboardShortcutManager();
         this.operationValidator = new OperationValidator();
         this.operationExecutor = new OperationExecutor(operationValidator);
+        this.executionEngine = new ExecutionEngine();
         this.uiStateManager = new UIStateManager(registry, operationValidator);
         this.imageFileManager = new ImageFileManager();
         this.textFileManager = new TextFileManager();
         this.settingsManager = new SettingsManager();
+        this.flightRecorderManager = new FlightRecorderManager();
+
+        applyLogSettings();
+        operationExecutor.getResultCache().setMaxBytes(settingsManager.getResultCacheMb() * 1024L * 1024);
+        StartupTimer.mark("初始化管理器");
+
+        // 提前加载操作描述，单独计入启动耗时
+        OperationFactory.getAllOperationNames();
+        StartupTimer.mark("加载操作描述");
 
         initializeUI();
+        StartupTimer.mark("构建界面");
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (!firstPaintDone) {
+            firstPaintDone = true;
+            StartupTimer.mark("首次绘制");
+            String report = StartupTimer.finish();
+            if (report != null) {
+                logManager.log(report);
+            }
+        }
+    }
+
+    /**
+     * 按保存的设置配置日志级别、保留行数和日志文件
+     */
+    private void applyLogSettings() {
+        logManager.setLevel(settingsManager.getLogLevel());
+        logManager.setMaxLines(settingsManager.getLogMaxLines());
+        updateLogFileSink(settingsManager.isLogFileEnabled());
+    }
+
+    private void updateLogFileSink(boolean enabled) {
+        logManager.setFileSink(enabled
+            ? new RollingLogFileSink(Paths.get(settingsManager.getLogDirectory()), LOG_FILE_NAME,
+                LOG_FILE_MAX_BYTES, LOG_FILE_BACKUPS)
+            : null);
     }
 
     private void initializeUI() {
         setTitle("字符串格式化和编解码工具");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                // 退出前写出缓冲中的日志
+                logManager.close();
+            }
+        });
         setSize(1000, 700);
         setLocationRelativeTo(null);
 
         // 设置布局
         setLayout(new BorderLayout());
+        setJMenuBar(createMenuBar());
 
         // 创建顶部面板
         JPanel topPanel = createTopPanel();
@@ -140,12 +213,17 @@ public class MainWindow extends JFrame {
         mainSplitPane.setLeftComponent(createOperationPanel());
         mainSplitPane.setRightComponent(expressionSplitPane);
 
-        // 创建日志面板
+        // 创建日志面板，性能面板停靠在日志右侧，可通过分割条折叠
         JPanel logPanel = createLogPanel();
+        JSplitPane logSplitPane = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT,
+            logPanel, new PerformancePanel(MetricsRegistry.getDefault(), operationExecutor.getResultCache()));
+        logSplitPane.setResizeWeight(0.5);
+        logSplitPane.setDividerSize(10);
+        logSplitPane.setOneTouchExpandable(true);
 
         // 设置垂直分割面板
         verticalSplitPane.setTopComponent(mainSplitPane);
-        verticalSplitPane.setBottomComponent(logPanel);
+        verticalSplitPane.setBottomComponent(logSplitPane);
 
         // 添加快捷键支持
         setupKeyboardShortcuts();
@@ -159,6 +237,101 @@ public class MainWindow extends JFrame {
 
         // 初始化日志
         logManager.log("应用程序启动");
+        if (!OperationFactory.getPluginJars().isEmpty()) {
+            logManager.log("已从 " + PluginLoader.getPluginsDirectory() + " 加载 "
+                + OperationFactory.getPluginJars().size() + " 个插件");
+        }
+        for (String error : OperationFactory.getLoadErrors()) {
+            logManager.warn(error);
+        }
+
+        startFlightRecording();
+    }
+
+    /**
+     * 创建菜单栏
+     */
+    private JMenuBar createMenuBar() {
+        JMenuBar menuBar = new JMenuBar();
+        JMenu diagnosticsMenu = new JMenu("诊断");
+        JMenuItem dumpRecordingItem = new JMenuItem("导出JFR记录...");
+        dumpRecordingItem.setToolTipText("导出最近30分钟的飞行记录，可用 JDK Mission Control 分析");
+        dumpRecordingItem.addActionListener(e -> dumpFlightRecording());
+        diagnosticsMenu.add(dumpRecordingItem);
+        diagnosticsMenu.addSeparator();
+        JMenuItem cacheSizeItem = new JMenuItem("结果缓存大小...");
+        cacheSizeItem.addActionListener(e -> configureResultCache());
+        diagnosticsMenu.add(cacheSizeItem);
+        JMenuItem clearCacheItem = new JMenuItem("清空结果缓存");
+        clearCacheItem.addActionListener(e -> {
+            operationExecutor.getResultCache().clear();
+            logManager.log("已清空结果缓存");
+        });
+        diagnosticsMenu.add(clearCacheItem);
+        menuBar.add(diagnosticsMenu);
+        return menuBar;
+    }
+
+    /**
+     * 设置结果缓存的大小上限
+     */
+    private void configureResultCache() {
+        JSpinner sizeSpinner = new JSpinner(new SpinnerNumberModel(settingsManager.getResultCacheMb(), 0, 4096, 16));
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        panel.add(new JLabel("缓存上限 (MB，0 表示禁用):"));
+        panel.add(sizeSpinner);
+        if (JOptionPane.showConfirmDialog(this, panel, "结果缓存大小",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        int megabytes = (Integer) sizeSpinner.getValue();
+        operationExecutor.getResultCache().setMaxBytes(megabytes * 1024L * 1024);
+        settingsManager.setResultCacheMb(megabytes);
+        logManager.log(megabytes > 0 ? "结果缓存上限已设置为 " + megabytes + "MB" : "已禁用结果缓存");
+    }
+
+    /**
+     * 在后台线程启动持续飞行记录，避免拖慢界面启动
+     */
+    private void startFlightRecording() {
+        Thread starter = new Thread(() -> {
+            boolean started = flightRecorderManager.start();
+            logManager.log(started
+                ? "JFR飞行记录已启动，可通过 诊断 > 导出JFR记录 导出"
+                : "当前JVM不支持JFR，飞行记录未启动");
+        }, "jfr-starter");
+        starter.setDaemon(true);
+        starter.start();
+    }
+
+    /**
+     * 导出飞行记录到用户选择的文件
+     */
+    private void dumpFlightRecording() {
+        if (!flightRecorderManager.isRecording()) {
+            JOptionPane.showMessageDialog(this, "飞行记录未启动", "提示", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("导出JFR记录");
+        String timestamp = LocalDateTime.now()
+            .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        fileChooser.setSelectedFile(new File("uiTools_" + timestamp + ".jfr"));
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = fileChooser.getSelectedFile();
+        if (!file.getName().toLowerCase().endsWith(".jfr")) {
+            file = new File(file.getAbsolutePath() + ".jfr");
+        }
+        try {
+            flightRecorderManager.dump(file.toPath());
+            logManager.log("JFR记录已导出到: " + file.getAbsolutePath());
+        } catch (Exception ex) {
+            logManager.logError("导出JFR记录失败", ex);
+            JOptionPane.showMessageDialog(this, "导出JFR记录失败: " + ex.getMessage(),
+                "错误", JOptionPane.ERROR_MESSAGE);
+        }
     }
 
     /**
@@ -171,6 +344,28 @@ public class MainWindow extends JFrame {
         executeButton = new JButton("执行");
         topPanel.add(executeButton);
 
+        cancelButton = new JButton("取消");
+        cancelButton.setEnabled(false);
+        topPanel.add(cancelButton);
+
+        streamFileButton = new JButton("文件流处理");
+        streamFileButton.setToolTipText("以流方式逐块处理大文件；选中哈希操作时一次读取计算多个文件摘要");
+        topPanel.add(streamFileButton);
+
+        recipeButton = new JButton("配方");
+        recipeButton.setToolTipText("将多个操作串联为配方，上一步的输出作为下一步的输入");
+        topPanel.add(recipeButton);
+
+        livePreviewCheckBox = new JCheckBox("实时预览");
+        livePreviewCheckBox.setToolTipText("输入或表达式停止变化后自动执行，执行过慢时自动关闭");
+        topPanel.add(livePreviewCheckBox);
+
+        executionProgressBar = new JProgressBar(0, 100);
+        executionProgressBar.setPreferredSize(new Dimension(160, 18));
+        executionProgressBar.setStringPainted(true);
+        executionProgressBar.setVisible(false);
+        topPanel.add(executionProgressBar);
+
         return topPanel;
     }
 
@@ -197,8 +392,8 @@ public class MainWindow extends JFrame {
             if (node == null) return;
 
             Object userObject = node.getUserObject();
-            if (userObject instanceof Operation) {
-                Operation operation = (Operation) userObject;
+            if (userObject instanceof OperationDescriptor) {
+                OperationDescriptor operation = (OperationDescriptor) userObject;
                 String selected = operation.getDisplayName();
                 if (eventHandler != null) {
                     eventHandler.handleOperationSelection(selected);
@@ -266,48 +461,56 @@ public class MainWindow extends JFrame {
         swapButton = (JButton) registry.getComponent(UIComponentRegistry.SWAP_BUTTON);
         wrapCheckBox = (JCheckBox) registry.getComponent(UIComponentRegistry.WRAP_CHECK_BOX);
 
-        // 保存配置面板引用（用于事件处理）
-        automationConfigPanel = inputResult.automationInputPanel;
+        // 保存面板引用（用于事件处理）
         imageInputPanel = inputResult.imageInputPanel;
-        baseEncodingConfigPanel = inputResult.baseEncodingInputPanel;
-        passwordGeneratorConfigPanel = inputResult.passwordGeneratorInputPanel;
-
-        // 保存时间戳配置面板引用
-        JPanel getCurrentTimeConfigPanel = inputResult.getCurrentTimeConfigPanel;
-        JPanel timestampToDatetimeConfigPanel = inputResult.timestampToDatetimeConfigPanel;
-        JPanel datetimeToTimestampConfigPanel = inputResult.datetimeToTimestampConfigPanel;
-
-        // 获取配置面板组件引用
-        ConfigPanelBuilder configBuilder = new ConfigPanelBuilder(registry);
-        delaySecondsSpinner = (JSpinner) registry.getComponent(UIComponentRegistry.DELAY_SECONDS_SPINNER);
-        charIntervalMsSpinner = (JSpinner) registry.getComponent(UIComponentRegistry.CHAR_INTERVAL_MS_SPINNER);
-        inputSourceRadio = (JRadioButton) registry.getComponent(UIComponentRegistry.INPUT_SOURCE_RADIO);
-        clipboardSourceRadio = (JRadioButton) registry.getComponent(UIComponentRegistry.CLIPBOARD_SOURCE_RADIO);
         selectImageButton = (JButton) registry.getComponent(UIComponentRegistry.SELECT_IMAGE_BUTTON);
         pasteImageButton = (JButton) registry.getComponent(UIComponentRegistry.PASTE_IMAGE_BUTTON);
         selectedImageLabel = (JLabel) registry.getComponent(UIComponentRegistry.SELECTED_IMAGE_LABEL);
 
-        // 创建输入卡片容器
+        // 创建输入卡片容器，独立操作面板以操作名称作为卡片名称，在第一次选择操作时创建
         JPanel inputCardsContainer = new JPanel(new CardLayout());
         inputCardsContainer.add(inputResult.textInputPanel, "TEXT");
         inputCardsContainer.add(inputResult.imageInputPanel, "IMAGE");
-        inputCardsContainer.add(inputResult.baseEncodingInputPanel, "BASE_ENCODING");
-        inputCardsContainer.add(inputResult.passwordGeneratorInputPanel, "PASSWORD_GENERATOR");
-        inputCardsContainer.add(inputResult.automationInputPanel, "AUTOMATION");
-        inputCardsContainer.add(getCurrentTimeConfigPanel, "GET_CURRENT_TIME");
-        inputCardsContainer.add(timestampToDatetimeConfigPanel, "TIMESTAMP_TO_DATETIME");
-        inputCardsContainer.add(datetimeToTimestampConfigPanel, "DATETIME_TO_TIMESTAMP");
+        // 文本输入的可配置操作的配置面板显示在输入框下方的选项区域
+        JPanel optionsCardsContainer = new JPanel(new CardLayout());
+        optionsCardsContainer.setVisible(false);
+
+        ConfigPanelBuilder configBuilder = new ConfigPanelBuilder(registry);
+        for (String operationName : OperationFactory.getAllOperationNames()) {
+            if (operationValidator.requiresOperationPanel(operationName)) {
+                JPanel container = operationValidator.requiresOptionsPanel(operationName)
+                    ? optionsCardsContainer : inputCardsContainer;
+                registry.registerFactory(UIComponentRegistry.operationPanelKey(operationName),
+                    () -> createOperationCard(configBuilder, container, operationName));
+            }
+        }
 
         // 注册到注册表
         registry.registerComponent(UIComponentRegistry.INPUT_CARDS_CONTAINER, inputCardsContainer);
+        registry.registerComponent(UIComponentRegistry.INPUT_OPTIONS_CONTAINER, optionsCardsContainer);
 
         // 组装布局
         inputPanel.add(inputButtonPanel, BorderLayout.NORTH);
         inputPanel.add(inputCardsContainer, BorderLayout.CENTER);
+        inputPanel.add(optionsCardsContainer, BorderLayout.SOUTH);
 
         return inputPanel;
     }
 
+    /**
+     * 创建操作面板并加入卡片容器
+     */
+    private JPanel createOperationCard(ConfigPanelBuilder configBuilder, JPanel cardsContainer,
+                                       String operationName) {
+        ConfigPanelBuilder.OperationPanel operationPanel = configBuilder.createOperationPanel(operationName);
+        if (operationPanel.selectFileButton != null) {
+            operationPanel.selectFileButton.addActionListener(e ->
+                eventHandler.handleSelectFile(this, operationPanel.selectedFileLabel));
+        }
+        cardsContainer.add(operationPanel.panel, operationName);
+        return operationPanel.panel;
+    }
+
     /**
      * 创建表达式面板
      */
@@ -364,6 +567,41 @@ public class MainWindow extends JFrame {
         JScrollPane logScrollPane = new JScrollPane(logTextArea);
         logPanel.add(logScrollPane, BorderLayout.CENTER);
 
+        // 日志设置：级别、保留行数和日志文件
+        JPanel logSettingsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        logSettingsPanel.add(new JLabel("级别:"));
+        JComboBox<LogLevel> levelComboBox = new JComboBox<>(LogLevel.values());
+        levelComboBox.setSelectedItem(logManager.getLevel());
+        levelComboBox.addActionListener(e -> {
+            LogLevel level = (LogLevel) levelComboBox.getSelectedItem();
+            logManager.setLevel(level);
+            settingsManager.setLogLevel(level);
+        });
+        logSettingsPanel.add(levelComboBox);
+
+        logSettingsPanel.add(new JLabel("保留行数:"));
+        JSpinner maxLinesSpinner = new JSpinner(new SpinnerNumberModel(logManager.getMaxLines(), 100, 1_000_000, 1000));
+        maxLinesSpinner.addChangeListener(e -> {
+            int maxLines = (Integer) maxLinesSpinner.getValue();
+            logManager.setMaxLines(maxLines);
+            settingsManager.setLogMaxLines(maxLines);
+        });
+        logSettingsPanel.add(maxLinesSpinner);
+
+        JCheckBox logFileCheckBox = new JCheckBox("写入文件", settingsManager.isLogFileEnabled());
+        logFileCheckBox.setToolTipText("滚动写入 " + settingsManager.getLogDirectory() + File.separator + LOG_FILE_NAME);
+        logFileCheckBox.addActionListener(e -> {
+            boolean enabled = logFileCheckBox.isSelected();
+            updateLogFileSink(enabled);
+            settingsManager.setLogFileEnabled(enabled);
+        });
+        logSettingsPanel.add(logFileCheckBox);
+
+        JButton clearLogButton = new JButton("清空");
+        clearLogButton.addActionListener(e -> logManager.clearLog());
+        logSettingsPanel.add(clearLogButton);
+        logPanel.add(logSettingsPanel, BorderLayout.NORTH);
+
         return logPanel;
     }
 
@@ -380,6 +618,7 @@ public class MainWindow extends JFrame {
             logManager,
             clipboardManager,
             operationExecutor,
+            executionEngine,
             operationValidator,
             uiStateManager,
             imageDisplayManager,
@@ -392,18 +631,43 @@ public class MainWindow extends JFrame {
         // 执行按钮事件
         executeButton.addActionListener(e -> eventHandler.handleExecute(this));
 
+        // 取消按钮事件
+        cancelButton.addActionListener(e -> eventHandler.handleCancel());
+
+        // 文件流处理按钮
+        streamFileButton.addActionListener(e -> eventHandler.handleStreamFile(this));
+
+        // 配方按钮
+        recipeButton.addActionListener(e -> showRecipeDialog());
+
+        // 实时预览：输入和表达式变化时重新执行
+        livePreviewCheckBox.addActionListener(e ->
+            eventHandler.handleLivePreviewToggle(livePreviewCheckBox.isSelected()));
+        DocumentListener liveInputListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                eventHandler.handleLiveInputChanged();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                eventHandler.handleLiveInputChanged();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                // 属性变化不影响文本
+            }
+        };
+        registry.getInputTextArea().getDocument().addDocumentListener(liveInputListener);
+        registry.getExpressionTextArea().getDocument().addDocumentListener(liveInputListener);
+
         // 选择图片按钮事件
         selectImageButton.addActionListener(e -> eventHandler.handleSelectImage(this));
 
         // 粘贴图片按钮事件
         pasteImageButton.addActionListener(e -> eventHandler.handlePasteImage(this));
 
-        // Base编码配置面板 - 选择文件按钮事件
-        JButton selectFileButton = registry.getComponent(UIComponentRegistry.SELECT_FILE_BUTTON);
-        if (selectFileButton != null) {
-            selectFileButton.addActionListener(e -> eventHandler.handleSelectFileForBaseEncoding(this));
-        }
-
         // 复制输入按钮事件
         copyInputButton.addActionListener(e -> eventHandler.handleCopyInput());
 
@@ -473,6 +737,27 @@ public class MainWindow extends JFrame {
         }
     }
 
+    /**
+     * 显示配方对话框，首次使用时创建
+     */
+    private void showRecipeDialog() {
+        if (recipeDialog == null) {
+            recipeDialog = new RecipeDialog(this, new RecipeManager(), new RecipeDialog.Callback() {
+                @Override
+                public RecipeStep captureCurrentStep() {
+                    return eventHandler.captureCurrentStep();
+                }
+
+                @Override
+                public void runRecipe(Recipe recipe) {
+                    eventHandler.handleRunRecipe(MainWindow.this, recipe);
+                }
+            });
+        }
+        recipeDialog.setVisible(true);
+        recipeDialog.toFront();
+    }
+
     /**
      * 注册所有UI组件到注册表
      * 这个方法需要在setupEventListeners()之前调用，因为事件处理器需要这些组件
@@ -487,6 +772,11 @@ public class MainWindow extends JFrame {
 
         // 注册按钮
         registry.registerComponent(UIComponentRegistry.EXECUTE_BUTTON, executeButton);
+        registry.registerComponent(UIComponentRegistry.CANCEL_BUTTON, cancelButton);
+        registry.registerComponent(UIComponentRegistry.EXECUTION_PROGRESS_BAR, executionProgressBar);
+        registry.registerComponent(UIComponentRegistry.STREAM_FILE_BUTTON, streamFileButton);
+        registry.registerComponent(UIComponentRegistry.RECIPE_BUTTON, recipeButton);
+        registry.registerComponent(UIComponentRegistry.LIVE_PREVIEW_CHECK_BOX, livePreviewCheckBox);
         registry.registerComponent(UIComponentRegistry.COPY_INPUT_BUTTON, copyInputButton);
         registry.registerComponent(UIComponentRegistry.PASTE_INPUT_BUTTON, pasteInputButton);
         registry.registerComponent(UIComponentRegistry.COPY_OUTPUT_BUTTON, copyOutputButton);
@@ -502,19 +792,12 @@ public class MainWindow extends JFrame {
         registry.registerComponent(UIComponentRegistry.IMAGE_INPUT_PANEL, imageInputPanel);
         registry.registerComponent(UIComponentRegistry.TIMEZONE_COMBO_BOX, timezoneComboBox);
         registry.registerComponent(UIComponentRegistry.TIMEZONE_CONFIG_PANEL, timezoneConfigPanel);
-        registry.registerComponent(UIComponentRegistry.AUTOMATION_CONFIG_PANEL, automationConfigPanel);
         registry.registerComponent(UIComponentRegistry.EXPRESSION_PANEL, expressionPanel);
         registry.registerComponent(UIComponentRegistry.OUTPUT_PANEL, outputPanel);
         registry.registerComponent(UIComponentRegistry.OUTPUT_CARDS_PANEL, outputCardsPanel);
         registry.registerComponent(UIComponentRegistry.IMAGE_DISPLAY_LABEL, imageDisplayLabel);
         registry.registerComponent(UIComponentRegistry.OUTPUT_EXPRESSION_SPLIT_PANE, outputExpressionSplitPane);
 
-        // 注册自动化配置组件
-        registry.registerComponent(UIComponentRegistry.DELAY_SECONDS_SPINNER, delaySecondsSpinner);
-        registry.registerComponent(UIComponentRegistry.CHAR_INTERVAL_MS_SPINNER, charIntervalMsSpinner);
-        registry.registerComponent(UIComponentRegistry.INPUT_SOURCE_RADIO, inputSourceRadio);
-        registry.registerComponent(UIComponentRegistry.CLIPBOARD_SOURCE_RADIO, clipboardSourceRadio);
-
         // 创建图片显示管理器（在组件注册后）
         imageDisplayManager = new ImageDisplayManager(imageDisplayLabel, outputCardLayout, outputCardsPanel);
     }
@@ -536,12 +819,15 @@ public class MainWindow extends JFrame {
 
     public static void main(String[] args) {
         // 设置外观
+        StartupTimer.start();
         FlatLightLaf.setup();
+        StartupTimer.mark("设置外观");
 
         SwingUtilities.invokeLater(() -> {
             try {
                 MainWindow frame = new MainWindow();
                 frame.setVisible(true);
+                StartupTimer.mark("显示窗口");
             } catch (Exception e) {
                 java.util.logging.Logger.getLogger(MainWindow.class.getName())
                     .severe("启动应用程序时发生错误: " + e.getMessage());
@@ -1,7 +1,7 @@
 package org.oxff.ui;
 
-import org.oxff.operation.Operation;
 import org.oxff.core.OperationCategory;
+import org.oxff.core.OperationDescriptor;
 import org.oxff.core.Subcategory;
 
 import javax.swing.*;
@@ -25,8 +25,8 @@ public class OperationTreeCellRenderer extends DefaultTreeCellRenderer {
             Object userObject = node.getUserObject();
             
             // 设置节点文本
-            if (userObject instanceof Operation) {
-                Operation operation = (Operation) userObject;
+            if (userObject instanceof OperationDescriptor) {
+                OperationDescriptor operation = (OperationDescriptor) userObject;
                 setText(operation.getDisplayName());
                 OperationCategory category = operation.getCategory();
                 Subcategory subcategory = operation.getSubcategory();
@@ -1,5 +1,11 @@
 package org.oxff.ui.builder;
 
+import org.oxff.core.OperationFactory;
+import org.oxff.operation.InputType;
+import org.oxff.operation.Operation;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.generator.RandomPasswordOperation;
+import org.oxff.ui.components.ConfigSchemaPanel;
 import org.oxff.ui.components.UIComponentRegistry;
 
 import javax.swing.*;
@@ -7,7 +13,8 @@ import java.awt.*;
 
 /**
  * 配置面板构建器
- * 负责构建所有操作配置面板
+ * 负责构建图片输入面板，以及根据操作声明的配置结构和输入类型生成各操作的操作面板
+ * 操作面板不在启动时创建，由 {@link #createOperationPanel(String)} 在第一次选择操作时创建
  */
 public class ConfigPanelBuilder {
     private final UIComponentRegistry registry;
@@ -20,108 +27,39 @@ public class ConfigPanelBuilder {
      * 配置面板构建结果
      */
     public static class ConfigPanelsResult {
-        public JPanel automationConfigPanel;
         public JPanel imageInputPanel;
-        public JPanel baseEncodingConfigPanel;
-        public JPanel passwordGeneratorConfigPanel;
-
-        // 时间戳配置面板
-        public JPanel getCurrentTimeConfigPanel;
-        public JPanel timestampToDatetimeConfigPanel;
-        public JPanel datetimeToTimestampConfigPanel;
-
-        // 自动化配置组件
-        public JSpinner delaySecondsSpinner;
-        public JSpinner charIntervalMsSpinner;
-        public JRadioButton inputSourceRadio;
-        public JRadioButton clipboardSourceRadio;
 
         // 图片输入组件
         public JButton selectImageButton;
         public JButton pasteImageButton;
         public JLabel selectedImageLabel;
+    }
 
-        // Base编码组件
-        public JComboBox<String> baseEncodingComboBox;
+    /**
+     * 单个操作的操作面板，包含配置面板和单行或文件输入组件
+     */
+    public static class OperationPanel {
+        public JPanel panel;
+        public ConfigSchemaPanel configPanel;
+        public JTextField lineInputField;
         public JButton selectFileButton;
         public JLabel selectedFileLabel;
     }
 
     /**
-     * 创建所有配置面板
+     * 创建启动时需要的配置面板（图片输入面板）
      */
     public ConfigPanelsResult buildAllConfigPanels() {
         ConfigPanelsResult result = new ConfigPanelsResult();
 
-        result.automationConfigPanel = createAutomationConfigPanel();
-        result.delaySecondsSpinner = (JSpinner) registry.getComponent(UIComponentRegistry.DELAY_SECONDS_SPINNER);
-        result.charIntervalMsSpinner = (JSpinner) registry.getComponent(UIComponentRegistry.CHAR_INTERVAL_MS_SPINNER);
-        result.inputSourceRadio = (JRadioButton) registry.getComponent(UIComponentRegistry.INPUT_SOURCE_RADIO);
-        result.clipboardSourceRadio = (JRadioButton) registry.getComponent(UIComponentRegistry.CLIPBOARD_SOURCE_RADIO);
-
         result.imageInputPanel = createImageInputPanel();
         result.selectImageButton = (JButton) registry.getComponent(UIComponentRegistry.SELECT_IMAGE_BUTTON);
         result.pasteImageButton = (JButton) registry.getComponent(UIComponentRegistry.PASTE_IMAGE_BUTTON);
         result.selectedImageLabel = (JLabel) registry.getComponent(UIComponentRegistry.SELECTED_IMAGE_LABEL);
 
-        result.baseEncodingConfigPanel = createBaseEncodingConfigPanel();
-        result.baseEncodingComboBox = (JComboBox<String>) registry.getComponent(UIComponentRegistry.BASE_ENCODING_COMBO_BOX);
-        result.selectFileButton = (JButton) registry.getComponent(UIComponentRegistry.SELECT_FILE_BUTTON);
-        result.selectedFileLabel = (JLabel) registry.getComponent(UIComponentRegistry.SELECTED_FILE_LABEL);
-
-        result.passwordGeneratorConfigPanel = createPasswordGeneratorConfigPanel();
-
-        // 使用 TimestampConfigPanelBuilder 创建时间戳配置面板
-        TimestampConfigPanelBuilder timestampBuilder = new TimestampConfigPanelBuilder(registry);
-        TimestampConfigPanelBuilder.TimestampConfigPanelsResult timestampResult =
-            timestampBuilder.buildAllTimestampConfigPanels();
-
-        result.getCurrentTimeConfigPanel = timestampResult.getCurrentTimeConfigPanel;
-        result.timestampToDatetimeConfigPanel = timestampResult.timestampToDatetimeConfigPanel;
-        result.datetimeToTimestampConfigPanel = timestampResult.datetimeToTimestampConfigPanel;
-
         return result;
     }
 
-    /**
-     * 创建自动化配置面板
-     */
-    private JPanel createAutomationConfigPanel() {
-        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-        panel.setBorder(BorderFactory.createTitledBorder("自动化输入配置"));
-
-        panel.add(new JLabel("延迟时间(秒):"));
-        SpinnerModel delayModel = new SpinnerNumberModel(3, 0, 60, 1);
-        JSpinner delaySecondsSpinner = new JSpinner(delayModel);
-        delaySecondsSpinner.setPreferredSize(new Dimension(60, 25));
-        panel.add(delaySecondsSpinner);
-        registry.registerComponent(UIComponentRegistry.DELAY_SECONDS_SPINNER, delaySecondsSpinner);
-
-        panel.add(Box.createHorizontalStrut(15));
-
-        panel.add(new JLabel("字符间隔(毫秒):"));
-        SpinnerModel intervalModel = new SpinnerNumberModel(100, 0, 1000, 10);
-        JSpinner charIntervalMsSpinner = new JSpinner(intervalModel);
-        charIntervalMsSpinner.setPreferredSize(new Dimension(70, 25));
-        panel.add(charIntervalMsSpinner);
-        registry.registerComponent(UIComponentRegistry.CHAR_INTERVAL_MS_SPINNER, charIntervalMsSpinner);
-
-        panel.add(Box.createHorizontalStrut(15));
-
-        panel.add(new JLabel("输入来源:"));
-        ButtonGroup sourceGroup = new ButtonGroup();
-        JRadioButton inputSourceRadio = new JRadioButton("输入框", true);
-        JRadioButton clipboardSourceRadio = new JRadioButton("剪贴板");
-        sourceGroup.add(inputSourceRadio);
-        sourceGroup.add(clipboardSourceRadio);
-        panel.add(inputSourceRadio);
-        panel.add(clipboardSourceRadio);
-        registry.registerComponent(UIComponentRegistry.INPUT_SOURCE_RADIO, inputSourceRadio);
-        registry.registerComponent(UIComponentRegistry.CLIPBOARD_SOURCE_RADIO, clipboardSourceRadio);
-
-        return panel;
-    }
-
     /**
      * 创建图片输入面板
      */
@@ -153,152 +91,70 @@ public class ConfigPanelBuilder {
     }
 
     /**
-     * 创建Base编码配置面板
+     * 创建操作面板：配置面板由操作的配置结构生成，下方按输入类型添加单行输入框或文件选择组件
+     * 配置面板和输入组件按操作名称注册到组件注册表
+     * @param operationName 操作名称
+     * @return 操作面板
      */
-    private JPanel createBaseEncodingConfigPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBorder(BorderFactory.createTitledBorder("图片转Base编码配置"));
-
-        // 配置控制面板
-        JPanel configPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-
-        configPanel.add(new JLabel("编码类型:"));
-        JComboBox<String> encodingTypeComboBox = new JComboBox<>(new String[]{
-            "Base64", "Base32"
-        });
-        encodingTypeComboBox.setPreferredSize(new Dimension(100, 25));
-        configPanel.add(encodingTypeComboBox);
-        registry.registerComponent(UIComponentRegistry.BASE_ENCODING_COMBO_BOX, encodingTypeComboBox);
-
-        // 文件选择按钮
-        JButton selectFileButton = new JButton("选择图片文件");
-        configPanel.add(Box.createHorizontalStrut(15));
-        configPanel.add(selectFileButton);
-        registry.registerComponent(UIComponentRegistry.SELECT_FILE_BUTTON, selectFileButton);
-
-        panel.add(configPanel, BorderLayout.NORTH);
-
-        // 文件状态标签
-        JLabel selectedFileLabel = new JLabel("未选择文件");
-        selectedFileLabel.setForeground(Color.GRAY);
-        selectedFileLabel.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
-        panel.add(selectedFileLabel, BorderLayout.CENTER);
-        registry.registerComponent(UIComponentRegistry.SELECTED_FILE_LABEL, selectedFileLabel);
-
-        return panel;
+    public OperationPanel createOperationPanel(String operationName) {
+        Operation operation = OperationFactory.getOperation(operationName);
+        OperationPanel result = new OperationPanel();
+        result.panel = new JPanel(new BorderLayout());
+
+        JPanel content = new JPanel();
+        content.setLayout(new BoxLayout(content, BoxLayout.Y_AXIS));
+
+        if (operation instanceof ConfigurableOperation) {
+            result.configPanel = new ConfigSchemaPanel(((ConfigurableOperation) operation).getConfigSchema());
+            result.configPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            registry.registerComponent(UIComponentRegistry.configPanelKey(operationName), result.configPanel);
+            content.add(result.configPanel);
+
+            // 密码各类字符个数与总长度联动
+            if (operation instanceof RandomPasswordOperation) {
+                installPasswordLinkage(result.configPanel);
+            }
+        }
+
+        if (operation.getInputType() == InputType.LINE) {
+            JPanel inputPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+            inputPanel.add(new JLabel("输入:"));
+            result.lineInputField = new JTextField(30);
+            result.lineInputField.setPreferredSize(new Dimension(300, 25));
+            inputPanel.add(result.lineInputField);
+            inputPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            registry.registerComponent(UIComponentRegistry.lineInputFieldKey(operationName), result.lineInputField);
+            content.add(inputPanel);
+        } else if (operation.getInputType() == InputType.FILE) {
+            JPanel filePanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+            result.selectFileButton = new JButton("选择文件");
+            result.selectedFileLabel = new JLabel("未选择文件");
+            result.selectedFileLabel.setForeground(Color.GRAY);
+            filePanel.add(result.selectFileButton);
+            filePanel.add(result.selectedFileLabel);
+            filePanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            registry.registerComponent(UIComponentRegistry.selectedFileLabelKey(operationName), result.selectedFileLabel);
+            content.add(filePanel);
+        }
+
+        result.panel.add(content, BorderLayout.NORTH);
+        return result;
     }
 
     /**
-     * 创建密码生成器配置面板
+     * 为密码生成器配置面板添加动态联动逻辑
      */
-    private JPanel createPasswordGeneratorConfigPanel() {
-        JPanel panel = new JPanel(new GridBagLayout());
-        panel.setBorder(BorderFactory.createTitledBorder("随机密码生成配置"));
-
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(5, 10, 5, 10);
-        gbc.anchor = GridBagConstraints.WEST;
-
-        // 第一行: 密码总长度
-        gbc.gridx = 0;
-        gbc.gridy = 0;
-        panel.add(new JLabel("密码总长度:"), gbc);
-
-        gbc.gridx = 1;
-        SpinnerModel lengthModel = new SpinnerNumberModel(16, 4, 128, 1);
-        JSpinner passwordLengthSpinner = new JSpinner(lengthModel);
-        passwordLengthSpinner.setPreferredSize(new Dimension(80, 25));
-        panel.add(passwordLengthSpinner, gbc);
-
-        // 第二行: 数字配置
-        gbc.gridx = 0;
-        gbc.gridy = 1;
-        JCheckBox includeDigitsCheckBox = new JCheckBox("数字");
-        includeDigitsCheckBox.setSelected(true);
-        panel.add(includeDigitsCheckBox, gbc);
-
-        gbc.gridx = 1;
-        JPanel digitPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
-        digitPanel.add(new JLabel("个数:"));
-        SpinnerModel digitCountModel = new SpinnerNumberModel(4, 0, 128, 1);
-        JSpinner digitCountSpinner = new JSpinner(digitCountModel);
-        digitCountSpinner.setPreferredSize(new Dimension(60, 25));
-        digitPanel.add(digitCountSpinner);
-        panel.add(digitPanel, gbc);
-
-        // 第三行: 大写字母配置
-        gbc.gridx = 0;
-        gbc.gridy = 2;
-        JCheckBox includeUppercaseCheckBox = new JCheckBox("大写字母");
-        includeUppercaseCheckBox.setSelected(true);
-        panel.add(includeUppercaseCheckBox, gbc);
-
-        gbc.gridx = 1;
-        JPanel uppercasePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
-        uppercasePanel.add(new JLabel("个数:"));
-        SpinnerModel uppercaseCountModel = new SpinnerNumberModel(4, 0, 128, 1);
-        JSpinner uppercaseCountSpinner = new JSpinner(uppercaseCountModel);
-        uppercaseCountSpinner.setPreferredSize(new Dimension(60, 25));
-        uppercasePanel.add(uppercaseCountSpinner);
-        panel.add(uppercasePanel, gbc);
-
-        // 第四行: 小写字母配置
-        gbc.gridx = 0;
-        gbc.gridy = 3;
-        JCheckBox includeLowercaseCheckBox = new JCheckBox("小写字母");
-        includeLowercaseCheckBox.setSelected(true);
-        panel.add(includeLowercaseCheckBox, gbc);
-
-        gbc.gridx = 1;
-        JPanel lowercasePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
-        lowercasePanel.add(new JLabel("个数:"));
-        SpinnerModel lowercaseCountModel = new SpinnerNumberModel(4, 0, 128, 1);
-        JSpinner lowercaseCountSpinner = new JSpinner(lowercaseCountModel);
-        lowercaseCountSpinner.setPreferredSize(new Dimension(60, 25));
-        lowercasePanel.add(lowercaseCountSpinner);
-        panel.add(lowercasePanel, gbc);
-
-        // 第五行: 特殊字符配置
-        gbc.gridx = 0;
-        gbc.gridy = 4;
-        JCheckBox includeSpecialCharsCheckBox = new JCheckBox("特殊字符");
-        includeSpecialCharsCheckBox.setSelected(false);
-        panel.add(includeSpecialCharsCheckBox, gbc);
+    private void installPasswordLinkage(ConfigSchemaPanel configPanel) {
+        JSpinner passwordLengthSpinner = configPanel.getEditor("passwordLength");
+        JCheckBox includeDigitsCheckBox = configPanel.getEditor("includeDigits");
+        JSpinner digitCountSpinner = configPanel.getEditor("digitCount");
+        JCheckBox includeUppercaseCheckBox = configPanel.getEditor("includeUppercase");
+        JSpinner uppercaseCountSpinner = configPanel.getEditor("uppercaseCount");
+        JCheckBox includeLowercaseCheckBox = configPanel.getEditor("includeLowercase");
+        JSpinner lowercaseCountSpinner = configPanel.getEditor("lowercaseCount");
+        JCheckBox includeSpecialCharsCheckBox = configPanel.getEditor("includeSpecialChars");
+        JSpinner specialCharCountSpinner = configPanel.getEditor("specialCharCount");
 
-        gbc.gridx = 1;
-        JPanel specialCharPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
-        specialCharPanel.add(new JLabel("个数:"));
-        SpinnerModel specialCountModel = new SpinnerNumberModel(2, 0, 128, 1);
-        JSpinner specialCharCountSpinner = new JSpinner(specialCountModel);
-        specialCharCountSpinner.setPreferredSize(new Dimension(60, 25));
-        specialCharCountSpinner.setEnabled(false);
-        specialCharPanel.add(specialCharCountSpinner);
-        panel.add(specialCharPanel, gbc);
-
-        // 第六行: 生成个数
-        gbc.gridx = 0;
-        gbc.gridy = 5;
-        panel.add(new JLabel("生成个数:"), gbc);
-
-        gbc.gridx = 1;
-        SpinnerModel countModel = new SpinnerNumberModel(1, 1, 100, 1);
-        JSpinner passwordCountSpinner = new JSpinner(countModel);
-        passwordCountSpinner.setPreferredSize(new Dimension(80, 25));
-        panel.add(passwordCountSpinner, gbc);
-
-        // 注册组件
-        registry.registerComponent(UIComponentRegistry.PASSWORD_LENGTH_SPINNER, passwordLengthSpinner);
-        registry.registerComponent(UIComponentRegistry.INCLUDE_DIGITS_CHECK_BOX, includeDigitsCheckBox);
-        registry.registerComponent(UIComponentRegistry.DIGIT_COUNT_SPINNER, digitCountSpinner);
-        registry.registerComponent(UIComponentRegistry.INCLUDE_UPPERCASE_CHECK_BOX, includeUppercaseCheckBox);
-        registry.registerComponent(UIComponentRegistry.UPPERCASE_COUNT_SPINNER, uppercaseCountSpinner);
-        registry.registerComponent(UIComponentRegistry.INCLUDE_LOWERCASE_CHECK_BOX, includeLowercaseCheckBox);
-        registry.registerComponent(UIComponentRegistry.LOWERCASE_COUNT_SPINNER, lowercaseCountSpinner);
-        registry.registerComponent(UIComponentRegistry.INCLUDE_SPECIAL_CHARS_CHECK_BOX, includeSpecialCharsCheckBox);
-        registry.registerComponent(UIComponentRegistry.SPECIAL_CHAR_COUNT_SPINNER, specialCharCountSpinner);
-        registry.registerComponent(UIComponentRegistry.PASSWORD_COUNT_SPINNER, passwordCountSpinner);
-
-        // 动态联动逻辑
         PasswordConfigListener listener = new PasswordConfigListener(
             passwordLengthSpinner,
             includeDigitsCheckBox, digitCountSpinner,
@@ -310,30 +166,14 @@ public class ConfigPanelBuilder {
         // 总长度改变时调整各类型数量
         passwordLengthSpinner.addChangeListener(e -> listener.onTotalLengthChanged());
 
-        // 数字勾选框改变时
+        // 各类型勾选框和数量改变时
         includeDigitsCheckBox.addActionListener(e -> listener.onDigitCheckChanged());
-
-        // 数字数量改变时
         digitCountSpinner.addChangeListener(e -> listener.onDigitCountChanged());
-
-        // 大写字母勾选框改变时
         includeUppercaseCheckBox.addActionListener(e -> listener.onUppercaseCheckChanged());
-
-        // 大写字母数量改变时
         uppercaseCountSpinner.addChangeListener(e -> listener.onUppercaseCountChanged());
-
-        // 小写字母勾选框改变时
         includeLowercaseCheckBox.addActionListener(e -> listener.onLowercaseCheckChanged());
-
-        // 小写字母数量改变时
         lowercaseCountSpinner.addChangeListener(e -> listener.onLowercaseCountChanged());
-
-        // 特殊字符勾选框改变时
         includeSpecialCharsCheckBox.addActionListener(e -> listener.onSpecialCharCheckChanged());
-
-        // 特殊字符数量改变时
         specialCharCountSpinner.addChangeListener(e -> listener.onSpecialCharCountChanged());
-
-        return panel;
     }
 }
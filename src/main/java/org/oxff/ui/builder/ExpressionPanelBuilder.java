@@ -42,7 +42,14 @@ public class ExpressionPanelBuilder {
         expressionHint.setFont(expressionHint.getFont().deriveFont(Font.ITALIC, 10f));
         expressionHint.setForeground(Color.GRAY);
 
+        // 格式化缩进选择
+        JComboBox<String> indentComboBox = new JComboBox<>(new String[]{"2空格", "4空格", "Tab"});
+        indentComboBox.setToolTipText("未输入表达式时格式化输出使用的缩进");
+        registry.registerComponent(UIComponentRegistry.FORMAT_INDENT_COMBO_BOX, indentComboBox);
+
         expressionButtonPanel.add(result.clearExpressionButton);
+        expressionButtonPanel.add(new JLabel("缩进:"));
+        expressionButtonPanel.add(indentComboBox);
         expressionButtonPanel.add(expressionHint);
 
         // 表达式输入文本区域
@@ -1,10 +1,10 @@
 package org.oxff.ui.builder;
 
 import org.oxff.core.OperationCategory;
+import org.oxff.core.OperationDescriptor;
 import org.oxff.core.OperationFactory;
 import org.oxff.core.Subcategory;
 import org.oxff.core.SubcategoryRegistry;
-import org.oxff.operation.Operation;
 import org.oxff.ui.OperationTreeCellRenderer;
 import org.oxff.ui.handler.EventHandler;
 
@@ -33,31 +33,31 @@ public class OperationTreeBuilder {
             DefaultMutableTreeNode categoryNode = new DefaultMutableTreeNode(category.getDisplayName());
 
             // 获取该分类下的所有子分类
-            Map<Subcategory, List<Operation>> subcategoryMap =
-                OperationFactory.getOperationsByCategoryWithSubcategory(category);
+            Map<Subcategory, List<OperationDescriptor>> subcategoryMap =
+                OperationFactory.getDescriptorsByCategoryWithSubcategory(category);
 
             // 如果只有一个默认子分类，直接添加操作
             if (subcategoryMap.size() == 1 &&
                 subcategoryMap.containsKey(SubcategoryRegistry.getDefaultSubcategory())) {
 
-                List<Operation> operations = subcategoryMap.get(SubcategoryRegistry.getDefaultSubcategory());
-                for (Operation operation : operations) {
+                List<OperationDescriptor> operations = subcategoryMap.get(SubcategoryRegistry.getDefaultSubcategory());
+                for (OperationDescriptor operation : operations) {
                     DefaultMutableTreeNode operationNode = new DefaultMutableTreeNode(operation.getDisplayName());
                     operationNode.setUserObject(operation);
                     categoryNode.add(operationNode);
                 }
             } else {
                 // 多个子分类，创建子分类节点
-                for (Map.Entry<Subcategory, List<Operation>> entry : subcategoryMap.entrySet()) {
+                for (Map.Entry<Subcategory, List<OperationDescriptor>> entry : subcategoryMap.entrySet()) {
                     Subcategory subcategory = entry.getKey();
-                    List<Operation> operations = entry.getValue();
+                    List<OperationDescriptor> operations = entry.getValue();
 
                     // 创建子分类节点
                     DefaultMutableTreeNode subcategoryNode = new DefaultMutableTreeNode(
                         category.getDisplayName() + " > " + subcategory.getDisplayName()
                     );
 
-                    for (Operation operation : operations) {
+                    for (OperationDescriptor operation : operations) {
                         DefaultMutableTreeNode operationNode = new DefaultMutableTreeNode(operation.getDisplayName());
                         operationNode.setUserObject(operation);
                         subcategoryNode.add(operationNode);
@@ -88,8 +88,8 @@ public class OperationTreeBuilder {
             if (node == null) return;
 
             Object userObject = node.getUserObject();
-            if (userObject instanceof Operation) {
-                Operation operation = (Operation) userObject;
+            if (userObject instanceof OperationDescriptor) {
+                OperationDescriptor operation = (OperationDescriptor) userObject;
                 String selected = operation.getDisplayName();
                 if (eventHandler != null) {
                     eventHandler.handleOperationSelection(selected);
@@ -2,6 +2,7 @@ package org.oxff.ui.builder;
 
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 import org.fife.ui.rtextarea.RTextScrollPane;
+import org.oxff.ui.components.LargeTextViewer;
 import org.oxff.ui.components.UIComponentRegistry;
 
 import javax.swing.*;
@@ -68,8 +69,17 @@ public class OutputPanelBuilder {
         // 使用RTextScrollPane提供行号显示
         RTextScrollPane outputScrollPane = new RTextScrollPane(outputTextArea);
 
+        // 大结果使用文件映射的查看器显示，与普通文本区域共用按钮面板
+        LargeTextViewer largeTextViewer = new LargeTextViewer();
+        registry.registerComponent(UIComponentRegistry.LARGE_TEXT_VIEWER, largeTextViewer);
+
+        JPanel textCardsPanel = new JPanel(new CardLayout());
+        textCardsPanel.add(outputScrollPane, "TEXT");
+        textCardsPanel.add(largeTextViewer, "LARGE");
+        registry.registerComponent(UIComponentRegistry.OUTPUT_TEXT_CARDS_PANEL, textCardsPanel);
+
         textOutputCard.add(outputButtonPanel, BorderLayout.NORTH);
-        textOutputCard.add(outputScrollPane, BorderLayout.CENTER);
+        textOutputCard.add(textCardsPanel, BorderLayout.CENTER);
 
         // 图片输出卡片
         JPanel imageOutputCard = createImageOutputCard(result);
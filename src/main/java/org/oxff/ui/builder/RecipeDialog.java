@@ -0,0 +1,214 @@
+package org.oxff.ui.builder;
+
+import org.oxff.ui.controller.Recipe;
+import org.oxff.ui.controller.RecipeStep;
+import org.oxff.ui.util.RecipeManager;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 配方编辑对话框
+ * 将当前选中的操作（连同表达式和配置）添加为步骤，保存、加载并运行配方
+ */
+public class RecipeDialog extends JDialog {
+    private final RecipeManager recipeManager;
+    private final Callback callback;
+    private final DefaultListModel<RecipeStep> stepListModel = new DefaultListModel<>();
+    private final JList<RecipeStep> stepList = new JList<>(stepListModel);
+    private final JComboBox<String> recipeComboBox = new JComboBox<>();
+    private final JTextField nameField = new JTextField(16);
+
+    /**
+     * 对话框回调，由事件处理器实现
+     */
+    public interface Callback {
+        /**
+         * 以当前选中的操作和UI配置创建步骤
+         * @return 步骤，无法创建时返回 null
+         */
+        RecipeStep captureCurrentStep();
+
+        /**
+         * 以输入区内容运行配方
+         * @param recipe 配方
+         */
+        void runRecipe(Recipe recipe);
+    }
+
+    public RecipeDialog(Frame owner, RecipeManager recipeManager, Callback callback) {
+        super(owner, "配方", false);
+        this.recipeManager = recipeManager;
+        this.callback = callback;
+        initializeUI();
+        refreshRecipeNames();
+        setSize(520, 420);
+        setLocationRelativeTo(owner);
+    }
+
+    private void initializeUI() {
+        JPanel content = new JPanel(new BorderLayout(5, 5));
+        content.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        // 已保存配方
+        JPanel savedPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        JButton loadButton = new JButton("加载");
+        JButton deleteRecipeButton = new JButton("删除配方");
+        savedPanel.add(new JLabel("已保存:"));
+        recipeComboBox.setPrototypeDisplayValue("XXXXXXXXXXXXXXXXXXXX");
+        savedPanel.add(recipeComboBox);
+        savedPanel.add(loadButton);
+        savedPanel.add(deleteRecipeButton);
+
+        // 步骤列表
+        stepList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        stepList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                return super.getListCellRendererComponent(list, (index + 1) + ". " + value, index,
+                    isSelected, cellHasFocus);
+            }
+        });
+        JScrollPane stepScrollPane = new JScrollPane(stepList);
+        stepScrollPane.setBorder(BorderFactory.createTitledBorder("步骤（上一步的输出作为下一步的输入）"));
+
+        // 步骤按钮
+        JPanel stepButtonPanel = new JPanel(new GridLayout(0, 1, 5, 5));
+        JButton addButton = new JButton("添加当前操作");
+        JButton upButton = new JButton("上移");
+        JButton downButton = new JButton("下移");
+        JButton removeButton = new JButton("删除步骤");
+        JButton clearButton = new JButton("清空");
+        stepButtonPanel.add(addButton);
+        stepButtonPanel.add(upButton);
+        stepButtonPanel.add(downButton);
+        stepButtonPanel.add(removeButton);
+        stepButtonPanel.add(clearButton);
+        JPanel stepButtonWrapper = new JPanel(new BorderLayout());
+        stepButtonWrapper.add(stepButtonPanel, BorderLayout.NORTH);
+
+        // 保存和运行
+        JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        JButton saveButton = new JButton("保存");
+        JButton runButton = new JButton("运行配方");
+        bottomPanel.add(new JLabel("名称:"));
+        bottomPanel.add(nameField);
+        bottomPanel.add(saveButton);
+        bottomPanel.add(runButton);
+
+        content.add(savedPanel, BorderLayout.NORTH);
+        content.add(stepScrollPane, BorderLayout.CENTER);
+        content.add(stepButtonWrapper, BorderLayout.EAST);
+        content.add(bottomPanel, BorderLayout.SOUTH);
+        setContentPane(content);
+
+        addButton.addActionListener(e -> {
+            RecipeStep step = callback.captureCurrentStep();
+            if (step != null) {
+                stepListModel.addElement(step);
+                stepList.setSelectedIndex(stepListModel.size() - 1);
+            }
+        });
+        upButton.addActionListener(e -> moveSelected(-1));
+        downButton.addActionListener(e -> moveSelected(1));
+        removeButton.addActionListener(e -> {
+            int index = stepList.getSelectedIndex();
+            if (index >= 0) {
+                stepListModel.remove(index);
+            }
+        });
+        clearButton.addActionListener(e -> stepListModel.clear());
+        loadButton.addActionListener(e -> loadSelectedRecipe());
+        deleteRecipeButton.addActionListener(e -> deleteSelectedRecipe());
+        saveButton.addActionListener(e -> saveRecipe());
+        runButton.addActionListener(e -> {
+            if (stepListModel.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "请先添加步骤", "提示", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            callback.runRecipe(currentRecipe());
+        });
+    }
+
+    private void moveSelected(int offset) {
+        int index = stepList.getSelectedIndex();
+        int target = index + offset;
+        if (index < 0 || target < 0 || target >= stepListModel.size()) {
+            return;
+        }
+        RecipeStep step = stepListModel.remove(index);
+        stepListModel.add(target, step);
+        stepList.setSelectedIndex(target);
+    }
+
+    private Recipe currentRecipe() {
+        List<RecipeStep> steps = new ArrayList<>();
+        for (int i = 0; i < stepListModel.size(); i++) {
+            steps.add(stepListModel.get(i));
+        }
+        String name = nameField.getText().trim();
+        return new Recipe(name.isEmpty() ? "未命名配方" : name, steps);
+    }
+
+    private void saveRecipe() {
+        String name = nameField.getText().trim();
+        if (name.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "请输入配方名称", "提示", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (stepListModel.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "请先添加步骤", "提示", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (recipeManager.getRecipeNames().contains(name) && JOptionPane.showConfirmDialog(this,
+                "配方 \"" + name + "\" 已存在，是否覆盖？", "确认", JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) {
+            return;
+        }
+        try {
+            recipeManager.saveRecipe(currentRecipe());
+            refreshRecipeNames();
+            recipeComboBox.setSelectedItem(name);
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage(), "错误", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private void loadSelectedRecipe() {
+        String name = (String) recipeComboBox.getSelectedItem();
+        if (name == null) {
+            return;
+        }
+        Recipe recipe = recipeManager.loadRecipe(name);
+        if (recipe == null) {
+            JOptionPane.showMessageDialog(this, "配方加载失败: " + name, "错误", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        stepListModel.clear();
+        for (RecipeStep step : recipe.getSteps()) {
+            stepListModel.addElement(step);
+        }
+        nameField.setText(recipe.getName());
+    }
+
+    private void deleteSelectedRecipe() {
+        String name = (String) recipeComboBox.getSelectedItem();
+        if (name == null) {
+            return;
+        }
+        if (JOptionPane.showConfirmDialog(this, "确定删除配方 \"" + name + "\"？", "确认",
+                JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
+            recipeManager.deleteRecipe(name);
+            refreshRecipeNames();
+        }
+    }
+
+    private void refreshRecipeNames() {
+        recipeComboBox.removeAllItems();
+        for (String name : recipeManager.getRecipeNames()) {
+            recipeComboBox.addItem(name);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.oxff.ui.components;
+
+import org.oxff.operation.config.ConfigField;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.OperationConfig;
+
+import javax.swing.*;
+import java.awt.*;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 根据 {@link ConfigSchema} 生成的配置面板
+ * 整数使用微调框，布尔使用复选框，选项不超过3个的选择项使用单选按钮，其余使用下拉框，文本使用文本框
+ */
+public class ConfigSchemaPanel extends JPanel {
+    private static final int MAX_RADIO_OPTIONS = 3;
+
+    private final ConfigSchema schema;
+    private final Map<String, JComponent> editors = new LinkedHashMap<>();
+    private final Map<String, List<JRadioButton>> radioGroups = new LinkedHashMap<>();
+    private final Map<String, List<JComponent>> fieldComponents = new LinkedHashMap<>();
+
+    public ConfigSchemaPanel(ConfigSchema schema) {
+        super(new GridBagLayout());
+        this.schema = schema;
+        setBorder(BorderFactory.createTitledBorder(schema.getTitle()));
+        buildRows();
+        updateEnabledStates();
+    }
+
+    public ConfigSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * 获取配置项对应的编辑组件，用于添加额外的联动逻辑
+     * 单选按钮组返回包含所有单选按钮的面板
+     * @param key 配置项名称
+     * @return 编辑组件，不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends JComponent> T getEditor(String key) {
+        return (T) editors.get(key);
+    }
+
+    /**
+     * 读取当前配置
+     * @return 配置
+     * @throws IllegalArgumentException 输入的取值无效时抛出，消息为错误说明
+     */
+    public OperationConfig readConfig() {
+        OperationConfig.Builder builder = schema.newConfig();
+        for (ConfigField field : schema.getFields()) {
+            builder.set(field.getKey(), readValue(field));
+        }
+        return builder.build();
+    }
+
+    private void buildRows() {
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 10, 5, 10);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        List<ConfigField> fields = schema.getFields();
+        int row = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            ConfigField field = fields.get(i);
+            JComponent editor = createEditor(field);
+            gbc.gridy = row++;
+
+            // 复选框后紧跟依赖它的配置项时，放在同一行，如"数字 [x]  个数: [4]"
+            ConfigField next = i + 1 < fields.size() ? fields.get(i + 1) : null;
+            if (field.getType() == ConfigField.Type.BOOLEAN && next != null
+                    && field.getKey().equals(next.getDependsOnKey())) {
+                JComponent nextEditor = createEditor(next);
+                JLabel nextLabel = new JLabel(next.getLabel() + ":");
+                JPanel nextPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+                nextPanel.add(nextLabel);
+                nextPanel.add(nextEditor);
+                addComponents(next.getKey(), nextLabel, nextEditor);
+
+                gbc.gridx = 0;
+                add(editor, gbc);
+                gbc.gridx = 1;
+                add(nextPanel, gbc);
+                i++;
+                continue;
+            }
+
+            gbc.gridx = 0;
+            if (field.getType() == ConfigField.Type.BOOLEAN) {
+                add(new JLabel(), gbc);
+            } else {
+                JLabel label = new JLabel(field.getLabel() + ":");
+                add(label, gbc);
+                addComponents(field.getKey(), label);
+            }
+            gbc.gridx = 1;
+            add(editor, gbc);
+        }
+    }
+
+    private JComponent createEditor(ConfigField field) {
+        JComponent editor;
+        switch (field.getType()) {
+            case INT:
+                JSpinner spinner = new JSpinner(new SpinnerNumberModel(
+                    (int) (Integer) field.getDefaultValue(), field.getMin(), field.getMax(), field.getStep()));
+                spinner.setPreferredSize(new Dimension(80, 25));
+                spinner.addChangeListener(e -> updateEnabledStates());
+                editor = spinner;
+                break;
+            case BOOLEAN:
+                JCheckBox checkBox = new JCheckBox(field.getLabel(), (Boolean) field.getDefaultValue());
+                checkBox.addActionListener(e -> updateEnabledStates());
+                editor = checkBox;
+                break;
+            case CHOICE:
+                editor = field.isEditable() || field.getOptions().size() > MAX_RADIO_OPTIONS
+                    ? createComboBox(field) : createRadioGroup(field);
+                break;
+            default:
+                JTextField textField = new JTextField((String) field.getDefaultValue(), 20);
+                editor = textField;
+                break;
+        }
+        editors.put(field.getKey(), editor);
+        addComponents(field.getKey(), editor);
+        return editor;
+    }
+
+    private JComponent createComboBox(ConfigField field) {
+        JComboBox<String> comboBox = new JComboBox<>(field.getOptionLabels().toArray(new String[0]));
+        comboBox.setEditable(field.isEditable());
+        int index = field.getOptions().indexOf(field.getDefaultValue());
+        if (index >= 0) {
+            comboBox.setSelectedIndex(index);
+        } else {
+            comboBox.setSelectedItem(field.getDefaultValue());
+        }
+        comboBox.setPreferredSize(new Dimension(200, 25));
+        comboBox.addActionListener(e -> updateEnabledStates());
+        return comboBox;
+    }
+
+    private JComponent createRadioGroup(ConfigField field) {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        ButtonGroup group = new ButtonGroup();
+        List<JRadioButton> radios = new ArrayList<>();
+        for (int i = 0; i < field.getOptions().size(); i++) {
+            JRadioButton radio = new JRadioButton(field.getOptionLabels().get(i),
+                field.getOptions().get(i).equals(field.getDefaultValue()));
+            radio.addActionListener(e -> updateEnabledStates());
+            group.add(radio);
+            panel.add(radio);
+            radios.add(radio);
+        }
+        radioGroups.put(field.getKey(), radios);
+        fieldComponents.computeIfAbsent(field.getKey(), key -> new ArrayList<>()).addAll(radios);
+        return panel;
+    }
+
+    private void addComponents(String key, JComponent... components) {
+        List<JComponent> list = fieldComponents.computeIfAbsent(key, k -> new ArrayList<>());
+        for (JComponent component : components) {
+            list.add(component);
+        }
+    }
+
+    /**
+     * 读取配置项的原始取值，由 {@link ConfigField#coerce(Object)} 转换和校验
+     */
+    private Object readValue(ConfigField field) {
+        JComponent editor = editors.get(field.getKey());
+        switch (field.getType()) {
+            case INT:
+                JSpinner spinner = (JSpinner) editor;
+                try {
+                    spinner.commitEdit();
+                } catch (ParseException e) {
+                    // 输入无效时使用最后一个有效值
+                }
+                return spinner.getValue();
+            case BOOLEAN:
+                return ((JCheckBox) editor).isSelected();
+            case CHOICE:
+                List<JRadioButton> radios = radioGroups.get(field.getKey());
+                if (radios != null) {
+                    for (int i = 0; i < radios.size(); i++) {
+                        if (radios.get(i).isSelected()) {
+                            return field.getOptions().get(i);
+                        }
+                    }
+                    return field.getDefaultValue();
+                }
+                JComboBox<?> comboBox = (JComboBox<?>) editor;
+                if (comboBox.isEditable()) {
+                    return String.valueOf(comboBox.getEditor().getItem()).trim();
+                }
+                int index = comboBox.getSelectedIndex();
+                return index >= 0 ? field.getOptions().get(index) : field.getDefaultValue();
+            default:
+                return ((JTextField) editor).getText();
+        }
+    }
+
+    /**
+     * 根据依赖条件启用或禁用配置项组件
+     */
+    private void updateEnabledStates() {
+        for (ConfigField field : schema.getFields()) {
+            if (field.getDependsOnKey() == null) {
+                continue;
+            }
+            boolean enabled;
+            try {
+                ConfigField dependsOn = schema.getField(field.getDependsOnKey());
+                enabled = field.getDependsOnValue().equals(dependsOn.coerce(readValue(dependsOn)));
+            } catch (IllegalArgumentException e) {
+                enabled = false;
+            }
+            List<JComponent> components = fieldComponents.get(field.getKey());
+            if (components != null) {
+                for (JComponent component : components) {
+                    component.setEnabled(enabled);
+                }
+            }
+        }
+    }
+}
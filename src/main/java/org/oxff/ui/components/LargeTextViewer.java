@@ -0,0 +1,168 @@
+package org.oxff.ui.components;
+
+import org.oxff.ui.util.LargeTextFile;
+
+import javax.swing.*;
+import javax.swing.text.Position;
+import java.awt.*;
+import java.awt.datatransfer.StringSelection;
+import java.awt.datatransfer.Transferable;
+
+/**
+ * 大结果查看器，只读显示 {@link LargeTextFile}
+ * 基于 JList 虚拟化显示，只读取和绘制可见的行，固定行高避免逐行测量，查看器本身只占用少量内存
+ */
+public class LargeTextViewer extends JPanel {
+    /** 一次最多复制的行数，避免选中大量行时把整个结果读入内存 */
+    private static final int MAX_COPY_ROWS = 100_000;
+    private static final String PROTOTYPE_ROW = "00000000  " + repeat('M', 120);
+
+    private final TextRowModel model = new TextRowModel();
+    private final JList<String> list;
+    private final JLabel infoLabel = new JLabel();
+    private final JTextField gotoField = new JTextField(10);
+
+    public LargeTextViewer() {
+        super(new BorderLayout());
+
+        list = new JList<String>(model) {
+            @Override
+            public int getNextMatch(String prefix, int startIndex, Position.Bias bias) {
+                // 禁用按键查找，查找会逐行读取整个文件
+                return -1;
+            }
+        };
+        list.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 13));
+        list.setPrototypeCellValue(PROTOTYPE_ROW);
+        list.setSelectionMode(ListSelectionModel.SINGLE_INTERVAL_SELECTION);
+        list.setCellRenderer(new RowRenderer());
+        list.setTransferHandler(new RowTransferHandler());
+        add(new JScrollPane(list), BorderLayout.CENTER);
+
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 2));
+        topPanel.add(infoLabel);
+        topPanel.add(new JLabel("跳转到行:"));
+        topPanel.add(gotoField);
+        JButton gotoButton = new JButton("跳转");
+        gotoButton.addActionListener(e -> gotoLine());
+        gotoField.addActionListener(e -> gotoLine());
+        topPanel.add(gotoButton);
+        add(topPanel, BorderLayout.NORTH);
+    }
+
+    /**
+     * 设置显示的文本，传入 null 清空显示
+     * 调用方负责关闭之前显示的文本
+     */
+    public void setDocument(LargeTextFile document) {
+        list.clearSelection();
+        model.setDocument(document);
+        if (document == null) {
+            infoLabel.setText("");
+        } else {
+            infoLabel.setText(String.format("%,d 行，%s（只读）",
+                document.getLineCount(), PerformancePanel.formatBytes(document.getSize())));
+            list.ensureIndexIsVisible(0);
+        }
+    }
+
+    public LargeTextFile getDocument() {
+        return model.document;
+    }
+
+    private void gotoLine() {
+        LargeTextFile document = model.document;
+        if (document == null || document.getRowCount() == 0) {
+            return;
+        }
+        try {
+            int line = Integer.parseInt(gotoField.getText().trim());
+            int index = document.getFirstRowOfLine(Math.max(0, Math.min(document.getLineCount(), line) - 1));
+            list.setSelectedIndex(index);
+            list.ensureIndexIsVisible(index);
+        } catch (NumberFormatException e) {
+            Toolkit.getDefaultToolkit().beep();
+        }
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        java.util.Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    /**
+     * 按需从文件读取行的列表模型
+     */
+    private static class TextRowModel extends AbstractListModel<String> {
+        private LargeTextFile document;
+
+        void setDocument(LargeTextFile newDocument) {
+            int oldSize = getSize();
+            document = null;
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            document = newDocument;
+            if (getSize() > 0) {
+                fireIntervalAdded(this, 0, getSize() - 1);
+            }
+        }
+
+        @Override
+        public int getSize() {
+            return document == null ? 0 : document.getRowCount();
+        }
+
+        @Override
+        public String getElementAt(int index) {
+            return document.getRow(index);
+        }
+    }
+
+    /**
+     * 行渲染器，在文本行的首个显示行前显示行号，超长行拆分出的续行不显示行号
+     */
+    private class RowRenderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            String text;
+            if (index < 0) {
+                text = String.valueOf(value);
+            } else if (model.document.isContinuation(index)) {
+                text = "          " + value;
+            } else {
+                text = String.format("%8d  %s", model.document.getLineOfRow(index) + 1, value);
+            }
+            return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+        }
+    }
+
+    /**
+     * 复制选中行的原始文本，续行直接接在上一行之后，超过上限时只复制前面的部分
+     */
+    private class RowTransferHandler extends TransferHandler {
+        @Override
+        public int getSourceActions(JComponent c) {
+            return COPY;
+        }
+
+        @Override
+        protected Transferable createTransferable(JComponent c) {
+            int first = list.getMinSelectionIndex();
+            if (first < 0) {
+                return null;
+            }
+            int last = Math.min(list.getMaxSelectionIndex(), first + MAX_COPY_ROWS - 1);
+            StringBuilder builder = new StringBuilder();
+            for (int i = first; i <= last; i++) {
+                if (i > first && !model.document.isContinuation(i)) {
+                    builder.append('\n');
+                }
+                builder.append(model.getElementAt(i));
+            }
+            return new StringSelection(builder.toString());
+        }
+    }
+}
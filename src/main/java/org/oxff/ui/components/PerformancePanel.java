@@ -0,0 +1,194 @@
+package org.oxff.ui.components;
+
+import org.oxff.core.metrics.ExecutionPhase;
+import org.oxff.core.metrics.LatencyHistogram;
+import org.oxff.core.metrics.MetricsRegistry;
+import org.oxff.core.metrics.OperationMetrics;
+import org.oxff.ui.controller.ResultCache;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 性能面板，实时显示各操作按阶段统计的耗时分位数、执行次数和数据量
+ * 每秒检查一次统计版本号，有新记录且面板可见时才刷新表格；底部显示结果缓存的命中情况
+ */
+public class PerformancePanel extends JPanel {
+    private static final int REFRESH_INTERVAL_MS = 1000;
+
+    private final MetricsRegistry metrics;
+    private final ResultCache resultCache;
+    private final MetricsTableModel tableModel = new MetricsTableModel();
+    private final JLabel cacheLabel = new JLabel();
+    private final Timer refreshTimer;
+    private long shownVersion = -1;
+    private long shownCacheVersion = -1;
+
+    public PerformancePanel(MetricsRegistry metrics, ResultCache resultCache) {
+        super(new BorderLayout());
+        this.metrics = metrics;
+        this.resultCache = resultCache;
+        setBorder(BorderFactory.createTitledBorder("性能"));
+
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        DefaultTableCellRenderer rightRenderer = new DefaultTableCellRenderer();
+        rightRenderer.setHorizontalAlignment(SwingConstants.RIGHT);
+        for (int i = 1; i < tableModel.getColumnCount(); i++) {
+            table.getColumnModel().getColumn(i).setCellRenderer(rightRenderer);
+        }
+        table.getColumnModel().getColumn(0).setPreferredWidth(120);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        JButton resetButton = new JButton("重置");
+        resetButton.setToolTipText("清空所有操作的性能统计");
+        resetButton.addActionListener(e -> {
+            metrics.reset();
+            resultCache.resetStatistics();
+            refresh();
+        });
+        buttonPanel.add(resetButton);
+        buttonPanel.add(new JLabel("耗时为分位数(p50/p99)和最大值，吞吐量按执行阶段计算"));
+        add(buttonPanel, BorderLayout.NORTH);
+
+        cacheLabel.setBorder(BorderFactory.createEmptyBorder(2, 5, 2, 5));
+        add(cacheLabel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> {
+            if (isShowing() && (metrics.getVersion() != shownVersion
+                    || resultCache.getVersion() != shownCacheVersion)) {
+                refresh();
+            }
+        });
+        refreshTimer.start();
+    }
+
+    /**
+     * 立即刷新表格
+     */
+    public void refresh() {
+        shownVersion = metrics.getVersion();
+        tableModel.setRows(metrics.getAll());
+        refreshCacheLabel();
+    }
+
+    private void refreshCacheLabel() {
+        shownCacheVersion = resultCache.getVersion();
+        long hits = resultCache.getHits();
+        long lookups = hits + resultCache.getMisses();
+        cacheLabel.setText(String.format("结果缓存: 命中 %d / 未命中 %d (%.0f%%)，不可缓存 %d，淘汰 %d，%d 项 %s / %s",
+            hits, resultCache.getMisses(), lookups > 0 ? hits * 100.0 / lookups : 0.0,
+            resultCache.getBypasses(), resultCache.getEvictions(), resultCache.size(),
+            formatBytes(resultCache.getCurrentBytes()), formatBytes(resultCache.getMaxBytes())));
+    }
+
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        refreshTimer.stop();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        refreshTimer.start();
+    }
+
+    /**
+     * 格式化纳秒耗时，按数量级选择 µs、ms 或 s
+     */
+    static String formatNanos(long nanos) {
+        if (nanos < 1_000_000L) {
+            return String.format("%.1fµs", nanos / 1_000.0);
+        } else if (nanos < 1_000_000_000L) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.2fs", nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * 格式化字节数
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + "B";
+        } else if (bytes < 1024L * 1024) {
+            return String.format("%.1fKB", bytes / 1024.0);
+        } else if (bytes < 1024L * 1024 * 1024) {
+            return String.format("%.1fMB", bytes / (1024.0 * 1024));
+        }
+        return String.format("%.2fGB", bytes / (1024.0 * 1024 * 1024));
+    }
+
+    /**
+     * 性能统计表格模型，每次刷新时生成快照，避免绘制过程中数据变化
+     */
+    private static class MetricsTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {
+            "操作", "次数",
+            "校验 p50", "准备 p50",
+            "执行 p50", "执行 p99", "执行 max",
+            "渲染 p50", "渲染 p99",
+            "输入", "输出", "MB/s"
+        };
+
+        private List<Object[]> rows = new ArrayList<>();
+
+        void setRows(List<OperationMetrics> metricsList) {
+            List<Object[]> newRows = new ArrayList<>(metricsList.size());
+            for (OperationMetrics m : metricsList) {
+                LatencyHistogram validation = m.getHistogram(ExecutionPhase.VALIDATION);
+                LatencyHistogram preparation = m.getHistogram(ExecutionPhase.INPUT_PREPARATION);
+                LatencyHistogram execute = m.getHistogram(ExecutionPhase.EXECUTE);
+                LatencyHistogram render = m.getHistogram(ExecutionPhase.RENDER);
+                newRows.add(new Object[]{
+                    m.getOperationName(),
+                    m.getExecutionCount(),
+                    formatNanos(validation.getPercentile(50)),
+                    formatNanos(preparation.getPercentile(50)),
+                    formatNanos(execute.getPercentile(50)),
+                    formatNanos(execute.getPercentile(99)),
+                    formatNanos(execute.getMax()),
+                    render.getCount() > 0 ? formatNanos(render.getPercentile(50)) : "-",
+                    render.getCount() > 0 ? formatNanos(render.getPercentile(99)) : "-",
+                    formatBytes(m.getBytesIn()),
+                    formatBytes(m.getBytesOut()),
+                    String.format("%.2f", m.getThroughputMBps())
+                });
+            }
+            rows = newRows;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex == 1 ? Long.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            return rows.get(rowIndex)[columnIndex];
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 import javax.swing.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * UI组件注册表，集中管理UI组件引用
@@ -12,6 +13,8 @@ import java.util.Map;
  */
 public class UIComponentRegistry {
     private final Map<String, JComponent> components = new HashMap<>();
+    // 延迟创建的组件工厂，组件第一次获取时创建
+    private final Map<String, Supplier<? extends JComponent>> factories = new HashMap<>();
 
     // 常用组件名称常量
     public static final String INPUT_TEXT_AREA = "inputTextArea";
@@ -20,11 +23,17 @@ public class UIComponentRegistry {
     public static final String LOG_TEXT_AREA = "logTextArea";
     public static final String OPERATION_TREE = "operationTree";
     public static final String EXECUTE_BUTTON = "executeButton";
+    public static final String CANCEL_BUTTON = "cancelButton";
+    public static final String EXECUTION_PROGRESS_BAR = "executionProgressBar";
+    public static final String STREAM_FILE_BUTTON = "streamFileButton";
+    public static final String RECIPE_BUTTON = "recipeButton";
+    public static final String LIVE_PREVIEW_CHECK_BOX = "livePreviewCheckBox";
     public static final String COPY_INPUT_BUTTON = "copyInputButton";
     public static final String PASTE_INPUT_BUTTON = "pasteInputButton";
     public static final String COPY_OUTPUT_BUTTON = "copyOutputButton";
     public static final String CLEAR_INPUT_BUTTON = "clearInputButton";
     public static final String CLEAR_EXPRESSION_BUTTON = "clearExpressionButton";
+    public static final String FORMAT_INDENT_COMBO_BOX = "formatIndentComboBox";
     public static final String SWAP_BUTTON = "swapButton";
     public static final String WRAP_CHECK_BOX = "wrapCheckBox";
     public static final String SELECT_IMAGE_BUTTON = "selectImageButton";
@@ -33,7 +42,6 @@ public class UIComponentRegistry {
     public static final String IMAGE_INPUT_PANEL = "imageInputPanel";
     public static final String TIMEZONE_COMBO_BOX = "timezoneComboBox";
     public static final String TIMEZONE_CONFIG_PANEL = "timezoneConfigPanel";
-    public static final String AUTOMATION_CONFIG_PANEL = "automationConfigPanel";
     public static final String EXPRESSION_PANEL = "expressionPanel";
     public static final String OUTPUT_PANEL = "outputPanel";
     public static final String OUTPUT_CARDS_PANEL = "outputCardsPanel";
@@ -45,61 +53,55 @@ public class UIComponentRegistry {
     public static final String SAVE_OUTPUT_BUTTON = "saveOutputButton";
     public static final String AUTO_SAVE_CHECK_BOX = "autoSaveCheckBox";
     public static final String DIRECT_FILE_OUTPUT_CHECK_BOX = "directFileOutputCheckBox";
+    public static final String OUTPUT_TEXT_CARDS_PANEL = "outputTextCardsPanel";
+    public static final String LARGE_TEXT_VIEWER = "largeTextViewer";
 
     // 自动保存目录配置相关组件
     public static final String SELECT_AUTO_SAVE_DIR_BUTTON = "selectAutoSaveDirButton";
     public static final String CURRENT_AUTO_SAVE_DIR_LABEL = "currentAutoSaveDirLabel";
 
-    // 自动化配置相关组件
-    public static final String DELAY_SECONDS_SPINNER = "delaySecondsSpinner";
-    public static final String CHAR_INTERVAL_MS_SPINNER = "charIntervalMsSpinner";
-    public static final String INPUT_SOURCE_RADIO = "inputSourceRadio";
-    public static final String CLIPBOARD_SOURCE_RADIO = "clipboardSourceRadio";
-
-    // Base编码配置相关组件
-    public static final String BASE_ENCODING_COMBO_BOX = "baseEncodingComboBox";
-    public static final String SELECT_FILE_BUTTON = "selectFileButton";
-    public static final String SELECTED_FILE_LABEL = "selectedFileLabel";
-
-    // 密码生成器配置相关组件
-    public static final String PASSWORD_LENGTH_SPINNER = "passwordLengthSpinner";
-    public static final String INCLUDE_DIGITS_CHECK_BOX = "includeDigitsCheckBox";
-    public static final String DIGIT_COUNT_SPINNER = "digitCountSpinner";
-    public static final String INCLUDE_UPPERCASE_CHECK_BOX = "includeUppercaseCheckBox";
-    public static final String UPPERCASE_COUNT_SPINNER = "uppercaseCountSpinner";
-    public static final String INCLUDE_LOWERCASE_CHECK_BOX = "includeLowercaseCheckBox";
-    public static final String LOWERCASE_COUNT_SPINNER = "lowercaseCountSpinner";
-    public static final String INCLUDE_SPECIAL_CHARS_CHECK_BOX = "includeSpecialCharsCheckBox";
-    public static final String SPECIAL_CHAR_COUNT_SPINNER = "specialCharCountSpinner";
-    public static final String PASSWORD_COUNT_SPINNER = "passwordCountSpinner";
-
     // 输入卡片容器
     public static final String INPUT_CARDS_CONTAINER = "inputCardsContainer";
+    // 输入框下方的选项区域，显示文本输入的可配置操作的配置面板
+    public static final String INPUT_OPTIONS_CONTAINER = "inputOptionsContainer";
+
+    // 操作面板相关组件，按操作名称注册，见 configPanelKey 等方法
+    private static final String OPERATION_PANEL_PREFIX = "operationPanel:";
+    private static final String CONFIG_PANEL_PREFIX = "configPanel:";
+    private static final String LINE_INPUT_FIELD_PREFIX = "lineInputField:";
+    private static final String SELECTED_FILE_LABEL_PREFIX = "selectedFileLabel:";
+
+    /**
+     * 获取操作面板的注册名称，操作面板通过工厂在第一次获取时创建，同时注册其中的配置面板和输入组件
+     * @param operationName 操作名称
+     */
+    public static String operationPanelKey(String operationName) {
+        return OPERATION_PANEL_PREFIX + operationName;
+    }
 
-    // 时间戳配置相关组件
-    // 获取当前时间配置
-    public static final String GET_CURRENT_TIMEZONE_COMBO_BOX = "getCurrentTimezoneComboBox";
-    public static final String GET_CURRENT_DATETIME_RADIO = "getCurrentDatetimeRadio";
-    public static final String GET_CURRENT_TIMESTAMP_RADIO = "getCurrentTimestampRadio";
-    public static final String GET_CURRENT_DATE_FORMAT_COMBO_BOX = "getCurrentDateFormatComboBox";
-    public static final String GET_CURRENT_DATE_FORMAT_TEXT_FIELD = "getCurrentDateFormatTextField";
-    public static final String GET_CURRENT_10_DIGITS_RADIO = "getCurrent10DigitsRadio";
-    public static final String GET_CURRENT_13_DIGITS_RADIO = "getCurrent13DigitsRadio";
-    public static final String GET_CURRENT_PAD_WITH_ZERO_CHECK_BOX = "getCurrentPadWithZeroCheckBox";
-
-    // 时间戳转日期配置
-    public static final String TO_DATETIME_TIMEZONE_COMBO_BOX = "toDatetimeTimezoneComboBox";
-    public static final String TO_DATETIME_FORMAT_COMBO_BOX = "toDatetimeFormatComboBox";
-    public static final String TO_DATETIME_FORMAT_TEXT_FIELD = "toDatetimeFormatTextField";
-    public static final String TIMESTAMP_TO_DATETIME_INPUT_FIELD = "timestampToDatetimeInputField";
-
-    // 日期转时间戳配置
-    public static final String TO_TIMESTAMP_FORMAT_COMBO_BOX = "toTimestampFormatComboBox";
-    public static final String TO_TIMESTAMP_FORMAT_TEXT_FIELD = "toTimestampFormatTextField";
-    public static final String TO_TIMESTAMP_10_DIGITS_RADIO = "toTimestamp10DigitsRadio";
-    public static final String TO_TIMESTAMP_13_DIGITS_RADIO = "toTimestamp13DigitsRadio";
-    public static final String TO_TIMESTAMP_PAD_WITH_ZERO_CHECK_BOX = "toTimestampPadWithZeroCheckBox";
-    public static final String DATETIME_TO_TIMESTAMP_INPUT_FIELD = "datetimeToTimestampInputField";
+    /**
+     * 获取操作配置面板的注册名称
+     * @param operationName 操作名称
+     */
+    public static String configPanelKey(String operationName) {
+        return CONFIG_PANEL_PREFIX + operationName;
+    }
+
+    /**
+     * 获取操作单行输入框的注册名称
+     * @param operationName 操作名称
+     */
+    public static String lineInputFieldKey(String operationName) {
+        return LINE_INPUT_FIELD_PREFIX + operationName;
+    }
+
+    /**
+     * 获取操作文件状态标签的注册名称
+     * @param operationName 操作名称
+     */
+    public static String selectedFileLabelKey(String operationName) {
+        return SELECTED_FILE_LABEL_PREFIX + operationName;
+    }
 
     /**
      * 注册组件
@@ -111,13 +113,31 @@ public class UIComponentRegistry {
     }
 
     /**
-     * 获取组件
+     * 注册组件工厂，组件在第一次通过 {@link #getComponent} 获取时创建并注册
+     * 只在EDT上使用
+     * @param name 组件名称
+     * @param factory 组件工厂，可在创建时注册其他组件
+     */
+    public void registerFactory(String name, Supplier<? extends JComponent> factory) {
+        factories.put(name, factory);
+    }
+
+    /**
+     * 获取组件，组件未创建但已注册工厂时先创建
      * @param name 组件名称
      * @return 组件对象，如果不存在返回 null
      */
     @SuppressWarnings("unchecked")
     public <T extends JComponent> T getComponent(String name) {
-        return (T) components.get(name);
+        JComponent component = components.get(name);
+        if (component == null) {
+            Supplier<? extends JComponent> factory = factories.remove(name);
+            if (factory != null) {
+                component = factory.get();
+                components.put(name, component);
+            }
+        }
+        return (T) component;
     }
 
     /**
@@ -162,35 +182,23 @@ public class UIComponentRegistry {
     }
 
     /**
-     * 获取延迟时间输入框
-     * @return 延迟时间输入框
-     */
-    public JSpinner getDelaySecondsSpinner() {
-        return getComponent(DELAY_SECONDS_SPINNER);
-    }
-
-    /**
-     * 获取字符间隔输入框
-     * @return 字符间隔输入框
+     * 获取操作配置面板
+     * @param operationName 操作名称
+     * @return 配置面板，操作不可配置时返回 null
      */
-    public JSpinner getCharIntervalMsSpinner() {
-        return getComponent(CHAR_INTERVAL_MS_SPINNER);
+    public ConfigSchemaPanel getConfigPanel(String operationName) {
+        getComponent(operationPanelKey(operationName));
+        return getComponent(configPanelKey(operationName));
     }
 
     /**
-     * 获取输入来源单选按钮
-     * @return 输入来源单选按钮
+     * 获取操作的单行输入框
+     * @param operationName 操作名称
+     * @return 单行输入框，操作不使用单行输入时返回 null
      */
-    public JRadioButton getInputSourceRadio() {
-        return getComponent(INPUT_SOURCE_RADIO);
-    }
-
-    /**
-     * 获取剪贴板来源单选按钮
-     * @return 剪贴板来源单选按钮
-     */
-    public JRadioButton getClipboardSourceRadio() {
-        return getComponent(CLIPBOARD_SOURCE_RADIO);
+    public JTextField getLineInputField(String operationName) {
+        getComponent(operationPanelKey(operationName));
+        return getComponent(lineInputFieldKey(operationName));
     }
 
     /**
@@ -249,13 +257,29 @@ public class UIComponentRegistry {
         return getComponent(DIRECT_FILE_OUTPUT_CHECK_BOX);
     }
 
+    /**
+     * 获取文本输出区域的卡片面板，在普通文本区域和大结果查看器之间切换
+     * @return 文本输出卡片面板
+     */
+    public JPanel getOutputTextCardsPanel() {
+        return getComponent(OUTPUT_TEXT_CARDS_PANEL);
+    }
+
+    /**
+     * 获取大结果查看器
+     * @return 大结果查看器
+     */
+    public LargeTextViewer getLargeTextViewer() {
+        return getComponent(LARGE_TEXT_VIEWER);
+    }
+
     /**
      * 检查组件是否已注册
      * @param name 组件名称
-     * @return true 如果组件已注册
+     * @return true 如果组件或其工厂已注册
      */
     public boolean hasComponent(String name) {
-        return components.containsKey(name);
+        return components.containsKey(name) || factories.containsKey(name);
     }
 
     /**
@@ -264,6 +288,7 @@ public class UIComponentRegistry {
      */
     public void unregisterComponent(String name) {
         components.remove(name);
+        factories.remove(name);
     }
 
     /**
@@ -271,5 +296,6 @@ public class UIComponentRegistry {
      */
     public void clear() {
         components.clear();
+        factories.clear();
     }
 }
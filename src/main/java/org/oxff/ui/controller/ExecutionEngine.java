@@ -0,0 +1,213 @@
+package org.oxff.ui.controller;
+
+import org.oxff.core.TaskMonitor;
+
+import javax.swing.*;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 执行引擎，在有界工作线程池中异步执行操作，避免阻塞EDT
+ * 每个执行槽位同一时间只保留一个任务，同一槽位提交的新任务会取代旧任务；
+ * 结果、失败、取消和进度都通过 ExecutionListener 在EDT上回调；
+ * 被取代或丢弃的任务不再回调，其结果如果实现了 AutoCloseable 则由引擎关闭，以释放转存文件等资源
+ */
+public class ExecutionEngine {
+    /**
+     * 主输出区域使用的默认槽位
+     */
+    public static final String DEFAULT_SLOT = "output";
+
+    /**
+     * 实时预览使用的槽位，与主输出的执行互不取代
+     */
+    public static final String PREVIEW_SLOT = "preview";
+
+    private static final int QUEUE_CAPACITY = 32;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExecutionTask<?>> activeTasks = new ConcurrentHashMap<>();
+    private final AtomicLong taskIdGenerator = new AtomicLong();
+
+    public ExecutionEngine() {
+        this(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    }
+
+    public ExecutionEngine(int workerCount) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerCount, workerCount, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "uiTools-worker-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 提交任务，同一槽位正在运行的任务会被取代
+     * @param slot 执行槽位
+     * @param name 任务名称（通常为操作名称）
+     * @param work 要执行的工作
+     * @param listener 结果监听器
+     * @return 任务句柄
+     */
+    public <T> ExecutionTask<T> submit(String slot, String name, Callable<T> work, ExecutionListener<T> listener) {
+        ExecutionTask<T> task = new ExecutionTask<>(taskIdGenerator.incrementAndGet(), slot, name, listener);
+
+        ExecutionTask<?> previous = activeTasks.put(slot, task);
+        if (previous != null) {
+            previous.supersede();
+            executor.purge();
+        }
+
+        try {
+            task.attach(executor.submit(() -> run(task, work)));
+        } catch (RejectedExecutionException e) {
+            deliverFailure(task, new IllegalStateException("执行队列已满，请稍后重试", e));
+        }
+        return task;
+    }
+
+    /**
+     * 取消指定槽位正在运行的任务
+     * @param slot 执行槽位
+     * @return true 如果有任务被取消
+     */
+    public boolean cancel(String slot) {
+        ExecutionTask<?> task = activeTasks.get(slot);
+        if (task == null) {
+            return false;
+        }
+        task.cancel();
+        deliverCancelled(task);
+        return true;
+    }
+
+    /**
+     * 丢弃指定槽位正在运行的任务：中断执行，且不再回调监听器
+     * 用于结果已经过时、不需要任何提示的场景，如实时预览时的新输入
+     * @param slot 执行槽位
+     * @return true 如果有未结束的任务被丢弃
+     */
+    public boolean discard(String slot) {
+        ExecutionTask<?> task = activeTasks.remove(slot);
+        if (task == null || task.isDone()) {
+            return false;
+        }
+        task.supersede();
+        executor.purge();
+        return true;
+    }
+
+    /**
+     * 检查指定槽位是否有任务在运行
+     * @param slot 执行槽位
+     * @return true 如果有任务在运行
+     */
+    public boolean isRunning(String slot) {
+        ExecutionTask<?> task = activeTasks.get(slot);
+        return task != null && !task.isDone();
+    }
+
+    /**
+     * 关闭引擎，中断所有工作线程
+     */
+    public void shutdown() {
+        for (ExecutionTask<?> task : activeTasks.values()) {
+            task.cancel();
+        }
+        activeTasks.clear();
+        executor.shutdownNow();
+    }
+
+    private <T> void run(ExecutionTask<T> task, Callable<T> work) {
+        if (task.isCancelled()) {
+            return;
+        }
+
+        TaskMonitor.bind(task.getMonitor());
+        try {
+            T result = work.call();
+            deliverSuccess(task, result);
+        } catch (CancellationException e) {
+            deliverCancelled(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deliverCancelled(task);
+        } catch (Exception e) {
+            if (task.isCancelled()) {
+                deliverCancelled(task);
+            } else {
+                deliverFailure(task, e);
+            }
+        } finally {
+            TaskMonitor.unbind();
+        }
+    }
+
+    private <T> void deliverSuccess(ExecutionTask<T> task, T result) {
+        SwingUtilities.invokeLater(() -> {
+            if (finish(task)) {
+                task.getListener().onSuccess(task, result);
+            } else {
+                release(result);
+            }
+        });
+    }
+
+    /**
+     * 释放没有交给监听器的结果
+     */
+    private static void release(Object result) {
+        if (result instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) result).close();
+            } catch (Exception e) {
+                // 结果已被丢弃，关闭失败无需处理
+            }
+        }
+    }
+
+    private <T> void deliverFailure(ExecutionTask<T> task, Exception error) {
+        SwingUtilities.invokeLater(() -> {
+            if (finish(task)) {
+                task.getListener().onFailure(task, error);
+            }
+        });
+    }
+
+    private <T> void deliverCancelled(ExecutionTask<T> task) {
+        Runnable callback = () -> {
+            if (finish(task)) {
+                task.getListener().onCancelled(task);
+            }
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            callback.run();
+        } else {
+            SwingUtilities.invokeLater(callback);
+        }
+    }
+
+    /**
+     * 结束任务并从活动列表移除，被取代或已结束的任务返回 false
+     */
+    private boolean finish(ExecutionTask<?> task) {
+        if (task.isSuperseded() || !task.markFinished()) {
+            return false;
+        }
+        activeTasks.remove(task.getSlot(), task);
+        return true;
+    }
+}
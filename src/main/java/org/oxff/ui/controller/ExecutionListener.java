@@ -0,0 +1,38 @@
+package org.oxff.ui.controller;
+
+/**
+ * 执行任务监听器，所有回调都在EDT上触发
+ * 被同一槽位新任务取代的任务不会再收到任何回调，实现 AutoCloseable 的结果由执行引擎关闭
+ * @param <T> 任务结果类型
+ */
+public interface ExecutionListener<T> {
+
+    /**
+     * 任务成功完成
+     * @param task 任务句柄
+     * @param result 执行结果
+     */
+    void onSuccess(ExecutionTask<T> task, T result);
+
+    /**
+     * 任务执行失败
+     * @param task 任务句柄
+     * @param error 异常
+     */
+    void onFailure(ExecutionTask<T> task, Exception error);
+
+    /**
+     * 任务被用户取消
+     * @param task 任务句柄
+     */
+    default void onCancelled(ExecutionTask<T> task) {
+    }
+
+    /**
+     * 任务进度更新
+     * @param task 任务句柄
+     * @param percent 进度百分比，-1 表示进度未知
+     */
+    default void onProgress(ExecutionTask<T> task, int percent) {
+    }
+}
@@ -0,0 +1,125 @@
+package org.oxff.ui.controller;
+
+import org.oxff.core.TaskMonitor;
+
+import javax.swing.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 执行任务句柄，代表执行引擎中的一次运行
+ * 可用于查询状态、取消任务
+ * @param <T> 任务结果类型
+ */
+public class ExecutionTask<T> {
+    private final long id;
+    private final String slot;
+    private final String name;
+    private final long startNanos;
+    private final TaskMonitor monitor;
+    private final ExecutionListener<T> listener;
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    private volatile Future<?> future;
+    private volatile boolean superseded;
+    private volatile int lastPercent = -1;
+
+    ExecutionTask(long id, String slot, String name, ExecutionListener<T> listener) {
+        this.id = id;
+        this.slot = slot;
+        this.name = name;
+        this.listener = listener;
+        this.startNanos = System.nanoTime();
+        this.monitor = new TaskMonitor(this::dispatchProgress);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getSlot() {
+        return slot;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取任务已运行的时间
+     * @return 毫秒数
+     */
+    public long getElapsedMs() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public boolean isCancelled() {
+        return monitor.isCancelled();
+    }
+
+    /**
+     * 检查任务是否被同一槽位的新任务取代
+     * @return true 如果已被取代
+     */
+    public boolean isSuperseded() {
+        return superseded;
+    }
+
+    public boolean isDone() {
+        return finished.get();
+    }
+
+    /**
+     * 取消任务，已开始执行的工作线程会被中断
+     */
+    public void cancel() {
+        monitor.cancel();
+        Future<?> f = future;
+        if (f != null) {
+            f.cancel(true);
+        }
+    }
+
+    TaskMonitor getMonitor() {
+        return monitor;
+    }
+
+    ExecutionListener<T> getListener() {
+        return listener;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+        if (monitor.isCancelled()) {
+            future.cancel(true);
+        }
+    }
+
+    void supersede() {
+        superseded = true;
+        cancel();
+    }
+
+    /**
+     * 标记任务结束，只有第一次调用返回 true
+     */
+    boolean markFinished() {
+        return finished.compareAndSet(false, true);
+    }
+
+    /**
+     * 将工作线程报告的进度转换为百分比，只在百分比变化时回调到EDT
+     */
+    private void dispatchProgress(long done, long total) {
+        int percent = total > 0 ? (int) Math.min(100, done * 100 / total) : -1;
+        if (percent == lastPercent || finished.get()) {
+            return;
+        }
+        lastPercent = percent;
+        SwingUtilities.invokeLater(() -> {
+            if (!finished.get() && !monitor.isCancelled()) {
+                listener.onProgress(this, percent);
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package org.oxff.ui.controller;
+
+/**
+ * 实时预览的自适应策略
+ * 按最近几次执行耗时的滑动平均调整防抖延迟：执行越慢，停止输入后等待越久再执行；
+ * 连续多次超出延迟预算时判定该操作不适合实时预览
+ */
+public class LivePreviewPolicy {
+    public static final int MIN_DEBOUNCE_MS = 150;
+    public static final int MAX_DEBOUNCE_MS = 800;
+    /** 单次预览（执行加显示）的延迟预算 */
+    public static final long LATENCY_BUDGET_MS = 300;
+    private static final int OVER_BUDGET_LIMIT = 3;
+
+    private double averageCostMs;
+    private int overBudgetCount;
+
+    /**
+     * 获取当前的防抖延迟
+     * @return 延迟毫秒数
+     */
+    public int getDebounceMs() {
+        return (int) Math.max(MIN_DEBOUNCE_MS, Math.min(MAX_DEBOUNCE_MS, MIN_DEBOUNCE_MS + averageCostMs));
+    }
+
+    /**
+     * 记录一次预览的耗时，被新输入取消的执行按已运行时间记录
+     * @param costMs 耗时毫秒数
+     * @return true 如果连续超出预算，应关闭实时预览
+     */
+    public boolean recordCost(long costMs) {
+        averageCostMs = averageCostMs == 0 ? costMs : averageCostMs * 0.7 + costMs * 0.3;
+        if (costMs > LATENCY_BUDGET_MS) {
+            overBudgetCount++;
+        } else {
+            overBudgetCount = 0;
+        }
+        return overBudgetCount >= OVER_BUDGET_LIMIT;
+    }
+
+    /**
+     * 清空耗时记录，切换操作或重新开启实时预览时调用
+     */
+    public void reset() {
+        averageCostMs = 0;
+        overBudgetCount = 0;
+    }
+}
@@ -1,5 +1,7 @@
 package org.oxff.ui.controller;
 
+import org.oxff.operation.config.OperationConfig;
+
 /**
  * 操作执行上下文对象
  * 封装操作执行所需的所有上下文信息
@@ -8,27 +10,17 @@ public class OperationExecutionContext {
     private final String operationName;
     private String inputText;
     private final String expressions;
-    private final AutomationConfig automationConfig;
-    private final String timezoneSelection;
+    private final String formatIndent;
     private final String imagePath;
-    private final BaseEncodingConfig baseEncodingConfig;
-    private final PasswordGeneratorConfig passwordGeneratorConfig;
-    private final GetCurrentTimeConfig getCurrentTimeConfig;
-    private final TimestampToDatetimeConfig timestampToDatetimeConfig;
-    private final DatetimeToTimestampConfig datetimeToTimestampConfig;
+    private final OperationConfig operationConfig;
 
     private OperationExecutionContext(Builder builder) {
         this.operationName = builder.operationName;
         this.inputText = builder.inputText;
         this.expressions = builder.expressions;
-        this.automationConfig = builder.automationConfig;
-        this.timezoneSelection = builder.timezoneSelection;
+        this.formatIndent = builder.formatIndent;
         this.imagePath = builder.imagePath;
-        this.baseEncodingConfig = builder.baseEncodingConfig;
-        this.passwordGeneratorConfig = builder.passwordGeneratorConfig;
-        this.getCurrentTimeConfig = builder.getCurrentTimeConfig;
-        this.timestampToDatetimeConfig = builder.timestampToDatetimeConfig;
-        this.datetimeToTimestampConfig = builder.datetimeToTimestampConfig;
+        this.operationConfig = builder.operationConfig;
     }
 
     public String getOperationName() {
@@ -47,36 +39,24 @@ public class OperationExecutionContext {
         return expressions;
     }
 
-    public AutomationConfig getAutomationConfig() {
-        return automationConfig;
-    }
-
-    public String getTimezoneSelection() {
-        return timezoneSelection;
+    /**
+     * 获取格式化缩进字符串
+     * @return 缩进字符串，null 表示使用默认缩进
+     */
+    public String getFormatIndent() {
+        return formatIndent;
     }
 
     public String getImagePath() {
         return imagePath;
     }
 
-    public BaseEncodingConfig getBaseEncodingConfig() {
-        return baseEncodingConfig;
-    }
-
-    public PasswordGeneratorConfig getPasswordGeneratorConfig() {
-        return passwordGeneratorConfig;
-    }
-
-    public GetCurrentTimeConfig getGetCurrentTimeConfig() {
-        return getCurrentTimeConfig;
-    }
-
-    public TimestampToDatetimeConfig getTimestampToDatetimeConfig() {
-        return timestampToDatetimeConfig;
-    }
-
-    public DatetimeToTimestampConfig getDatetimeToTimestampConfig() {
-        return datetimeToTimestampConfig;
+    /**
+     * 获取操作配置
+     * @return 操作配置，null 表示使用操作的默认配置
+     */
+    public OperationConfig getOperationConfig() {
+        return operationConfig;
     }
 
     /**
@@ -86,14 +66,9 @@ public class OperationExecutionContext {
         private String operationName;
         private String inputText = "";
         private String expressions = "";
-        private AutomationConfig automationConfig;
-        private String timezoneSelection;
+        private String formatIndent;
         private String imagePath;
-        private BaseEncodingConfig baseEncodingConfig;
-        private PasswordGeneratorConfig passwordGeneratorConfig;
-        private GetCurrentTimeConfig getCurrentTimeConfig;
-        private TimestampToDatetimeConfig timestampToDatetimeConfig;
-        private DatetimeToTimestampConfig datetimeToTimestampConfig;
+        private OperationConfig operationConfig;
 
         public Builder operationName(String operationName) {
             this.operationName = operationName;
@@ -110,13 +85,8 @@ public class OperationExecutionContext {
             return this;
         }
 
-        public Builder automationConfig(AutomationConfig automationConfig) {
-            this.automationConfig = automationConfig;
-            return this;
-        }
-
-        public Builder timezoneSelection(String timezoneSelection) {
-            this.timezoneSelection = timezoneSelection;
+        public Builder formatIndent(String formatIndent) {
+            this.formatIndent = formatIndent;
             return this;
         }
 
@@ -125,28 +95,8 @@ public class OperationExecutionContext {
             return this;
         }
 
-        public Builder baseEncodingConfig(BaseEncodingConfig baseEncodingConfig) {
-            this.baseEncodingConfig = baseEncodingConfig;
-            return this;
-        }
-
-        public Builder passwordGeneratorConfig(PasswordGeneratorConfig passwordGeneratorConfig) {
-            this.passwordGeneratorConfig = passwordGeneratorConfig;
-            return this;
-        }
-
-        public Builder getCurrentTimeConfig(GetCurrentTimeConfig getCurrentTimeConfig) {
-            this.getCurrentTimeConfig = getCurrentTimeConfig;
-            return this;
-        }
-
-        public Builder timestampToDatetimeConfig(TimestampToDatetimeConfig timestampToDatetimeConfig) {
-            this.timestampToDatetimeConfig = timestampToDatetimeConfig;
-            return this;
-        }
-
-        public Builder datetimeToTimestampConfig(DatetimeToTimestampConfig datetimeToTimestampConfig) {
-            this.datetimeToTimestampConfig = datetimeToTimestampConfig;
+        public Builder operationConfig(OperationConfig operationConfig) {
+            this.operationConfig = operationConfig;
             return this;
         }
 
@@ -154,208 +104,4 @@ public class OperationExecutionContext {
             return new OperationExecutionContext(this);
         }
     }
-
-    /**
-     * 自动化操作配置
-     */
-    public static class AutomationConfig {
-        private final int delaySeconds;
-        private final int charIntervalMs;
-        private final boolean useClipboard;
-
-        public AutomationConfig(int delaySeconds, int charIntervalMs, boolean useClipboard) {
-            this.delaySeconds = delaySeconds;
-            this.charIntervalMs = charIntervalMs;
-            this.useClipboard = useClipboard;
-        }
-
-        public int getDelaySeconds() {
-            return delaySeconds;
-        }
-
-        public int getCharIntervalMs() {
-            return charIntervalMs;
-        }
-
-        public boolean isUseClipboard() {
-            return useClipboard;
-        }
-    }
-
-    /**
-     * Base编码配置
-     */
-    public static class BaseEncodingConfig {
-        private final String encodingType;  // "Base64" 或 "Base32"
-
-        public BaseEncodingConfig(String encodingType) {
-            this.encodingType = encodingType;
-        }
-
-        public String getEncodingType() {
-            return encodingType;
-        }
-    }
-
-    /**
-     * 密码生成器配置
-     */
-    public static class PasswordGeneratorConfig {
-        private final int passwordLength;
-        private final boolean includeDigits;
-        private final int digitCount;
-        private final boolean includeUppercase;
-        private final int uppercaseCount;
-        private final boolean includeLowercase;
-        private final int lowercaseCount;
-        private final boolean includeSpecialChars;
-        private final int specialCharCount;
-        private final int passwordCount;
-
-        public PasswordGeneratorConfig(int passwordLength,
-                                       boolean includeDigits, int digitCount,
-                                       boolean includeUppercase, int uppercaseCount,
-                                       boolean includeLowercase, int lowercaseCount,
-                                       boolean includeSpecialChars, int specialCharCount,
-                                       int passwordCount) {
-            this.passwordLength = passwordLength;
-            this.includeDigits = includeDigits;
-            this.digitCount = digitCount;
-            this.includeUppercase = includeUppercase;
-            this.uppercaseCount = uppercaseCount;
-            this.includeLowercase = includeLowercase;
-            this.lowercaseCount = lowercaseCount;
-            this.includeSpecialChars = includeSpecialChars;
-            this.specialCharCount = specialCharCount;
-            this.passwordCount = passwordCount;
-        }
-
-        public int getPasswordLength() {
-            return passwordLength;
-        }
-
-        public boolean isIncludeDigits() {
-            return includeDigits;
-        }
-
-        public int getDigitCount() {
-            return digitCount;
-        }
-
-        public boolean isIncludeUppercase() {
-            return includeUppercase;
-        }
-
-        public int getUppercaseCount() {
-            return uppercaseCount;
-        }
-
-        public boolean isIncludeLowercase() {
-            return includeLowercase;
-        }
-
-        public int getLowercaseCount() {
-            return lowercaseCount;
-        }
-
-        public boolean isIncludeSpecialChars() {
-            return includeSpecialChars;
-        }
-
-        public int getSpecialCharCount() {
-            return specialCharCount;
-        }
-
-        public int getPasswordCount() {
-            return passwordCount;
-        }
-    }
-
-    /**
-     * 获取当前时间配置
-     */
-    public static class GetCurrentTimeConfig {
-        private final String timezoneId;
-        private final String outputType;
-        private final String dateFormat;
-        private final String timestampDigits;
-        private final boolean padWithZero;
-
-        public GetCurrentTimeConfig(String timezoneId, String outputType, String dateFormat,
-                                   String timestampDigits, boolean padWithZero) {
-            this.timezoneId = timezoneId;
-            this.outputType = outputType;
-            this.dateFormat = dateFormat;
-            this.timestampDigits = timestampDigits;
-            this.padWithZero = padWithZero;
-        }
-
-        public String getTimezoneId() {
-            return timezoneId;
-        }
-
-        public String getOutputType() {
-            return outputType;
-        }
-
-        public String getDateFormat() {
-            return dateFormat;
-        }
-
-        public String getTimestampDigits() {
-            return timestampDigits;
-        }
-
-        public boolean isPadWithZero() {
-            return padWithZero;
-        }
-    }
-
-    /**
-     * 时间戳转日期配置
-     */
-    public static class TimestampToDatetimeConfig {
-        private final String timezoneId;
-        private final String dateFormat;
-
-        public TimestampToDatetimeConfig(String timezoneId, String dateFormat) {
-            this.timezoneId = timezoneId;
-            this.dateFormat = dateFormat;
-        }
-
-        public String getTimezoneId() {
-            return timezoneId;
-        }
-
-        public String getDateFormat() {
-            return dateFormat;
-        }
-    }
-
-    /**
-     * 日期转时间戳配置
-     */
-    public static class DatetimeToTimestampConfig {
-        private final String inputFormat;
-        private final String outputDigits;
-        private final boolean padWithZero;
-
-        public DatetimeToTimestampConfig(String inputFormat, String outputDigits, boolean padWithZero) {
-            this.inputFormat = inputFormat;
-            this.outputDigits = outputDigits;
-            this.padWithZero = padWithZero;
-        }
-
-        public String getInputFormat() {
-            return inputFormat;
-        }
-
-        public String getOutputDigits() {
-            return outputDigits;
-        }
-
-        public boolean isPadWithZero() {
-            return padWithZero;
-        }
-    }
 }
@@ -1,9 +1,21 @@
 package org.oxff.ui.controller;
 
+import org.oxff.core.OperationCategory;
 import org.oxff.core.OperationFactory;
+import org.oxff.core.TaskMonitor;
+import org.oxff.core.metrics.ExecutionPhase;
+import org.oxff.core.metrics.MetricsRegistry;
+import org.oxff.core.metrics.OperationExecutionEvent;
+import org.oxff.core.metrics.PhaseTimings;
+import org.oxff.operation.InputType;
 import org.oxff.operation.Operation;
+import org.oxff.operation.config.ConfigSchema;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
+import org.oxff.operation.formatting.ExpressionOperation;
+import org.oxff.operation.formatting.IndentableOperation;
 
-import java.lang.reflect.Method;
+import java.io.File;
 
 /**
  * 操作执行器，负责执行操作的核心逻辑
@@ -11,9 +23,25 @@ import java.lang.reflect.Method;
  */
 public class OperationExecutor {
     private final OperationValidator validator;
+    private final MetricsRegistry metrics;
+    private final ResultCache resultCache;
 
     public OperationExecutor(OperationValidator validator) {
+        this(validator, MetricsRegistry.getDefault());
+    }
+
+    public OperationExecutor(OperationValidator validator, MetricsRegistry metrics) {
+        this(validator, metrics, new ResultCache());
+    }
+
+    public OperationExecutor(OperationValidator validator, MetricsRegistry metrics, ResultCache resultCache) {
         this.validator = validator;
+        this.metrics = metrics;
+        this.resultCache = resultCache;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
     }
 
     /**
@@ -23,7 +51,33 @@ public class OperationExecutor {
      * @throws Exception 执行失败时抛出异常
      */
     public ExecutionResult execute(OperationExecutionContext context) throws Exception {
+        OperationExecutionEvent event = new OperationExecutionEvent();
+        event.begin();
+        ExecutionResult result = null;
+        try {
+            result = executeTimed(context);
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operationName = context.getOperationName();
+                event.succeeded = result != null;
+                if (result != null) {
+                    event.inputBytes = result.getInputBytes();
+                    event.outputBytes = result.getOutputBytes();
+                }
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 执行操作并记录各阶段耗时
+     */
+    private ExecutionResult executeTimed(OperationExecutionContext context) throws Exception {
         String operationName = context.getOperationName();
+        PhaseTimings timings = new PhaseTimings();
+        long phaseStart = System.nanoTime();
 
         // 验证操作
         OperationValidator.ValidationResult validation = validator.validateExecution(
@@ -37,244 +91,171 @@ public class OperationExecutor {
         if (operation == null) {
             throw new IllegalArgumentException("未找到操作: " + operationName);
         }
+        phaseStart = endPhase(timings, ExecutionPhase.VALIDATION, phaseStart);
 
         // 准备输入文本
         String inputText = prepareInputForOperation(context);
 
-        // 配置自动化操作
-        if (validator.isAutomationOperation(operationName) && context.getAutomationConfig() != null) {
-            handleAutomationConfig(operation, context.getAutomationConfig());
-        }
-
-        // 配置Base编码操作
-        if (validator.requiresBaseEncodingConfig(operationName) && context.getBaseEncodingConfig() != null) {
-            handleBaseEncodingConfig(operation, context.getBaseEncodingConfig());
-        }
-
-        // 配置密码生成器操作
-        if (validator.requiresPasswordGeneratorConfig(operationName) && context.getPasswordGeneratorConfig() != null) {
-            handlePasswordGeneratorConfig(operation, context.getPasswordGeneratorConfig());
+        // 按操作声明的配置结构解析配置，未提供配置时使用默认配置
+        OperationConfig config = null;
+        if (operation instanceof ConfigurableOperation) {
+            config = resolveConfig((ConfigurableOperation) operation, context.getOperationConfig());
         }
 
-        // 配置获取当前时间操作
-        if (validator.requiresGetCurrentTimeConfig(operationName) && context.getGetCurrentTimeConfig() != null) {
-            handleGetCurrentTimeConfig(operation, context.getGetCurrentTimeConfig());
+        // 确定性的文本输入操作按内容查找缓存，只有会影响结果的表达式和缩进参与缓存键
+        ResultCache.Key cacheKey = null;
+        if (isCacheable(operation)) {
+            cacheKey = ResultCache.key(operationName, config,
+                operation instanceof ExpressionOperation ? context.getExpressions() : null,
+                operation instanceof IndentableOperation ? context.getFormatIndent() : null,
+                inputText);
+        } else {
+            resultCache.recordBypass();
         }
+        phaseStart = endPhase(timings, ExecutionPhase.INPUT_PREPARATION, phaseStart);
 
-        // 配置时间戳转日期操作
-        if (validator.requiresTimestampToDatetimeConfig(operationName) && context.getTimestampToDatetimeConfig() != null) {
-            handleTimestampToDatetimeConfig(operation, context.getTimestampToDatetimeConfig());
-        }
+        // 执行前检查是否已被取消，避免执行已过期的任务
+        TaskMonitor.current().checkCancelled();
 
-        // 配置日期转时间戳操作
-        if (validator.requiresDatetimeToTimestampConfig(operationName) && context.getDatetimeToTimestampConfig() != null) {
-            handleDatetimeToTimestampConfig(operation, context.getDatetimeToTimestampConfig());
+        // 命中缓存时直接返回，不计入操作的执行统计
+        if (cacheKey != null) {
+            ExecutionResult cached = resultCache.get(cacheKey);
+            if (cached != null) {
+                endPhase(timings, ExecutionPhase.EXECUTE, phaseStart);
+                return cached.cacheHit(timings);
+            }
         }
 
-        long startTime = System.currentTimeMillis();
-        String result;
+        ExecutionResult executionResult;
 
         // 检查是否是返回图片的操作
         if (operation.returnsImage()) {
-            String imageData = operation.getImageData(inputText);
-            long endTime = System.currentTimeMillis();
-            return new ExecutionResult(imageData, true, endTime - startTime);
-        }
-
-        // 对于XML和JSON格式化操作，如果有表达式输入，使用特殊处理
-        if (!context.getExpressions().isEmpty()) {
-            result = executeWithExpression(operation, inputText, context.getExpressions());
+            byte[] imageBytes = operation.getImageBytes(inputText);
+            endPhase(timings, ExecutionPhase.EXECUTE, phaseStart);
+            executionResult = new ExecutionResult(imageBytes, timings);
         } else {
-            result = operation.execute(inputText);
-        }
-
-        long endTime = System.currentTimeMillis();
-        return new ExecutionResult(result, false, endTime - startTime,
-            !context.getExpressions().isEmpty());
-    }
-
-    /**
-     * 准备操作输入
-     * @param context 操作执行上下文
-     * @return 准备好的输入文本
-     */
-    public String prepareInputForOperation(OperationExecutionContext context) {
-        String operationName = context.getOperationName();
-        String inputText = context.getInputText();
-
-        // 对于二维码解析操作，使用图片文件路径
-        if (validator.requiresImageInput(operationName)) {
-            if (context.getImagePath() != null && !context.getImagePath().isEmpty()) {
-                return context.getImagePath();
+            String result;
+            boolean usedExpressions = !context.getExpressions().isEmpty() && operation instanceof ExpressionOperation;
+
+            // 对于支持表达式的操作（XML和JSON格式化），如果有表达式输入，使用表达式过滤
+            if (usedExpressions) {
+                result = ((ExpressionOperation) operation).execute(inputText, context.getExpressions());
+            } else if (operation instanceof IndentableOperation && context.getFormatIndent() != null) {
+                result = ((IndentableOperation) operation).format(inputText, context.getFormatIndent());
+            } else if (config != null) {
+                // 配置随本次调用传入，同一操作实例可被多个线程以不同配置同时执行
+                result = ((ConfigurableOperation) operation).execute(inputText, config);
+            } else {
+                result = operation.execute(inputText);
             }
-            // 否则使用输入框中的内容（可能是Base64编码的图片）
-            return inputText;
+            endPhase(timings, ExecutionPhase.EXECUTE, phaseStart);
+            executionResult = new ExecutionResult(result, timings, usedExpressions);
         }
 
-        // 对于Base编码配置操作，使用图片文件路径
-        if (validator.requiresBaseEncodingConfig(operationName)) {
-            if (context.getImagePath() != null && !context.getImagePath().isEmpty()) {
-                return context.getImagePath();
-            }
-            // 否则使用输入框中的内容
-            return inputText;
+        executionResult.inputBytes = inputBytes(operation, inputText);
+        metrics.recordExecution(operationName, timings,
+            executionResult.getInputBytes(), executionResult.getOutputBytes());
+        if (cacheKey != null) {
+            resultCache.put(cacheKey, executionResult);
         }
-
-        return inputText;
+        return executionResult;
     }
 
     /**
-     * 处理自动化操作配置
-     * @param operation 操作对象
-     * @param config 自动化配置
-     * @throws Exception 反射调用失败时抛出异常
+     * 判断操作结果是否可以缓存：结果确定、没有副作用，且输入是文本本身而不是文件路径
      */
-    public void handleAutomationConfig(Operation operation, OperationExecutionContext.AutomationConfig config)
-            throws Exception {
-        try {
-            Method setDelayMethod = operation.getClass().getMethod("setDelaySeconds", int.class);
-            Method setIntervalMethod = operation.getClass().getMethod("setCharIntervalMs", int.class);
-            Method setClipboardMethod = operation.getClass().getMethod("setUseClipboard", boolean.class);
-
-            setDelayMethod.invoke(operation, config.getDelaySeconds());
-            setIntervalMethod.invoke(operation, config.getCharIntervalMs());
-            setClipboardMethod.invoke(operation, config.isUseClipboard());
-        } catch (Exception e) {
-            throw new Exception("设置自动化配置失败: " + e.getMessage(), e);
-        }
+    private boolean isCacheable(Operation operation) {
+        InputType inputType = operation.getInputType();
+        return operation.isDeterministic()
+            && operation.getCategory() != OperationCategory.AUTOMATION
+            && (inputType == InputType.TEXT || inputType == InputType.LINE)
+            && resultCache.getMaxBytes() > 0;
     }
 
     /**
-     * 处理Base编码配置
-     * @param operation 操作对象
-     * @param config Base编码配置
-     * @throws Exception 反射调用失败时抛出异常
+     * 结束一个阶段的计时
+     * @return 下一阶段的开始时间
      */
-    public void handleBaseEncodingConfig(Operation operation, OperationExecutionContext.BaseEncodingConfig config)
-            throws Exception {
-        try {
-            Method method = operation.getClass().getMethod("setEncodingType", String.class);
-            method.invoke(operation, config.getEncodingType());
-        } catch (Exception e) {
-            throw new Exception("设置Base编码配置失败: " + e.getMessage(), e);
-        }
+    private static long endPhase(PhaseTimings timings, ExecutionPhase phase, long phaseStart) {
+        long now = System.nanoTime();
+        timings.add(phase, now - phaseStart);
+        return now;
     }
 
     /**
-     * 处理密码生成器配置
-     * @param operation 操作对象
-     * @param config 密码生成器配置
-     * @throws Exception 反射调用失败时抛出异常
+     * 计算输入数据量，文件和图片输入按文件大小计算，文本按UTF-8编码长度计算
      */
-    public void handlePasswordGeneratorConfig(Operation operation,
-                                               OperationExecutionContext.PasswordGeneratorConfig config)
-            throws Exception {
-        try {
-            Method setLengthMethod = operation.getClass().getMethod("setPasswordLength", int.class);
-            Method setIncludeDigitsMethod = operation.getClass().getMethod("setIncludeDigits", boolean.class);
-            Method setDigitCountMethod = operation.getClass().getMethod("setDigitCount", int.class);
-            Method setIncludeUppercaseMethod = operation.getClass().getMethod("setIncludeUppercase", boolean.class);
-            Method setUppercaseCountMethod = operation.getClass().getMethod("setUppercaseCount", int.class);
-            Method setIncludeLowercaseMethod = operation.getClass().getMethod("setIncludeLowercase", boolean.class);
-            Method setLowercaseCountMethod = operation.getClass().getMethod("setLowercaseCount", int.class);
-            Method setIncludeSpecialMethod = operation.getClass().getMethod("setIncludeSpecialChars", boolean.class);
-            Method setSpecialCountMethod = operation.getClass().getMethod("setSpecialCharCount", int.class);
-            Method setCountMethod = operation.getClass().getMethod("setPasswordCount", int.class);
-
-            setLengthMethod.invoke(operation, config.getPasswordLength());
-            setIncludeDigitsMethod.invoke(operation, config.isIncludeDigits());
-            setDigitCountMethod.invoke(operation, config.getDigitCount());
-            setIncludeUppercaseMethod.invoke(operation, config.isIncludeUppercase());
-            setUppercaseCountMethod.invoke(operation, config.getUppercaseCount());
-            setIncludeLowercaseMethod.invoke(operation, config.isIncludeLowercase());
-            setLowercaseCountMethod.invoke(operation, config.getLowercaseCount());
-            setIncludeSpecialMethod.invoke(operation, config.isIncludeSpecialChars());
-            setSpecialCountMethod.invoke(operation, config.getSpecialCharCount());
-            setCountMethod.invoke(operation, config.getPasswordCount());
-        } catch (Exception e) {
-            throw new Exception("设置密码生成器配置失败: " + e.getMessage(), e);
+    private static long inputBytes(Operation operation, String inputText) {
+        if (inputText == null) {
+            return 0;
         }
-    }
-
-    /**
-     * 带表达式执行操作
-     * @param operation 操作对象
-     * @param input 输入文本
-     * @param expressions 表达式
-     * @return 执行结果
-     * @throws Exception 执行失败时抛出异常
-     */
-    private String executeWithExpression(Operation operation, String input, String expressions)
-            throws Exception {
-        String className = operation.getClass().getSimpleName();
-
-        // 检查是否支持表达式执行
-        if ("XmlFormatOperation".equals(className) || "JsonFormatOperation".equals(className)) {
-            try {
-                Method method = operation.getClass().getMethod("execute", String.class, String.class);
-                return (String) method.invoke(operation, input, expressions);
-            } catch (NoSuchMethodException e) {
-                // 如果没有带表达式的方法，使用原始方法
-                return operation.execute(input);
+        InputType inputType = operation.getInputType();
+        if (inputType == InputType.IMAGE || inputType == InputType.FILE) {
+            File file = new File(inputText);
+            if (file.isFile()) {
+                return file.length();
             }
         }
-
-        // 其他操作直接执行
-        return operation.execute(input);
+        return utf8Length(inputText);
     }
 
     /**
-     * 处理获取当前时间配置
-     * @param operation 操作对象
-     * @param config 获取当前时间配置
-     * @throws Exception 反射调用失败时抛出异常
+     * 计算字符串的UTF-8编码长度，不实际编码
      */
-    public void handleGetCurrentTimeConfig(Operation operation,
-                                           OperationExecutionContext.GetCurrentTimeConfig config)
-            throws Exception {
-        try {
-            Method method = operation.getClass().getMethod("setConfig",
-                String.class, String.class, String.class, String.class, boolean.class);
-            method.invoke(operation,
-                config.getTimezoneId(), config.getOutputType(), config.getDateFormat(),
-                config.getTimestampDigits(), config.isPadWithZero());
-        } catch (Exception e) {
-            throw new Exception("设置获取当前时间配置失败: " + e.getMessage(), e);
+    static long utf8Length(String text) {
+        long length = 0;
+        int size = text.length();
+        for (int i = 0; i < size; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
         }
+        return length;
     }
 
     /**
-     * 处理时间戳转日期配置
-     * @param operation 操作对象
-     * @param config 时间戳转日期配置
-     * @throws Exception 反射调用失败时抛出异常
+     * 准备操作输入
+     * @param context 操作执行上下文
+     * @return 准备好的输入文本
      */
-    public void handleTimestampToDatetimeConfig(Operation operation,
-                                                 OperationExecutionContext.TimestampToDatetimeConfig config)
-            throws Exception {
-        try {
-            Method method = operation.getClass().getMethod("setConfig", String.class, String.class);
-            method.invoke(operation, config.getTimezoneId(), config.getDateFormat());
-        } catch (Exception e) {
-            throw new Exception("设置时间戳转日期配置失败: " + e.getMessage(), e);
+    public String prepareInputForOperation(OperationExecutionContext context) {
+        String inputText = context.getInputText();
+
+        // 对于图片和文件输入的操作，优先使用选择的文件路径，否则使用输入框中的内容（可能是Base64编码的图片）
+        InputType inputType = validator.getInputType(context.getOperationName());
+        if (inputType == InputType.IMAGE || inputType == InputType.FILE) {
+            if (context.getImagePath() != null && !context.getImagePath().isEmpty()) {
+                return context.getImagePath();
+            }
         }
+
+        return inputText;
     }
 
     /**
-     * 处理日期转时间戳配置
-     * @param operation 操作对象
-     * @param config 日期转时间戳配置
-     * @throws Exception 反射调用失败时抛出异常
+     * 解析操作配置
+     * @param operation 可配置的操作
+     * @param config 配置，null 时使用操作的默认配置
+     * @return 本次执行使用的配置
+     * @throws IllegalArgumentException 配置不属于该操作时抛出
      */
-    public void handleDatetimeToTimestampConfig(Operation operation,
-                                                 OperationExecutionContext.DatetimeToTimestampConfig config)
-            throws Exception {
-        try {
-            Method method = operation.getClass().getMethod("setConfig", String.class, String.class, boolean.class);
-            method.invoke(operation, config.getInputFormat(), config.getOutputDigits(), config.isPadWithZero());
-        } catch (Exception e) {
-            throw new Exception("设置日期转时间戳配置失败: " + e.getMessage(), e);
+    public OperationConfig resolveConfig(ConfigurableOperation operation, OperationConfig config) {
+        ConfigSchema schema = operation.getConfigSchema();
+        if (config == null) {
+            return schema.defaults();
+        }
+        if (config.getSchema() != schema) {
+            throw new IllegalArgumentException("配置与操作不匹配: " + operation.getDisplayName());
         }
+        return config;
     }
 
     /**
@@ -282,35 +263,132 @@ public class OperationExecutor {
      */
     public static class ExecutionResult {
         private final String result;
+        private final byte[] imageBytes;
         private final boolean isImage;
-        private final long executionTimeMs;
+        private final PhaseTimings timings;
         private final boolean usedExpressions;
+        private long inputBytes;
+        private long outputBytes = -1;
+        private boolean cached;
 
         public ExecutionResult(String result, boolean isImage, long executionTimeMs) {
-            this(result, isImage, executionTimeMs, false);
+            this(result, null, isImage, timingsOf(executionTimeMs), false);
         }
 
         public ExecutionResult(String result, boolean isImage, long executionTimeMs, boolean usedExpressions) {
+            this(result, null, isImage, timingsOf(executionTimeMs), usedExpressions);
+        }
+
+        /**
+         * 文本结果
+         * @param result 结果文本
+         * @param timings 各阶段耗时
+         * @param usedExpressions 是否使用了表达式过滤
+         */
+        public ExecutionResult(String result, PhaseTimings timings, boolean usedExpressions) {
+            this(result, null, false, timings, usedExpressions);
+        }
+
+        /**
+         * 图片结果，直接保存图片字节
+         * @param imageBytes 图片字节
+         * @param executionTimeMs 执行耗时
+         */
+        public ExecutionResult(byte[] imageBytes, long executionTimeMs) {
+            this(imageBytes, timingsOf(executionTimeMs));
+        }
+
+        /**
+         * 图片结果，直接保存图片字节
+         * @param imageBytes 图片字节
+         * @param timings 各阶段耗时
+         */
+        public ExecutionResult(byte[] imageBytes, PhaseTimings timings) {
+            this(null, imageBytes, true, timings, false);
+        }
+
+        private ExecutionResult(String result, byte[] imageBytes, boolean isImage,
+                                PhaseTimings timings, boolean usedExpressions) {
             this.result = result;
+            this.imageBytes = imageBytes;
             this.isImage = isImage;
-            this.executionTimeMs = executionTimeMs;
+            this.timings = timings;
             this.usedExpressions = usedExpressions;
         }
 
+        /**
+         * 生成缓存命中时返回的结果，共享结果内容，使用本次调用的耗时
+         */
+        ExecutionResult cacheHit(PhaseTimings hitTimings) {
+            ExecutionResult hit = new ExecutionResult(result, imageBytes, isImage, hitTimings, usedExpressions);
+            hit.inputBytes = inputBytes;
+            hit.outputBytes = outputBytes;
+            hit.cached = true;
+            return hit;
+        }
+
+        private static PhaseTimings timingsOf(long executionTimeMs) {
+            PhaseTimings timings = new PhaseTimings();
+            timings.add(ExecutionPhase.EXECUTE, executionTimeMs * 1_000_000L);
+            return timings;
+        }
+
         public String getResult() {
             return result;
         }
 
+        public byte[] getImageBytes() {
+            return imageBytes;
+        }
+
         public boolean isImage() {
             return isImage;
         }
 
+        /**
+         * 获取执行阶段耗时（毫秒）
+         */
         public long getExecutionTimeMs() {
-            return executionTimeMs;
+            return timings.get(ExecutionPhase.EXECUTE) / 1_000_000L;
+        }
+
+        /**
+         * 获取各阶段耗时
+         */
+        public PhaseTimings getTimings() {
+            return timings;
+        }
+
+        /**
+         * 获取输入数据量，文件和图片输入为文件大小，文本为UTF-8编码长度
+         */
+        public long getInputBytes() {
+            return inputBytes;
+        }
+
+        /**
+         * 获取输出数据量，图片为图片字节数，文本为UTF-8编码长度
+         */
+        public long getOutputBytes() {
+            if (outputBytes < 0) {
+                if (imageBytes != null) {
+                    outputBytes = imageBytes.length;
+                } else {
+                    outputBytes = result != null ? utf8Length(result) : 0;
+                }
+            }
+            return outputBytes;
         }
 
         public boolean usedExpressions() {
             return usedExpressions;
         }
+
+        /**
+         * 是否来自结果缓存
+         */
+        public boolean isCached() {
+            return cached;
+        }
     }
 }
@@ -1,12 +1,15 @@
 package org.oxff.ui.controller;
 
 import org.oxff.core.OperationCategory;
+import org.oxff.core.OperationDescriptor;
 import org.oxff.core.OperationFactory;
+import org.oxff.operation.InputType;
 import org.oxff.operation.Operation;
 
 /**
  * 操作验证器，负责验证操作是否可以执行
  * 从 StringFormatterUI 中提取出来，提供无状态的工具方法
+ * 除 {@link #validateExecution} 外只读取操作描述，不会加载操作实现
  */
 public class OperationValidator {
 
@@ -16,18 +19,8 @@ public class OperationValidator {
      * @return true 如果操作需要表达式输入，否则返回 false
      */
     public boolean requiresExpressionInput(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        Operation operation = OperationFactory.getOperation(operationName);
-        if (operation == null) {
-            return false;
-        }
-
-        // 只有 JSON 和 XML 格式化操作需要表达式输入
-        String className = operation.getClass().getSimpleName();
-        return "JsonFormatOperation".equals(className) || "XmlFormatOperation".equals(className);
+        OperationDescriptor descriptor = findDescriptor(operationName);
+        return descriptor != null && descriptor.isExpressionInput();
     }
 
     /**
@@ -36,17 +29,18 @@ public class OperationValidator {
      * @return true 如果操作是自动化操作，否则返回 false
      */
     public boolean isAutomationOperation(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        Operation operation = OperationFactory.getOperation(operationName);
-        if (operation == null) {
-            return false;
-        }
+        OperationDescriptor descriptor = findDescriptor(operationName);
+        return descriptor != null && descriptor.getCategory() == OperationCategory.AUTOMATION;
+    }
 
-        // 检查操作是否属于 AUTOMATION 分类
-        return operation.getCategory() == OperationCategory.AUTOMATION;
+    /**
+     * 获取操作的输入类型
+     * @param operationName 操作名称
+     * @return 输入类型，操作不存在时返回 {@link InputType#TEXT}
+     */
+    public InputType getInputType(String operationName) {
+        OperationDescriptor descriptor = findDescriptor(operationName);
+        return descriptor != null ? descriptor.getInputType() : InputType.TEXT;
     }
 
     /**
@@ -55,106 +49,65 @@ public class OperationValidator {
      * @return true 如果操作需要图片输入，否则返回 false
      */
     public boolean requiresImageInput(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        Operation operation = OperationFactory.getOperation(operationName);
-        if (operation == null) {
-            return false;
-        }
-
-        // 检查操作是否是二维码解析操作
-        return "QRCodeDecodeOperation".equals(operation.getClass().getSimpleName());
+        return getInputType(operationName) == InputType.IMAGE;
     }
 
     /**
-     * 检查操作是否可以在无输入时执行
+     * 检查操作是否以文件路径作为输入 (图片转Base编码)
      * @param operationName 操作名称
-     * @return true 如果操作可以在无输入时执行，否则返回 false
+     * @return true 如果操作需要文件输入，否则返回 false
      */
-    public boolean canExecuteWithoutInput(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        // "获取当前时间" 和 "生成随机密码" 可以在无输入时执行
-        return "获取当前时间".equals(operationName) || "生成随机密码".equals(operationName);
+    public boolean requiresFileInput(String operationName) {
+        return getInputType(operationName) == InputType.FILE;
     }
 
     /**
-     * 检查操作是否需要Base编码配置面板
+     * 检查操作是否使用单行输入 (时间戳转换)
      * @param operationName 操作名称
-     * @return true 如果操作需要Base编码配置面板，否则返回 false
+     * @return true 如果操作使用单行输入，否则返回 false
      */
-    public boolean requiresBaseEncodingConfig(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        Operation operation = OperationFactory.getOperation(operationName);
-        if (operation == null) {
-            return false;
-        }
-
-        return "ImageToBaseOperation".equals(operation.getClass().getSimpleName());
+    public boolean requiresLineInput(String operationName) {
+        return getInputType(operationName) == InputType.LINE;
     }
 
     /**
-     * 检查操作是否需要密码生成器配置面板
+     * 检查操作是否可以在无输入时执行
      * @param operationName 操作名称
-     * @return true 如果操作需要密码生成器配置面板，否则返回 false
+     * @return true 如果操作可以在无输入时执行，否则返回 false
      */
-    public boolean requiresPasswordGeneratorConfig(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        Operation operation = OperationFactory.getOperation(operationName);
-        if (operation == null) {
-            return false;
-        }
-
-        return "RandomPasswordOperation".equals(operation.getClass().getSimpleName());
+    public boolean canExecuteWithoutInput(String operationName) {
+        return findDescriptor(operationName) != null && getInputType(operationName) == InputType.NONE;
     }
 
     /**
-     * 检查操作是否需要获取当前时间配置面板
+     * 检查操作是否声明了配置结构
      * @param operationName 操作名称
-     * @return true 如果操作需要获取当前时间配置面板，否则返回 false
+     * @return true 如果操作可配置，否则返回 false
      */
-    public boolean requiresGetCurrentTimeConfig(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        return "获取当前时间".equals(operationName);
+    public boolean isConfigurable(String operationName) {
+        OperationDescriptor descriptor = findDescriptor(operationName);
+        return descriptor != null && descriptor.isConfigurable();
     }
 
     /**
-     * 检查操作是否需要时间戳转日期配置面板
+     * 检查操作是否使用独立的操作面板（配置面板及单行或文件输入）
+     * 文本输入的可配置操作的操作面板只包含配置面板，见 {@link #requiresOptionsPanel}
      * @param operationName 操作名称
-     * @return true 如果操作需要时间戳转日期配置面板，否则返回 false
+     * @return true 如果操作使用独立的操作面板，否则返回 false
      */
-    public boolean requiresTimestampToDatetimeConfig(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        return "时间戳转日期".equals(operationName);
+    public boolean requiresOperationPanel(String operationName) {
+        InputType inputType = getInputType(operationName);
+        return isConfigurable(operationName)
+            || inputType == InputType.LINE || inputType == InputType.FILE || inputType == InputType.NONE;
     }
 
     /**
-     * 检查操作是否需要日期转时间戳配置面板
+     * 检查操作的操作面板是否作为选项显示在文本输入框下方（文本输入的可配置操作），而非替换输入面板
      * @param operationName 操作名称
-     * @return true 如果操作需要日期转时间戳配置面板，否则返回 false
+     * @return true 如果操作面板显示在文本输入框下方，否则返回 false
      */
-    public boolean requiresDatetimeToTimestampConfig(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
-            return false;
-        }
-
-        return "日期转时间戳".equals(operationName);
+    public boolean requiresOptionsPanel(String operationName) {
+        return isConfigurable(operationName) && getInputType(operationName) == InputType.TEXT;
     }
 
     /**
@@ -163,18 +116,12 @@ public class OperationValidator {
      * @return true 如果操作需要文本输入按钮，否则返回 false
      */
     public boolean requiresTextInputButtons(String operationName) {
-        if (operationName == null || operationName.isEmpty()) {
+        if (findDescriptor(operationName) == null) {
             return false;
         }
 
-        // 不需要按钮的操作类型
-        return !requiresImageInput(operationName)
-            && !requiresGetCurrentTimeConfig(operationName)
-            && !requiresTimestampToDatetimeConfig(operationName)
-            && !requiresDatetimeToTimestampConfig(operationName)
-            && !requiresBaseEncodingConfig(operationName)
-            && !requiresPasswordGeneratorConfig(operationName)
-            && !isAutomationOperation(operationName);
+        // 只有使用文本输入框的非自动化操作需要按钮
+        return getInputType(operationName) == InputType.TEXT && !isAutomationOperation(operationName);
     }
 
     /**
@@ -206,6 +153,10 @@ public class OperationValidator {
         return new ValidationResult(true, null);
     }
 
+    private OperationDescriptor findDescriptor(String operationName) {
+        return OperationFactory.getDescriptor(operationName);
+    }
+
     /**
      * 验证结果
      */
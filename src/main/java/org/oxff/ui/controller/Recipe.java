@@ -0,0 +1,30 @@
+package org.oxff.ui.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 配方，按顺序执行的一组操作步骤
+ */
+public class Recipe {
+    private final String name;
+    private final List<RecipeStep> steps;
+
+    public Recipe(String name, List<RecipeStep> steps) {
+        this.name = name;
+        this.steps = new ArrayList<>(steps);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<RecipeStep> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+}
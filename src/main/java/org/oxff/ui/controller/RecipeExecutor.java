@@ -0,0 +1,160 @@
+package org.oxff.ui.controller;
+
+import org.oxff.core.OperationFactory;
+import org.oxff.core.TaskMonitor;
+import org.oxff.operation.ByteOperation;
+import org.oxff.operation.Operation;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * 配方执行器，依次执行配方中的所有步骤，中间结果不经过UI
+ * 相邻的字节级操作会被融合执行：中间结果保持为字节数组，不再转换为字符串
+ */
+public class RecipeExecutor {
+    private final OperationExecutor operationExecutor;
+    private final OperationValidator validator;
+
+    public RecipeExecutor(OperationExecutor operationExecutor, OperationValidator validator) {
+        this.operationExecutor = operationExecutor;
+        this.validator = validator;
+    }
+
+    /**
+     * 执行配方
+     * @param recipe 配方
+     * @param inputText 第一步的输入
+     * @return 最后一步的执行结果
+     * @throws Exception 任一步骤失败时抛出，消息中包含步骤序号
+     */
+    public OperationExecutor.ExecutionResult execute(Recipe recipe, String inputText) throws Exception {
+        validate(recipe);
+
+        TaskMonitor monitor = TaskMonitor.current();
+        List<RecipeStep> steps = recipe.getSteps();
+        long startTime = System.currentTimeMillis();
+        String text = inputText;
+
+        int index = 0;
+        while (index < steps.size()) {
+            monitor.checkCancelled();
+            monitor.reportProgress(index, steps.size());
+
+            int fusedEnd = findFusedRunEnd(steps, index);
+            if (fusedEnd - index >= 2) {
+                text = executeFused(steps, index, fusedEnd, text);
+                index = fusedEnd;
+                continue;
+            }
+
+            RecipeStep step = steps.get(index);
+            OperationExecutor.ExecutionResult result;
+            try {
+                result = operationExecutor.execute(step.toContext(text));
+            } catch (CancellationException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new Exception(stepLabel(index, step) + " 执行失败: " + e.getMessage(), e);
+            }
+            if (result.isImage()) {
+                return new OperationExecutor.ExecutionResult(result.getImageBytes(),
+                    System.currentTimeMillis() - startTime);
+            }
+            text = result.getResult();
+            index++;
+        }
+
+        return new OperationExecutor.ExecutionResult(text, false, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 统计配方中会被融合执行的步骤数
+     * @param recipe 配方
+     * @return 融合执行的步骤数
+     */
+    public int countFusedSteps(Recipe recipe) {
+        List<RecipeStep> steps = recipe.getSteps();
+        int fused = 0;
+        int index = 0;
+        while (index < steps.size()) {
+            int end = findFusedRunEnd(steps, index);
+            if (end - index >= 2) {
+                fused += end - index;
+                index = end;
+            } else {
+                index++;
+            }
+        }
+        return fused;
+    }
+
+    /**
+     * 检查配方是否可以执行
+     */
+    private void validate(Recipe recipe) {
+        if (recipe == null || recipe.isEmpty()) {
+            throw new IllegalArgumentException("配方中没有任何步骤");
+        }
+        List<RecipeStep> steps = recipe.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            RecipeStep step = steps.get(i);
+            Operation operation = OperationFactory.getOperation(step.getOperationName());
+            if (operation == null) {
+                throw new IllegalArgumentException(stepLabel(i, step) + " 未找到操作");
+            }
+            if (validator.isAutomationOperation(step.getOperationName())) {
+                throw new IllegalArgumentException(stepLabel(i, step) + " 自动化操作不能用于配方");
+            }
+            if (operation.returnsImage() && i != steps.size() - 1) {
+                throw new IllegalArgumentException(stepLabel(i, step) + " 返回图片的操作只能作为最后一步");
+            }
+        }
+    }
+
+    /**
+     * 从 start 开始查找可融合的连续步骤，返回结束位置（不含）
+     * 可融合的步骤必须是原生字节操作（可配置操作按绑定配置后的实例判断）且不带表达式
+     */
+    private int findFusedRunEnd(List<RecipeStep> steps, int start) {
+        int end = start;
+        while (end < steps.size()) {
+            RecipeStep step = steps.get(end);
+            if (step.hasExpressions()
+                    || !(step.resolveOperation() instanceof ByteOperation)) {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * 融合执行 [start, end) 范围内的字节操作，只在首尾进行一次字符串转换
+     */
+    private String executeFused(List<RecipeStep> steps, int start, int end, String input) {
+        TaskMonitor monitor = TaskMonitor.current();
+        ByteOperation first = (ByteOperation) steps.get(start).resolveOperation();
+        byte[] data = input.getBytes(first.getInputCharset());
+        ByteOperation last = first;
+
+        for (int i = start; i < end; i++) {
+            monitor.checkCancelled();
+            monitor.reportProgress(i, steps.size());
+            RecipeStep step = steps.get(i);
+            last = (ByteOperation) step.resolveOperation();
+            try {
+                data = last.executeBytes(data);
+            } catch (CancellationException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(stepLabel(i, step) + " 执行失败: " + e.getMessage(), e);
+            }
+        }
+        return new String(data, last.getOutputCharset());
+    }
+
+    private String stepLabel(int index, RecipeStep step) {
+        return "步骤 " + (index + 1) + " (" + step.getOperationName() + ")";
+    }
+}
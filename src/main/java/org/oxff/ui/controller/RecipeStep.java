@@ -0,0 +1,107 @@
+package org.oxff.ui.controller;
+
+import org.oxff.core.OperationFactory;
+import org.oxff.operation.Operation;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.config.OperationConfig;
+
+import java.util.Map;
+
+/**
+ * 配方步骤，记录一个操作及其表达式和配置
+ * 执行时以上一步的输出作为输入构建执行上下文
+ */
+public class RecipeStep {
+    private final String operationName;
+    private final String expressions;
+    private final String formatIndent;
+    // 以键值表保存配置，便于序列化，执行时按操作的配置结构恢复
+    private final Map<String, Object> config;
+
+    private RecipeStep(OperationExecutionContext context) {
+        this.operationName = context.getOperationName();
+        this.expressions = context.getExpressions() != null ? context.getExpressions() : "";
+        this.formatIndent = context.getFormatIndent();
+        this.config = context.getOperationConfig() != null ? context.getOperationConfig().toMap() : null;
+    }
+
+    /**
+     * 从执行上下文创建步骤，输入文本和图片路径不会被记录
+     * @param context 执行上下文
+     * @return 配方步骤
+     */
+    public static RecipeStep fromContext(OperationExecutionContext context) {
+        return new RecipeStep(context);
+    }
+
+    /**
+     * 以指定输入构建本步骤的执行上下文
+     * @param inputText 输入文本（上一步的输出）
+     * @return 执行上下文
+     * @throws IllegalArgumentException 保存的配置取值无效时抛出
+     */
+    public OperationExecutionContext toContext(String inputText) {
+        return new OperationExecutionContext.Builder()
+            .operationName(operationName)
+            .inputText(inputText)
+            .expressions(expressions != null ? expressions : "")
+            .formatIndent(formatIndent)
+            .operationConfig(restoreConfig())
+            .build();
+    }
+
+    /**
+     * 获取绑定了本步骤配置的操作，未保存配置的可配置操作使用默认配置
+     * @return 操作，操作不存在时返回 null
+     * @throws IllegalArgumentException 保存的配置取值无效时抛出
+     */
+    public Operation resolveOperation() {
+        Operation operation = OperationFactory.getOperation(operationName);
+        if (!(operation instanceof ConfigurableOperation)) {
+            return operation;
+        }
+        ConfigurableOperation configurable = (ConfigurableOperation) operation;
+        OperationConfig restored = restoreConfig();
+        return configurable.configure(restored != null ? restored : configurable.getConfigSchema().defaults());
+    }
+
+    private OperationConfig restoreConfig() {
+        Operation operation = OperationFactory.getOperation(operationName);
+        if (config == null || !(operation instanceof ConfigurableOperation)) {
+            return null;
+        }
+        return ((ConfigurableOperation) operation).getConfigSchema().fromMap(config);
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public String getExpressions() {
+        return expressions;
+    }
+
+    /**
+     * 检查步骤是否带有表达式
+     * @return true 如果有表达式
+     */
+    public boolean hasExpressions() {
+        return expressions != null && !expressions.trim().isEmpty();
+    }
+
+    /**
+     * 获取步骤描述，用于列表显示
+     */
+    public String getDescription() {
+        if (hasExpressions()) {
+            int lines = expressions.trim().split("\\r?\\n").length;
+            return operationName + " [表达式 " + lines + " 行]";
+        }
+        return operationName;
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
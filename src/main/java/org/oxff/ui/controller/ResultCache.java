@@ -0,0 +1,255 @@
+package org.oxff.ui.controller;
+
+import org.oxff.operation.config.OperationConfig;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 操作结果缓存，按内容寻址：键由操作名称、解析后的配置、表达式、缩进和输入文本的128位哈希组成
+ * 按最近最少使用淘汰，结果总大小不超过字节预算；单个结果超过预算的四分之一时不缓存
+ */
+public class ResultCache {
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    /** 每个缓存项除结果外的估计开销 */
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final LinkedHashMap<Key, OperationExecutor.ExecutionResult> entries =
+        new LinkedHashMap<>(64, 0.75f, true);
+    private long maxBytes;
+    private long currentBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bypasses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+
+    public ResultCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param maxBytes 字节预算，0 表示禁用缓存
+     */
+    public ResultCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 生成缓存键，输入文本只保留哈希
+     * @param operationName 操作名称
+     * @param config 解析后的操作配置，不可配置的操作为 null
+     * @param expressions 表达式
+     * @param formatIndent 格式化缩进
+     * @param input 输入文本
+     * @return 缓存键
+     */
+    public static Key key(String operationName, OperationConfig config, String expressions,
+                          String formatIndent, String input) {
+        // 两路独立的64位哈希，碰撞概率可以忽略
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x9e3779b97f4a7c15L;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            h1 = (h1 ^ c) * 0x100000001b3L;
+            h2 = Long.rotateLeft(h2 + c * 0xc2b2ae3d27d4eb4fL, 31) * 0x9e3779b97f4a7c15L;
+        }
+        return new Key(operationName, config, expressions, formatIndent, input.length(), mix(h1), mix(h2));
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 查找缓存结果
+     * @param key 缓存键
+     * @return 缓存的结果，不存在时返回 null
+     */
+    public OperationExecutor.ExecutionResult get(Key key) {
+        OperationExecutor.ExecutionResult result;
+        synchronized (this) {
+            result = entries.get(key);
+        }
+        if (result != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        version.incrementAndGet();
+        return result;
+    }
+
+    /**
+     * 放入结果，必要时淘汰最久未使用的结果
+     * @param key 缓存键
+     * @param result 执行结果
+     */
+    public void put(Key key, OperationExecutor.ExecutionResult result) {
+        long size = sizeOf(result);
+        synchronized (this) {
+            if (size > maxBytes / 4) {
+                return;
+            }
+            OperationExecutor.ExecutionResult previous = entries.put(key, result);
+            if (previous != null) {
+                currentBytes -= sizeOf(previous);
+            }
+            currentBytes += size;
+            evictToBudget();
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * 记录一次绕过缓存的执行（不确定的操作或文件输入）
+     */
+    public void recordBypass() {
+        bypasses.incrementAndGet();
+        version.incrementAndGet();
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<Key, OperationExecutor.ExecutionResult>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= sizeOf(iterator.next().getValue());
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static long sizeOf(OperationExecutor.ExecutionResult result) {
+        long size = ENTRY_OVERHEAD_BYTES;
+        if (result.getImageBytes() != null) {
+            size += result.getImageBytes().length;
+        }
+        if (result.getResult() != null) {
+            size += 2L * result.getResult().length();
+        }
+        return size;
+    }
+
+    /**
+     * 清空缓存，统计计数保留
+     */
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+        version.incrementAndGet();
+    }
+
+    /**
+     * 重置命中、未命中等统计计数
+     */
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+        bypasses.set(0);
+        evictions.set(0);
+        version.incrementAndGet();
+    }
+
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 设置字节预算，超出新预算的结果立即被淘汰
+     * @param maxBytes 字节预算，0 表示禁用缓存
+     */
+    public void setMaxBytes(long maxBytes) {
+        synchronized (this) {
+            this.maxBytes = Math.max(0, maxBytes);
+            evictToBudget();
+        }
+        version.incrementAndGet();
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getBypasses() {
+        return bypasses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * 获取变更版本号，每次访问或修改后递增，用于界面判断是否需要刷新
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 缓存键
+     */
+    public static final class Key {
+        private final String operationName;
+        private final OperationConfig config;
+        private final String expressions;
+        private final String formatIndent;
+        private final int inputLength;
+        private final long inputHash1;
+        private final long inputHash2;
+
+        private Key(String operationName, OperationConfig config, String expressions, String formatIndent,
+                    int inputLength, long inputHash1, long inputHash2) {
+            this.operationName = operationName;
+            this.config = config;
+            this.expressions = expressions;
+            this.formatIndent = formatIndent;
+            this.inputLength = inputLength;
+            this.inputHash1 = inputHash1;
+            this.inputHash2 = inputHash2;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return inputLength == other.inputLength
+                && inputHash1 == other.inputHash1
+                && inputHash2 == other.inputHash2
+                && operationName.equals(other.operationName)
+                && Objects.equals(config, other.config)
+                && Objects.equals(expressions, other.expressions)
+                && Objects.equals(formatIndent, other.formatIndent);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(inputHash1) * 31 + operationName.hashCode();
+        }
+    }
+}
@@ -30,7 +30,6 @@ public class UIStateManager {
         JSplitPane outputExpressionSplitPane = registry.getOutputExpressionSplitPane();
         JPanel expressionPanel = registry.getComponent(UIComponentRegistry.EXPRESSION_PANEL);
         JPanel outputPanel = registry.getComponent(UIComponentRegistry.OUTPUT_PANEL);
-        JPanel automationConfigPanel = registry.getComponent(UIComponentRegistry.AUTOMATION_CONFIG_PANEL);
 
         // 更新表达式面板可见性
         if (showExpressionPanel && expressionPanel != null) {
@@ -43,17 +42,9 @@ public class UIStateManager {
         if (isAutomation) {
             // 对于自动化操作，隐藏输出面板
             outputExpressionSplitPane.setRightComponent(null);
-            // 显示自动化配置面板
-            if (automationConfigPanel != null) {
-                automationConfigPanel.setVisible(true);
-            }
         } else {
             // 对于其他操作，显示输出面板
             outputExpressionSplitPane.setRightComponent(outputPanel);
-            // 隐藏自动化配置面板
-            if (automationConfigPanel != null) {
-                automationConfigPanel.setVisible(false);
-            }
         }
 
         outputExpressionSplitPane.revalidate();
@@ -68,27 +59,20 @@ public class UIStateManager {
     public void updateImageInputPanelVisibility(String operationName) {
         String panelType = determineInputPanelType(operationName);
         switchInputCard(panelType);
+        updateOptionsPanel(operationName);
         updateButtonStates(operationName);
     }
 
     /**
      * 确定要显示的输入面板类型
+     * 有独立操作面板的操作以操作名称作为卡片名称，操作面板在第一次选择时创建
      */
     private String determineInputPanelType(String operationName) {
-        if (validator.requiresImageInput(operationName)) {
+        if (validator.requiresOperationPanel(operationName) && !validator.requiresOptionsPanel(operationName)) {
+            registry.getComponent(UIComponentRegistry.operationPanelKey(operationName));
+            return operationName;
+        } else if (validator.requiresImageInput(operationName)) {
             return "IMAGE";
-        } else if (validator.requiresGetCurrentTimeConfig(operationName)) {
-            return "GET_CURRENT_TIME";
-        } else if (validator.requiresTimestampToDatetimeConfig(operationName)) {
-            return "TIMESTAMP_TO_DATETIME";
-        } else if (validator.requiresDatetimeToTimestampConfig(operationName)) {
-            return "DATETIME_TO_TIMESTAMP";
-        } else if (validator.requiresBaseEncodingConfig(operationName)) {
-            return "BASE_ENCODING";
-        } else if (validator.requiresPasswordGeneratorConfig(operationName)) {
-            return "PASSWORD_GENERATOR";
-        } else if (validator.isAutomationOperation(operationName)) {
-            return "AUTOMATION";
         } else {
             return "TEXT";
         }
@@ -105,6 +89,22 @@ public class UIStateManager {
         }
     }
 
+    /**
+     * 文本输入的可配置操作在文本输入框下方显示其配置面板，其他操作隐藏选项区域
+     */
+    private void updateOptionsPanel(String operationName) {
+        JPanel optionsContainer = registry.getComponent(UIComponentRegistry.INPUT_OPTIONS_CONTAINER);
+        if (optionsContainer == null) {
+            return;
+        }
+        boolean showOptions = validator.requiresOptionsPanel(operationName);
+        if (showOptions) {
+            registry.getComponent(UIComponentRegistry.operationPanelKey(operationName));
+            ((CardLayout) optionsContainer.getLayout()).show(optionsContainer, operationName);
+        }
+        optionsContainer.setVisible(showOptions);
+    }
+
     /**
      * 更新按钮状态
      * 根据操作类型启用或禁用文本输入相关按钮
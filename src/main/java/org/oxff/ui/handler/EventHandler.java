@@ -1,18 +1,33 @@
 package org.oxff.ui.handler;
 
+import org.oxff.ui.components.ConfigSchemaPanel;
 import org.oxff.ui.components.UIComponentRegistry;
 import org.oxff.ui.controller.*;
 import org.oxff.ui.image.ImageDisplayManager;
 import org.oxff.ui.image.ImageFileManager;
+import org.oxff.ui.util.LargeTextFile;
 import org.oxff.ui.util.LogManager;
 import org.oxff.ui.util.SettingsManager;
 import org.oxff.core.OperationCategory;
 import org.oxff.core.OperationFactory;
+import org.oxff.core.metrics.ExecutionPhase;
+import org.oxff.core.metrics.MetricsRegistry;
+import org.oxff.core.metrics.RenderEvent;
+import org.oxff.operation.InputType;
 import org.oxff.operation.Operation;
+import org.oxff.operation.StreamingOperation;
+import org.oxff.operation.config.ConfigurableOperation;
+import org.oxff.operation.hashing.DigestEngine;
+import org.oxff.operation.hashing.DigestOperation;
+import org.oxff.operation.hashing.FileDigester;
+import org.oxff.operation.hashing.MultiDigestOperation;
 
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 事件处理器，处理所有UI事件
@@ -23,6 +38,7 @@ public class EventHandler {
     private final LogManager logManager;
     private final ClipboardManager clipboardManager;
     private final OperationExecutor operationExecutor;
+    private final ExecutionEngine executionEngine;
     private final OperationValidator operationValidator;
     private final UIStateManager uiStateManager;
     private final ImageDisplayManager imageDisplayManager;
@@ -30,14 +46,27 @@ public class EventHandler {
     private final TextFileManager textFileManager;
     private final SettingsManager settingsManager;
     private final ExecuteCallback executeCallback;
+    private final FileStreamProcessor fileStreamProcessor = new FileStreamProcessor();
+    private final FileDigester fileDigester = new FileDigester();
+    private final RecipeExecutor recipeExecutor;
 
     private String selectedOperation;
     private String selectedImagePath;
+    // 当前以只读查看器显示的大结果，显示其他结果时关闭
+    private LargeTextFile largeResult;
+
+    // 实时预览：输入停止变化一段时间后自动执行
+    private final LivePreviewPolicy livePreviewPolicy = new LivePreviewPolicy();
+    private final Timer livePreviewTimer;
+    private boolean livePreviewEnabled;
+    // 正在进行的预览开始时间，没有预览在执行时为 -1
+    private long livePreviewStartNanos = -1;
 
     public EventHandler(UIComponentRegistry registry,
                         LogManager logManager,
                         ClipboardManager clipboardManager,
                         OperationExecutor operationExecutor,
+                        ExecutionEngine executionEngine,
                         OperationValidator operationValidator,
                         UIStateManager uiStateManager,
                         ImageDisplayManager imageDisplayManager,
@@ -49,6 +78,7 @@ public class EventHandler {
         this.logManager = logManager;
         this.clipboardManager = clipboardManager;
         this.operationExecutor = operationExecutor;
+        this.executionEngine = executionEngine;
         this.operationValidator = operationValidator;
         this.uiStateManager = uiStateManager;
         this.imageDisplayManager = imageDisplayManager;
@@ -56,6 +86,9 @@ public class EventHandler {
         this.textFileManager = textFileManager;
         this.settingsManager = settingsManager;
         this.executeCallback = executeCallback;
+        this.recipeExecutor = new RecipeExecutor(operationExecutor, operationValidator);
+        this.livePreviewTimer = new Timer(LivePreviewPolicy.MIN_DEBOUNCE_MS, e -> runLivePreview());
+        this.livePreviewTimer.setRepeats(false);
     }
 
     /**
@@ -63,8 +96,173 @@ public class EventHandler {
      * @param parent 父组件，用于对话框
      */
     public void handleExecute(Component parent) {
+        String inputText = collectInput(parent);
+        if (inputText == null) {
+            return;
+        }
+
+        // 验证操作
+        OperationValidator.ValidationResult validation =
+            operationValidator.validateExecution(selectedOperation, inputText);
+        if (!validation.isValid()) {
+            JOptionPane.showMessageDialog(parent, validation.getErrorMessage(), "错误", JOptionPane.ERROR_MESSAGE);
+            if (validation.getErrorMessage().contains("未找到操作")) {
+                logManager.log("未找到操作: " + selectedOperation);
+            }
+            return;
+        }
+
+        Operation operation = OperationFactory.getOperation(selectedOperation);
+        OperationExecutionContext context;
+        try {
+            context = buildContext(inputText);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(parent, ex.getMessage(), "配置错误", JOptionPane.ERROR_MESSAGE);
+            logManager.log("执行操作失败：" + ex.getMessage());
+            return;
+        }
+        String operationName = selectedOperation;
+
+        // 执行前：记录操作提示到日志
+        String hints = OperationFactory.getOperationHints(operationName);
+        if (hints != null && !hints.isEmpty()) {
+            logManager.log(hints);
+        }
+
+        if (executionEngine.isRunning(ExecutionEngine.DEFAULT_SLOT)) {
+            logManager.log("上一次执行尚未完成，已被新的执行取代");
+        }
+
+        // 直接输出到文件时需要完整文本，自动化操作的结果只写日志，这两种情况不转存大结果
+        boolean spillLarge = !isDirectFileOutputEnabled() && operation.getCategory() != OperationCategory.AUTOMATION;
+
+        // 在工作线程中执行，结果回到EDT显示
+        beginExecution();
+        executionEngine.submit(ExecutionEngine.DEFAULT_SLOT, operationName,
+            () -> prepareDisplay(operationExecutor.execute(context), operationName, spillLarge),
+            new ExecutionListener<DisplayableResult>() {
+                @Override
+                public void onSuccess(ExecutionTask<DisplayableResult> task, DisplayableResult result) {
+                    endExecution();
+                    displayResult(parent, operation, operationName, result);
+                }
+
+                @Override
+                public void onFailure(ExecutionTask<DisplayableResult> task, Exception ex) {
+                    endExecution();
+                    logManager.logError("执行操作失败: " + operationName, ex);
+                    if (operation.getCategory() == OperationCategory.AUTOMATION) {
+                        logManager.log("执行操作失败: " + operationName + " - " + ex.getMessage());
+                    } else {
+                        displayText("执行失败: " + ex.getMessage(), operationName);
+                    }
+                }
+
+                @Override
+                public void onCancelled(ExecutionTask<DisplayableResult> task) {
+                    endExecution();
+                    logManager.log("已取消执行: " + operationName + " (已运行: " + task.getElapsedMs() + "ms)");
+                }
+
+                @Override
+                public void onProgress(ExecutionTask<DisplayableResult> task, int percent) {
+                    updateProgress(percent);
+                }
+            });
+    }
+
+    /**
+     * 显示执行结果
+     * @param parent 父组件，用于对话框
+     * @param operation 操作对象
+     * @param operationName 操作名称
+     * @param displayable 执行结果及转存的大结果
+     */
+    private void displayResult(Component parent, Operation operation, String operationName,
+                               DisplayableResult displayable) {
+        OperationExecutor.ExecutionResult result = displayable.result;
+        long renderStart = System.nanoTime();
+        if (result.isImage()) {
+            imageDisplayManager.displayImage(result.getImageBytes(), operationName);
+            recordRenderTime(operationName, renderStart);
+            logManager.log("生成二维码图片: " + operationName);
+        } else {
+            // 大结果直接输出时不先显示到文本区域
+            boolean directFileOutput = displayable.largeText == null && isDirectFileOutputEnabled() &&
+                textFileManager.isLargeResult(result.getResult());
+            if (operation.getCategory() == OperationCategory.AUTOMATION) {
+                logManager.log(result.getResult());
+            } else if (displayable.largeText != null) {
+                displayLargeText(displayable.largeText, displayable.operationName);
+            } else if (!directFileOutput) {
+                displayText(result.getResult(), displayable.operationName);
+            }
+            recordRenderTime(operationName, renderStart);
+
+            // 检查自动保存选项
+            JCheckBox autoSaveCheckBox = registry.getComponent(UIComponentRegistry.AUTO_SAVE_CHECK_BOX);
+            if (autoSaveCheckBox != null && autoSaveCheckBox.isSelected()) {
+                try {
+                    String filePath = textFileManager.autoSaveText(result.getResult(), settingsManager.getAutoSaveDirectory(), operationName);
+                    logManager.log("结果已自动保存到: " + filePath);
+                } catch (Exception ex) {
+                    logManager.logError("自动保存失败", ex);
+                }
+            }
+
+            // 检查大结果直接输出模式
+            if (directFileOutput) {
+                handleDirectFileOutput(parent, result.getResult(), displayable.operationName);
+                return; // 跳过常规显示
+            }
+        }
+
+        logManager.log("执行操作: " + operationName + " (耗时: " + result.getExecutionTimeMs() + "ms)" +
+            (result.usedExpressions() ? " [使用表达式过滤]" : "") +
+            (result.isCached() ? " [缓存命中]" : ""));
+    }
+
+    /**
+     * 在工作线程中准备结果的显示：大文本结果转存为文件，由只读查看器按需读取显示
+     * 转存前完整的结果字符串已经在堆中，转存只避免文本区域为它再建立文档和布局，
+     * 堆内存的峰值仍与结果大小成正比；需要固定内存处理的大数据应使用文件流处理。转存失败时退回到普通文本显示
+     * @param result 执行结果
+     * @param operationName 产生结果的操作或配方名称
+     * @param spillLarge 是否转存大结果
+     */
+    private DisplayableResult prepareDisplay(OperationExecutor.ExecutionResult result, String operationName,
+                                             boolean spillLarge) {
+        LargeTextFile largeText = null;
+        if (spillLarge && !result.isImage() && textFileManager.isLargeResult(result.getResult())) {
+            try {
+                largeText = LargeTextFile.spill(result.getResult());
+            } catch (IOException e) {
+                logManager.logError("大结果转存失败，使用普通文本显示", e);
+            }
+        }
+        return new DisplayableResult(result, operationName, largeText);
+    }
+
+    private boolean isDirectFileOutputEnabled() {
+        JCheckBox directFileCheckBox = registry.getComponent(UIComponentRegistry.DIRECT_FILE_OUTPUT_CHECK_BOX);
+        return directFileCheckBox != null && directFileCheckBox.isSelected();
+    }
+
+    /**
+     * 记录结果显示阶段的耗时
+     */
+    private void recordRenderTime(String operationName, long renderStart) {
+        MetricsRegistry.getDefault().recordPhase(operationName, ExecutionPhase.RENDER,
+            System.nanoTime() - renderStart);
+    }
+
+    /**
+     * 收集当前操作的输入文本，图片和单行输入类操作从对应组件读取
+     * @param parent 父组件，用于对话框
+     * @return 输入文本，缺少必要输入时返回 null
+     */
+    private String collectInput(Component parent) {
         String inputText = registry.getInputTextArea().getText();
-        String expressions = registry.getExpressionTextArea().getText().trim();
 
         // 对于需要图片输入的操作，先获取图片路径作为输入文本
         if (operationValidator.requiresImageInput(selectedOperation)) {
@@ -74,222 +272,399 @@ public class EventHandler {
                 JOptionPane.showMessageDialog(parent, "请选择二维码图片文件或使用粘贴图片功能",
                     "提示", JOptionPane.WARNING_MESSAGE);
                 logManager.log("执行操作失败：未选择图片");
-                return;
+                return null;
             }
         }
 
-        // 对于时间戳转日期操作，从单行输入框获取输入
-        if (operationValidator.requiresTimestampToDatetimeConfig(selectedOperation)) {
-            JTextField inputField = registry.getComponent(UIComponentRegistry.TIMESTAMP_TO_DATETIME_INPUT_FIELD);
-            if (inputField != null) {
-                inputText = inputField.getText().trim();
-            }
+        // 对于单行输入类操作，从操作面板的单行输入框获取输入
+        if (operationValidator.requiresLineInput(selectedOperation)) {
+            JTextField inputField = registry.getLineInputField(selectedOperation);
+            inputText = inputField != null ? inputField.getText().trim() : "";
             if (inputText.isEmpty()) {
-                JOptionPane.showMessageDialog(parent, "请输入时间戳",
+                JOptionPane.showMessageDialog(parent, "请输入内容",
                     "提示", JOptionPane.WARNING_MESSAGE);
-                logManager.log("执行操作失败：未输入时间戳");
-                return;
+                logManager.log("执行操作失败：未输入内容");
+                return null;
             }
         }
 
-        // 对于日期转时间戳操作，从单行输入框获取输入
-        if (operationValidator.requiresDatetimeToTimestampConfig(selectedOperation)) {
-            JTextField inputField = registry.getComponent(UIComponentRegistry.DATETIME_TO_TIMESTAMP_INPUT_FIELD);
-            if (inputField != null) {
-                inputText = inputField.getText().trim();
-            }
-            if (inputText.isEmpty()) {
-                JOptionPane.showMessageDialog(parent, "请输入日期时间",
-                    "提示", JOptionPane.WARNING_MESSAGE);
-                logManager.log("执行操作失败：未输入日期时间");
-                return;
-            }
-        }
-
-        // 对于Base编码操作，先获取图片路径作为输入文本
-        if (operationValidator.requiresBaseEncodingConfig(selectedOperation)) {
+        // 对于文件输入类操作，以选择的文件路径作为输入文本
+        if (operationValidator.requiresFileInput(selectedOperation)) {
             if (selectedImagePath != null && !selectedImagePath.isEmpty()) {
                 inputText = selectedImagePath;
             } else {
-                JOptionPane.showMessageDialog(parent, "请选择图片文件",
+                JOptionPane.showMessageDialog(parent, "请选择文件",
                     "提示", JOptionPane.WARNING_MESSAGE);
                 logManager.log("执行操作失败：未选择文件");
-                return;
-            }
-        }
-
-        // 验证操作
-        OperationValidator.ValidationResult validation =
-            operationValidator.validateExecution(selectedOperation, inputText);
-        if (!validation.isValid()) {
-            JOptionPane.showMessageDialog(parent, validation.getErrorMessage(), "错误", JOptionPane.ERROR_MESSAGE);
-            if (validation.getErrorMessage().contains("未找到操作")) {
-                logManager.log("未找到操作: " + selectedOperation);
+                return null;
             }
-            return;
         }
 
-        Operation operation = OperationFactory.getOperation(selectedOperation);
+        return inputText;
+    }
 
-        // 构建执行上下文
+    /**
+     * 根据当前UI状态构建执行上下文，包含表达式和操作配置
+     * @param inputText 输入文本
+     * @return 执行上下文
+     * @throws IllegalArgumentException 配置面板中的取值无效时抛出
+     */
+    private OperationExecutionContext buildContext(String inputText) {
         OperationExecutionContext.Builder builder = new OperationExecutionContext.Builder()
             .operationName(selectedOperation)
             .inputText(inputText)
-            .expressions(expressions)
+            .expressions(registry.getExpressionTextArea().getText().trim())
             .imagePath(selectedImagePath);
 
-        // 处理自动化操作配置
+        // 格式化缩进
+        JComboBox<String> indentComboBox = registry.getComponent(UIComponentRegistry.FORMAT_INDENT_COMBO_BOX);
+        if (indentComboBox != null && indentComboBox.getSelectedItem() != null) {
+            builder.formatIndent(mapIndent((String) indentComboBox.getSelectedItem()));
+        }
+
+        // 操作配置由配置面板按配置结构读取
+        ConfigSchemaPanel configPanel = registry.getConfigPanel(selectedOperation);
+        if (configPanel != null) {
+            builder.operationConfig(configPanel.readConfig());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 处理取消按钮事件
+     */
+    public void handleCancel() {
+        if (!executionEngine.cancel(ExecutionEngine.DEFAULT_SLOT)) {
+            logManager.log("当前没有正在执行的操作");
+        }
+    }
+
+    /**
+     * 将可配置操作与配置面板中的当前配置绑定，其他操作原样返回
+     * @throws IllegalArgumentException 配置取值无效时抛出
+     */
+    private Operation configureSelected(Operation operation) {
+        if (!(operation instanceof ConfigurableOperation)) {
+            return operation;
+        }
+        ConfigurableOperation configurable = (ConfigurableOperation) operation;
+        ConfigSchemaPanel configPanel = registry.getConfigPanel(selectedOperation);
+        return configurable.configure(operationExecutor.resolveConfig(configurable,
+            configPanel != null ? configPanel.readConfig() : null));
+    }
+
+    /**
+     * 以当前选中的操作及其表达式和配置创建配方步骤
+     * @return 配方步骤，未选择操作或操作不支持配方时返回 null
+     */
+    public RecipeStep captureCurrentStep() {
+        if (selectedOperation == null || OperationFactory.getOperation(selectedOperation) == null) {
+            logManager.log("添加配方步骤失败：请先选择一个操作");
+            return null;
+        }
         if (operationValidator.isAutomationOperation(selectedOperation)) {
-            int delaySeconds = (Integer) registry.getDelaySecondsSpinner().getValue();
-            int charIntervalMs = (Integer) registry.getCharIntervalMsSpinner().getValue();
-            boolean useClipboard = registry.getClipboardSourceRadio().isSelected();
-            builder.automationConfig(new OperationExecutionContext.AutomationConfig(
-                delaySeconds, charIntervalMs, useClipboard));
-        }
-
-        // 处理Base编码配置
-        if (operationValidator.requiresBaseEncodingConfig(selectedOperation)) {
-            @SuppressWarnings("unchecked")
-            JComboBox<String> encodingTypeComboBox = registry.getComponent(UIComponentRegistry.BASE_ENCODING_COMBO_BOX);
-            String encodingType = (String) encodingTypeComboBox.getSelectedItem();
-            String filePath = selectedImagePath;
-            builder.baseEncodingConfig(new OperationExecutionContext.BaseEncodingConfig(encodingType));
-            builder.imagePath(filePath);
-        }
-
-        // 处理密码生成器配置
-        if (operationValidator.requiresPasswordGeneratorConfig(selectedOperation)) {
-            JSpinner passwordLengthSpinner = registry.getComponent(UIComponentRegistry.PASSWORD_LENGTH_SPINNER);
-            JCheckBox includeDigitsCheckBox = registry.getComponent(UIComponentRegistry.INCLUDE_DIGITS_CHECK_BOX);
-            JSpinner digitCountSpinner = registry.getComponent(UIComponentRegistry.DIGIT_COUNT_SPINNER);
-            JCheckBox includeUppercaseCheckBox = registry.getComponent(UIComponentRegistry.INCLUDE_UPPERCASE_CHECK_BOX);
-            JSpinner uppercaseCountSpinner = registry.getComponent(UIComponentRegistry.UPPERCASE_COUNT_SPINNER);
-            JCheckBox includeLowercaseCheckBox = registry.getComponent(UIComponentRegistry.INCLUDE_LOWERCASE_CHECK_BOX);
-            JSpinner lowercaseCountSpinner = registry.getComponent(UIComponentRegistry.LOWERCASE_COUNT_SPINNER);
-            JCheckBox includeSpecialCharsCheckBox = registry.getComponent(UIComponentRegistry.INCLUDE_SPECIAL_CHARS_CHECK_BOX);
-            JSpinner specialCharCountSpinner = registry.getComponent(UIComponentRegistry.SPECIAL_CHAR_COUNT_SPINNER);
-            JSpinner passwordCountSpinner = registry.getComponent(UIComponentRegistry.PASSWORD_COUNT_SPINNER);
-
-            int passwordLength = (Integer) passwordLengthSpinner.getValue();
-            boolean includeDigits = includeDigitsCheckBox.isSelected();
-            int digitCount = (Integer) digitCountSpinner.getValue();
-            boolean includeUppercase = includeUppercaseCheckBox.isSelected();
-            int uppercaseCount = (Integer) uppercaseCountSpinner.getValue();
-            boolean includeLowercase = includeLowercaseCheckBox.isSelected();
-            int lowercaseCount = (Integer) lowercaseCountSpinner.getValue();
-            boolean includeSpecialChars = includeSpecialCharsCheckBox.isSelected();
-            int specialCharCount = (Integer) specialCharCountSpinner.getValue();
-            int passwordCount = (Integer) passwordCountSpinner.getValue();
-
-            builder.passwordGeneratorConfig(new OperationExecutionContext.PasswordGeneratorConfig(
-                passwordLength, includeDigits, digitCount, includeUppercase, uppercaseCount,
-                includeLowercase, lowercaseCount, includeSpecialChars, specialCharCount, passwordCount));
-        }
-
-        // 处理获取当前时间配置
-        if (operationValidator.requiresGetCurrentTimeConfig(selectedOperation)) {
-            JComboBox<String> timezoneComboBox = registry.getComponent(UIComponentRegistry.GET_CURRENT_TIMEZONE_COMBO_BOX);
-            JRadioButton datetimeRadio = registry.getComponent(UIComponentRegistry.GET_CURRENT_DATETIME_RADIO);
-            JComboBox<String> dateFormatComboBox = registry.getComponent(UIComponentRegistry.GET_CURRENT_DATE_FORMAT_COMBO_BOX);
-            JTextField dateFormatTextField = registry.getComponent(UIComponentRegistry.GET_CURRENT_DATE_FORMAT_TEXT_FIELD);
-            JRadioButton digits10Radio = registry.getComponent(UIComponentRegistry.GET_CURRENT_10_DIGITS_RADIO);
-            JRadioButton digits13Radio = registry.getComponent(UIComponentRegistry.GET_CURRENT_13_DIGITS_RADIO);
-            JCheckBox padWithZeroCheckBox = registry.getComponent(UIComponentRegistry.GET_CURRENT_PAD_WITH_ZERO_CHECK_BOX);
-
-            String timezoneId = (String) timezoneComboBox.getSelectedItem();
-            String outputType = datetimeRadio.isSelected() ? "datetime" : "timestamp";
-            String dateFormat = "自定义".equals(dateFormatComboBox.getSelectedItem()) ?
-                dateFormatTextField.getText() : (String) dateFormatComboBox.getSelectedItem();
-            String timestampDigits = digits10Radio.isSelected() ? "10" : "13";
-            boolean padWithZero = padWithZeroCheckBox.isSelected();
-
-            builder.getCurrentTimeConfig(new OperationExecutionContext.GetCurrentTimeConfig(
-                timezoneId, outputType, dateFormat, timestampDigits, padWithZero));
-        }
-
-        // 处理时间戳转日期配置
-        if (operationValidator.requiresTimestampToDatetimeConfig(selectedOperation)) {
-            JComboBox<String> timezoneComboBox = registry.getComponent(UIComponentRegistry.TO_DATETIME_TIMEZONE_COMBO_BOX);
-            JComboBox<String> formatComboBox = registry.getComponent(UIComponentRegistry.TO_DATETIME_FORMAT_COMBO_BOX);
-            JTextField formatTextField = registry.getComponent(UIComponentRegistry.TO_DATETIME_FORMAT_TEXT_FIELD);
-
-            String timezoneId = (String) timezoneComboBox.getSelectedItem();
-            String dateFormat = "自定义".equals(formatComboBox.getSelectedItem()) ?
-                formatTextField.getText() : (String) formatComboBox.getSelectedItem();
-
-            builder.timestampToDatetimeConfig(new OperationExecutionContext.TimestampToDatetimeConfig(timezoneId, dateFormat));
-        }
-
-        // 处理日期转时间戳配置
-        if (operationValidator.requiresDatetimeToTimestampConfig(selectedOperation)) {
-            JComboBox<String> formatComboBox = registry.getComponent(UIComponentRegistry.TO_TIMESTAMP_FORMAT_COMBO_BOX);
-            JTextField formatTextField = registry.getComponent(UIComponentRegistry.TO_TIMESTAMP_FORMAT_TEXT_FIELD);
-            JRadioButton digits10Radio = registry.getComponent(UIComponentRegistry.TO_TIMESTAMP_10_DIGITS_RADIO);
-            JRadioButton digits13Radio = registry.getComponent(UIComponentRegistry.TO_TIMESTAMP_13_DIGITS_RADIO);
-            JCheckBox padWithZeroCheckBox = registry.getComponent(UIComponentRegistry.TO_TIMESTAMP_PAD_WITH_ZERO_CHECK_BOX);
-
-            String inputFormat = "自定义".equals(formatComboBox.getSelectedItem()) ?
-                formatTextField.getText() : (String) formatComboBox.getSelectedItem();
-            String outputDigits = digits10Radio.isSelected() ? "10" : "13";
-            boolean padWithZero = padWithZeroCheckBox.isSelected();
-
-            builder.datetimeToTimestampConfig(new OperationExecutionContext.DatetimeToTimestampConfig(
-                inputFormat, outputDigits, padWithZero));
-        }
-
-        OperationExecutionContext context = builder.build();
+            logManager.log("添加配方步骤失败：自动化操作不能加入配方");
+            return null;
+        }
+        try {
+            return RecipeStep.fromContext(buildContext(""));
+        } catch (IllegalArgumentException ex) {
+            logManager.log("添加配方步骤失败：" + ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 处理运行配方事件，以输入区内容作为第一步的输入
+     * @param parent 父组件，用于对话框
+     * @param recipe 配方
+     */
+    public void handleRunRecipe(Component parent, Recipe recipe) {
+        String inputText = registry.getInputTextArea().getText();
+        if (inputText.isEmpty()) {
+            JOptionPane.showMessageDialog(parent, "请输入要处理的文本", "提示", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        String recipeName = recipe.getName();
+        int stepCount = recipe.getSteps().size();
+        int fusedCount = recipeExecutor.countFusedSteps(recipe);
+
+        if (executionEngine.isRunning(ExecutionEngine.DEFAULT_SLOT)) {
+            logManager.log("上一次执行尚未完成，已被新的执行取代");
+        }
+
+        beginExecution();
+        executionEngine.submit(ExecutionEngine.DEFAULT_SLOT, recipeName,
+            () -> prepareDisplay(recipeExecutor.execute(recipe, inputText), recipeName, true),
+            new ExecutionListener<DisplayableResult>() {
+                @Override
+                public void onSuccess(ExecutionTask<DisplayableResult> task, DisplayableResult displayable) {
+                    endExecution();
+                    OperationExecutor.ExecutionResult result = displayable.result;
+                    if (result.isImage()) {
+                        imageDisplayManager.displayImage(result.getImageBytes());
+                    } else if (displayable.largeText != null) {
+                        displayLargeText(displayable.largeText, displayable.operationName);
+                    } else {
+                        displayText(result.getResult(), displayable.operationName);
+                    }
+                    logManager.log("执行配方: " + recipeName + " (" + stepCount + "步, 融合" + fusedCount +
+                        "步, 耗时: " + result.getExecutionTimeMs() + "ms)");
+                }
+
+                @Override
+                public void onFailure(ExecutionTask<DisplayableResult> task, Exception ex) {
+                    endExecution();
+                    logManager.logError("执行配方失败: " + recipeName, ex);
+                    displayText("执行失败: " + ex.getMessage(), recipeName);
+                }
+
+                @Override
+                public void onCancelled(ExecutionTask<DisplayableResult> task) {
+                    endExecution();
+                    logManager.log("已取消执行: " + recipeName + " (已运行: " + task.getElapsedMs() + "ms)");
+                }
+
+                @Override
+                public void onProgress(ExecutionTask<DisplayableResult> task, int percent) {
+                    updateProgress(percent);
+                }
+            });
+    }
 
+    /**
+     * 处理文件流处理事件：选择源文件和目标文件，以流方式逐块处理
+     * 哈希操作和多重摘要转为文件哈希计算
+     * @param parent 父组件，用于对话框
+     */
+    public void handleStreamFile(Component parent) {
+        Operation selected = selectedOperation != null ? OperationFactory.getOperation(selectedOperation) : null;
+        if (selected instanceof DigestOperation) {
+            handleHashFile(parent, (DigestOperation) selected);
+            return;
+        }
+        // 可配置操作按配置面板中的配置绑定后再流式处理
+        Operation operation;
         try {
-            // 执行前：记录操作提示到日志
-            String hints = OperationFactory.getOperationHints(selectedOperation);
-            if (hints != null && !hints.isEmpty()) {
-                logManager.log(hints);
-            }
+            operation = configureSelected(selected);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(parent, ex.getMessage(), "配置错误", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (operation instanceof MultiDigestOperation) {
+            handleMultiDigestFile(parent, (MultiDigestOperation) operation);
+            return;
+        }
+        if (!(operation instanceof StreamingOperation)) {
+            JOptionPane.showMessageDialog(parent, "当前操作不支持文件流处理，请选择Base64、Base32、Hex、Unicode、URL编解码、JSON/XML格式化、JSON压缩、哈希或多重摘要操作",
+                "提示", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
 
-            OperationExecutor.ExecutionResult result = operationExecutor.execute(context);
+        JFileChooser sourceChooser = new JFileChooser();
+        sourceChooser.setDialogTitle("选择源文件");
+        if (sourceChooser.showOpenDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File source = sourceChooser.getSelectedFile();
 
-            // 显示结果
-            if (result.isImage()) {
-                imageDisplayManager.displayImage(result.getResult());
-                logManager.log("生成二维码图片: " + selectedOperation);
-            } else {
-                if (operation.getCategory() == OperationCategory.AUTOMATION) {
-                    logManager.log(result.getResult());
-                } else {
-                    displayText(result.getResult());
+        JFileChooser targetChooser = new JFileChooser(source.getParentFile());
+        targetChooser.setDialogTitle("选择目标文件");
+        targetChooser.setSelectedFile(new File(source.getParentFile(), source.getName() + ".out"));
+        if (targetChooser.showSaveDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File target = targetChooser.getSelectedFile();
+        if (target.exists() && JOptionPane.showConfirmDialog(parent, "目标文件已存在，是否覆盖？",
+                "确认", JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) {
+            return;
+        }
+
+        String operationName = selectedOperation;
+        logManager.log("开始文件流处理: " + operationName + " (" + source.getAbsolutePath() + " -> "
+            + target.getAbsolutePath() + ", 文件大小: " + FileStreamProcessor.formatMB(source.length()) + ")");
+
+        beginExecution();
+        executionEngine.submit(ExecutionEngine.DEFAULT_SLOT, operationName,
+            () -> fileStreamProcessor.process((StreamingOperation) operation, source.toPath(), target.toPath()),
+            new ExecutionListener<FileStreamProcessor.StreamResult>() {
+                @Override
+                public void onSuccess(ExecutionTask<FileStreamProcessor.StreamResult> task,
+                                      FileStreamProcessor.StreamResult result) {
+                    endExecution();
+                    logManager.log(String.format("文件流处理完成: %s (读取: %s, 写入: %s, 耗时: %dms, 速度: %.2f MB/s)",
+                        operationName, FileStreamProcessor.formatMB(result.getBytesRead()),
+                        FileStreamProcessor.formatMB(result.getBytesWritten()), result.getElapsedMs(),
+                        result.getThroughputMBps()));
                 }
 
-                // 检查自动保存选项
-                JCheckBox autoSaveCheckBox = registry.getComponent(UIComponentRegistry.AUTO_SAVE_CHECK_BOX);
-                if (autoSaveCheckBox != null && autoSaveCheckBox.isSelected()) {
-                    try {
-                        String filePath = textFileManager.autoSaveText(result.getResult(), settingsManager.getAutoSaveDirectory(), selectedOperation);
-                        logManager.log("结果已自动保存到: " + filePath);
-                    } catch (Exception ex) {
-                        logManager.logError("自动保存失败", ex);
-                    }
+                @Override
+                public void onFailure(ExecutionTask<FileStreamProcessor.StreamResult> task, Exception ex) {
+                    endExecution();
+                    logManager.logError("文件流处理失败: " + operationName, ex);
                 }
 
-                // 检查大结果直接输出模式
-                JCheckBox directFileCheckBox = registry.getComponent(UIComponentRegistry.DIRECT_FILE_OUTPUT_CHECK_BOX);
-                if (directFileCheckBox != null && directFileCheckBox.isSelected() &&
-                    textFileManager.isLargeResult(result.getResult())) {
-                    handleDirectFileOutput(parent, result.getResult());
-                    return; // 跳过常规显示
+                @Override
+                public void onCancelled(ExecutionTask<FileStreamProcessor.StreamResult> task) {
+                    endExecution();
+                    logManager.log("已取消文件流处理: " + operationName + " (已运行: " + task.getElapsedMs() + "ms)");
                 }
-            }
 
-            logManager.log("执行操作: " + selectedOperation + " (耗时: " + result.getExecutionTimeMs() + "ms)" +
-                (result.usedExpressions() ? " [使用表达式过滤]" : ""));
+                @Override
+                public void onProgress(ExecutionTask<FileStreamProcessor.StreamResult> task, int percent) {
+                    updateProgress(percent);
+                }
+            });
+    }
 
-        } catch (Exception ex) {
-            logManager.logError("执行操作失败: " + selectedOperation, ex);
-            if (operation.getCategory() == OperationCategory.AUTOMATION) {
-                logManager.log("执行操作失败: " + selectedOperation + " - " + ex.getMessage());
-            } else {
-                registry.getOutputTextArea().setText("执行失败: " + ex.getMessage());
+    /**
+     * 处理文件哈希：选择文件和摘要算法，一次读取同时计算所有选中的摘要
+     * @param parent 父组件，用于对话框
+     * @param operation 当前选中的哈希操作，其算法默认勾选
+     */
+    private void handleHashFile(Component parent, DigestOperation operation) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("选择要计算哈希的文件");
+        if (fileChooser.showOpenDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = fileChooser.getSelectedFile();
+
+        // 选择摘要算法，默认勾选当前操作的算法以及 MD5/SHA-1/SHA-256
+        JPanel algorithmPanel = new JPanel(new GridLayout(0, 2, 10, 5));
+        List<JCheckBox> checkBoxes = new ArrayList<>();
+        for (String algorithm : FileDigester.SUPPORTED_ALGORITHMS) {
+            JCheckBox checkBox = new JCheckBox(algorithm, algorithm.equals(operation.getAlgorithm())
+                || "MD5".equals(algorithm) || "SHA-1".equals(algorithm) || "SHA-256".equals(algorithm));
+            checkBoxes.add(checkBox);
+            algorithmPanel.add(checkBox);
+        }
+        if (JOptionPane.showConfirmDialog(parent, algorithmPanel, "选择摘要算法",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        List<String> algorithms = new ArrayList<>();
+        for (JCheckBox checkBox : checkBoxes) {
+            if (checkBox.isSelected()) {
+                algorithms.add(checkBox.getText());
             }
         }
+        if (algorithms.isEmpty()) {
+            JOptionPane.showMessageDialog(parent, "请至少选择一种摘要算法", "提示", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        submitHashFile(file, algorithms, null, DigestEngine.Format.HEX);
+    }
+
+    /**
+     * 处理多重摘要的文件计算：按配置面板中绑定的算法、密钥和输出格式计算文件摘要
+     * @param parent 父组件，用于对话框
+     * @param operation 绑定了配置的多重摘要操作
+     */
+    private void handleMultiDigestFile(Component parent, MultiDigestOperation operation) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("选择要计算摘要的文件");
+        if (fileChooser.showOpenDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        submitHashFile(fileChooser.getSelectedFile(), operation.getAlgorithms(), operation.getHmacKey(),
+            operation.getFormat());
+    }
+
+    /**
+     * 提交文件哈希计算任务，完成后在输出区显示结果表格
+     */
+    private void submitHashFile(File file, List<String> algorithms, byte[] hmacKey, DigestEngine.Format format) {
+        String operationName = selectedOperation;
+        logManager.log("开始计算文件哈希: " + file.getAbsolutePath() + " (" + String.join(", ", algorithms)
+            + ", 文件大小: " + FileStreamProcessor.formatMB(file.length()) + ")");
+
+        beginExecution();
+        executionEngine.submit(ExecutionEngine.DEFAULT_SLOT, operationName,
+            () -> fileDigester.digest(file.toPath(), algorithms, hmacKey),
+            new ExecutionListener<FileDigester.DigestResult>() {
+                @Override
+                public void onSuccess(ExecutionTask<FileDigester.DigestResult> task, FileDigester.DigestResult result) {
+                    endExecution();
+                    displayText(result.format(format), operationName);
+                    logManager.log(String.format("文件哈希计算完成: %s (读取: %s, 耗时: %dms, 速度: %.2f MB/s)",
+                        file.getName(), FileStreamProcessor.formatMB(result.getBytesRead()),
+                        result.getElapsedMs(), result.getThroughputMBps()));
+                }
+
+                @Override
+                public void onFailure(ExecutionTask<FileDigester.DigestResult> task, Exception ex) {
+                    endExecution();
+                    logManager.logError("文件哈希计算失败: " + file.getName(), ex);
+                }
+
+                @Override
+                public void onCancelled(ExecutionTask<FileDigester.DigestResult> task) {
+                    endExecution();
+                    logManager.log("已取消文件哈希计算: " + file.getName() + " (已运行: " + task.getElapsedMs() + "ms)");
+                }
+
+                @Override
+                public void onProgress(ExecutionTask<FileDigester.DigestResult> task, int percent) {
+                    updateProgress(percent);
+                }
+            });
+    }
+
+    /**
+     * 进入执行状态：启用取消按钮并显示进度条
+     */
+    private void beginExecution() {
+        // 尚未完成的预览已经过时，不能覆盖本次执行的结果
+        executionEngine.discard(ExecutionEngine.PREVIEW_SLOT);
+        livePreviewStartNanos = -1;
+        JButton cancelButton = registry.getComponent(UIComponentRegistry.CANCEL_BUTTON);
+        if (cancelButton != null) {
+            cancelButton.setEnabled(true);
+        }
+        JProgressBar progressBar = registry.getComponent(UIComponentRegistry.EXECUTION_PROGRESS_BAR);
+        if (progressBar != null) {
+            progressBar.setIndeterminate(true);
+            progressBar.setString("执行中...");
+            progressBar.setVisible(true);
+        }
+    }
+
+    /**
+     * 退出执行状态：禁用取消按钮并隐藏进度条
+     */
+    private void endExecution() {
+        JButton cancelButton = registry.getComponent(UIComponentRegistry.CANCEL_BUTTON);
+        if (cancelButton != null) {
+            cancelButton.setEnabled(false);
+        }
+        JProgressBar progressBar = registry.getComponent(UIComponentRegistry.EXECUTION_PROGRESS_BAR);
+        if (progressBar != null) {
+            progressBar.setIndeterminate(false);
+            progressBar.setVisible(false);
+        }
+    }
+
+    /**
+     * 更新进度条
+     * @param percent 进度百分比，-1 表示未知
+     */
+    private void updateProgress(int percent) {
+        JProgressBar progressBar = registry.getComponent(UIComponentRegistry.EXECUTION_PROGRESS_BAR);
+        if (progressBar == null) {
+            return;
+        }
+        if (percent < 0) {
+            progressBar.setIndeterminate(true);
+            progressBar.setString("执行中...");
+        } else {
+            progressBar.setIndeterminate(false);
+            progressBar.setValue(percent);
+            progressBar.setString(percent + "%");
+        }
     }
 
     /**
@@ -316,6 +691,10 @@ public class EventHandler {
      * 处理复制输出事件
      */
     public void handleCopyOutput() {
+        if (largeResult != null) {
+            logManager.log("结果过大，无法整体复制，可在查看器中选中行后按 Ctrl+C 复制，或使用\"保存文本\"");
+            return;
+        }
         String text = registry.getOutputTextArea().getText();
         clipboardManager.copyText(text);
         logManager.log("已复制输出内容到剪贴板");
@@ -341,6 +720,10 @@ public class EventHandler {
      * 处理交换输入输出事件
      */
     public void handleSwap() {
+        if (largeResult != null) {
+            logManager.log("结果过大，无法与输入交换，请先保存到文件");
+            return;
+        }
         String inputText = registry.getInputTextArea().getText();
         String outputText = registry.getOutputTextArea().getText();
         registry.getInputTextArea().setText(outputText);
@@ -377,18 +760,16 @@ public class EventHandler {
     }
 
     /**
-     * 处理选择文件事件（用于Base编码操作）
+     * 处理选择文件事件（用于文件输入类操作）
      * @param parent 父组件，用于对话框
+     * @param selectedFileLabel 显示所选文件的标签
      */
-    public void handleSelectFileForBaseEncoding(Component parent) {
+    public void handleSelectFile(Component parent, JLabel selectedFileLabel) {
         JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter(
-            "图片文件", "png", "jpg", "jpeg", "gif", "bmp"));
-        fileChooser.setDialogTitle("选择图片文件");
+        fileChooser.setDialogTitle("选择文件");
 
         if (fileChooser.showOpenDialog(parent) == JFileChooser.APPROVE_OPTION) {
             selectedImagePath = fileChooser.getSelectedFile().getAbsolutePath();
-            JLabel selectedFileLabel = registry.getComponent(UIComponentRegistry.SELECTED_FILE_LABEL);
             selectedFileLabel.setText("已选择: " + fileChooser.getSelectedFile().getName());
             selectedFileLabel.setForeground(Color.BLACK);
             logManager.log("已选择文件: " + selectedImagePath);
@@ -479,6 +860,130 @@ public class EventHandler {
     public void handleOperationSelection(String operationName) {
         selectedOperation = operationName;
         uiStateManager.updateInputStateForOperation(operationName);
+        if (livePreviewEnabled) {
+            livePreviewPolicy.reset();
+            handleLiveInputChanged();
+        }
+    }
+
+    /**
+     * 处理实时预览切换事件
+     * @param enabled 是否启用实时预览
+     */
+    public void handleLivePreviewToggle(boolean enabled) {
+        livePreviewEnabled = enabled;
+        livePreviewPolicy.reset();
+        if (enabled) {
+            logManager.log("已启用实时预览，输入或表达式变化后自动执行");
+            handleLiveInputChanged();
+        } else {
+            livePreviewTimer.stop();
+            logManager.log("已禁用实时预览");
+        }
+    }
+
+    /**
+     * 处理输入或表达式变化事件
+     * 实时预览模式下立即丢弃已过时的执行，并在输入停止变化一段时间后重新执行
+     */
+    public void handleLiveInputChanged() {
+        if (!livePreviewEnabled) {
+            return;
+        }
+        if (executionEngine.discard(ExecutionEngine.PREVIEW_SLOT)) {
+            if (livePreviewStartNanos >= 0) {
+                long elapsedMs = (System.nanoTime() - livePreviewStartNanos) / 1_000_000;
+                livePreviewStartNanos = -1;
+                checkLivePreviewCost(elapsedMs);
+            }
+        }
+        livePreviewTimer.setInitialDelay(livePreviewPolicy.getDebounceMs());
+        livePreviewTimer.restart();
+    }
+
+    /**
+     * 执行一次实时预览，输入不完整或配置无效时静默跳过
+     */
+    private void runLivePreview() {
+        if (!livePreviewEnabled || selectedOperation == null) {
+            return;
+        }
+        Operation operation = OperationFactory.getOperation(selectedOperation);
+        // 自动化操作会模拟键盘输入，图片和文件输入不随文本变化，都不参与实时预览
+        if (operation == null || operation.getCategory() == OperationCategory.AUTOMATION ||
+                operation.getInputType() != InputType.TEXT) {
+            return;
+        }
+        // 手动执行、文件处理或配方运行尚未结束时不预览，以免覆盖它们的结果
+        if (executionEngine.isRunning(ExecutionEngine.DEFAULT_SLOT)) {
+            return;
+        }
+        String inputText = registry.getInputTextArea().getText();
+        if (inputText.isEmpty() || !operationValidator.validateExecution(selectedOperation, inputText).isValid()) {
+            return;
+        }
+        OperationExecutionContext context;
+        try {
+            context = buildContext(inputText);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        String operationName = selectedOperation;
+        long startNanos = System.nanoTime();
+        livePreviewStartNanos = startNanos;
+        executionEngine.submit(ExecutionEngine.PREVIEW_SLOT, operationName,
+            () -> prepareDisplay(operationExecutor.execute(context), operationName, true),
+            new ExecutionListener<DisplayableResult>() {
+                @Override
+                public void onSuccess(ExecutionTask<DisplayableResult> task, DisplayableResult displayable) {
+                    livePreviewStartNanos = -1;
+                    long renderStart = System.nanoTime();
+                    if (displayable.result.isImage()) {
+                        imageDisplayManager.displayImage(displayable.result.getImageBytes(), operationName);
+                    } else if (displayable.largeText != null) {
+                        displayLargeText(displayable.largeText, displayable.operationName);
+                    } else {
+                        displayText(displayable.result.getResult(), displayable.operationName);
+                    }
+                    recordRenderTime(operationName, renderStart);
+                    checkLivePreviewCost((System.nanoTime() - startNanos) / 1_000_000);
+                }
+
+                @Override
+                public void onFailure(ExecutionTask<DisplayableResult> task, Exception ex) {
+                    livePreviewStartNanos = -1;
+                    // 输入过程中的中间状态经常无效，只显示错误，不写入普通日志
+                    logManager.debug("实时预览失败: " + operationName + " - " + ex.getMessage());
+                    displayText("执行失败: " + ex.getMessage(), operationName);
+                }
+
+                @Override
+                public void onCancelled(ExecutionTask<DisplayableResult> task) {
+                    livePreviewStartNanos = -1;
+                }
+
+                @Override
+                public void onProgress(ExecutionTask<DisplayableResult> task, int percent) {
+                }
+            });
+    }
+
+    /**
+     * 记录预览耗时，连续超出延迟预算时自动关闭实时预览
+     */
+    private void checkLivePreviewCost(long costMs) {
+        if (!livePreviewPolicy.recordCost(costMs)) {
+            return;
+        }
+        livePreviewEnabled = false;
+        livePreviewTimer.stop();
+        JCheckBox livePreviewCheckBox = registry.getComponent(UIComponentRegistry.LIVE_PREVIEW_CHECK_BOX);
+        if (livePreviewCheckBox != null) {
+            livePreviewCheckBox.setSelected(false);
+        }
+        logManager.warn("实时预览耗时 " + costMs + "ms，连续超出 " + LivePreviewPolicy.LATENCY_BUDGET_MS +
+            "ms 的预算，已自动关闭，请使用\"执行\"按钮");
     }
 
     /**
@@ -499,12 +1004,79 @@ public class EventHandler {
 
     /**
      * 显示文本结果
+     * @param text 文本
+     * @param operationName 产生结果的操作或配方名称，用于显示耗时事件
      */
-    private void displayText(String text) {
+    private void displayText(String text, String operationName) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        releaseLargeResult();
         JPanel outputCardsPanel = registry.getOutputCardsPanel();
         CardLayout outputCardLayout = (CardLayout) outputCardsPanel.getLayout();
         outputCardLayout.show(outputCardsPanel, "TEXT");
         registry.getOutputTextArea().setText(text);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operationName = operationName;
+            event.target = RenderEvent.TARGET_TEXT;
+            event.size = text != null ? text.length() : 0;
+            event.commit();
+        }
+    }
+
+    /**
+     * 以只读查看器显示大结果，只读取可见的行
+     * @param text 转存的大结果
+     * @param name 操作或配方名称
+     */
+    private void displayLargeText(LargeTextFile text, String name) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        releaseLargeResult();
+        largeResult = text;
+        registry.getOutputTextArea().setText("");
+        JPanel outputCardsPanel = registry.getOutputCardsPanel();
+        ((CardLayout) outputCardsPanel.getLayout()).show(outputCardsPanel, "TEXT");
+        JPanel textCardsPanel = registry.getOutputTextCardsPanel();
+        ((CardLayout) textCardsPanel.getLayout()).show(textCardsPanel, "LARGE");
+        registry.getLargeTextViewer().setDocument(text);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operationName = name;
+            event.target = RenderEvent.TARGET_TEXT;
+            event.size = text.getSize();
+            event.commit();
+        }
+        logManager.log("结果较大 (" + text.getSize() + " 字节)，已使用只读查看器显示");
+    }
+
+    /**
+     * 关闭当前显示的大结果，切换回普通文本区域
+     */
+    private void releaseLargeResult() {
+        if (largeResult == null) {
+            return;
+        }
+        registry.getLargeTextViewer().setDocument(null);
+        largeResult.close();
+        largeResult = null;
+        JPanel textCardsPanel = registry.getOutputTextCardsPanel();
+        ((CardLayout) textCardsPanel.getLayout()).show(textCardsPanel, "TEXT");
+    }
+
+    /**
+     * 将缩进显示名称映射到缩进字符串
+     */
+    private String mapIndent(String indentDisplay) {
+        switch (indentDisplay) {
+            case "4空格":
+                return "    ";
+            case "Tab":
+                return "\t";
+            case "2空格":
+            default:
+                return "  ";
+        }
     }
 
     /**
@@ -552,6 +1124,21 @@ public class EventHandler {
      * @param parent 父组件，用于对话框
      */
     public void handleSaveOutput(Component parent) {
+        if (largeResult != null) {
+            String defaultName = textFileManager.suggestFileName(selectedOperation, "txt");
+            textFileManager.saveLargeTextToFile(parent, largeResult, defaultName, new TextFileManager.LogCallback() {
+                @Override
+                public void onLog(String message) {
+                    logManager.log(message);
+                }
+
+                @Override
+                public void onError(String message, Exception e) {
+                    logManager.logError(message, e);
+                }
+            });
+            return;
+        }
         String outputText = registry.getOutputTextArea().getText();
         if (outputText == null || outputText.isEmpty()) {
             JOptionPane.showMessageDialog(parent, "没有可保存的输出内容",
@@ -594,7 +1181,7 @@ public class EventHandler {
      * @param parent 父组件，用于对话框
      * @param result 结果文本
      */
-    private void handleDirectFileOutput(Component parent, String result) {
+    private void handleDirectFileOutput(Component parent, String result, String operationName) {
         JFileChooser fileChooser = new JFileChooser();
         String defaultName = textFileManager.suggestFileName(selectedOperation, "txt");
         fileChooser.setSelectedFile(new File(defaultName));
@@ -608,6 +1195,7 @@ public class EventHandler {
 
                 textFileManager.saveToPath(result, filePath);
                 logManager.log("大结果已直接输出到文件: " + filePath + " (文件大小: " + result.length() + " 字符)");
+                releaseLargeResult();
                 registry.getOutputTextArea().setText("[大结果已保存到文件]\n" + filePath + "\n文件大小: " + result.length() + " 字符");
             } catch (Exception ex) {
                 logManager.logError("直接文件输出失败", ex);
@@ -616,7 +1204,32 @@ public class EventHandler {
             }
         } else {
             // 用户取消保存，仍然在UI中显示
-            displayText(result);
+            displayText(result, operationName);
+        }
+    }
+
+    /**
+     * 工作线程准备好的显示结果：执行结果，以及文本过大时转存的文件
+     */
+    private static class DisplayableResult implements AutoCloseable {
+        final OperationExecutor.ExecutionResult result;
+        final String operationName;
+        final LargeTextFile largeText;
+
+        DisplayableResult(OperationExecutor.ExecutionResult result, String operationName, LargeTextFile largeText) {
+            this.result = result;
+            this.operationName = operationName;
+            this.largeText = largeText;
+        }
+
+        /**
+         * 结果被丢弃时删除转存的临时文件
+         */
+        @Override
+        public void close() {
+            if (largeText != null) {
+                largeText.close();
+            }
         }
     }
 
@@ -0,0 +1,142 @@
+package org.oxff.ui.handler;
+
+import org.oxff.core.TaskMonitor;
+import org.oxff.operation.StreamingOperation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 文件流处理器，将源文件通过流式操作逐块写入目标文件
+ * 内存占用与文件大小无关；结果先写入同目录下的临时文件，成功后再替换目标文件，
+ * 失败或取消时不会留下不完整的目标文件
+ */
+public class FileStreamProcessor {
+
+    /**
+     * 以流方式处理文件，在工作线程中调用，进度和取消通过 TaskMonitor 传递
+     * @param operation 流式操作
+     * @param source 源文件
+     * @param target 目标文件
+     * @return 处理统计
+     * @throws IOException 读写失败时抛出
+     */
+    public StreamResult process(StreamingOperation operation, Path source, Path target) throws IOException {
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            throw new IOException("源文件和目标文件不能相同");
+        }
+
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".part");
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            long bytesRead;
+            long bytesWritten;
+            // 先关闭两个通道再替换目标文件，部分平台上无法移动仍被打开的文件
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MonitoredChannel monitored = new MonitoredChannel(in, in.size(), TaskMonitor.current());
+                operation.execute(monitored, out);
+                out.force(false);
+                bytesRead = monitored.bytesRead;
+                bytesWritten = out.size();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            completed = true;
+            return new StreamResult(bytesRead, bytesWritten, System.nanoTime() - startNanos);
+        } finally {
+            if (!completed) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * 统计读取量并在每次读取前检查取消状态的输入通道
+     */
+    private static final class MonitoredChannel implements ReadableByteChannel {
+        private final ReadableByteChannel delegate;
+        private final long total;
+        private final TaskMonitor monitor;
+        private long bytesRead;
+
+        MonitoredChannel(ReadableByteChannel delegate, long total, TaskMonitor monitor) {
+            this.delegate = delegate;
+            this.total = total;
+            this.monitor = monitor;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            monitor.checkCancelled();
+            int n = delegate.read(dst);
+            if (n > 0) {
+                bytesRead += n;
+                monitor.reportProgress(bytesRead, total);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * 文件流处理统计
+     */
+    public static class StreamResult {
+        private final long bytesRead;
+        private final long bytesWritten;
+        private final long elapsedNanos;
+
+        public StreamResult(long bytesRead, long bytesWritten, long elapsedNanos) {
+            this.bytesRead = bytesRead;
+            this.bytesWritten = bytesWritten;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        public long getElapsedMs() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        /**
+         * 按读取字节数计算吞吐量
+         * @return MB/s
+         */
+        public double getThroughputMBps() {
+            if (elapsedNanos <= 0) {
+                return 0;
+            }
+            return (bytesRead / (1024.0 * 1024.0)) / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * 格式化字节数为 MB 文本
+     */
+    public static String formatMB(long bytes) {
+        return String.format("%.2f MB", bytes / (1024.0 * 1024.0));
+    }
+}
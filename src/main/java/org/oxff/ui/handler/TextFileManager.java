@@ -1,5 +1,8 @@
 package org.oxff.ui.handler;
 
+import org.oxff.core.metrics.FileWriteEvent;
+import org.oxff.ui.util.LargeTextFile;
+
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
@@ -52,8 +55,47 @@ public class TextFileManager {
                 }
 
                 // 使用UTF-8编码写入文件
-                try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
-                    writer.write(text);
+                writeText(file, text, null);
+
+                logCallback.onLog("文本已保存到: " + fileName);
+                JOptionPane.showMessageDialog(parent, "文本保存成功！", "成功", JOptionPane.INFORMATION_MESSAGE);
+
+            } catch (IOException e) {
+                logCallback.onError("保存文本失败", e);
+                JOptionPane.showMessageDialog(parent, "保存文本失败: " + e.getMessage(),
+                    "错误", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * 保存大结果到文件（手动保存），直接复制结果文件，不将内容读入内存
+     * @param parent 父组件，用于对话框定位
+     * @param text 大结果
+     * @param defaultName 默认文件名
+     * @param logCallback 日志回调，用于记录操作结果
+     */
+    public void saveLargeTextToFile(Component parent, LargeTextFile text, String defaultName, LogCallback logCallback) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setSelectedFile(new File(defaultName));
+
+        if (fileChooser.showSaveDialog(parent) == JFileChooser.APPROVE_OPTION) {
+            try {
+                File file = fileChooser.getSelectedFile();
+                String fileName = file.getAbsolutePath();
+                if (!fileName.toLowerCase().endsWith(".txt")) {
+                    fileName += ".txt";
+                    file = new File(fileName);
+                }
+
+                FileWriteEvent event = new FileWriteEvent();
+                event.begin();
+                text.copyTo(file.toPath());
+                event.end();
+                if (event.shouldCommit()) {
+                    event.path = file.getAbsolutePath();
+                    event.bytes = text.getSize();
+                    event.commit();
                 }
 
                 logCallback.onLog("文本已保存到: " + fileName);
@@ -101,9 +143,7 @@ public class TextFileManager {
         File file = new File(saveDir, fileName);
 
         // 保存文件
-        try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
-            writer.write(text);
-        }
+        writeText(file, text, operationName);
 
         return file.getAbsolutePath();
     }
@@ -123,11 +163,32 @@ public class TextFileManager {
             parentDir.mkdirs();
         }
 
+        writeText(file, text, null);
+
+        return file.getAbsolutePath();
+    }
+
+    /**
+     * 以UTF-8编码写入文本，并发出文件写入JFR事件
+     * @param file 目标文件
+     * @param text 文本
+     * @param operationName 产生结果的操作名称，未知时为 null
+     * @throws IOException 写入失败时抛出
+     */
+    private void writeText(File file, String text, String operationName) throws IOException {
+        FileWriteEvent event = new FileWriteEvent();
+        event.begin();
         try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
             writer.write(text);
         }
-
-        return file.getAbsolutePath();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operationName = operationName;
+            event.path = file.getAbsolutePath();
+            event.characters = text.length();
+            event.bytes = file.length();
+            event.commit();
+        }
     }
 
     /**
@@ -1,5 +1,7 @@
 package org.oxff.ui.image;
 
+import org.oxff.core.metrics.RenderEvent;
+
 import javax.swing.*;
 import java.awt.*;
 import java.util.Base64;
@@ -24,14 +26,51 @@ public class ImageDisplayManager {
      * @param imageData Base64编码的图片数据
      */
     public void displayImage(String imageData) {
-        // 切换到图片显示
-        outputCardLayout.show(outputCardsPanel, "IMAGE");
-
         try {
             // 解析data URL，提取Base64数据
             String base64Data = imageData.substring(imageData.indexOf(",") + 1);
-            byte[] imageBytes = Base64.getDecoder().decode(base64Data);
+            displayImage(Base64.getDecoder().decode(base64Data));
+        } catch (Exception e) {
+            outputCardLayout.show(outputCardsPanel, "IMAGE");
+            imageDisplayLabel.setIcon(null);
+            imageDisplayLabel.setText("图片显示失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 显示图片（原始图片字节）
+     * @param imageBytes 图片字节，如PNG
+     */
+    public void displayImage(byte[] imageBytes) {
+        displayImage(imageBytes, null);
+    }
+
+    /**
+     * 显示图片（原始图片字节），并发出结果显示JFR事件
+     * @param imageBytes 图片字节，如PNG
+     * @param operationName 产生图片的操作名称，未知时为 null
+     */
+    public void displayImage(byte[] imageBytes, String operationName) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        try {
+            showImage(imageBytes);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operationName = operationName;
+                event.target = RenderEvent.TARGET_IMAGE;
+                event.size = imageBytes.length;
+                event.commit();
+            }
+        }
+    }
+
+    private void showImage(byte[] imageBytes) {
+        // 切换到图片显示
+        outputCardLayout.show(outputCardsPanel, "IMAGE");
 
+        try {
             // 创建图片图标
             ImageIcon icon = new ImageIcon(imageBytes);
 
@@ -0,0 +1,83 @@
+package org.oxff.ui.util;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.oxff.core.metrics.FileWriteEvent;
+import org.oxff.core.metrics.OperationExecutionEvent;
+import org.oxff.core.metrics.RenderEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 飞行记录管理器，在后台持续进行低开销的JFR记录，可随时导出供 JDK Mission Control 分析
+ * 使用JDK自带的 default 配置（开销约1%），并只保留最近一段时间的数据
+ */
+public class FlightRecorderManager {
+    private static final String RECORDING_NAME = "uiTools";
+    private static final Duration MAX_AGE = Duration.ofMinutes(30);
+    private static final long MAX_SIZE_BYTES = 100L * 1024 * 1024;
+
+    private volatile Recording recording;
+
+    /**
+     * 开始持续记录
+     * @return 开始成功返回 true；JVM不支持JFR或启动失败时返回 false
+     */
+    public synchronized boolean start() {
+        if (recording != null) {
+            return true;
+        }
+        try {
+            if (!FlightRecorder.isAvailable()) {
+                return false;
+            }
+            Recording newRecording = new Recording(Configuration.getConfiguration("default"));
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(MAX_AGE);
+            newRecording.setMaxSize(MAX_SIZE_BYTES);
+            newRecording.enable(OperationExecutionEvent.class);
+            newRecording.enable(RenderEvent.class);
+            newRecording.enable(FileWriteEvent.class);
+            newRecording.start();
+            recording = newRecording;
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 是否正在记录
+     */
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * 将当前已记录的数据导出为 .jfr 文件，记录继续进行
+     * @param target 目标文件
+     * @throws IOException 写入失败时抛出
+     * @throws IllegalStateException 未在记录时抛出
+     */
+    public void dump(Path target) throws IOException {
+        Recording current = recording;
+        if (current == null) {
+            throw new IllegalStateException("飞行记录未启动");
+        }
+        current.dump(target);
+    }
+
+    /**
+     * 停止记录并释放记录数据
+     */
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
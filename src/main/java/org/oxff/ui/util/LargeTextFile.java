@@ -0,0 +1,359 @@
+package org.oxff.ui.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 以内存映射文件保存的大文本，按行随机读取，供大结果查看器使用
+ * 文件内容不进入堆内存，只保存稀疏的行偏移索引：每 {@value #CHECKPOINT_INTERVAL} 行记录一个偏移，
+ * 读取某行时从最近的检查点向后扫描。超过 {@value #MAX_ROW_BYTES} 字节的超长行按字符边界拆分为多个显示行，
+ * 拆分出的续行单独记录，用于在显示行号和文本行号之间换算
+ */
+public class LargeTextFile implements Closeable {
+    /** 单个显示行的最大字节数，超长行会被拆分 */
+    public static final int MAX_ROW_BYTES = 4096;
+
+    private static final String SPILL_PREFIX = "uiTools-result-";
+    private static final long STALE_SPILL_AGE_MS = 24L * 60 * 60 * 1000;
+
+    private static final int CHECKPOINT_INTERVAL = 64;
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_BITS;
+
+    private final Path file;
+    private final boolean temporary;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private long[] checkpoints = new long[1024];
+    private int rowCount;
+
+    // 被拆分的文本行：首个显示行号、续行数，以及之前所有拆分行的续行总数
+    private int[] splitFirstRows = new int[16];
+    private int[] splitContinuations = new int[16];
+    private int[] continuationsBefore = new int[16];
+    private int splitCount;
+    private int continuationCount;
+
+    // 最近一次读取的位置，顺序滚动时避免从检查点重复扫描
+    private int cachedRow = -1;
+    private long cachedRowStart;
+
+    private LargeTextFile(Path file, boolean temporary) throws IOException {
+        this.file = file;
+        this.temporary = temporary;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            int segmentCount = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_BITS);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i << SEGMENT_BITS;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(SEGMENT_SIZE, size - position));
+            }
+            buildIndex();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 将文本以UTF-8写入临时文件并建立索引，关闭时删除临时文件
+     * 写入和建立索引耗时与文本大小成正比，应在工作线程中调用
+     * @param text 文本
+     * @return 大文本
+     * @throws IOException 写入失败时抛出
+     */
+    public static LargeTextFile spill(String text) throws IOException {
+        Path spillFile = Files.createTempFile(SPILL_PREFIX, ".txt");
+        try {
+            try (Writer writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8)) {
+                writer.write(text);
+            }
+            return new LargeTextFile(spillFile, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spillFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 删除临时目录中上次运行异常退出时遗留的转存文件
+     * 只删除一天前的文件，以免删除同时运行的其他实例正在使用的文件
+     */
+    public static void deleteStaleSpills() {
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        long cutoff = System.currentTimeMillis() - STALE_SPILL_AGE_MS;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(tempDir, SPILL_PREFIX + "*.txt")) {
+            for (Path stale : stream) {
+                try {
+                    if (Files.getLastModifiedTime(stale).toMillis() < cutoff) {
+                        Files.deleteIfExists(stale);
+                    }
+                } catch (IOException e) {
+                    // 跳过无法删除的文件
+                }
+            }
+        } catch (IOException e) {
+            // 临时目录不可读时不清理
+        }
+    }
+
+    /**
+     * 打开已有的UTF-8文本文件并建立索引，应在工作线程中调用
+     * @param file 文件
+     * @return 大文本，关闭时不删除文件
+     * @throws IOException 读取失败时抛出
+     */
+    public static LargeTextFile open(Path file) throws IOException {
+        return new LargeTextFile(file, false);
+    }
+
+    private void buildIndex() {
+        long position = 0;
+        int row = 0;
+        boolean continuing = false;
+        while (position < size) {
+            if (continuing) {
+                recordContinuation(row);
+            }
+            if (row % CHECKPOINT_INTERVAL == 0) {
+                int index = row / CHECKPOINT_INTERVAL;
+                if (index == checkpoints.length) {
+                    checkpoints = Arrays.copyOf(checkpoints, checkpoints.length * 2);
+                }
+                checkpoints[index] = position;
+            }
+            position = nextRowStart(position);
+            continuing = position < size && byteAt(position - 1) != '\n';
+            row++;
+        }
+        rowCount = row;
+        checkpoints = Arrays.copyOf(checkpoints, (row + CHECKPOINT_INTERVAL - 1) / CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * 记录一个续行，连续的续行归入同一个拆分行
+     */
+    private void recordContinuation(int row) {
+        if (splitCount > 0) {
+            int last = splitCount - 1;
+            if (splitFirstRows[last] + splitContinuations[last] + 1 == row) {
+                splitContinuations[last]++;
+                continuationCount++;
+                return;
+            }
+        }
+        if (splitCount == splitFirstRows.length) {
+            splitFirstRows = Arrays.copyOf(splitFirstRows, splitCount * 2);
+            splitContinuations = Arrays.copyOf(splitContinuations, splitCount * 2);
+            continuationsBefore = Arrays.copyOf(continuationsBefore, splitCount * 2);
+        }
+        splitFirstRows[splitCount] = row - 1;
+        splitContinuations[splitCount] = 1;
+        continuationsBefore[splitCount] = continuationCount;
+        splitCount++;
+        continuationCount++;
+    }
+
+    /**
+     * 查找首个显示行不晚于 row 的最后一个拆分行
+     * @return 拆分行序号，没有时返回 -1
+     */
+    private int findSplit(int row) {
+        int low = 0;
+        int high = splitCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (splitFirstRows[mid] <= row) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * 计算下一显示行的起始位置：遇到换行符结束本行，超过最大字节数时在字符边界处拆分
+     */
+    private long nextRowStart(long rowStart) {
+        long limit = Math.min(size, rowStart + MAX_ROW_BYTES);
+        for (long i = rowStart; i < limit; i++) {
+            if (byteAt(i) == '\n') {
+                return i + 1;
+            }
+        }
+        if (limit == size) {
+            return size;
+        }
+        // 换行符正好在上限之后时仍属于本行，不拆出空的续行
+        if (byteAt(limit) == '\n') {
+            return limit + 1;
+        }
+        // 不在UTF-8多字节字符中间拆分
+        long cut = limit;
+        while (cut > rowStart + 1 && (byteAt(cut) & 0xC0) == 0x80) {
+            cut--;
+        }
+        return cut;
+    }
+
+    private byte byteAt(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].get((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    /**
+     * 读取显示行，不含行尾的换行符
+     * @param row 行号，从0开始
+     * @return 行文本
+     * @throws IndexOutOfBoundsException 行号超出范围时抛出
+     */
+    public synchronized String getRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("行号超出范围: " + row);
+        }
+        long start;
+        int current;
+        if (cachedRow >= 0 && cachedRow <= row && row - cachedRow < CHECKPOINT_INTERVAL) {
+            start = cachedRowStart;
+            current = cachedRow;
+        } else {
+            current = row - row % CHECKPOINT_INTERVAL;
+            start = checkpoints[row / CHECKPOINT_INTERVAL];
+        }
+        while (current < row) {
+            start = nextRowStart(start);
+            current++;
+        }
+        cachedRow = row;
+        cachedRowStart = start;
+
+        long end = nextRowStart(start);
+        if (end > start && byteAt(end - 1) == '\n') {
+            end--;
+            if (end > start && byteAt(end - 1) == '\r') {
+                end--;
+            }
+        }
+        byte[] bytes = new byte[(int) (end - start)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = byteAt(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 获取显示行数
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 获取文本行数，超长行拆分出的续行不计入
+     */
+    public int getLineCount() {
+        return rowCount - continuationCount;
+    }
+
+    /**
+     * 检查显示行是否为上一行拆分出的续行，续行与上一行之间原文没有换行符
+     * @param row 显示行号，从0开始
+     */
+    public boolean isContinuation(int row) {
+        int split = findSplit(row);
+        return split >= 0 && row > splitFirstRows[split] && row <= splitFirstRows[split] + splitContinuations[split];
+    }
+
+    /**
+     * 获取显示行所在的文本行号
+     * @param row 显示行号，从0开始
+     * @return 文本行号，从0开始
+     */
+    public int getLineOfRow(int row) {
+        int split = findSplit(row);
+        if (split < 0) {
+            return row;
+        }
+        int inSplit = Math.min(row - splitFirstRows[split], splitContinuations[split]);
+        return row - continuationsBefore[split] - inSplit;
+    }
+
+    /**
+     * 获取文本行的第一个显示行
+     * @param line 文本行号，从0开始
+     * @return 显示行号，从0开始
+     */
+    public int getFirstRowOfLine(int line) {
+        // 按拆分行的文本行号二分查找，拆分行的文本行号为首个显示行号减去之前的续行数
+        int low = 0;
+        int high = splitCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (splitFirstRows[mid] - continuationsBefore[mid] <= line) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0) {
+            return line;
+        }
+        int splitLine = splitFirstRows[high] - continuationsBefore[high];
+        if (splitLine == line) {
+            return splitFirstRows[high];
+        }
+        return line + continuationsBefore[high] + splitContinuations[high];
+    }
+
+    /**
+     * 获取文件大小（字节）
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 将内容复制到目标文件，不经过堆内存
+     * @param target 目标文件
+     * @throws IOException 复制失败时抛出
+     */
+    public void copyTo(Path target) throws IOException {
+        Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 关闭文件，临时文件会被删除
+     * 映射的内存在垃圾回收时释放，部分平台上删除会失败，遗留的文件由 {@link #deleteStaleSpills()} 在以后启动时清理
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            if (temporary) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // 遗留的临时文件在以后启动时清理
+        }
+    }
+}
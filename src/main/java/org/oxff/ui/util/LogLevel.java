@@ -0,0 +1,26 @@
+package org.oxff.ui.util;
+
+/**
+ * 日志级别，低于当前级别的日志不会被记录
+ */
+public enum LogLevel {
+    DEBUG("调试"),
+    INFO("信息"),
+    WARN("警告"),
+    ERROR("错误");
+
+    private final String displayName;
+
+    LogLevel(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -1,18 +1,48 @@
 package org.oxff.ui.util;
 
 import javax.swing.JTextArea;
-import java.time.LocalTime;
+import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * 日志管理器，负责管理日志记录
  * 从 StringFormatterUI 中提取出来，提供统一的日志记录接口
+ * 任意线程都可以记录日志：日志先写入无锁环形缓冲区，由EDT上的定时器按固定帧率批量追加到日志区域，
+ * 日志区域只保留最近的若干行，可选同时写入滚动日志文件
  */
 public class LogManager {
+    /** 环形缓冲区容量，两次刷新之间超出容量的日志会被丢弃并提示 */
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final int BUFFER_MASK = BUFFER_CAPACITY - 1;
+    /** 刷新间隔，约30帧每秒 */
+    private static final int FLUSH_INTERVAL_MS = 33;
+    public static final int DEFAULT_MAX_LINES = 5000;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+        DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
     private final JTextArea logTextArea;
+    private final AtomicReferenceArray<LogEntry> buffer = new AtomicReferenceArray<>(BUFFER_CAPACITY);
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final Timer flushTimer;
+
+    // 以下字段只在EDT上访问
+    private long readSequence;
+    private long droppedCount;
+    private int maxLines = DEFAULT_MAX_LINES;
+    private RollingLogFileSink fileSink;
+
+    private volatile LogLevel level = LogLevel.INFO;
 
     public LogManager(JTextArea logTextArea) {
         this.logTextArea = logTextArea;
+        this.flushTimer = new Timer(FLUSH_INTERVAL_MS, e -> flush());
+        flushTimer.start();
     }
 
     /**
@@ -20,9 +50,23 @@ public class LogManager {
      * @param message 日志消息
      */
     public void log(String message) {
-        String timestamp = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-        logTextArea.append("[" + timestamp + "] " + message + "\n");
-        logTextArea.setCaretPosition(logTextArea.getDocument().getLength());
+        log(LogLevel.INFO, message);
+    }
+
+    /**
+     * 记录调试日志
+     * @param message 日志消息
+     */
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    /**
+     * 记录警告日志
+     * @param message 日志消息
+     */
+    public void warn(String message) {
+        log(LogLevel.WARN, message);
     }
 
     /**
@@ -31,7 +75,91 @@ public class LogManager {
      * @param ex 异常对象
      */
     public void logError(String message, Exception ex) {
-        log(message + ": " + ex.getMessage());
+        log(LogLevel.ERROR, message + ": " + ex.getMessage());
+    }
+
+    /**
+     * 记录指定级别的日志，可在任意线程调用
+     * @param logLevel 日志级别
+     * @param message 日志消息
+     */
+    public void log(LogLevel logLevel, String message) {
+        if (logLevel.compareTo(level) < 0) {
+            return;
+        }
+        long sequence = writeSequence.getAndIncrement();
+        buffer.set((int) (sequence & BUFFER_MASK),
+            new LogEntry(sequence, System.currentTimeMillis(), logLevel, message));
+    }
+
+    /**
+     * 将缓冲区中的日志追加到日志区域和日志文件，由定时器在EDT上调用
+     */
+    public void flush() {
+        long end = writeSequence.get();
+        if (end == readSequence) {
+            return;
+        }
+        if (end - readSequence > BUFFER_CAPACITY) {
+            droppedCount += end - BUFFER_CAPACITY - readSequence;
+            readSequence = end - BUFFER_CAPACITY;
+        }
+
+        StringBuilder batch = new StringBuilder();
+        while (readSequence < end) {
+            long expected = readSequence;
+            LogEntry entry = buffer.get((int) (expected & BUFFER_MASK));
+            if (entry == null || entry.sequence < expected) {
+                // 序号已分配但尚未写入，下次刷新再读取
+                break;
+            }
+            readSequence++;
+            if (entry.sequence > expected) {
+                // 已被后来的日志覆盖
+                droppedCount++;
+                continue;
+            }
+            if (droppedCount > 0) {
+                batch.append("[").append(TIME_FORMAT.format(Instant.ofEpochMilli(entry.timeMillis)))
+                    .append("] [警告] 日志过多，已丢弃 ").append(droppedCount).append(" 条\n");
+                droppedCount = 0;
+            }
+            appendEntry(batch, entry);
+        }
+        if (batch.length() == 0) {
+            return;
+        }
+
+        logTextArea.append(batch.toString());
+        trimToMaxLines();
+        logTextArea.setCaretPosition(logTextArea.getDocument().getLength());
+        if (fileSink != null) {
+            fileSink.append(batch.toString());
+        }
+    }
+
+    private static void appendEntry(StringBuilder batch, LogEntry entry) {
+        batch.append('[').append(TIME_FORMAT.format(Instant.ofEpochMilli(entry.timeMillis))).append("] ");
+        if (entry.level != LogLevel.INFO) {
+            batch.append('[').append(entry.level.getDisplayName()).append("] ");
+        }
+        batch.append(entry.message).append('\n');
+    }
+
+    /**
+     * 删除超出保留行数的最早日志
+     */
+    private void trimToMaxLines() {
+        // 末尾换行后的空行不计入
+        int excess = logTextArea.getLineCount() - 1 - maxLines;
+        if (excess <= 0) {
+            return;
+        }
+        try {
+            logTextArea.getDocument().remove(0, logTextArea.getLineStartOffset(excess));
+        } catch (BadLocationException e) {
+            logTextArea.setText("");
+        }
     }
 
     /**
@@ -48,4 +176,64 @@ public class LogManager {
     public JTextArea getLogTextArea() {
         return logTextArea;
     }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * 设置记录级别，低于该级别的日志被忽略
+     */
+    public void setLevel(LogLevel level) {
+        this.level = level;
+    }
+
+    public int getMaxLines() {
+        return maxLines;
+    }
+
+    /**
+     * 设置日志区域保留的行数，在EDT上调用
+     */
+    public void setMaxLines(int maxLines) {
+        this.maxLines = Math.max(1, maxLines);
+        trimToMaxLines();
+    }
+
+    /**
+     * 设置日志文件，传入 null 关闭文件日志，在EDT上调用
+     * 之前的日志文件会被关闭
+     */
+    public void setFileSink(RollingLogFileSink sink) {
+        if (fileSink != null) {
+            fileSink.close();
+        }
+        fileSink = sink;
+    }
+
+    /**
+     * 写出缓冲区中剩余的日志并关闭日志文件，在EDT上调用
+     */
+    public void close() {
+        flushTimer.stop();
+        flush();
+        setFileSink(null);
+    }
+
+    /**
+     * 环形缓冲区中的一条日志
+     */
+    private static class LogEntry {
+        final long sequence;
+        final long timeMillis;
+        final LogLevel level;
+        final String message;
+
+        LogEntry(long sequence, long timeMillis, LogLevel level, String message) {
+            this.sequence = sequence;
+            this.timeMillis = timeMillis;
+            this.level = level;
+            this.message = message;
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package org.oxff.ui.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.oxff.ui.controller.Recipe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+/**
+ * 配方管理器，负责配方的持久化
+ * 使用 Java Preferences API 存储，每个配方以JSON形式保存在独立的键中
+ */
+public class RecipeManager {
+    private static final String PREFS_NODE = "/org/oxff/uiTools/recipes";
+    private static final Gson GSON = new Gson();
+
+    /**
+     * 获取所有已保存的配方名称
+     * @return 按名称排序的列表
+     */
+    public List<String> getRecipeNames() {
+        try {
+            List<String> names = new ArrayList<>(Arrays.asList(getPreferences().keys()));
+            Collections.sort(names);
+            return names;
+        } catch (BackingStoreException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 加载配方
+     * @param name 配方名称
+     * @return 配方，不存在或内容损坏时返回 null
+     */
+    public Recipe loadRecipe(String name) {
+        String json = getPreferences().get(name, null);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return GSON.fromJson(json, Recipe.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 保存配方，同名配方会被覆盖
+     * @param recipe 配方
+     * @throws IllegalArgumentException 名称或内容超出存储限制时抛出
+     */
+    public void saveRecipe(Recipe recipe) {
+        String name = recipe.getName();
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("配方名称不能为空");
+        }
+        if (name.length() > Preferences.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("配方名称过长，最多 " + Preferences.MAX_KEY_LENGTH + " 个字符");
+        }
+        String json = GSON.toJson(recipe);
+        if (json.length() > Preferences.MAX_VALUE_LENGTH) {
+            throw new IllegalArgumentException("配方内容过长，请减少步骤或表达式");
+        }
+        Preferences prefs = getPreferences();
+        prefs.put(name, json);
+        flush(prefs);
+    }
+
+    /**
+     * 删除配方
+     * @param name 配方名称
+     */
+    public void deleteRecipe(String name) {
+        Preferences prefs = getPreferences();
+        prefs.remove(name);
+        flush(prefs);
+    }
+
+    private void flush(Preferences prefs) {
+        try {
+            prefs.flush();
+        } catch (Exception e) {
+            // 忽略 flush 异常
+        }
+    }
+
+    /**
+     * 获取 Preferences 节点
+     * @return Preferences 节点
+     */
+    private Preferences getPreferences() {
+        return Preferences.userRoot().node(PREFS_NODE);
+    }
+}
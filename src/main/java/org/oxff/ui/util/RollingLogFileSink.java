@@ -0,0 +1,127 @@
+package org.oxff.ui.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 滚动日志文件，在单独的后台线程中追加写入，不阻塞界面
+ * 当前文件超过大小上限时依次重命名为 .1、.2 ...，超出保留个数的旧文件被删除
+ */
+public class RollingLogFileSink implements Closeable {
+    private final Path directory;
+    private final String baseName;
+    private final long maxFileBytes;
+    private final int maxBackupFiles;
+    private final ExecutorService writerThread = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "uiTools-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Writer writer;
+    private long currentBytes;
+
+    /**
+     * @param directory 日志目录，不存在时自动创建
+     * @param baseName 日志文件名，如 uiTools.log
+     * @param maxFileBytes 单个文件的大小上限
+     * @param maxBackupFiles 保留的历史文件个数
+     */
+    public RollingLogFileSink(Path directory, String baseName, long maxFileBytes, int maxBackupFiles) {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.maxFileBytes = maxFileBytes;
+        this.maxBackupFiles = maxBackupFiles;
+    }
+
+    public Path getFile() {
+        return directory.resolve(baseName);
+    }
+
+    /**
+     * 异步追加一批日志文本
+     * @param text 已格式化的日志文本，每行以换行符结尾
+     */
+    public void append(String text) {
+        writerThread.execute(() -> write(text));
+    }
+
+    private void write(String text) {
+        try {
+            if (writer == null) {
+                open();
+            }
+            writer.write(text);
+            writer.flush();
+            currentBytes += text.getBytes(StandardCharsets.UTF_8).length;
+            if (currentBytes >= maxFileBytes) {
+                roll();
+            }
+        } catch (IOException e) {
+            // 日志文件不可写时放弃本批内容，界面日志不受影响
+            closeWriter();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        Path file = getFile();
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentBytes = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        closeWriter();
+        Files.deleteIfExists(backup(maxBackupFiles));
+        for (int i = maxBackupFiles - 1; i >= 1; i--) {
+            Path source = backup(i);
+            if (Files.exists(source)) {
+                Files.move(source, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxBackupFiles > 0) {
+            Files.move(getFile(), backup(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(getFile());
+        }
+    }
+
+    private Path backup(int index) {
+        return directory.resolve(baseName + "." + index);
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                // 忽略关闭异常
+            }
+            writer = null;
+        }
+    }
+
+    /**
+     * 写完已提交的日志后关闭文件
+     */
+    @Override
+    public void close() {
+        writerThread.execute(this::closeWriter);
+        writerThread.shutdown();
+        try {
+            writerThread.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,6 +11,12 @@ public class SettingsManager {
     private static final String PREFS_NODE = "/org/oxff/uiTools";
     private static final String KEY_AUTO_SAVE_DIR = "auto_save_directory";
     private static final String DEFAULT_AUTO_SAVE_DIR_NAME = "uiTools_outputs";
+    private static final String KEY_LOG_LEVEL = "log_level";
+    private static final String KEY_LOG_MAX_LINES = "log_max_lines";
+    private static final String KEY_LOG_FILE_ENABLED = "log_file_enabled";
+    private static final String DEFAULT_LOG_DIR_NAME = "uiTools_logs";
+    private static final String KEY_RESULT_CACHE_MB = "result_cache_mb";
+    private static final int DEFAULT_RESULT_CACHE_MB = 64;
 
     /**
      * 获取自动保存目录配置
@@ -74,6 +80,103 @@ public class SettingsManager {
         return new File(userHome, DEFAULT_AUTO_SAVE_DIR_NAME).getAbsolutePath();
     }
 
+    /**
+     * 获取日志记录级别
+     * @return 日志级别，未配置或配置无效时返回 INFO
+     */
+    public LogLevel getLogLevel() {
+        try {
+            return LogLevel.valueOf(getPreferences().get(KEY_LOG_LEVEL, LogLevel.INFO.name()));
+        } catch (Exception e) {
+            return LogLevel.INFO;
+        }
+    }
+
+    /**
+     * 设置日志记录级别
+     * @param level 日志级别
+     */
+    public void setLogLevel(LogLevel level) {
+        put(KEY_LOG_LEVEL, level.name());
+    }
+
+    /**
+     * 获取日志区域保留的行数
+     * @return 保留行数，未配置时返回 {@link LogManager#DEFAULT_MAX_LINES}
+     */
+    public int getLogMaxLines() {
+        try {
+            return getPreferences().getInt(KEY_LOG_MAX_LINES, LogManager.DEFAULT_MAX_LINES);
+        } catch (Exception e) {
+            return LogManager.DEFAULT_MAX_LINES;
+        }
+    }
+
+    /**
+     * 设置日志区域保留的行数
+     * @param maxLines 保留行数
+     */
+    public void setLogMaxLines(int maxLines) {
+        put(KEY_LOG_MAX_LINES, String.valueOf(maxLines));
+    }
+
+    /**
+     * 是否将日志写入文件
+     */
+    public boolean isLogFileEnabled() {
+        try {
+            return getPreferences().getBoolean(KEY_LOG_FILE_ENABLED, false);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 设置是否将日志写入文件
+     */
+    public void setLogFileEnabled(boolean enabled) {
+        put(KEY_LOG_FILE_ENABLED, String.valueOf(enabled));
+    }
+
+    /**
+     * 获取日志文件目录
+     * @return 日志目录的完整路径
+     */
+    public String getLogDirectory() {
+        String userHome = System.getProperty("user.home");
+        return new File(userHome, DEFAULT_LOG_DIR_NAME).getAbsolutePath();
+    }
+
+    /**
+     * 获取结果缓存的大小上限
+     * @return 上限（MB），0 表示禁用缓存
+     */
+    public int getResultCacheMb() {
+        try {
+            return Math.max(0, getPreferences().getInt(KEY_RESULT_CACHE_MB, DEFAULT_RESULT_CACHE_MB));
+        } catch (Exception e) {
+            return DEFAULT_RESULT_CACHE_MB;
+        }
+    }
+
+    /**
+     * 设置结果缓存的大小上限
+     * @param megabytes 上限（MB），0 表示禁用缓存
+     */
+    public void setResultCacheMb(int megabytes) {
+        put(KEY_RESULT_CACHE_MB, String.valueOf(megabytes));
+    }
+
+    private void put(String key, String value) {
+        try {
+            Preferences prefs = getPreferences();
+            prefs.put(key, value);
+            prefs.flush();
+        } catch (Exception e) {
+            // 忽略 Preferences 异常，设置仅在本次运行中生效
+        }
+    }
+
     /**
      * 获取 Preferences 节点
      * @return Preferences 节点
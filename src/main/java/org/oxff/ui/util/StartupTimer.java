@@ -0,0 +1,71 @@
+package org.oxff.ui.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 启动计时器，记录从设置外观到窗口首次绘制之间各阶段的耗时
+ * 各阶段可在主线程和EDT上标记，报告在首次绘制后写入日志
+ */
+public final class StartupTimer {
+    private static final List<String> phases = new ArrayList<>();
+    private static final List<Long> phaseNanos = new ArrayList<>();
+    private static long startNanos;
+    private static long lastNanos;
+    private static boolean finished;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * 开始计时，应在设置外观之前调用
+     */
+    public static synchronized void start() {
+        startNanos = System.nanoTime();
+        lastNanos = startNanos;
+        phases.clear();
+        phaseNanos.clear();
+        finished = false;
+    }
+
+    /**
+     * 标记一个阶段结束，阶段耗时从上一次标记开始计算
+     * 未调用 {@link #start()} 时从第一次标记开始计时；生成报告后的标记被忽略
+     * @param phase 阶段名称
+     */
+    public static synchronized void mark(String phase) {
+        long now = System.nanoTime();
+        if (finished) {
+            return;
+        }
+        if (startNanos == 0) {
+            startNanos = now;
+            lastNanos = now;
+        }
+        phases.add(phase);
+        phaseNanos.add(now - lastNanos);
+        lastNanos = now;
+    }
+
+    /**
+     * 结束计时并生成报告，只在第一次调用时返回报告
+     * @return 报告，如"启动耗时 420ms（设置外观 80ms，构建界面 260ms，首次绘制 80ms）"；已生成过报告时返回 null
+     */
+    public static synchronized String finish() {
+        if (finished || startNanos == 0) {
+            return null;
+        }
+        finished = true;
+        StringBuilder report = new StringBuilder("启动耗时 ")
+            .append(TimeUnit.NANOSECONDS.toMillis(lastNanos - startNanos)).append("ms（");
+        for (int i = 0; i < phases.size(); i++) {
+            if (i > 0) {
+                report.append("，");
+            }
+            report.append(phases.get(i)).append(' ')
+                .append(TimeUnit.NANOSECONDS.toMillis(phaseNanos.get(i))).append("ms");
+        }
+        return report.append("）").toString();
+    }
+}